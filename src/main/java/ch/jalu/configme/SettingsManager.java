@@ -1,8 +1,12 @@
 package ch.jalu.configme;
 
+import ch.jalu.configme.migration.MigrationDiff;
 import ch.jalu.configme.migration.MigrationService;
 import ch.jalu.configme.properties.Property;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Consumer;
 
 /**
  * Settings manager.
@@ -37,6 +41,27 @@ public interface SettingsManager {
      */
     <T> void setProperty(@NotNull Property<T> property, @NotNull T value);
 
+    /**
+     * Changes multiple properties at once: the given consumer stages new values on the provided transaction, after
+     * which all values are validated. If all values are valid, they are applied and the configuration is saved once;
+     * otherwise, an exception is thrown and no property is changed. The configuration is not saved if no value was
+     * staged.
+     * <p>
+     * The default implementation applies the values one by one with {@link #setProperty}. Implementations may
+     * publish the changes atomically so that no other thread can observe a partially applied transaction.
+     *
+     * @param changes consumer staging the changes on the transaction
+     */
+    default void update(@NotNull Consumer<SettingsTransaction> changes) {
+        SettingsTransaction transaction = new SettingsTransaction(this);
+        changes.accept(transaction);
+        transaction.validate();
+        if (!transaction.getChanges().isEmpty()) {
+            transaction.applyTo(this);
+            save();
+        }
+    }
+
     /**
      * Reloads the configuration from the property resource.
      */
@@ -47,4 +72,16 @@ public interface SettingsManager {
      */
     void save();
 
+    /**
+     * Returns the changes of a migration that has not been saved yet. This is only the case if the settings manager
+     * was configured to defer saving after a migration (see {@link SettingsManagerBuilder#deferSaveAfterMigration()}).
+     * The pending migration is cleared when the configuration is saved.
+     *
+     * @return the differences between the configuration file and the migrated configuration, or null if there is
+     *         no unsaved migration
+     */
+    default @Nullable MigrationDiff getPendingMigration() {
+        return null;
+    }
+
 }
@@ -2,6 +2,8 @@ package ch.jalu.configme;
 
 import ch.jalu.configme.configurationdata.ConfigurationData;
 import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import ch.jalu.configme.instrumentation.JfrSettingsManagerInstrumentation;
+import ch.jalu.configme.instrumentation.SettingsManagerInstrumentation;
 import ch.jalu.configme.migration.MigrationService;
 import ch.jalu.configme.migration.PlainMigrationService;
 import ch.jalu.configme.resource.PropertyResource;
@@ -23,6 +25,8 @@ public final class SettingsManagerBuilder {
     private final PropertyResource resource;
     private ConfigurationData configurationData;
     private @Nullable MigrationService migrationService;
+    private @Nullable SettingsManagerInstrumentation instrumentation;
+    private boolean deferSaveAfterMigration;
 
     private SettingsManagerBuilder(@NotNull PropertyResource resource) {
         this.resource = resource;
@@ -96,6 +100,22 @@ public final class SettingsManagerBuilder {
         return this;
     }
 
+    /**
+     * Sets up configuration data with the input of the given settings holder classes. The value of each property
+     * is only determined from the resource when it is first requested, which is faster if only a few properties are
+     * used. Note that a migration service typically needs all values, in which case they are determined on load.
+     *
+     * @param classes the settings holder classes
+     * @return this builder
+     * @see ConfigurationDataBuilder#createLazyConfiguration(Class[])
+     */
+    @SafeVarargs
+    public final @NotNull SettingsManagerBuilder lazyConfigurationData(
+                                                        @NotNull Class<? extends SettingsHolder> @NotNull ... classes) {
+        this.configurationData = ConfigurationDataBuilder.createLazyConfiguration(classes);
+        return this;
+    }
+
     /**
      * Sets the provided configuration data to the builder.
      *
@@ -129,6 +149,42 @@ public final class SettingsManagerBuilder {
         return this;
     }
 
+    /**
+     * Sets the instrumentation to which the settings manager reports measurements of each phase (reading,
+     * resolving values, migrating and saving).
+     *
+     * @param instrumentation the instrumentation to use (or null)
+     * @return this builder
+     */
+    public @NotNull SettingsManagerBuilder instrumentation(@Nullable SettingsManagerInstrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+        return this;
+    }
+
+    /**
+     * Registers an instrumentation that emits JDK Flight Recorder events for each phase of the settings manager.
+     *
+     * @return this builder
+     * @see JfrSettingsManagerInstrumentation
+     */
+    public @NotNull SettingsManagerBuilder useJfrInstrumentation() {
+        this.instrumentation = new JfrSettingsManagerInstrumentation();
+        return this;
+    }
+
+    /**
+     * Configures the settings manager not to save the configuration after a migration ("dry run"). The migrated
+     * values are used in memory, and the changes that saving would make to the file are available from
+     * {@link SettingsManager#getPendingMigration()}. The file is only rewritten when {@link SettingsManager#save()}
+     * is called.
+     *
+     * @return this builder
+     */
+    public @NotNull SettingsManagerBuilder deferSaveAfterMigration() {
+        this.deferSaveAfterMigration = true;
+        return this;
+    }
+
     /**
      * Creates a settings manager instance. It is mandatory that resource and configuration data have been
      * configured beforehand.
@@ -138,6 +194,7 @@ public final class SettingsManagerBuilder {
     public @NotNull SettingsManager create() {
         Objects.requireNonNull(resource, "resource");
         Objects.requireNonNull(configurationData, "configurationData");
-        return new SettingsManagerImpl(resource, configurationData, migrationService);
+        return new SettingsManagerImpl(resource, configurationData, migrationService, instrumentation,
+            deferSaveAfterMigration);
     }
 }
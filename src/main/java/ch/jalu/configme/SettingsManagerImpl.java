@@ -1,6 +1,10 @@
 package ch.jalu.configme;
 
 import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.instrumentation.PhaseMeasurement;
+import ch.jalu.configme.instrumentation.SettingsManagerInstrumentation;
+import ch.jalu.configme.instrumentation.SettingsManagerPhase;
+import ch.jalu.configme.migration.MigrationDiff;
 import ch.jalu.configme.migration.MigrationService;
 import ch.jalu.configme.properties.Property;
 import ch.jalu.configme.resource.PropertyReader;
@@ -9,6 +13,12 @@ import ch.jalu.configme.resource.PropertyResource;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
 /**
  * Default implementation of {@link SettingsManager}. Use the {@link SettingsManagerBuilder} to create instances.
  * <p>
@@ -20,6 +30,12 @@ import org.jetbrains.annotations.Nullable;
  * manager fulfills the most typical operations on a configuration in an application.
  * After initializing the settings manager, it is usually the only class from ConfigMe
  * you interact with.
+ * <p>
+ * Changes made with {@link #update} are published atomically: {@link #getProperty} never returns a value
+ * of a partially applied transaction, and {@link #save} never exports one. Values are guarded by a read-write lock:
+ * reloading the configuration (including its migration) takes the write lock, whereas reading and exporting values
+ * take the read lock. Access to the property resource is serialized, so that the file is never written by multiple
+ * threads at once and is never read while it is being written.
  *
  * @see PropertyResource
  * @see ConfigurationData
@@ -30,6 +46,11 @@ public class SettingsManagerImpl implements SettingsManager {
     private final ConfigurationData configurationData;
     private final PropertyResource resource;
     private final MigrationService migrationService;
+    private final SettingsManagerInstrumentation instrumentation;
+    private final boolean deferSaveAfterMigration;
+    private final ReentrantReadWriteLock valuesLock = new ReentrantReadWriteLock();
+    private final Lock resourceLock = new ReentrantLock();
+    private volatile @Nullable MigrationDiff pendingMigration;
 
     /**
      * Constructor. Use {@link SettingsManagerBuilder} to create instances.
@@ -40,9 +61,42 @@ public class SettingsManagerImpl implements SettingsManager {
      */
     protected SettingsManagerImpl(@NotNull PropertyResource resource, @NotNull ConfigurationData configurationData,
                                   @Nullable MigrationService migrationService) {
+        this(resource, configurationData, migrationService, null);
+    }
+
+    /**
+     * Constructor. Use {@link SettingsManagerBuilder} to create instances.
+     *
+     * @param resource the property resource to read from and write to
+     * @param configurationData the configuration data
+     * @param migrationService migration service to check the property resource with
+     * @param instrumentation instrumentation to report the duration of each phase to (or null)
+     */
+    protected SettingsManagerImpl(@NotNull PropertyResource resource, @NotNull ConfigurationData configurationData,
+                                  @Nullable MigrationService migrationService,
+                                  @Nullable SettingsManagerInstrumentation instrumentation) {
+        this(resource, configurationData, migrationService, instrumentation, false);
+    }
+
+    /**
+     * Constructor. Use {@link SettingsManagerBuilder} to create instances.
+     *
+     * @param resource the property resource to read from and write to
+     * @param configurationData the configuration data
+     * @param migrationService migration service to check the property resource with
+     * @param instrumentation instrumentation to report the duration of each phase to (or null)
+     * @param deferSaveAfterMigration true to only compute the changes of a migration instead of saving immediately
+     *                                (see {@link #getPendingMigration()})
+     */
+    protected SettingsManagerImpl(@NotNull PropertyResource resource, @NotNull ConfigurationData configurationData,
+                                  @Nullable MigrationService migrationService,
+                                  @Nullable SettingsManagerInstrumentation instrumentation,
+                                  boolean deferSaveAfterMigration) {
         this.configurationData = configurationData;
         this.resource = resource;
         this.migrationService = migrationService;
+        this.instrumentation = instrumentation;
+        this.deferSaveAfterMigration = deferSaveAfterMigration;
         loadFromResourceAndValidate();
     }
 
@@ -55,7 +109,12 @@ public class SettingsManagerImpl implements SettingsManager {
      */
     @Override
     public <T> @NotNull T getProperty(@NotNull Property<T> property) {
-        return configurationData.getValue(property);
+        valuesLock.readLock().lock();
+        try {
+            return configurationData.getValue(property);
+        } finally {
+            valuesLock.readLock().unlock();
+        }
     }
 
     /**
@@ -67,7 +126,51 @@ public class SettingsManagerImpl implements SettingsManager {
      */
     @Override
     public <T> void setProperty(@NotNull Property<T> property, @NotNull T value) {
-        configurationData.setValue(property, value);
+        valuesLock.writeLock().lock();
+        try {
+            configurationData.setValue(property, value);
+        } finally {
+            valuesLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Changes multiple properties at once. All values are validated before any property is changed, and all changes
+     * are published under one write lock. The configuration is then saved once (if any value was staged). No other
+     * change can be made between applying the changes and saving them, so the saved file matches the update.
+     *
+     * @param changes consumer staging the changes on the transaction
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void update(@NotNull Consumer<SettingsTransaction> changes) {
+        SettingsTransaction transaction = new SettingsTransaction(this);
+        changes.accept(transaction);
+        transaction.validate();
+        if (transaction.getChanges().isEmpty()) {
+            return;
+        }
+
+        resourceLock.lock();
+        try {
+            valuesLock.writeLock().lock();
+            try {
+                transaction.getChanges().forEach((property, value) ->
+                    configurationData.setValue((Property<Object>) property, value));
+                // Downgrade to the read lock so that the changes are saved without any other change in between
+                valuesLock.readLock().lock();
+            } finally {
+                valuesLock.writeLock().unlock();
+            }
+
+            try {
+                save();
+            } finally {
+                valuesLock.readLock().unlock();
+            }
+        } finally {
+            resourceLock.unlock();
+        }
     }
 
     @Override
@@ -77,23 +180,126 @@ public class SettingsManagerImpl implements SettingsManager {
 
     @Override
     public void save() {
-        resource.exportProperties(configurationData);
+        resourceLock.lock();
+        try {
+            valuesLock.readLock().lock();
+            try {
+                exportProperties();
+                pendingMigration = null;
+            } finally {
+                valuesLock.readLock().unlock();
+            }
+        } finally {
+            resourceLock.unlock();
+        }
+    }
+
+    @Override
+    public @Nullable MigrationDiff getPendingMigration() {
+        return pendingMigration;
+    }
+
+    /**
+     * Exports the properties to the resource, reporting to the instrumentation if available.
+     */
+    protected void exportProperties() {
+        runPhase(SettingsManagerPhase.SAVE, () -> resource.exportProperties(configurationData));
     }
 
     /**
      * Reads the configuration file and executes the migration service (if present). Saves the file if migrations
-     * have been applied.
+     * have been applied, unless saving after migrations is deferred. The values are initialized and migrated under
+     * the write lock, so that no value of an incomplete reload or migration can be read.
      */
     protected void loadFromResourceAndValidate() {
-        final PropertyReader reader = resource.createReader();
-        configurationData.initializeValues(reader);
+        resourceLock.lock();
+        try {
+            valuesLock.writeLock().lock();
+            try {
+                pendingMigration = null;
+                final PropertyReader reader = getPhaseResult(SettingsManagerPhase.READ, resource::createReader);
+                runPhase(SettingsManagerPhase.INITIALIZE_VALUES, () -> configurationData.initializeValues(reader));
 
-        if (migrationService != null
-            && migrationService.checkAndMigrate(reader, configurationData) == MigrationService.MIGRATION_REQUIRED) {
+                if (migrationService != null) {
+                    boolean migrationResult = getPhaseResult(SettingsManagerPhase.MIGRATION,
+                        () -> migrationService.checkAndMigrate(reader, configurationData));
+                    if (migrationResult == MigrationService.MIGRATION_REQUIRED) {
+                        onMigrationRequired(reader);
+                    }
+                }
+            } finally {
+                valuesLock.writeLock().unlock();
+            }
+        } finally {
+            resourceLock.unlock();
+        }
+    }
+
+    /**
+     * Called when the migration service has migrated the configuration. Saves the configuration, or keeps the
+     * changes as pending migration if saving is deferred.
+     *
+     * @param reader the reader of the configuration file before the migration
+     */
+    protected void onMigrationRequired(@NotNull PropertyReader reader) {
+        if (deferSaveAfterMigration) {
+            pendingMigration = MigrationDiff.create(reader, configurationData);
+        } else {
             save();
         }
     }
 
+    /**
+     * Runs the given action of a phase, reporting its duration to the instrumentation if available.
+     *
+     * @param phase the phase the action belongs to
+     * @param action the action to run
+     */
+    protected final void runPhase(@NotNull SettingsManagerPhase phase, @NotNull Runnable action) {
+        getPhaseResult(phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs the given action of a phase and returns its result, reporting its duration to the instrumentation
+     * if available. No measurement is taken if there is no instrumentation.
+     *
+     * @param phase the phase the action belongs to
+     * @param action the action to run
+     * @param <T> the result type
+     * @return the result of the action
+     */
+    protected final <T> T getPhaseResult(@NotNull SettingsManagerPhase phase, @NotNull Supplier<T> action) {
+        if (instrumentation == null) {
+            return action.get();
+        }
+
+        long start = System.nanoTime();
+        T result = action.get();
+        instrumentation.onPhaseCompleted(createMeasurement(phase, System.nanoTime() - start));
+        return result;
+    }
+
+    /**
+     * Creates the measurement of a completed phase.
+     *
+     * @param phase the phase that was completed
+     * @param durationNanos the duration of the phase in nanoseconds
+     * @return the measurement to report to the instrumentation
+     */
+    protected @NotNull PhaseMeasurement createMeasurement(@NotNull SettingsManagerPhase phase, long durationNanos) {
+        long byteCount = phase == SettingsManagerPhase.READ || phase == SettingsManagerPhase.SAVE
+            ? resource.getSizeInBytes()
+            : PhaseMeasurement.UNKNOWN;
+        int errorCount = phase == SettingsManagerPhase.INITIALIZE_VALUES
+            ? configurationData.getNumberOfValuesInvalidInResource()
+            : PhaseMeasurement.UNKNOWN;
+        return new PhaseMeasurement(phase, durationNanos, byteCount, configurationData.getProperties().size(),
+            errorCount);
+    }
+
     protected final @NotNull PropertyResource getPropertyResource() {
         return resource;
     }
@@ -105,4 +311,12 @@ public class SettingsManagerImpl implements SettingsManager {
     protected final @Nullable MigrationService getMigrationService() {
         return migrationService;
     }
+
+    protected final @Nullable SettingsManagerInstrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
+    protected final boolean isDeferSaveAfterMigration() {
+        return deferSaveAfterMigration;
+    }
 }
@@ -0,0 +1,94 @@
+package ch.jalu.configme;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.properties.Property;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Collects changes to multiple properties so that they can be applied together.
+ * See {@link SettingsManager#update}.
+ * <p>
+ * Values are only staged by this class: they are not visible to other users of the settings manager until
+ * the transaction has been validated and applied.
+ */
+public class SettingsTransaction {
+
+    private final SettingsManager settingsManager;
+    private final Map<Property<?>, Object> changes = new LinkedHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param settingsManager the settings manager to read values from if they have not been changed
+     */
+    public SettingsTransaction(@NotNull SettingsManager settingsManager) {
+        this.settingsManager = settingsManager;
+    }
+
+    /**
+     * Stages a new value for the given property. If the property was already set in this transaction,
+     * the previous value is replaced.
+     *
+     * @param property the property to modify
+     * @param value the new value to assign to the property
+     * @param <T> the property's type
+     * @return this transaction
+     */
+    public <T> @NotNull SettingsTransaction set(@NotNull Property<T> property, @NotNull T value) {
+        changes.put(property, value);
+        return this;
+    }
+
+    /**
+     * Returns the value of the given property, taking the changes of this transaction into account.
+     *
+     * @param property the property to retrieve
+     * @param <T> the property's type
+     * @return the value staged in this transaction, or the property's current value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> @NotNull T get(@NotNull Property<T> property) {
+        Object value = changes.get(property);
+        return value == null ? settingsManager.getProperty(property) : (T) value;
+    }
+
+    /**
+     * Validates all staged values and throws an exception for the first invalid value.
+     */
+    public void validate() {
+        for (Map.Entry<Property<?>, Object> change : changes.entrySet()) {
+            if (!isValidValue(change.getKey(), change.getValue())) {
+                throw new ConfigMeException("Invalid value for property '" + change.getKey() + "': "
+                    + change.getValue());
+            }
+        }
+    }
+
+    /**
+     * @return the staged changes, in the order the properties were first set (read-only)
+     */
+    public @NotNull Map<Property<?>, Object> getChanges() {
+        return Collections.unmodifiableMap(changes);
+    }
+
+    /**
+     * Sets all staged values to the given settings manager.
+     *
+     * @param settingsManager the settings manager to apply the changes to
+     */
+    @SuppressWarnings("unchecked")
+    protected void applyTo(@NotNull SettingsManager settingsManager) {
+        for (Map.Entry<Property<?>, Object> change : changes.entrySet()) {
+            settingsManager.setProperty((Property<Object>) change.getKey(), change.getValue());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean isValidValue(@NotNull Property<?> property, @NotNull Object value) {
+        return ((Property<Object>) property).isValidValue(value);
+    }
+}
@@ -0,0 +1,134 @@
+package ch.jalu.configme.beanmapper;
+
+import ch.jalu.typeresolver.TypeInfo;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of immutable beans by the value they were mapped from, so that a {@link MapperImpl} can return the previously
+ * created bean if it maps an equal value to the same type again. This way, only the beans whose section in the
+ * property resource has changed are created again when the configuration is reloaded.
+ * <p>
+ * Values are compared with {@link Object#equals}, i.e. the maps and lists loaded from a property resource are
+ * compared structurally. The values must not be modified after they have been mapped. The least recently used
+ * entries are removed once the cache has reached its maximum size.
+ * <p>
+ * Every entry keeps the value it was mapped from as key, i.e. the subtree of the loaded document that the bean was
+ * created from, including all nested maps and lists. The entry of a top-level bean therefore keeps its whole section
+ * of the previously loaded document in memory (the whole document for a bean property at the root path) until the
+ * entry is replaced or removed. Use a small maximum size or {@link #clear()} the cache if this memory is a concern.
+ *
+ * @see ImmutableBean
+ */
+public class ConvertedBeanCache {
+
+    /** Default maximum number of beans in the cache. */
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final Map<Key, Object> beansByValue;
+
+    /**
+     * Constructor (uses the {@link #DEFAULT_MAX_SIZE default maximum size}).
+     */
+    public ConvertedBeanCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize the maximum number of beans to keep
+     */
+    public ConvertedBeanCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Max size must be positive, but got " + maxSize);
+        }
+        this.beansByValue = new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the bean that was created for an equal value and the given type, if available.
+     *
+     * @param type the type of the bean
+     * @param value the value the bean should be mapped from
+     * @return the previously created bean, or null if not available
+     */
+    public @Nullable Object get(@NotNull TypeInfo type, @NotNull Object value) {
+        Key key = new Key(type, value);
+        synchronized (beansByValue) {
+            return beansByValue.get(key);
+        }
+    }
+
+    /**
+     * Saves the bean that was mapped from the given value.
+     *
+     * @param type the type of the bean
+     * @param value the value the bean was mapped from
+     * @param bean the created bean
+     */
+    public void put(@NotNull TypeInfo type, @NotNull Object value, @NotNull Object bean) {
+        Key key = new Key(type, value);
+        synchronized (beansByValue) {
+            beansByValue.put(key, bean);
+        }
+    }
+
+    /**
+     * @return number of beans in the cache
+     */
+    public int size() {
+        synchronized (beansByValue) {
+            return beansByValue.size();
+        }
+    }
+
+    /**
+     * Removes all beans from the cache.
+     */
+    public void clear() {
+        synchronized (beansByValue) {
+            beansByValue.clear();
+        }
+    }
+
+    /**
+     * Key of the cache. The hash code is computed when the key is created, since it is based on the whole value.
+     */
+    private static final class Key {
+
+        private final TypeInfo type;
+        private final Object value;
+        private final int hashCode;
+
+        Key(@NotNull TypeInfo type, @NotNull Object value) {
+            this.type = type;
+            this.value = value;
+            this.hashCode = 31 * type.hashCode() + value.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            } else if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return hashCode == other.hashCode && type.equals(other.type) && value.equals(other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package ch.jalu.configme.beanmapper;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to declare that instances of a bean class are not modified after they have been created by the mapper.
+ * If the mapper has a {@link ConvertedBeanCache}, such beans may be reused when the same values are mapped again,
+ * e.g. on a reload where this part of the configuration file has not changed.
+ * <p>
+ * Records are always considered to be immutable. Note that collections and maps created by the mapper are mutable;
+ * they should not be modified in beans with this annotation.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ImmutableBean {
+}
@@ -7,6 +7,7 @@ import ch.jalu.configme.beanmapper.context.MappingContextImpl;
 import ch.jalu.configme.beanmapper.definition.BeanDefinition;
 import ch.jalu.configme.beanmapper.definition.BeanDefinitionService;
 import ch.jalu.configme.beanmapper.definition.BeanDefinitionServiceImpl;
+import ch.jalu.configme.beanmapper.definition.RecordBeanDefinition;
 import ch.jalu.configme.beanmapper.definition.properties.BeanPropertyComments;
 import ch.jalu.configme.beanmapper.definition.properties.BeanPropertyDefinition;
 import ch.jalu.configme.beanmapper.leafvaluehandler.LeafValueHandler;
@@ -26,6 +27,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 import java.util.stream.Collectors;
 
 import static ch.jalu.configme.internal.PathUtils.OPTIONAL_SPECIFIER;
@@ -63,6 +67,18 @@ import static ch.jalu.configme.internal.PathUtils.pathSpecifierForMapKey;
  * have a property with a null value, the mapping is considered unsuccessful, and the mapping process is stopped
  * immediately.
  * <br>Optional properties can also be defined by declaring them with {@link Optional}.
+ * <p>
+ * <b>Reuse of beans:</b> if the mapper is created with a {@link ConvertedBeanCache}, records and classes with
+ * &#64;{@link ImmutableBean} that were mapped without errors are cached by the value they were created from. Mapping
+ * an equal value to the same type again (e.g. after a reload) returns the same bean instance. Whether a bean had
+ * errors is determined with an error recorder of its own, whose errors are then registered to the context's recorder;
+ * if the context does not support other error recorders (see {@link MappingContext#withErrorRecorder}), the bean is
+ * not cached.
+ * <p>
+ * <b>Parallel conversion:</b> if the mapper is created with a {@link ForkJoinPool}, the entries of collections and
+ * maps with at least the configured number of entries are converted in parallel. The result retains the order of the
+ * entries, and errors are registered to the original error recorder in the same order as in a sequential conversion.
+ * The leaf value handler and the bean definition service must be thread-safe for this (the default ones are).
  */
 public class MapperImpl implements Mapper {
 
@@ -72,6 +88,9 @@ public class MapperImpl implements Mapper {
 
     private final LeafValueHandler leafValueHandler;
     private final BeanDefinitionService beanDefinitionService;
+    private final @Nullable ConvertedBeanCache convertedBeanCache;
+    private final @Nullable ForkJoinPool forkJoinPool;
+    private final int parallelConversionThreshold;
 
     public MapperImpl() {
         this(new BeanDefinitionServiceImpl(),
@@ -80,8 +99,47 @@ public class MapperImpl implements Mapper {
 
     public MapperImpl(@NotNull BeanDefinitionService beanDefinitionService,
                       @NotNull LeafValueHandler leafValueHandler) {
+        this(beanDefinitionService, leafValueHandler, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param beanDefinitionService the bean definition service to use
+     * @param leafValueHandler the leaf value handler to use
+     * @param convertedBeanCache cache to reuse immutable beans with (null to always create new beans)
+     */
+    public MapperImpl(@NotNull BeanDefinitionService beanDefinitionService,
+                      @NotNull LeafValueHandler leafValueHandler,
+                      @Nullable ConvertedBeanCache convertedBeanCache) {
+        this(beanDefinitionService, leafValueHandler, convertedBeanCache, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param beanDefinitionService the bean definition service to use
+     * @param leafValueHandler the leaf value handler to use
+     * @param convertedBeanCache cache to reuse immutable beans with (null to always create new beans)
+     * @param forkJoinPool pool to convert the entries of large collections and maps with (null to never convert
+     *                     entries in parallel)
+     * @param parallelConversionThreshold minimum number of entries a collection or map must have to be converted
+     *                                    in parallel
+     */
+    public MapperImpl(@NotNull BeanDefinitionService beanDefinitionService,
+                      @NotNull LeafValueHandler leafValueHandler,
+                      @Nullable ConvertedBeanCache convertedBeanCache,
+                      @Nullable ForkJoinPool forkJoinPool,
+                      int parallelConversionThreshold) {
+        if (parallelConversionThreshold < 1) {
+            throw new IllegalArgumentException("The parallel conversion threshold must be positive, but was "
+                + parallelConversionThreshold);
+        }
         this.beanDefinitionService = beanDefinitionService;
         this.leafValueHandler = leafValueHandler;
+        this.convertedBeanCache = convertedBeanCache;
+        this.forkJoinPool = forkJoinPool;
+        this.parallelConversionThreshold = parallelConversionThreshold;
     }
 
     protected final @NotNull BeanDefinitionService getBeanDefinitionService() {
@@ -92,6 +150,18 @@ public class MapperImpl implements Mapper {
         return leafValueHandler;
     }
 
+    protected final @Nullable ConvertedBeanCache getConvertedBeanCache() {
+        return convertedBeanCache;
+    }
+
+    protected final @Nullable ForkJoinPool getForkJoinPool() {
+        return forkJoinPool;
+    }
+
+    protected final int getParallelConversionThreshold() {
+        return parallelConversionThreshold;
+    }
+
     protected @NotNull MappingContext createRootMappingContext(@NotNull TypeInfo beanType,
                                                                @NotNull ConvertErrorRecorder errorRecorder) {
         return MappingContextImpl.createRoot(beanType, errorRecorder);
@@ -140,7 +210,7 @@ public class MapperImpl implements Mapper {
                 if (exportContext.shouldInclude(propComments)) {
                     exportContext.registerComment(propComments);
                     exportValueOfProperty = new ValueWithComments(exportValueOfProperty,
-                        propComments.getComments(), propComments.getUuid());
+                        propComments.getComments(), propComments.getUniqueCommentIntId());
                 }
                 mappedBean.put(property.getName(), exportValueOfProperty);
             }
@@ -263,13 +333,22 @@ public class MapperImpl implements Mapper {
             TypeInfo entryType = context.getTargetTypeArgumentOrThrow(0);
             Collection result = createCollectionMatchingType(context);
 
+            if (value instanceof Collection<?> && shouldConvertInParallel(context, ((Collection<?>) value).size())) {
+                List<?> entries = new ArrayList<>((Collection<?>) value);
+                Object[] convertedEntries = convertEntriesInParallel(context, entries.size(), (chunkContext, index) ->
+                    convertCollectionEntry(chunkContext, index, entries.get(index), entryType));
+                for (Object convertedEntry : convertedEntries) {
+                    if (convertedEntry != null) {
+                        result.add(convertedEntry);
+                    }
+                }
+                return result;
+            }
+
             int index = 0;
             for (Object entry : (Iterable<?>) value) {
-                MappingContext entryContext = context.createChild(pathSpecifierForIndex(index), entryType);
-                Object convertedEntry = convertValueForType(entryContext, entry);
-                if (convertedEntry == null) {
-                    context.registerError("Cannot convert value at index " + index);
-                } else {
+                Object convertedEntry = convertCollectionEntry(context, index, entry, entryType);
+                if (convertedEntry != null) {
                     result.add(convertedEntry);
                 }
                 ++index;
@@ -279,6 +358,16 @@ public class MapperImpl implements Mapper {
         return null;
     }
 
+    private @Nullable Object convertCollectionEntry(@NotNull MappingContext context, int index,
+                                                    @Nullable Object entry, @NotNull TypeInfo entryType) {
+        MappingContext entryContext = context.createChildForIndex(index, entryType);
+        Object convertedEntry = convertValueForType(entryContext, entry);
+        if (convertedEntry == null) {
+            context.registerError("Cannot convert value at index " + index);
+        }
+        return convertedEntry;
+    }
+
     /**
      * Creates a Collection of a type which can be assigned to the provided type.
      *
@@ -315,12 +404,22 @@ public class MapperImpl implements Mapper {
 
             Map<String, ?> entries = (Map<String, ?>) value;
             Map result = createMapMatchingType(context);
+
+            if (shouldConvertInParallel(context, entries.size())) {
+                List<Map.Entry<String, ?>> entryList = new ArrayList<>(entries.entrySet());
+                Object[] mappedValues = convertEntriesInParallel(context, entryList.size(),
+                    (chunkContext, index) -> convertMapEntry(chunkContext, entryList.get(index), mapValueType));
+                for (int i = 0; i < mappedValues.length; ++i) {
+                    if (mappedValues[i] != null) {
+                        result.put(entryList.get(i).getKey(), mappedValues[i]);
+                    }
+                }
+                return result;
+            }
+
             for (Map.Entry<String, ?> entry : entries.entrySet()) {
-                MappingContext entryContext = context.createChild(pathSpecifierForMapKey(entry), mapValueType);
-                Object mappedValue = convertValueForType(entryContext, entry.getValue());
-                if (mappedValue == null) {
-                    context.registerError("Cannot map value for key " + entry.getKey());
-                } else {
+                Object mappedValue = convertMapEntry(context, entry, mapValueType);
+                if (mappedValue != null) {
                     result.put(entry.getKey(), mappedValue);
                 }
             }
@@ -329,6 +428,16 @@ public class MapperImpl implements Mapper {
         return null;
     }
 
+    private @Nullable Object convertMapEntry(@NotNull MappingContext context, @NotNull Map.Entry<String, ?> entry,
+                                             @NotNull TypeInfo mapValueType) {
+        MappingContext entryContext = context.createChildForMapKey(entry.getKey(), mapValueType);
+        Object mappedValue = convertValueForType(entryContext, entry.getValue());
+        if (mappedValue == null) {
+            context.registerError("Cannot map value for key " + entry.getKey());
+        }
+        return mappedValue;
+    }
+
     /**
      * Creates a Map of a type which can be assigned to the provided type.
      *
@@ -346,6 +455,156 @@ public class MapperImpl implements Mapper {
         }
     }
 
+    // -- Parallel conversion
+
+    /**
+     * Returns whether the entries of the collection or map of the given context should be converted in parallel.
+     *
+     * @param context the mapping context of the collection or map
+     * @param size the number of entries
+     * @return true if the entries should be converted in parallel, false otherwise
+     */
+    protected boolean shouldConvertInParallel(@NotNull MappingContext context, int size) {
+        return forkJoinPool != null && size >= parallelConversionThreshold;
+    }
+
+    /**
+     * Converts entries in parallel with the fork-join pool. The entries are split into chunks, each of which is
+     * converted with its own error recorder. The errors of the chunks are registered to the context's error recorder
+     * in the order of the chunks once all entries have been converted. If the conversion of an entry throws an
+     * exception, the exception of the first chunk in order is rethrown.
+     *
+     * @param context the mapping context of the collection or map
+     * @param size the number of entries
+     * @param entryConverter function converting the entry at the given index with the given (chunk) context
+     * @return the converted entries, in the order of their index (null for entries that could not be converted)
+     */
+    protected @Nullable Object @NotNull [] convertEntriesInParallel(@NotNull MappingContext context, int size,
+                                                                    @NotNull EntryConverter entryConverter) {
+        ForkJoinPool pool = forkJoinPool == null ? ForkJoinPool.commonPool() : forkJoinPool;
+        int chunkCount = Math.min(size, pool.getParallelism() * 4);
+        int chunkSize = (size + chunkCount - 1) / chunkCount;
+
+        Object[] convertedEntries = new Object[size];
+        List<EntryChunkConversion> chunks = new ArrayList<>();
+        for (int start = 0; start < size; start += chunkSize) {
+            RecordingErrorRecorder chunkErrorRecorder = new RecordingErrorRecorder();
+            MappingContext chunkContext = context.withErrorRecorder(chunkErrorRecorder);
+            if (chunkContext == null) {
+                // Context does not support other error recorders: convert sequentially
+                for (int i = 0; i < size; ++i) {
+                    convertedEntries[i] = entryConverter.convert(context, i);
+                }
+                return convertedEntries;
+            }
+            chunks.add(new EntryChunkConversion(chunkContext, chunkErrorRecorder, entryConverter, convertedEntries,
+                start, Math.min(start + chunkSize, size)));
+        }
+
+        ForkJoinTask<Void> task = new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(chunks);
+            }
+        };
+        if (ForkJoinTask.getPool() == pool) {
+            task.invoke(); // Nested collection within a parallel conversion: let the current worker take part
+        } else {
+            pool.invoke(task);
+        }
+
+        for (EntryChunkConversion chunk : chunks) {
+            chunk.rethrowFailure();
+            chunk.errorRecorder.replayErrors(context.getErrorRecorder());
+        }
+        return convertedEntries;
+    }
+
+    /**
+     * Converts the entry at a given index of a collection or map. Must be thread-safe.
+     */
+    @FunctionalInterface
+    protected interface EntryConverter {
+
+        /**
+         * Converts the entry at the given index, registering any errors with the given context.
+         *
+         * @param context the context of the collection or map to use (chunk-specific if converted in parallel)
+         * @param index the index of the entry to convert
+         * @return the converted entry, or null if not possible
+         */
+        @Nullable Object convert(@NotNull MappingContext context, int index);
+    }
+
+    /**
+     * Converts a range of entries, storing the results into the shared array. Exceptions are caught so that they
+     * can be rethrown in the calling thread as they were thrown.
+     */
+    private static final class EntryChunkConversion extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final MappingContext context;
+        private final RecordingErrorRecorder errorRecorder;
+        private final EntryConverter entryConverter;
+        private final Object[] convertedEntries;
+        private final int start;
+        private final int end;
+        private @Nullable RuntimeException exception;
+        private @Nullable Error error;
+
+        EntryChunkConversion(@NotNull MappingContext context, @NotNull RecordingErrorRecorder errorRecorder,
+                             @NotNull EntryConverter entryConverter, @Nullable Object @NotNull [] convertedEntries,
+                             int start, int end) {
+            this.context = context;
+            this.errorRecorder = errorRecorder;
+            this.entryConverter = entryConverter;
+            this.convertedEntries = convertedEntries;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                for (int i = start; i < end; ++i) {
+                    convertedEntries[i] = entryConverter.convert(context, i);
+                }
+            } catch (RuntimeException e) {
+                exception = e;
+            } catch (Error e) {
+                error = e;
+            }
+        }
+
+        void rethrowFailure() {
+            if (exception != null) {
+                throw exception;
+            } else if (error != null) {
+                throw error;
+            }
+        }
+    }
+
+    /**
+     * Error recorder of a chunk of entries that are converted in parallel, or of a bean that may be cached. Keeps the
+     * reasons of the errors so that they can be registered to the actual error recorder afterwards.
+     */
+    private static final class RecordingErrorRecorder extends ConvertErrorRecorder {
+
+        private final List<String> reasons = new ArrayList<>();
+
+        @Override
+        public void setHasError(@NotNull String reason) {
+            super.setHasError(reason);
+            reasons.add(reason);
+        }
+
+        void replayErrors(@NotNull ConvertErrorRecorder errorRecorder) {
+            reasons.forEach(errorRecorder::setHasError);
+        }
+    }
+
     // -- Optional
 
     // Return value is never null, but if someone wants to override this, it's fine for it to be null
@@ -371,19 +630,53 @@ public class MapperImpl implements Mapper {
         }
         Map<?, ?> entries = (Map<?, ?>) value;
 
-        Optional<BeanDefinition> definition =
-            beanDefinitionService.findDefinition(context.getTargetTypeAsClassOrThrow());
+        Class<?> beanType = context.getTargetTypeAsClassOrThrow();
+        Optional<BeanDefinition> definition = beanDefinitionService.findDefinition(beanType);
         if (definition.isPresent()) {
+            boolean isReusable = convertedBeanCache != null && isReusableBean(beanType, definition.get());
+            if (isReusable) {
+                Object cachedBean = convertedBeanCache.get(context.getTargetType(), entries);
+                if (cachedBean != null) {
+                    return cachedBean;
+                }
+            }
+
+            // A bean that may be cached is created with its own error recorder, so that only errors of this bean
+            // decide whether it is cached. Errors are not replayed when the bean is taken from the cache.
+            RecordingErrorRecorder beanErrorRecorder = isReusable ? new RecordingErrorRecorder() : null;
+            MappingContext beanContext =
+                beanErrorRecorder == null ? null : context.withErrorRecorder(beanErrorRecorder);
+            MappingContext creationContext = beanContext == null ? context : beanContext;
+
             List<Object> propertyValues = definition.get().getProperties().stream()
                 .map(prop -> {
                     TypeInfo propertyType = context.getTargetType().resolve(prop.getTypeInformation().getType());
-                    MappingContext childContext = context.createChild(prop.getName(), propertyType);
+                    MappingContext childContext = creationContext.createChild(prop.getName(), propertyType);
                     return convertValueForType(childContext, entries.get(prop.getName()));
                 })
                 .collect(Collectors.toList());
 
-            return definition.get().create(propertyValues, context.getErrorRecorder());
+            Object bean = definition.get().create(propertyValues, creationContext.getErrorRecorder());
+            if (beanContext != null) {
+                beanErrorRecorder.replayErrors(context.getErrorRecorder());
+                if (bean != null && beanErrorRecorder.isFullyValid()) {
+                    convertedBeanCache.put(context.getTargetType(), entries, bean);
+                }
+            }
+            return bean;
         }
         return null;
     }
+
+    /**
+     * Returns whether instances of the given bean type may be reused if an equal value is mapped again.
+     * Only called if the mapper has a {@link ConvertedBeanCache}.
+     *
+     * @param beanType the bean type
+     * @param definition the bean definition of the type
+     * @return true if beans of the type are immutable, false otherwise
+     */
+    protected boolean isReusableBean(@NotNull Class<?> beanType, @NotNull BeanDefinition definition) {
+        return definition instanceof RecordBeanDefinition || beanType.isAnnotationPresent(ImmutableBean.class);
+    }
 }
@@ -31,7 +31,7 @@ public interface ExportContext {
     boolean shouldInclude(@NotNull BeanPropertyComments comments);
 
     /**
-     * Registers the given comments. Used to keep track of all unique comment's UUIDs that have been processed.
+     * Registers the given comments. Used to keep track of the IDs of all unique comments that have been processed.
      *
      * @param comments the comments instance to process
      */
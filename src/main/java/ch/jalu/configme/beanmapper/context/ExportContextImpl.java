@@ -2,29 +2,26 @@ package ch.jalu.configme.beanmapper.context;
 
 import ch.jalu.configme.beanmapper.definition.properties.BeanPropertyComments;
 import ch.jalu.configme.internal.PathUtils;
+import ch.jalu.configme.properties.convertresult.UniqueCommentTracker;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashSet;
-import java.util.Set;
-import java.util.UUID;
-
 /**
  * Standard implementation of {@link ExportContext}.
  */
 public class ExportContextImpl implements ExportContext {
 
     private final String beanPath;
-    private final Set<UUID> usedUniqueCommentIds;
+    private final UniqueCommentTracker usedUniqueComments;
 
     /**
      * Constructor.
      *
      * @param beanPath path relative to the bean root
-     * @param usedUniqueCommentIds set of unique comment UUIDs that have already been used
+     * @param usedUniqueComments tracker of the unique comments that have already been used
      */
-    protected ExportContextImpl(@NotNull String beanPath, @NotNull Set<UUID> usedUniqueCommentIds) {
+    protected ExportContextImpl(@NotNull String beanPath, @NotNull UniqueCommentTracker usedUniqueComments) {
         this.beanPath = beanPath;
-        this.usedUniqueCommentIds = usedUniqueCommentIds;
+        this.usedUniqueComments = usedUniqueComments;
     }
 
     /**
@@ -33,13 +30,13 @@ public class ExportContextImpl implements ExportContext {
      * @return root export context
      */
     public static @NotNull ExportContextImpl createRoot() {
-        return new ExportContextImpl("", new HashSet<>());
+        return new ExportContextImpl("", new UniqueCommentTracker());
     }
 
     @Override
     public @NotNull ExportContext createChildContext(@NotNull String path) {
         String childPath = PathUtils.concatSpecifierAware(beanPath, path);
-        return new ExportContextImpl(childPath, usedUniqueCommentIds);
+        return new ExportContextImpl(childPath, usedUniqueComments);
     }
 
     @Override
@@ -49,14 +46,11 @@ public class ExportContextImpl implements ExportContext {
 
     @Override
     public boolean shouldInclude(@NotNull BeanPropertyComments comments) {
-        return !comments.getComments().isEmpty()
-            && (comments.getUuid() == null || !usedUniqueCommentIds.contains(comments.getUuid()));
+        return !comments.getComments().isEmpty() && !comments.isContainedIn(usedUniqueComments);
     }
 
     @Override
     public void registerComment(@NotNull BeanPropertyComments comments) {
-        if (comments.getUuid() != null) {
-            usedUniqueCommentIds.add(comments.getUuid());
-        }
+        comments.registerIn(usedUniqueComments);
     }
 }
@@ -1,9 +1,11 @@
 package ch.jalu.configme.beanmapper.context;
 
 import ch.jalu.configme.beanmapper.ConfigMeMapperException;
+import ch.jalu.configme.internal.PathUtils;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import ch.jalu.typeresolver.TypeInfo;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Holds necessary information for a certain value that is being mapped in the bean mapper.
@@ -19,6 +21,28 @@ public interface MappingContext {
      */
     @NotNull MappingContext createChild(@NotNull String name, @NotNull TypeInfo targetType);
 
+    /**
+     * Creates a child context for the entry at the given index of a collection or array.
+     *
+     * @param index the index of the entry
+     * @param targetType the required type
+     * @return new child context
+     */
+    default @NotNull MappingContext createChildForIndex(int index, @NotNull TypeInfo targetType) {
+        return createChild(PathUtils.pathSpecifierForIndex(index), targetType);
+    }
+
+    /**
+     * Creates a child context for the value of the given key of a map.
+     *
+     * @param key the key of the entry
+     * @param targetType the required type
+     * @return new child context
+     */
+    default @NotNull MappingContext createChildForMapKey(@NotNull String key, @NotNull TypeInfo targetType) {
+        return createChild(PathUtils.pathSpecifierForMapKey(key), targetType);
+    }
+
     /**
      * Returns the path, from the root of the bean, that is being mapped. In other words, this is a local path
      * relative to the bean root. The bean root is always {@code ""} (empty string).
@@ -80,4 +104,16 @@ public interface MappingContext {
      * @return error recorder to register errors even when a value can be created
      */
     @NotNull ConvertErrorRecorder getErrorRecorder();
+
+    /**
+     * Creates a context with the same path and target type as this context, which registers errors with the
+     * given error recorder instead. Used when entries are converted in parallel, so that each thread has its own
+     * error recorder. Returns null if not supported, in which case entries are converted sequentially.
+     *
+     * @param errorRecorder the error recorder the new context (and its children) should use
+     * @return context with the given error recorder, or null if not supported
+     */
+    default @Nullable MappingContext withErrorRecorder(@NotNull ConvertErrorRecorder errorRecorder) {
+        return null;
+    }
 }
@@ -4,19 +4,50 @@ import ch.jalu.configme.internal.PathUtils;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import ch.jalu.typeresolver.TypeInfo;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Standard implementation of {@link MappingContext}.
+ * <p>
+ * A child context only keeps a reference to its parent and its own path element. The bean path is only rendered
+ * when it is requested (typically for an error message), as the mapping of large collections would otherwise
+ * create a path String for every entry.
  */
 public class MappingContextImpl implements MappingContext {
 
-    private final String beanPath;
+    private static final int NO_INDEX = -1;
+
+    private final @Nullable MappingContextImpl parent;
+    private final @Nullable String pathElement;
+    private final int index;
+    private final boolean isMapKey;
     private final TypeInfo targetType;
     private final ConvertErrorRecorder errorRecorder;
+    private @Nullable String beanPath;
 
     protected MappingContextImpl(@NotNull String beanPath, @NotNull TypeInfo targetType,
                                  @NotNull ConvertErrorRecorder errorRecorder) {
+        this(null, null, NO_INDEX, false, targetType, errorRecorder);
         this.beanPath = beanPath;
+    }
+
+    /**
+     * Constructor for a child context.
+     *
+     * @param parent the parent context
+     * @param pathElement the path element (or map key) of the child, null if the child is for an index
+     * @param index the index of the child, or -1 if the child is not for an index
+     * @param isMapKey whether the path element is a map key
+     * @param targetType the required type
+     * @param errorRecorder error recorder to register errors even if a valid value is returned
+     */
+    protected MappingContextImpl(@Nullable MappingContextImpl parent, @Nullable String pathElement, int index,
+                                 boolean isMapKey, @NotNull TypeInfo targetType,
+                                 @NotNull ConvertErrorRecorder errorRecorder) {
+        this.parent = parent;
+        this.pathElement = pathElement;
+        this.index = index;
+        this.isMapKey = isMapKey;
         this.targetType = targetType;
         this.errorRecorder = errorRecorder;
     }
@@ -35,12 +66,53 @@ public class MappingContextImpl implements MappingContext {
 
     @Override
     public @NotNull MappingContext createChild(@NotNull String subPath, @NotNull TypeInfo targetType) {
-        String childPath = PathUtils.concatSpecifierAware(beanPath, subPath);
-        return new MappingContextImpl(childPath, targetType, errorRecorder);
+        return createChildContext(subPath, NO_INDEX, false, targetType);
+    }
+
+    @Override
+    public @NotNull MappingContext createChildForIndex(int index, @NotNull TypeInfo targetType) {
+        return createChildContext(null, index, false, targetType);
     }
 
+    @Override
+    public @NotNull MappingContext createChildForMapKey(@NotNull String key, @NotNull TypeInfo targetType) {
+        return createChildContext(key, NO_INDEX, true, targetType);
+    }
+
+    /**
+     * Creates a child context of this context. All child contexts are created by this method, so extensions can
+     * override it to return their own type.
+     *
+     * @param pathElement the path element (or map key) of the child, null if the child is for an index
+     * @param index the index of the child, or -1 if the child is not for an index
+     * @param isMapKey whether the path element is a map key
+     * @param targetType the required type
+     * @return new child context
+     */
+    protected @NotNull MappingContextImpl createChildContext(@Nullable String pathElement, int index,
+                                                             boolean isMapKey, @NotNull TypeInfo targetType) {
+        return new MappingContextImpl(this, pathElement, index, isMapKey, targetType, errorRecorder);
+    }
+
+    @Override
+    public @NotNull MappingContext withErrorRecorder(@NotNull ConvertErrorRecorder errorRecorder) {
+        MappingContextImpl context =
+            new MappingContextImpl(parent, pathElement, index, isMapKey, targetType, errorRecorder);
+        context.beanPath = beanPath;
+        return context;
+    }
+
+    @Override
     public @NotNull String getBeanPath() {
-        return beanPath;
+        // Not synchronized: concurrent calls compute the same String
+        String path = beanPath;
+        if (path == null) {
+            StringBuilder builder = new StringBuilder();
+            appendBeanPath(builder);
+            path = builder.toString();
+            beanPath = path;
+        }
+        return path;
     }
 
     @Override
@@ -50,7 +122,7 @@ public class MappingContextImpl implements MappingContext {
 
     @Override
     public @NotNull String createDescription() {
-        return "Bean path: '" + beanPath + "', type: '" + targetType.getType() + "'";
+        return "Bean path: '" + getBeanPath() + "', type: '" + targetType.getType() + "'";
     }
 
     @Override
@@ -62,4 +134,31 @@ public class MappingContextImpl implements MappingContext {
     public @NotNull String toString() {
         return getClass().getSimpleName() + "[" + createDescription() + "]";
     }
+
+    /**
+     * Appends the bean path of this context to the given builder, which contains the path of the parents.
+     * Uses {@link PathUtils#concatSpecifierAware} semantics.
+     *
+     * @param builder the builder to append to
+     */
+    private void appendBeanPath(@NotNull StringBuilder builder) {
+        if (beanPath != null) {
+            builder.append(beanPath);
+            return;
+        }
+        if (parent != null) {
+            parent.appendBeanPath(builder);
+        }
+
+        if (index != NO_INDEX) {
+            builder.append('[').append(index).append(']');
+        } else if (isMapKey) {
+            builder.append("[k=").append(pathElement).append(']');
+        } else if (pathElement != null) {
+            if (builder.length() > 0 && !PathUtils.isSpecifierSuffix(pathElement)) {
+                builder.append('.');
+            }
+            builder.append(pathElement);
+        }
+    }
 }
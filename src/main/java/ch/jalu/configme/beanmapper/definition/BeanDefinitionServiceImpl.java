@@ -33,17 +33,40 @@ public class BeanDefinitionServiceImpl implements BeanDefinitionService {
 
     private final RecordInspector recordInspector;
     private final BeanPropertyExtractor beanPropertyExtractor;
+    private final BeanInstantiationStrategy instantiationStrategy;
     private final Map<Class<?>, BeanDefinition> cachedDefinitionsByType = new ConcurrentHashMap<>();
 
     public BeanDefinitionServiceImpl() {
-        this.recordInspector = new RecordInspectorImpl(new ReflectionHelper());
-        this.beanPropertyExtractor = new BeanPropertyExtractorImpl();
+        this(new ReflectionInstantiationStrategy());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param instantiationStrategy the strategy with which the bean definitions create beans
+     */
+    public BeanDefinitionServiceImpl(@NotNull BeanInstantiationStrategy instantiationStrategy) {
+        this(new RecordInspectorImpl(new ReflectionHelper()), new BeanPropertyExtractorImpl(), instantiationStrategy);
     }
 
     public BeanDefinitionServiceImpl(@NotNull RecordInspector recordInspector,
                                      @NotNull BeanPropertyExtractor beanPropertyExtractor) {
+        this(recordInspector, beanPropertyExtractor, new ReflectionInstantiationStrategy());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param recordInspector the record inspector to use
+     * @param beanPropertyExtractor the bean property extractor to use
+     * @param instantiationStrategy the strategy with which the bean definitions create beans
+     */
+    public BeanDefinitionServiceImpl(@NotNull RecordInspector recordInspector,
+                                     @NotNull BeanPropertyExtractor beanPropertyExtractor,
+                                     @NotNull BeanInstantiationStrategy instantiationStrategy) {
         this.recordInspector = recordInspector;
         this.beanPropertyExtractor = beanPropertyExtractor;
+        this.instantiationStrategy = instantiationStrategy;
     }
 
     protected final @NotNull RecordInspector getRecordInspector() {
@@ -54,6 +77,10 @@ public class BeanDefinitionServiceImpl implements BeanDefinitionService {
         return beanPropertyExtractor;
     }
 
+    protected final @NotNull BeanInstantiationStrategy getInstantiationStrategy() {
+        return instantiationStrategy;
+    }
+
     protected final @NotNull Map<Class<?>, BeanDefinition> getCachedDefinitionsByType() {
         return cachedDefinitionsByType;
     }
@@ -86,14 +113,14 @@ public class BeanDefinitionServiceImpl implements BeanDefinitionService {
             List<BeanPropertyDefinition> properties =
                 beanPropertyExtractor.collectPropertiesForRecord(clazz, recordComponents);
 
-            return new RecordBeanDefinition(clazz, properties);
+            return new RecordBeanDefinition(clazz, properties, instantiationStrategy);
         }
 
         Constructor<?> noArgConstructor = ConstructorUtils.getConstructorOrNull(clazz);
         if (noArgConstructor != null) {
             List<BeanFieldPropertyDefinition> properties = beanPropertyExtractor.collectProperties(clazz);
             if (!properties.isEmpty()) {
-                return new NoArgConstructorBeanDefinition(noArgConstructor, properties);
+                return new NoArgConstructorBeanDefinition(noArgConstructor, properties, instantiationStrategy);
             }
         }
 
@@ -0,0 +1,67 @@
+package ch.jalu.configme.beanmapper.definition;
+
+import ch.jalu.configme.beanmapper.definition.properties.BeanFieldPropertyDefinition;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * Creates the objects with which bean definitions call constructors and set field values. The objects are created
+ * once per bean definition, so that any preparation is not repeated for every bean that is created.
+ *
+ * @see ReflectionInstantiationStrategy
+ * @see MethodHandleInstantiationStrategy
+ */
+public interface BeanInstantiationStrategy {
+
+    /**
+     * Creates an invoker for the given constructor.
+     *
+     * @param constructor the constructor to call
+     * @return invoker for the constructor
+     */
+    @NotNull ConstructorInvoker createConstructorInvoker(@NotNull Constructor<?> constructor);
+
+    /**
+     * Creates a setter for the field of the given property.
+     *
+     * @param property the property whose field should be set
+     * @return setter for the property
+     */
+    @NotNull FieldSetter createFieldSetter(@NotNull BeanFieldPropertyDefinition property);
+
+    /**
+     * Calls a constructor. Behaves like {@link Constructor#newInstance}, i.e. an exception thrown by the constructor is
+     * wrapped into an {@link java.lang.reflect.InvocationTargetException InvocationTargetException}, and an
+     * {@link IllegalArgumentException} is thrown if the arguments do not match the constructor's parameters.
+     */
+    @FunctionalInterface
+    interface ConstructorInvoker {
+
+        /**
+         * Calls the constructor with the given arguments.
+         *
+         * @param args the arguments to pass to the constructor
+         * @return the created object
+         * @throws ReflectiveOperationException if the constructor could not be called or threw an exception
+         */
+        @NotNull Object newInstance(Object @NotNull ... args) throws ReflectiveOperationException;
+
+    }
+
+    /**
+     * Sets the value of a bean property's field. Behaves like {@link BeanFieldPropertyDefinition#setValue}.
+     */
+    @FunctionalInterface
+    interface FieldSetter {
+
+        /**
+         * Sets the value to the field of the given bean.
+         *
+         * @param bean the bean to set the value to
+         * @param value the value to set
+         */
+        void setValue(@NotNull Object bean, @NotNull Object value);
+
+    }
+}
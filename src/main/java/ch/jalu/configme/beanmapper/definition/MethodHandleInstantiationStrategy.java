@@ -0,0 +1,93 @@
+package ch.jalu.configme.beanmapper.definition;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.function.Supplier;
+
+/**
+ * Instantiation strategy which creates beans of public classes with a public no-arg constructor through a
+ * {@link Supplier} that is bound to the constructor with {@link LambdaMetafactory}, so that beans are created with
+ * a direct constructor call instead of reflection.
+ * <p>
+ * All other constructors and all fields are handled with reflection, like {@link ReflectionInstantiationStrategy}.
+ * A method handle that is kept in a field or lambda is not a constant for the JIT, so calling it with
+ * {@code invokeExact} cannot be inlined and is not faster than reflection, which is itself implemented with method
+ * handles on newer Java versions.
+ */
+public class MethodHandleInstantiationStrategy extends ReflectionInstantiationStrategy {
+
+    private static final MethodType SUPPLIER_FACTORY_TYPE = MethodType.methodType(Supplier.class);
+    private static final MethodType SUPPLIER_GET_TYPE = MethodType.methodType(Object.class);
+
+    private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    @Override
+    public @NotNull ConstructorInvoker createConstructorInvoker(@NotNull Constructor<?> constructor) {
+        if (constructor.getParameterCount() == 0) {
+            Supplier<Object> supplier = createSupplierOrNull(constructor);
+            if (supplier != null) {
+                return args -> invokeSupplier(supplier, args);
+            }
+        }
+        return super.createConstructorInvoker(constructor);
+    }
+
+    /**
+     * Creates a supplier calling the given no-arg constructor with {@link LambdaMetafactory}. Returns null if the
+     * constructor or its class is not public, or if the class cannot be accessed from this class's class loader.
+     *
+     * @param constructor the no-arg constructor
+     * @return supplier calling the constructor, or null if not possible
+     */
+    @SuppressWarnings("unchecked")
+    protected @Nullable Supplier<Object> createSupplierOrNull(@NotNull Constructor<?> constructor) {
+        Class<?> beanType = constructor.getDeclaringClass();
+        if (!Modifier.isPublic(constructor.getModifiers()) || !Modifier.isPublic(beanType.getModifiers())
+            || !isVisibleFromClassLoader(beanType)) {
+            return null;
+        }
+
+        try {
+            MethodHandle handle = lookup.unreflectConstructor(constructor);
+            CallSite callSite = LambdaMetafactory.metafactory(lookup, "get", SUPPLIER_FACTORY_TYPE,
+                SUPPLIER_GET_TYPE, handle, MethodType.methodType(beanType));
+            return (Supplier<Object>) callSite.getTarget().invokeExact();
+            // CHECKSTYLE:OFF
+        } catch (Throwable t) {
+            // CHECKSTYLE:ON
+            return null;
+        }
+    }
+
+    private boolean isVisibleFromClassLoader(@NotNull Class<?> clazz) {
+        try {
+            ClassLoader classLoader = MethodHandleInstantiationStrategy.class.getClassLoader();
+            return Class.forName(clazz.getName(), false, classLoader) == clazz;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static @NotNull Object invokeSupplier(@NotNull Supplier<Object> supplier,
+                                                  Object @NotNull [] args) throws InvocationTargetException {
+        if (args.length != 0) {
+            throw new IllegalArgumentException("wrong number of arguments");
+        }
+        try {
+            return supplier.get();
+            // CHECKSTYLE:OFF
+        } catch (Throwable t) {
+            // CHECKSTYLE:ON
+            throw new InvocationTargetException(t);
+        }
+    }
+}
@@ -1,17 +1,22 @@
 package ch.jalu.configme.beanmapper.definition;
 
+import ch.jalu.configme.beanmapper.definition.BeanInstantiationStrategy.ConstructorInvoker;
+import ch.jalu.configme.beanmapper.definition.BeanInstantiationStrategy.FieldSetter;
 import ch.jalu.configme.beanmapper.definition.properties.BeanFieldPropertyDefinition;
 import ch.jalu.configme.beanmapper.definition.properties.BeanPropertyDefinition;
 import ch.jalu.configme.exception.ConfigMeException;
-import ch.jalu.configme.internal.ReflectionHelper;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Constructor;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+
+import static ch.jalu.configme.internal.ConversionUtils.calculateHashCapacity;
 
 /**
  * Definition of a bean based on a regular Java class with a no-arg constructor.
@@ -20,11 +25,31 @@ public class NoArgConstructorBeanDefinition implements BeanDefinition {
 
     private final Constructor<?> noArgConstructor;
     private final List<BeanFieldPropertyDefinition> properties;
+    private final ConstructorInvoker constructorInvoker;
+    private final Map<BeanFieldPropertyDefinition, FieldSetter> fieldSetters;
 
     public NoArgConstructorBeanDefinition(@NotNull Constructor<?> noArgConstructor,
                                           @NotNull List<BeanFieldPropertyDefinition> properties) {
+        this(noArgConstructor, properties, new ReflectionInstantiationStrategy());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param noArgConstructor the no-arg constructor of the bean type
+     * @param properties the properties of the bean
+     * @param instantiationStrategy the strategy to call the constructor and to set the field values with
+     */
+    public NoArgConstructorBeanDefinition(@NotNull Constructor<?> noArgConstructor,
+                                          @NotNull List<BeanFieldPropertyDefinition> properties,
+                                          @NotNull BeanInstantiationStrategy instantiationStrategy) {
         this.noArgConstructor = noArgConstructor;
         this.properties = properties;
+        this.constructorInvoker = instantiationStrategy.createConstructorInvoker(noArgConstructor);
+        this.fieldSetters = new IdentityHashMap<>(calculateHashCapacity(properties.size()));
+        for (BeanFieldPropertyDefinition property : properties) {
+            fieldSetters.put(property, instantiationStrategy.createFieldSetter(property));
+        }
     }
 
     protected final @NotNull Constructor<?> getNoArgConstructor() {
@@ -70,9 +95,8 @@ public class NoArgConstructorBeanDefinition implements BeanDefinition {
      * @return the new instance
      */
     protected @NotNull Object createNewInstance() {
-        ReflectionHelper.setAccessibleIfNeeded(noArgConstructor);
         try {
-            return noArgConstructor.newInstance();
+            return constructorInvoker.newInstance();
         } catch (ReflectiveOperationException e) {
             throw new ConfigMeException("Failed to call constructor for " + noArgConstructor.getDeclaringClass(), e);
         }
@@ -96,8 +120,26 @@ public class NoArgConstructorBeanDefinition implements BeanDefinition {
             }
             errorRecorder.setHasError("Fallback to default value for " + property);
         } else {
-            property.setValue(bean, value);
+            setValue(bean, property, value);
         }
         return true;
     }
+
+    /**
+     * Sets the value to the property's field on the given bean, using the field setter that was created by the
+     * instantiation strategy.
+     *
+     * @param bean the bean to modify
+     * @param property the property to set
+     * @param value the value to set
+     */
+    protected void setValue(@NotNull Object bean, @NotNull BeanFieldPropertyDefinition property,
+                            @NotNull Object value) {
+        FieldSetter fieldSetter = fieldSetters.get(property);
+        if (fieldSetter == null) {
+            property.setValue(bean, value);
+        } else {
+            fieldSetter.setValue(bean, value);
+        }
+    }
 }
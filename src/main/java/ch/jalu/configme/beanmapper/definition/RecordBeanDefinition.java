@@ -1,5 +1,6 @@
 package ch.jalu.configme.beanmapper.definition;
 
+import ch.jalu.configme.beanmapper.definition.BeanInstantiationStrategy.ConstructorInvoker;
 import ch.jalu.configme.beanmapper.definition.properties.BeanPropertyDefinition;
 import ch.jalu.configme.exception.ConfigMeException;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
@@ -18,15 +19,28 @@ import java.util.Objects;
 public class RecordBeanDefinition implements BeanDefinition {
 
     private final Constructor<?> canonicalConstructor;
+    private final ConstructorInvoker constructorInvoker;
     private final List<BeanPropertyDefinition> properties;
 
     /**
-     * Constructor.
+     * Constructor (uses reflection to call the record's constructor).
      *
      * @param clazz the record type
      * @param properties the properties of the record
      */
     public RecordBeanDefinition(@NotNull Class<?> clazz, @NotNull List<BeanPropertyDefinition> properties) {
+        this(clazz, properties, new ReflectionInstantiationStrategy());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param clazz the record type
+     * @param properties the properties of the record
+     * @param instantiationStrategy the strategy to call the record's constructor with
+     */
+    public RecordBeanDefinition(@NotNull Class<?> clazz, @NotNull List<BeanPropertyDefinition> properties,
+                                @NotNull BeanInstantiationStrategy instantiationStrategy) {
         this.properties = properties;
         Class<?>[] paramTypes = properties.stream()
             .map(property -> property.getTypeInformation().toClass())
@@ -35,6 +49,7 @@ public class RecordBeanDefinition implements BeanDefinition {
         if (this.canonicalConstructor == null) {
             throw new ConfigMeException("Could not get canonical constructor of " + clazz);
         }
+        this.constructorInvoker = instantiationStrategy.createConstructorInvoker(canonicalConstructor);
     }
 
     protected final @NotNull Constructor<?> getCanonicalConstructor() {
@@ -55,7 +70,7 @@ public class RecordBeanDefinition implements BeanDefinition {
 
         Object[] properties = propertyValues.toArray();
         try {
-            return canonicalConstructor.newInstance(properties);
+            return constructorInvoker.newInstance(properties);
         } catch (IllegalArgumentException | ReflectiveOperationException e) {
             throw new ConfigMeException("Error calling record constructor for "
                 + canonicalConstructor.getDeclaringClass(), e);
@@ -0,0 +1,26 @@
+package ch.jalu.configme.beanmapper.definition;
+
+import ch.jalu.configme.beanmapper.definition.properties.BeanFieldPropertyDefinition;
+import ch.jalu.configme.internal.ReflectionHelper;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * Default instantiation strategy, which uses reflection to call constructors and set field values.
+ */
+public class ReflectionInstantiationStrategy implements BeanInstantiationStrategy {
+
+    @Override
+    public @NotNull ConstructorInvoker createConstructorInvoker(@NotNull Constructor<?> constructor) {
+        return args -> {
+            ReflectionHelper.setAccessibleIfNeeded(constructor);
+            return constructor.newInstance(args);
+        };
+    }
+
+    @Override
+    public @NotNull FieldSetter createFieldSetter(@NotNull BeanFieldPropertyDefinition property) {
+        return property::setValue;
+    }
+}
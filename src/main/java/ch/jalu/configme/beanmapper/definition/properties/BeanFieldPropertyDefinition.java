@@ -33,6 +33,13 @@ public class BeanFieldPropertyDefinition implements BeanPropertyDefinition {
         this.comments = comments;
     }
 
+    /**
+     * @return the field this definition is for
+     */
+    public @NotNull Field getField() {
+        return field;
+    }
+
     /**
      * @return custom export name, or null if none present
      */
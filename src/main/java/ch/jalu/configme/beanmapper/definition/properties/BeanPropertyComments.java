@@ -1,5 +1,8 @@
 package ch.jalu.configme.beanmapper.definition.properties;
 
+import ch.jalu.configme.internal.UniqueCommentIdMapping;
+import ch.jalu.configme.properties.convertresult.UniqueCommentTracker;
+import ch.jalu.configme.properties.convertresult.ValueWithComments;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -8,38 +11,102 @@ import java.util.List;
 import java.util.UUID;
 
 /**
- * Contains the comments for a bean property, with a UUID if the comment should only be included once.
+ * Contains the comments for a bean property, with an ID if the comment should only be included once.
  */
 public class BeanPropertyComments {
 
     /** Instance which can be used if there are no comments to add. */
-    public static final BeanPropertyComments EMPTY = new BeanPropertyComments(Collections.emptyList(), null);
+    public static final BeanPropertyComments EMPTY = new BeanPropertyComments(Collections.emptyList(),
+        ValueWithComments.NO_UNIQUE_COMMENT_ID);
 
     private final List<String> comments;
-    private final UUID uuid;
+    private final int uniqueCommentId;
+    private final @Nullable UUID uuid;
+
+    /**
+     * Constructor.
+     *
+     * @param comments the comments
+     * @param uniqueCommentId ID to identify the comment with (see {@link ValueWithComments#createUniqueCommentId()}),
+     *                        or {@link ValueWithComments#NO_UNIQUE_COMMENT_ID} if the comment should be repeated
+     */
+    public BeanPropertyComments(@NotNull List<String> comments, int uniqueCommentId) {
+        this(comments, uniqueCommentId, null);
+    }
 
     /**
      * Constructor.
      *
      * @param comments the comments
      * @param uuid UUID to identify the comment with, null if the comment should be repeated
+     * @deprecated use {@link #BeanPropertyComments(List, int)} with an ID from
+     *             {@link ValueWithComments#createUniqueCommentId()}
      */
+    @Deprecated
     public BeanPropertyComments(@NotNull List<String> comments, @Nullable UUID uuid) {
+        this(comments, UniqueCommentIdMapping.toUniqueCommentId(uuid), uuid);
+    }
+
+    private BeanPropertyComments(@NotNull List<String> comments, int uniqueCommentId, @Nullable UUID uuid) {
+        if (uniqueCommentId < 0 && uniqueCommentId != ValueWithComments.NO_UNIQUE_COMMENT_ID) {
+            throw new IllegalArgumentException("Invalid unique comment ID: " + uniqueCommentId);
+        }
         this.comments = comments;
-        this.uuid = uuid;
+        this.uniqueCommentId = uniqueCommentId;
+        // UUIDs are only kept if they do not represent an int ID
+        this.uuid = uniqueCommentId == ValueWithComments.NO_UNIQUE_COMMENT_ID ? uuid : null;
     }
 
     public @NotNull List<String> getComments() {
         return comments;
     }
 
+    /**
+     * ID to identify this comment. Set when the comment should not be repeated if it could be part of the
+     * export multiple times.
+     *
+     * @return ID if the comment should be unique, {@link ValueWithComments#NO_UNIQUE_COMMENT_ID} otherwise (also if
+     *         the comment was identified by a UUID that does not represent an ID)
+     */
+    public int getUniqueCommentIntId() {
+        return uniqueCommentId;
+    }
+
     /**
      * UUID to identify this comment. Not-null when the comment should not be repeated if it could be part of the
      * export multiple times.
      *
      * @return UUID if the comment should be unique, null otherwise
+     * @deprecated use {@link #getUniqueCommentIntId()}
      */
+    @Deprecated
     public @Nullable UUID getUuid() {
-        return uuid;
+        return uuid != null ? uuid : UniqueCommentIdMapping.toUuid(uniqueCommentId);
+    }
+
+    /**
+     * Returns whether this comment should only be included once and has already been registered in the given tracker.
+     *
+     * @param tracker the tracker of the comments that have been included
+     * @return true if the comment is unique and has already been included, false otherwise
+     */
+    public boolean isContainedIn(@NotNull UniqueCommentTracker tracker) {
+        if (uuid != null) {
+            return tracker.contains(uuid);
+        }
+        return uniqueCommentId != ValueWithComments.NO_UNIQUE_COMMENT_ID && tracker.contains(uniqueCommentId);
+    }
+
+    /**
+     * Registers this comment in the given tracker if it should only be included once.
+     *
+     * @param tracker the tracker to register the comment in
+     */
+    public void registerIn(@NotNull UniqueCommentTracker tracker) {
+        if (uuid != null) {
+            tracker.add(uuid);
+        } else if (uniqueCommentId != ValueWithComments.NO_UNIQUE_COMMENT_ID) {
+            tracker.add(uniqueCommentId);
+        }
     }
 }
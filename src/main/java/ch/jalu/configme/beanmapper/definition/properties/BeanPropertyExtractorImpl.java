@@ -6,6 +6,7 @@ import ch.jalu.configme.beanmapper.ExportName;
 import ch.jalu.configme.beanmapper.IgnoreInMapping;
 import ch.jalu.configme.exception.ConfigMeException;
 import ch.jalu.configme.internal.record.RecordComponent;
+import ch.jalu.configme.properties.convertresult.ValueWithComments;
 import ch.jalu.typeresolver.reflect.FieldUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -20,7 +21,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.UUID;
 
 /**
  * Default implementation of {@link BeanPropertyExtractor}: creates all {@link BeanPropertyDefinition}
@@ -130,7 +130,9 @@ public class BeanPropertyExtractorImpl implements BeanPropertyExtractor {
     protected @NotNull BeanPropertyComments getComments(@Nullable Field field) {
         Comment comment = field == null ? null : field.getAnnotation(Comment.class);
         if (comment != null) {
-            UUID uniqueId = comment.repeat() ? null : UUID.randomUUID();
+            int uniqueId = comment.repeat()
+                ? ValueWithComments.NO_UNIQUE_COMMENT_ID
+                : ValueWithComments.createUniqueCommentId();
             return new BeanPropertyComments(Arrays.asList(comment.value()), uniqueId);
         }
         return BeanPropertyComments.EMPTY;
@@ -1,5 +1,6 @@
 package ch.jalu.configme.beanmapper.leafvaluehandler;
 
+import ch.jalu.configme.internal.EnumLookup;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import ch.jalu.typeresolver.EnumUtils;
 import ch.jalu.typeresolver.TypeInfo;
@@ -16,7 +17,7 @@ public class EnumLeafType implements MapperLeafType {
                                     @NotNull ConvertErrorRecorder errorRecorder) {
         if (value instanceof String) {
             return EnumUtils.asEnumClassIfPossible(targetType.toClass())
-                .flatMap(clz -> EnumUtils.tryValueOfCaseInsensitive(clz, (String) value))
+                .map(clz -> getEntry(clz, (String) value))
                 .orElse(null);
         }
         return null;
@@ -29,4 +30,9 @@ public class EnumLeafType implements MapperLeafType {
         }
         return null;
     }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static @Nullable Object getEntry(@NotNull Class<? extends Enum<?>> enumClass, @NotNull String name) {
+        return EnumLookup.of((Class) enumClass).getEntry(name);
+    }
 }
@@ -4,6 +4,7 @@ import ch.jalu.configme.properties.Property;
 import ch.jalu.configme.properties.convertresult.PropertyValue;
 import ch.jalu.configme.resource.PropertyReader;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Map;
@@ -64,6 +65,18 @@ public interface ConfigurationData {
      */
     <T> @NotNull T getValue(@NotNull Property<T> property);
 
+    /**
+     * Returns the export value of the given property, i.e. its value in the format in which it should be saved
+     * to a resource (see {@link Property#toExportValue}).
+     *
+     * @param property the property to get the export value for
+     * @param <T> property type
+     * @return the export value of the property, or null if it should not be exported
+     */
+    default <T> @Nullable Object getExportValue(@NotNull Property<T> property) {
+        return property.toExportValue(getValue(property));
+    }
+
     /**
      * Sets the given value for the given property. May throw an exception if the value is not valid.
      *
@@ -84,4 +97,24 @@ public interface ConfigurationData {
      */
     boolean areAllValuesValidInResource();
 
+    /**
+     * Returns the number of properties whose value was either not present in the resource, or was not fully
+     * acceptable for the property type during the last call of {@link #initializeValues}. The default implementation
+     * is based on {@link #areAllValuesValidInResource()} and returns -1 if not all values are valid, as the exact
+     * number is not known.
+     *
+     * @return number of properties not represented in a fully valid way in the resource, or -1 if unknown
+     */
+    default int getNumberOfValuesInvalidInResource() {
+        return areAllValuesValidInResource() ? 0 : -1;
+    }
+
+    /**
+     * Determines the values of all properties that have not been determined yet from the reader of the last call
+     * to {@link #initializeValues}. This is only relevant for implementations that resolve values lazily; the default
+     * implementation does nothing, since all values are determined when {@link #initializeValues} is called.
+     */
+    default void validateAll() {
+    }
+
 }
@@ -26,6 +26,7 @@ public class ConfigurationDataBuilder {
 
     private final @NotNull PropertyListBuilder propertyListBuilder;
     private final @NotNull CommentsConfiguration commentsConfiguration;
+    private boolean lazyValueResolution;
 
     /**
      * Constructor. Use {@link #createConfiguration(Class[])} or a similar static method to create configuration data.
@@ -74,6 +75,35 @@ public class ConfigurationDataBuilder {
         return builder.collectData(classes);
     }
 
+    /**
+     * Collects all properties and comment data from the provided classes, like {@link #createConfiguration(Class[])}.
+     * The returned configuration data only determines the value of a property when it is first requested; use
+     * {@link ConfigurationData#validateAll()} to determine all remaining values.
+     *
+     * @param classes the classes to scan for their property data
+     * @return collected configuration data, resolving values lazily
+     */
+    @SafeVarargs
+    public static @NotNull ConfigurationData createLazyConfiguration(
+                                                        @NotNull Class<? extends SettingsHolder> @NotNull ... classes) {
+        return createLazyConfiguration(Arrays.asList(classes));
+    }
+
+    /**
+     * Collects all properties and comment data from the provided classes, like {@link #createConfiguration(Iterable)}.
+     * The returned configuration data only determines the value of a property when it is first requested; use
+     * {@link ConfigurationData#validateAll()} to determine all remaining values.
+     *
+     * @param classes the classes to scan for their property data
+     * @return collected configuration data, resolving values lazily
+     */
+    public static @NotNull ConfigurationData createLazyConfiguration(
+                                                           @NotNull Iterable<Class<? extends SettingsHolder>> classes) {
+        ConfigurationDataBuilder builder = new ConfigurationDataBuilder();
+        builder.setLazyValueResolution(true);
+        return builder.collectData(classes);
+    }
+
     /**
      * Manually creates configuration data with the given properties, without any comments. Note that the given
      * properties must be in an order that is suitable for exporting. For instance, the default YAML file resource
@@ -112,7 +142,18 @@ public class ConfigurationDataBuilder {
             collectProperties(clazz);
             collectSectionComments(clazz);
         }
-        return new ConfigurationDataImpl(propertyListBuilder.create(), commentsConfiguration.getAllComments());
+        return new ConfigurationDataImpl(propertyListBuilder.create(), commentsConfiguration.getAllComments(),
+            lazyValueResolution);
+    }
+
+    /**
+     * Sets whether the configuration data created by {@link #collectData} should determine the values of
+     * the properties lazily.
+     *
+     * @param lazyValueResolution true to determine values when they are first requested, false otherwise
+     */
+    protected void setLazyValueResolution(boolean lazyValueResolution) {
+        this.lazyValueResolution = lazyValueResolution;
     }
 
     /**
@@ -6,23 +6,37 @@ import ch.jalu.configme.properties.Property;
 import ch.jalu.configme.properties.convertresult.PropertyValue;
 import ch.jalu.configme.resource.PropertyReader;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static ch.jalu.configme.internal.ConversionUtils.calculateHashCapacity;
 import static java.lang.String.format;
 
 /**
  * Contains information about the available properties and their associated comments.
+ * <p>
+ * Values are determined for all properties when {@link #initializeValues} is called, unless the instance was created
+ * with lazy value resolution. In that case, the reader is kept and the value of a property is only determined when
+ * it is first requested. Use {@link #validateAll()} to determine the values of all remaining properties.
  */
 public class ConfigurationDataImpl implements ConfigurationData {
 
     private final @NotNull List<Property<?>> properties;
     private final @NotNull Map<String, List<String>> allComments;
     private final @NotNull Map<String, Object> values;
-    private boolean allPropertiesValidInResource;
+    private int numberOfPropertiesInvalidInResource = -1;
+
+    private final boolean lazyValueResolution;
+    private final @Nullable Map<String, Property<?>> propertiesByPath;
+    private final @Nullable Set<String> determinedPaths;
+    private @Nullable PropertyReader pendingReader;
 
     /**
      * Constructor. See also {@link ConfigurationDataBuilder}.
@@ -32,9 +46,35 @@ public class ConfigurationDataImpl implements ConfigurationData {
      */
     protected ConfigurationDataImpl(@NotNull List<? extends Property<?>> allProperties,
                                     @NotNull Map<String, List<String>> allComments) {
+        this(allProperties, allComments, false);
+    }
+
+    /**
+     * Constructor. See also {@link ConfigurationDataBuilder}.
+     *
+     * @param allProperties all known properties
+     * @param allComments map of comments by path
+     * @param lazyValueResolution true if values should only be determined when they are first requested,
+     *                            false to determine all values when {@link #initializeValues} is called
+     */
+    protected ConfigurationDataImpl(@NotNull List<? extends Property<?>> allProperties,
+                                    @NotNull Map<String, List<String>> allComments,
+                                    boolean lazyValueResolution) {
         this.properties = Collections.unmodifiableList(allProperties);
         this.allComments = Collections.unmodifiableMap(allComments);
-        this.values = new HashMap<>();
+        this.lazyValueResolution = lazyValueResolution;
+        if (lazyValueResolution) {
+            this.values = new ConcurrentHashMap<>(calculateHashCapacity(allProperties.size()));
+            this.propertiesByPath = new HashMap<>(calculateHashCapacity(allProperties.size()));
+            for (Property<?> property : allProperties) {
+                propertiesByPath.put(property.getPath(), property);
+            }
+            this.determinedPaths = new HashSet<>(calculateHashCapacity(allProperties.size()));
+        } else {
+            this.values = new HashMap<>();
+            this.propertiesByPath = null;
+            this.determinedPaths = null;
+        }
     }
 
     @Override
@@ -56,6 +96,9 @@ public class ConfigurationDataImpl implements ConfigurationData {
     @SuppressWarnings("unchecked")
     public <T> @NotNull T getValue(@NotNull Property<T> property) {
         Object value = values.get(property.getPath());
+        if (value == null && lazyValueResolution) {
+            value = determineValueLazily(property.getPath());
+        }
         if (value == null) {
             throw new ConfigMeException(format("No value exists for property with path '%s'. This may happen if "
                                 + "the property belongs to a %s class which was not passed to the settings manager.",
@@ -75,11 +118,24 @@ public class ConfigurationDataImpl implements ConfigurationData {
 
     @Override
     public void initializeValues(@NotNull PropertyReader reader) {
+        if (lazyValueResolution) {
+            synchronized (determinedPaths) {
+                values.clear();
+                determinedPaths.clear();
+                numberOfPropertiesInvalidInResource = 0;
+                pendingReader = reader;
+            }
+            return;
+        }
         values.clear();
 
-        allPropertiesValidInResource = getProperties().stream()
-            .map(property -> setValueForProperty(property, reader))
-            .reduce(true, Boolean::logicalAnd);
+        int invalidProperties = 0;
+        for (Property<?> property : getProperties()) {
+            if (!setValueForProperty(property, reader)) {
+                ++invalidProperties;
+            }
+        }
+        numberOfPropertiesInvalidInResource = invalidProperties;
     }
 
     /*
@@ -92,11 +148,110 @@ public class ConfigurationDataImpl implements ConfigurationData {
         return propertyValue.isValidInResource();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * With lazy value resolution, this method determines the values of all properties that have not been
+     * requested yet.
+     */
     @Override
     public boolean areAllValuesValidInResource() {
-        return allPropertiesValidInResource;
+        validateAll();
+        return numberOfPropertiesInvalidInResource == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * With lazy value resolution, -1 is returned as long as not all values have been determined.
+     * Use {@link #validateAll()} beforehand to get the number of invalid properties.
+     */
+    @Override
+    public int getNumberOfValuesInvalidInResource() {
+        if (lazyValueResolution) {
+            synchronized (determinedPaths) {
+                return pendingReader == null ? numberOfPropertiesInvalidInResource : -1;
+            }
+        }
+        return numberOfPropertiesInvalidInResource;
+    }
+
+    @Override
+    public void validateAll() {
+        if (!lazyValueResolution) {
+            return;
+        }
+
+        synchronized (determinedPaths) {
+            if (pendingReader != null) {
+                for (Property<?> property : properties) {
+                    if (!determinedPaths.contains(property.getPath())) {
+                        determineValue(property, pendingReader);
+                    }
+                }
+                pendingReader = null;
+            }
+        }
+    }
+
+    /**
+     * Returns whether the values are determined lazily, i.e. when they are requested for the first time
+     * rather than when {@link #initializeValues} is called.
+     *
+     * @return true if values are determined lazily, false otherwise
+     */
+    protected final boolean isLazyValueResolution() {
+        return lazyValueResolution;
+    }
+
+    /**
+     * Determines the value of the property with the given path from the pending reader, if the property is known
+     * and its value has not been determined yet. Returns the value of the property.
+     *
+     * @param path the path of the property whose value is requested
+     * @return the value of the property, null if it is not known or no reader is pending
+     */
+    private @Nullable Object determineValueLazily(@NotNull String path) {
+        synchronized (determinedPaths) {
+            Property<?> property = propertiesByPath.get(path);
+            if (property != null && pendingReader != null && !determinedPaths.contains(path)) {
+                determineValue(property, pendingReader);
+                if (determinedPaths.size() == properties.size()) {
+                    pendingReader = null;
+                }
+            }
+            return values.get(path);
+        }
     }
 
+    /**
+     * Determines the value of the given property from the reader and counts it if it is not valid in the resource.
+     * The value is only saved if no value was set for the property in the meantime. Must be called while holding
+     * the lock on {@link #determinedPaths}.
+     *
+     * @param property the property to process
+     * @param reader the reader to determine the value with
+     */
+    private <T> void determineValue(@NotNull Property<T> property, @NotNull PropertyReader reader) {
+        boolean isValidInResource;
+        if (values.containsKey(property.getPath())) {
+            isValidInResource = property.determineValue(reader).isValidInResource();
+        } else {
+            isValidInResource = setValueForProperty(property, reader);
+        }
+
+        if (!isValidInResource) {
+            ++numberOfPropertiesInvalidInResource;
+        }
+        determinedPaths.add(property.getPath());
+    }
+
+    /**
+     * Returns the values by path. With lazy value resolution, only the values that have been determined
+     * or set so far are present.
+     *
+     * @return the values by path
+     */
     protected @NotNull Map<String, Object> getValues() {
         return values;
     }
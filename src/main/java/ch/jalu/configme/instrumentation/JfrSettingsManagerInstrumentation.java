@@ -0,0 +1,148 @@
+package ch.jalu.configme.instrumentation;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Instrumentation which emits a JDK Flight Recorder event ({@value #EVENT_NAME}) for every measured phase.
+ * Events are only created if the event type is enabled in a running recording.
+ * <p>
+ * ConfigMe is compiled for Java 8, where the JFR API is not guaranteed to be present. The event type is therefore
+ * defined at runtime with {@code jdk.jfr.EventFactory}, which is only accessed by reflection. JFR is available from
+ * Java 11 onwards, as well as in Java 8 starting from update 262. Use {@link #isAvailable()} to check whether this
+ * instrumentation can be used on the current JVM.
+ */
+public class JfrSettingsManagerInstrumentation implements SettingsManagerInstrumentation {
+
+    /** Name of the JFR event that is emitted. */
+    public static final String EVENT_NAME = "ch.jalu.configme.SettingsManagerPhase";
+
+    private static final String JFR_PACKAGE = "jdk.jfr.";
+
+    // Indices of the fields, as defined in createFieldDescriptors
+    private static final int PHASE_FIELD = 0;
+    private static final int PHASE_DURATION_FIELD = 1;
+    private static final int BYTE_COUNT_FIELD = 2;
+    private static final int PROPERTY_COUNT_FIELD = 3;
+    private static final int ERROR_COUNT_FIELD = 4;
+
+    private final Object eventFactory;
+    private final Method newEventMethod;
+    private final Method isEnabledMethod;
+    private final Method setFieldMethod;
+    private final Method commitMethod;
+
+    /**
+     * Constructor.
+     *
+     * @throws ConfigMeException if JFR is not available on this JVM
+     */
+    public JfrSettingsManagerInstrumentation() {
+        if (!isAvailable()) {
+            throw new ConfigMeException("JDK Flight Recorder is not available on this JVM");
+        }
+
+        try {
+            Class<?> eventFactoryClass = Class.forName(JFR_PACKAGE + "EventFactory");
+            Class<?> eventClass = Class.forName(JFR_PACKAGE + "Event");
+            this.eventFactory = eventFactoryClass.getMethod("create", List.class, List.class)
+                .invoke(null, createEventAnnotations(), createFieldDescriptors());
+            this.newEventMethod = eventFactoryClass.getMethod("newEvent");
+            this.isEnabledMethod = eventClass.getMethod("isEnabled");
+            this.setFieldMethod = eventClass.getMethod("set", int.class, Object.class);
+            this.commitMethod = eventClass.getMethod("commit");
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new ConfigMeException("Failed to define the JFR event type", e);
+        }
+    }
+
+    /**
+     * Returns whether JDK Flight Recorder is available on this JVM.
+     *
+     * @return true if JFR events can be emitted, false otherwise
+     */
+    public static boolean isAvailable() {
+        try {
+            Class.forName(JFR_PACKAGE + "EventFactory");
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void onPhaseCompleted(@NotNull PhaseMeasurement measurement) {
+        try {
+            Object event = newEventMethod.invoke(eventFactory);
+            if ((Boolean) isEnabledMethod.invoke(event)) {
+                setFieldMethod.invoke(event, PHASE_FIELD, measurement.getPhase().name());
+                setFieldMethod.invoke(event, PHASE_DURATION_FIELD, measurement.getDurationNanos());
+                setFieldMethod.invoke(event, BYTE_COUNT_FIELD, measurement.getByteCount());
+                setFieldMethod.invoke(event, PROPERTY_COUNT_FIELD, measurement.getPropertyCount());
+                setFieldMethod.invoke(event, ERROR_COUNT_FIELD, measurement.getErrorCount());
+                commitMethod.invoke(event);
+            }
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new ConfigMeException("Failed to emit JFR event for " + measurement, e);
+        }
+    }
+
+    private static @NotNull List<Object> createEventAnnotations() throws ReflectiveOperationException {
+        return Arrays.asList(
+            createAnnotation("Name", EVENT_NAME),
+            createAnnotation("Label", "Settings Manager Phase"),
+            createAnnotation("Description", "Measurement of a phase performed by a ConfigMe settings manager"),
+            createAnnotation("Category", new String[]{ "ConfigMe" }),
+            createAnnotation("StackTrace", false));
+    }
+
+    private static @NotNull List<Object> createFieldDescriptors() throws ReflectiveOperationException {
+        List<Object> fields = new ArrayList<>();
+        fields.add(createField(String.class, "phase", createAnnotation("Label", "Phase")));
+        fields.add(createField(long.class, "phaseDuration", createAnnotation("Label", "Phase Duration"),
+            createAnnotation("Timespan", "NANOSECONDS")));
+        fields.add(createField(long.class, "byteCount", createAnnotation("Label", "Bytes"),
+            createAnnotation("DataAmount", "BYTES")));
+        fields.add(createField(int.class, "propertyCount", createAnnotation("Label", "Properties")));
+        fields.add(createField(int.class, "errorCount", createAnnotation("Label", "Errors")));
+        return fields;
+    }
+
+    /**
+     * Creates a {@code jdk.jfr.AnnotationElement} of the given JFR annotation type.
+     *
+     * @param annotationName the simple name of the annotation in the JFR package
+     * @param value the value of the annotation
+     * @return the created annotation element
+     */
+    private static @NotNull Object createAnnotation(@NotNull String annotationName,
+                                                    @Nullable Object value) throws ReflectiveOperationException {
+        Class<?> annotationElementClass = Class.forName(JFR_PACKAGE + "AnnotationElement");
+        Constructor<?> constructor = annotationElementClass.getConstructor(Class.class, Object.class);
+        return constructor.newInstance(Class.forName(JFR_PACKAGE + annotationName), value);
+    }
+
+    /**
+     * Creates a {@code jdk.jfr.ValueDescriptor} for a field of the event.
+     *
+     * @param type the type of the field
+     * @param name the name of the field
+     * @param annotations the annotation elements of the field
+     * @return the created value descriptor
+     */
+    private static @NotNull Object createField(@NotNull Class<?> type, @NotNull String name,
+                                               @NotNull Object... annotations) throws ReflectiveOperationException {
+        Class<?> valueDescriptorClass = Class.forName(JFR_PACKAGE + "ValueDescriptor");
+        Constructor<?> constructor = valueDescriptorClass.getConstructor(Class.class, String.class, List.class);
+        return constructor.newInstance(type, name, Collections.unmodifiableList(Arrays.asList(annotations)));
+    }
+}
@@ -0,0 +1,82 @@
+package ch.jalu.configme.instrumentation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measurement of a completed {@link SettingsManagerPhase phase}.
+ */
+public final class PhaseMeasurement {
+
+    /** Value used for counts that are not known or do not apply to a phase. */
+    public static final int UNKNOWN = -1;
+
+    private final SettingsManagerPhase phase;
+    private final long durationNanos;
+    private final long byteCount;
+    private final int propertyCount;
+    private final int errorCount;
+
+    /**
+     * Constructor.
+     *
+     * @param phase the phase that was measured
+     * @param durationNanos the duration of the phase in nanoseconds
+     * @param byteCount number of bytes in the resource, or {@link #UNKNOWN}
+     * @param propertyCount the number of properties that were handled
+     * @param errorCount the number of errors (e.g. properties without a fully valid value in the resource),
+     *                   or {@link #UNKNOWN}
+     */
+    public PhaseMeasurement(@NotNull SettingsManagerPhase phase, long durationNanos, long byteCount,
+                            int propertyCount, int errorCount) {
+        this.phase = phase;
+        this.durationNanos = durationNanos;
+        this.byteCount = byteCount;
+        this.propertyCount = propertyCount;
+        this.errorCount = errorCount;
+    }
+
+    public @NotNull SettingsManagerPhase getPhase() {
+        return phase;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public long getDuration(@NotNull TimeUnit unit) {
+        return unit.convert(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the size of the resource in bytes for the {@link SettingsManagerPhase#READ read} and
+     * {@link SettingsManagerPhase#SAVE save} phases, if the resource provides it.
+     *
+     * @return the number of bytes, or {@link #UNKNOWN}
+     */
+    public long getByteCount() {
+        return byteCount;
+    }
+
+    public int getPropertyCount() {
+        return propertyCount;
+    }
+
+    /**
+     * Returns the number of errors during this phase. For {@link SettingsManagerPhase#INITIALIZE_VALUES}, this is
+     * the number of properties whose value in the resource was missing or not fully valid. Errors are not counted
+     * in the other phases, which therefore report {@link #UNKNOWN}.
+     *
+     * @return the number of errors, or {@link #UNKNOWN}
+     */
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "PhaseMeasurement[phase=" + phase + ", durationNanos=" + durationNanos + ", byteCount=" + byteCount
+            + ", propertyCount=" + propertyCount + ", errorCount=" + errorCount + "]";
+    }
+}
@@ -0,0 +1,24 @@
+package ch.jalu.configme.instrumentation;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Receives measurements of the phases performed by a settings manager (reading, resolving values, migrating and
+ * saving). Can be registered with {@link ch.jalu.configme.SettingsManagerBuilder#instrumentation}.
+ * <p>
+ * Implementations are called synchronously on the thread that loads or saves the configuration and should
+ * therefore return quickly.
+ *
+ * @see JfrSettingsManagerInstrumentation
+ */
+@FunctionalInterface
+public interface SettingsManagerInstrumentation {
+
+    /**
+     * Called when a phase has been completed successfully.
+     *
+     * @param measurement the measurement of the phase
+     */
+    void onPhaseCompleted(@NotNull PhaseMeasurement measurement);
+
+}
@@ -0,0 +1,29 @@
+package ch.jalu.configme.instrumentation;
+
+/**
+ * Phases of a settings manager's lifecycle that are reported to {@link SettingsManagerInstrumentation}.
+ */
+public enum SettingsManagerPhase {
+
+    /**
+     * Creation of the property reader. For YAML files, this includes reading the file, parsing it with SnakeYAML
+     * and normalizing the map keys, as these steps are interleaved.
+     */
+    READ,
+
+    /**
+     * Resolution of the values of all properties from the reader, including the mapping of beans.
+     */
+    INITIALIZE_VALUES,
+
+    /**
+     * Check (and potential migration) by the migration service.
+     */
+    MIGRATION,
+
+    /**
+     * Export of the configuration data to the property resource.
+     */
+    SAVE
+
+}
@@ -0,0 +1,173 @@
+package ch.jalu.configme.internal;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reader which decodes the bytes of a {@link ByteBuffer} with a charset. Characters are decoded directly into
+ * the array passed to {@link #read(char[], int, int)}, so no intermediate copies of the data are created.
+ * Readers for files ({@link #forFile}) refill one fixed-size buffer from the file as it is decoded, so the memory
+ * used does not depend on the size of the file.
+ * <p>
+ * Malformed input is replaced, as is done by {@link java.io.InputStreamReader}.
+ */
+public class ByteBufferReader extends Reader {
+
+    /** Size of the buffer that the bytes of a file are read into by {@link #forFile}. */
+    static final int FILE_BUFFER_SIZE = 8192;
+
+    private @Nullable ByteBuffer bytes;
+    private final @Nullable ReadableByteChannel channel;
+    private final CharsetDecoder decoder;
+    private boolean isEndOfInput;
+    private @Nullable CharBuffer pendingChars;
+    private boolean isFlushing;
+    private boolean isFinished;
+
+    /**
+     * Constructor.
+     *
+     * @param bytes the bytes to decode (read from the buffer's position up to its limit)
+     * @param charset the charset to decode the bytes with
+     */
+    public ByteBufferReader(@NotNull ByteBuffer bytes, @NotNull Charset charset) {
+        this(bytes, null, charset);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param bytes the buffer to decode bytes from; it is refilled from the channel if one is given
+     * @param channel the channel to read further bytes from (null if the buffer contains all bytes)
+     * @param charset the charset to decode the bytes with
+     */
+    private ByteBufferReader(@NotNull ByteBuffer bytes, @Nullable ReadableByteChannel channel,
+                             @NotNull Charset charset) {
+        this.bytes = bytes;
+        this.channel = channel;
+        this.isEndOfInput = channel == null;
+        this.decoder = charset.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * Opens the given file and returns a reader for its contents. The bytes of the file are read into a buffer of
+     * {@value #FILE_BUFFER_SIZE} bytes, which is reused until the end of the file is reached. The file stays open
+     * until the reader is closed.
+     *
+     * @param path the file to read
+     * @param charset the charset to decode the file with
+     * @return reader for the contents of the file
+     * @throws IOException if the file cannot be opened
+     */
+    public static @NotNull ByteBufferReader forFile(@NotNull Path path, @NotNull Charset charset) throws IOException {
+        return forFile(path, charset, FILE_BUFFER_SIZE);
+    }
+
+    static @NotNull ByteBufferReader forFile(@NotNull Path path, @NotNull Charset charset,
+                                             int bufferSize) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+        buffer.flip(); // no bytes have been read yet
+        return new ByteBufferReader(buffer, channel, charset);
+    }
+
+    @Override
+    public int read(char @NotNull [] cbuf, int off, int len) throws IOException {
+        ByteBuffer input = getBytesOrThrow();
+        CharBuffer target = CharBuffer.wrap(cbuf, off, len);
+        transferPendingChars(target);
+
+        if (target.hasRemaining()) {
+            decode(input, target);
+            if (target.position() == off && !isFinished) {
+                // The target is too small for the next character (e.g. a surrogate pair): go via a separate buffer
+                pendingChars = CharBuffer.allocate(2);
+                decode(input, pendingChars);
+                pendingChars.flip();
+                transferPendingChars(target);
+            }
+        }
+
+        int charsRead = target.position() - off;
+        return (charsRead == 0 && len > 0 && isFinished) ? -1 : charsRead;
+    }
+
+    @Override
+    public boolean ready() throws IOException {
+        getBytesOrThrow();
+        return !isFinished || (pendingChars != null && pendingChars.hasRemaining());
+    }
+
+    @Override
+    public void close() throws IOException {
+        bytes = null;
+        pendingChars = null;
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private void decode(@NotNull ByteBuffer input, @NotNull CharBuffer target) throws IOException {
+        while (!isFinished && target.hasRemaining()) {
+            CoderResult result = isFlushing ? decoder.flush(target) : decoder.decode(input, target, isEndOfInput);
+            if (result.isError()) {
+                result.throwException();
+            } else if (result.isOverflow()) {
+                return;
+            } else if (isFlushing) {
+                isFinished = true;
+            } else if (isEndOfInput) {
+                isFlushing = true;
+            } else {
+                readFromChannel(input);
+            }
+        }
+    }
+
+    /**
+     * Moves the bytes that have not been decoded yet to the start of the buffer and fills the rest of the buffer
+     * with bytes from the channel.
+     *
+     * @param input the buffer to refill
+     */
+    private void readFromChannel(@NotNull ByteBuffer input) throws IOException {
+        input.compact();
+        try {
+            if (channel == null || channel.read(input) < 0) {
+                isEndOfInput = true;
+            }
+        } finally {
+            input.flip();
+        }
+    }
+
+    private void transferPendingChars(@NotNull CharBuffer target) {
+        if (pendingChars != null) {
+            while (pendingChars.hasRemaining() && target.hasRemaining()) {
+                target.put(pendingChars.get());
+            }
+        }
+    }
+
+    private @NotNull ByteBuffer getBytesOrThrow() throws IOException {
+        if (bytes == null) {
+            throw new IOException("Reader has been closed");
+        }
+        return bytes;
+    }
+}
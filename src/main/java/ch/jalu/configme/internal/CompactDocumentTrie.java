@@ -0,0 +1,484 @@
+package ch.jalu.configme.internal;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact, immutable representation of a document tree as loaded from a file (nested maps, lists and scalars).
+ * All nodes are stored column-wise in arrays indexed by node number instead of as a graph of map entries:
+ * <ul>
+ *   <li>each node has a type; integers, longs, doubles and booleans are packed into int arrays, other scalars
+ *       are kept as object;</li>
+ *   <li>the children of a map or list are stored contiguously; map keys are deduplicated across the document;</li>
+ *   <li>the children of each map are additionally indexed in key order, so that they can be found with a binary
+ *       search, while the order in the document is kept for iteration.</li>
+ * </ul>
+ * Maps and lists are only created when they are requested as value, and a new instance is returned every time.
+ */
+public final class CompactDocumentTrie {
+
+    private static final byte TYPE_MAP = 0;
+    private static final byte TYPE_LIST = 1;
+    private static final byte TYPE_NULL = 2;
+    private static final byte TYPE_INTEGER = 3;
+    private static final byte TYPE_LONG = 4;
+    private static final byte TYPE_DOUBLE = 5;
+    private static final byte TYPE_BOOLEAN = 6;
+    private static final byte TYPE_OBJECT = 7;
+
+    /** Node index which denotes the absence of a node, e.g. the root of an empty document. */
+    public static final int NO_NODE = -1;
+
+    private final byte[] types;
+    /** For maps and lists: index of the first child; for objects: index in {@link #objects}. */
+    private final int[] offsets;
+    /** For maps and lists: number of children; for packed scalars: lower half of the value. */
+    private final int[] sizes;
+    /** Upper half of packed long and double values. */
+    private final int[] upperBits;
+    private final Object[] objects;
+
+    private final String[] childKeys;
+    private final int[] childNodes;
+    /** For the children of a map: position of the child (relative to the map's first child) in key order. */
+    private final int[] sortedChildPositions;
+
+    private final int root;
+
+    private CompactDocumentTrie(@NotNull Builder builder, int root) {
+        this.types = Arrays.copyOf(builder.types, builder.nodeCount);
+        this.offsets = Arrays.copyOf(builder.offsets, builder.nodeCount);
+        this.sizes = Arrays.copyOf(builder.sizes, builder.nodeCount);
+        this.upperBits = Arrays.copyOf(builder.upperBits, builder.nodeCount);
+        this.objects = Arrays.copyOf(builder.objects, builder.objectCount);
+        this.childKeys = Arrays.copyOf(builder.childKeys, builder.childCount);
+        this.childNodes = Arrays.copyOf(builder.childNodes, builder.childCount);
+        this.sortedChildPositions = Arrays.copyOf(builder.sortedChildPositions, builder.childCount);
+        this.root = root;
+    }
+
+    /**
+     * Creates a trie representing the given value, typically the root map as loaded from a file. Map keys are
+     * converted to Strings.
+     *
+     * @param value the value to represent (maps, lists and scalars), may be null
+     * @return trie of the value
+     */
+    public static @NotNull CompactDocumentTrie of(@Nullable Object value) {
+        Builder builder = new Builder();
+        return builder.build(value == null ? NO_NODE : builder.addValue(value));
+    }
+
+    /**
+     * @return new builder, to create a trie node by node
+     */
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the value at the given path, where the path consists of map keys separated by a dot.
+     * Maps and lists are created anew for each call.
+     *
+     * @param path the path to get the value for ("" for the root value)
+     * @return the value, null if there is no value at the given path
+     */
+    public @Nullable Object getValue(@NotNull String path) {
+        int node = findNode(path);
+        return node == NO_NODE ? null : materialize(node);
+    }
+
+    /**
+     * Returns whether a value (other than null) exists at the given path.
+     *
+     * @param path the path to check
+     * @return true if there is a value, false otherwise
+     */
+    public boolean contains(@NotNull String path) {
+        int node = findNode(path);
+        return node != NO_NODE && types[node] != TYPE_NULL;
+    }
+
+    /**
+     * Returns the keys of the map at the given path, in the order of the document.
+     *
+     * @param path the path of the map
+     * @return the keys of the map, empty list if there is no map at the given path
+     */
+    public @NotNull List<String> getKeys(@NotNull String path) {
+        int node = findNode(path);
+        if (node == NO_NODE || types[node] != TYPE_MAP) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(childKeys).subList(offsets[node], offsets[node] + sizes[node]);
+    }
+
+    /**
+     * Returns all paths of the document in the order of the document. Every key of every map is a path.
+     *
+     * @param onlyLeafNodes true if only paths whose value is not a map, or an empty map, should be returned
+     * @return all paths
+     */
+    public @NotNull Set<String> collectPaths(boolean onlyLeafNodes) {
+        if (root == NO_NODE || types[root] != TYPE_MAP) {
+            return Collections.emptySet();
+        }
+        Set<String> paths = new LinkedHashSet<>();
+        collectPaths(root, "", onlyLeafNodes, paths);
+        return paths;
+    }
+
+    private void collectPaths(int mapNode, @NotNull String path, boolean onlyLeafNodes, @NotNull Set<String> paths) {
+        int end = offsets[mapNode] + sizes[mapNode];
+        for (int i = offsets[mapNode]; i < end; ++i) {
+            String childPath = PathUtils.concat(path, childKeys[i]);
+            int child = childNodes[i];
+            boolean isMap = types[child] == TYPE_MAP;
+            if (!onlyLeafNodes || !isMap || sizes[child] == 0) {
+                paths.add(childPath);
+            }
+            if (isMap) {
+                collectPaths(child, childPath, onlyLeafNodes, paths);
+            }
+        }
+    }
+
+    /**
+     * Returns the node at the given path. Like {@code path.split("\\.")}, trailing empty segments are ignored.
+     *
+     * @param path the path to look up
+     * @return the node, or {@link #NO_NODE} if there is none
+     */
+    private int findNode(@NotNull String path) {
+        int end = path.length();
+        while (end > 0 && path.charAt(end - 1) == '.') {
+            --end;
+        }
+
+        int node = root;
+        int start = 0;
+        while (start < end && node != NO_NODE) {
+            int dotIndex = path.indexOf('.', start);
+            int segmentEnd = dotIndex < 0 || dotIndex > end ? end : dotIndex;
+            node = findChild(node, path.substring(start, segmentEnd));
+            start = segmentEnd + 1;
+        }
+        return node;
+    }
+
+    private int findChild(int node, @NotNull String key) {
+        if (types[node] != TYPE_MAP) {
+            return NO_NODE;
+        }
+
+        int first = offsets[node];
+        int low = 0;
+        int high = sizes[node] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int childIndex = first + sortedChildPositions[first + mid];
+            int comparison = childKeys[childIndex].compareTo(key);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return childNodes[childIndex];
+            }
+        }
+        return NO_NODE;
+    }
+
+    private @Nullable Object materialize(int node) {
+        switch (types[node]) {
+            case TYPE_MAP:
+                Map<String, Object> map = new LinkedHashMap<>(ConversionUtils.calculateHashCapacity(sizes[node]));
+                for (int i = offsets[node]; i < offsets[node] + sizes[node]; ++i) {
+                    map.put(childKeys[i], materialize(childNodes[i]));
+                }
+                return map;
+            case TYPE_LIST:
+                List<Object> list = new ArrayList<>(sizes[node]);
+                for (int i = offsets[node]; i < offsets[node] + sizes[node]; ++i) {
+                    list.add(materialize(childNodes[i]));
+                }
+                return list;
+            case TYPE_INTEGER:
+                return sizes[node];
+            case TYPE_LONG:
+                return getPackedLong(node);
+            case TYPE_DOUBLE:
+                return Double.longBitsToDouble(getPackedLong(node));
+            case TYPE_BOOLEAN:
+                return sizes[node] != 0;
+            case TYPE_OBJECT:
+                return objects[offsets[node]];
+            default:
+                return null;
+        }
+    }
+
+    private long getPackedLong(int node) {
+        return ((long) upperBits[node] << 32) | (sizes[node] & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Creates the arrays of the trie node by node, for documents that are not available as nested maps and lists
+     * (e.g. a document that is being parsed). The arrays grow as needed and are trimmed when the trie is built.
+     * <p>
+     * The children of a map or list are reserved when the container is added, and each child must then be set with
+     * {@link #setMapEntry} or {@link #setListElement}. The keys of a map must be unique. A node may be the child of
+     * multiple containers (e.g. for YAML aliases), as long as the structure is not recursive.
+     */
+    public static final class Builder {
+
+        private static final int INITIAL_CAPACITY = 16;
+        /** Maximum number of elements for which positions are sorted by insertion sort. */
+        private static final int INSERTION_SORT_THRESHOLD = 8;
+
+        private final Map<String, String> keys = new HashMap<>();
+        private final Map<Object, Boolean> containersInProgress = new IdentityHashMap<>();
+        private int nodeCount;
+        private int childCount;
+        private int objectCount;
+
+        private byte[] types = new byte[INITIAL_CAPACITY];
+        private int[] offsets = new int[INITIAL_CAPACITY];
+        private int[] sizes = new int[INITIAL_CAPACITY];
+        private int[] upperBits = new int[INITIAL_CAPACITY];
+        private Object[] objects = new Object[INITIAL_CAPACITY];
+        private String[] childKeys = new String[INITIAL_CAPACITY];
+        private int[] childNodes = new int[INITIAL_CAPACITY];
+        private int[] sortedChildPositions = new int[INITIAL_CAPACITY];
+        private int[] sortBuffer = new int[INITIAL_CAPACITY];
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a node for the given value. Maps and lists are added with all their children; map keys are converted
+         * to Strings.
+         *
+         * @param value the value to add (maps, lists and scalars), may be null
+         * @return the node of the value
+         */
+        public int addValue(@Nullable Object value) {
+            if (value instanceof Map<?, ?>) {
+                return addMapWithEntries((Map<?, ?>) value);
+            } else if (value instanceof List<?>) {
+                return addListWithElements((List<?>) value);
+            }
+            int node = newNode();
+            if (value == null) {
+                types[node] = TYPE_NULL;
+            } else if (value instanceof Integer) {
+                types[node] = TYPE_INTEGER;
+                sizes[node] = (Integer) value;
+            } else if (value instanceof Long) {
+                types[node] = TYPE_LONG;
+                packLong(node, (Long) value);
+            } else if (value instanceof Double) {
+                types[node] = TYPE_DOUBLE;
+                packLong(node, Double.doubleToRawLongBits((Double) value));
+            } else if (value instanceof Boolean) {
+                types[node] = TYPE_BOOLEAN;
+                sizes[node] = (Boolean) value ? 1 : 0;
+            } else {
+                types[node] = TYPE_OBJECT;
+                if (objectCount == objects.length) {
+                    objects = Arrays.copyOf(objects, objectCount * 2);
+                }
+                offsets[node] = objectCount;
+                objects[objectCount++] = value;
+            }
+            return node;
+        }
+
+        /**
+         * Adds a map node with the given number of entries, which have to be set with {@link #setMapEntry}.
+         *
+         * @param size the number of entries of the map
+         * @return the node of the map
+         */
+        public int addMap(int size) {
+            return addContainer(TYPE_MAP, size);
+        }
+
+        /**
+         * Adds a list node with the given number of elements, which have to be set with {@link #setListElement}.
+         *
+         * @param size the number of elements of the list
+         * @return the node of the list
+         */
+        public int addList(int size) {
+            return addContainer(TYPE_LIST, size);
+        }
+
+        /**
+         * Sets an entry of a map that was added with {@link #addMap}.
+         *
+         * @param mapNode the node of the map
+         * @param position the position of the entry in the map (0-based)
+         * @param key the key of the entry (unique within the map)
+         * @param valueNode the node of the entry's value
+         */
+        public void setMapEntry(int mapNode, int position, @NotNull String key, int valueNode) {
+            childKeys[offsets[mapNode] + position] = keys.computeIfAbsent(key, k -> k);
+            childNodes[offsets[mapNode] + position] = valueNode;
+        }
+
+        /**
+         * Sets an element of a list that was added with {@link #addList}.
+         *
+         * @param listNode the node of the list
+         * @param position the position of the element in the list (0-based)
+         * @param elementNode the node of the element
+         */
+        public void setListElement(int listNode, int position, int elementNode) {
+            childNodes[offsets[listNode] + position] = elementNode;
+        }
+
+        /**
+         * Creates the trie with the nodes of this builder. The builder should not be used afterwards.
+         *
+         * @param root the root node, as returned when it was added, or {@link #NO_NODE} for an empty document
+         * @return the trie
+         */
+        public @NotNull CompactDocumentTrie build(int root) {
+            for (int node = 0; node < nodeCount; ++node) {
+                if (types[node] == TYPE_MAP) {
+                    sortChildPositions(offsets[node], sizes[node]);
+                }
+            }
+            return new CompactDocumentTrie(this, root);
+        }
+
+        private int addMapWithEntries(@NotNull Map<?, ?> map) {
+            enterContainer(map);
+            int node = addMap(map.size());
+            int position = 0;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                setMapEntry(node, position++, String.valueOf(entry.getKey()), addValue(entry.getValue()));
+            }
+            containersInProgress.remove(map);
+            return node;
+        }
+
+        private int addListWithElements(@NotNull List<?> list) {
+            enterContainer(list);
+            int node = addList(list.size());
+            int position = 0;
+            for (Object element : list) {
+                setListElement(node, position++, addValue(element));
+            }
+            containersInProgress.remove(list);
+            return node;
+        }
+
+        private int newNode() {
+            if (nodeCount == types.length) {
+                int capacity = nodeCount * 2;
+                types = Arrays.copyOf(types, capacity);
+                offsets = Arrays.copyOf(offsets, capacity);
+                sizes = Arrays.copyOf(sizes, capacity);
+                upperBits = Arrays.copyOf(upperBits, capacity);
+            }
+            return nodeCount++;
+        }
+
+        private int addContainer(byte type, int size) {
+            int node = newNode();
+            if (childCount + size > childKeys.length) {
+                int capacity = Math.max(childKeys.length * 2, childCount + size);
+                childKeys = Arrays.copyOf(childKeys, capacity);
+                childNodes = Arrays.copyOf(childNodes, capacity);
+                sortedChildPositions = Arrays.copyOf(sortedChildPositions, capacity);
+            }
+            types[node] = type;
+            offsets[node] = childCount;
+            sizes[node] = size;
+            childCount += size;
+            return node;
+        }
+
+        /**
+         * Sets the positions of the children of a map in the order of their keys. The positions are sorted as
+         * primitives with a merge sort, which uses insertion sort for small ranges.
+         *
+         * @param first index of the map's first child
+         * @param size number of children of the map
+         */
+        private void sortChildPositions(int first, int size) {
+            for (int i = 0; i < size; ++i) {
+                sortedChildPositions[first + i] = i;
+            }
+            if (size > INSERTION_SORT_THRESHOLD && sortBuffer.length < size) {
+                sortBuffer = new int[size];
+            }
+            sortPositions(first, first, first + size);
+        }
+
+        private void sortPositions(int first, int from, int to) {
+            if (to - from <= INSERTION_SORT_THRESHOLD) {
+                for (int i = from + 1; i < to; ++i) {
+                    int position = sortedChildPositions[i];
+                    int j = i - 1;
+                    while (j >= from && compareKeys(first, sortedChildPositions[j], position) > 0) {
+                        sortedChildPositions[j + 1] = sortedChildPositions[j];
+                        --j;
+                    }
+                    sortedChildPositions[j + 1] = position;
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            sortPositions(first, from, mid);
+            sortPositions(first, mid, to);
+            if (compareKeys(first, sortedChildPositions[mid - 1], sortedChildPositions[mid]) <= 0) {
+                return; // Already in order
+            }
+
+            int length = mid - from;
+            System.arraycopy(sortedChildPositions, from, sortBuffer, 0, length);
+            int left = 0;
+            int right = mid;
+            int target = from;
+            while (left < length && right < to) {
+                if (compareKeys(first, sortBuffer[left], sortedChildPositions[right]) <= 0) {
+                    sortedChildPositions[target++] = sortBuffer[left++];
+                } else {
+                    sortedChildPositions[target++] = sortedChildPositions[right++];
+                }
+            }
+            System.arraycopy(sortBuffer, left, sortedChildPositions, target, length - left);
+        }
+
+        private int compareKeys(int first, int position1, int position2) {
+            return childKeys[first + position1].compareTo(childKeys[first + position2]);
+        }
+
+        private void packLong(int node, long value) {
+            sizes[node] = (int) value;
+            upperBits[node] = (int) (value >>> 32);
+        }
+
+        private void enterContainer(@NotNull Object container) {
+            if (containersInProgress.put(container, Boolean.TRUE) != null) {
+                throw new ConfigMeException("The document contains a recursive structure, which is not supported");
+            }
+        }
+    }
+}
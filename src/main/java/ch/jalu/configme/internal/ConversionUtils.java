@@ -29,7 +29,11 @@ public final class ConversionUtils {
     public static <T> @Nullable T convertOrLogError(@Nullable Object element,
                                                     @NotNull PropertyType<T> type,
                                                     @NotNull ConvertErrorRecorder errorRecorder) {
-        return convertOrLogError(element, elem -> type.convert(elem, errorRecorder), errorRecorder);
+        T result = type.convert(element, errorRecorder);
+        if (result == null) {
+            errorRecorder.setHasError("Could not convert '" + element + "'");
+        }
+        return result;
     }
 
     /**
@@ -53,6 +57,20 @@ public final class ConversionUtils {
         return result;
     }
 
+    /**
+     * Returns the initial capacity a hash-based collection or map needs so that it can hold the given number of
+     * entries without being resized (assuming the default load factor of 0.75).
+     *
+     * @param expectedSize the number of entries the collection will hold
+     * @return initial capacity to create the hash-based collection with
+     */
+    public static int calculateHashCapacity(int expectedSize) {
+        if (expectedSize < 3) {
+            return expectedSize + 1;
+        }
+        return (int) (expectedSize / 0.75f) + 1;
+    }
+
     /**
      * Creates an array of the given size whose component type is the specified class. An exception is thrown
      * if the component type is a primitive type, or void.
@@ -0,0 +1,72 @@
+package ch.jalu.configme.internal;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Precomputed lookup table for the constants of an enum class by name. Instances are created once per enum class
+ * and shared by all enum property types and the bean mapper.
+ * <p>
+ * A name is first looked up as-is, which is the common case for configuration files. Otherwise, it is looked up
+ * case-insensitively. If multiple entries only differ by case, the case-insensitive lookup returns the one that is
+ * declared first.
+ *
+ * @param <E> the enum type
+ */
+public final class EnumLookup<E extends Enum<E>> {
+
+    private static final ClassValue<EnumLookup<?>> LOOKUPS = new ClassValue<EnumLookup<?>>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected EnumLookup<?> computeValue(Class<?> type) {
+            return new EnumLookup(type);
+        }
+    };
+
+    private final Map<String, E> entriesByName;
+    private final Map<String, E> entriesByUppercaseName;
+
+    private EnumLookup(@NotNull Class<E> enumClass) {
+        E[] constants = enumClass.getEnumConstants();
+        int capacity = ConversionUtils.calculateHashCapacity(constants.length);
+        this.entriesByName = new HashMap<>(capacity);
+        this.entriesByUppercaseName = new HashMap<>(capacity);
+        for (E constant : constants) {
+            entriesByName.put(constant.name(), constant);
+            entriesByUppercaseName.putIfAbsent(constant.name().toUpperCase(Locale.ROOT), constant);
+        }
+    }
+
+    /**
+     * Returns the lookup table for the given enum class.
+     *
+     * @param enumClass the enum class
+     * @param <E> the enum type
+     * @return the lookup table of the enum class
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> @NotNull EnumLookup<E> of(@NotNull Class<E> enumClass) {
+        return (EnumLookup<E>) LOOKUPS.get(enumClass);
+    }
+
+    /**
+     * Returns the entry with the given name, ignoring case if there is no exact match.
+     *
+     * @param name the name to look up
+     * @return the matching entry, or null if there is none
+     */
+    public @Nullable E getEntry(@NotNull String name) {
+        E entry = entriesByName.get(name);
+        if (entry == null) {
+            entry = entriesByUppercaseName.get(name.toUpperCase(Locale.ROOT));
+            if (entry != null && !entry.name().equalsIgnoreCase(name)) {
+                return null;
+            }
+        }
+        return entry;
+    }
+}
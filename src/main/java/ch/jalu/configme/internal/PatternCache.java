@@ -0,0 +1,101 @@
+package ch.jalu.configme.internal;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Bounded cache of compiled {@link Pattern patterns}, shared by all regex property types. Patterns are immutable
+ * and thread-safe, so a compiled pattern can be reused whenever the same regex with the same flags is encountered
+ * again (e.g. when a configuration is reloaded). The least recently used patterns are evicted once the cache is full.
+ */
+public final class PatternCache {
+
+    /** Maximum number of patterns that are kept in the cache. */
+    public static final int MAX_SIZE = 1024;
+
+    private static final Map<Key, Pattern> CACHE = new LinkedHashMap<Key, Pattern>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Pattern> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    private PatternCache() {
+    }
+
+    /**
+     * Returns the compiled pattern for the given regex and flags, compiling it only if it is not yet in the cache.
+     *
+     * @param regex the regex to compile
+     * @param flags the flags to compile the regex with (see {@link Pattern#compile(String, int)})
+     * @return the compiled pattern
+     * @throws PatternSyntaxException if the regex is invalid
+     */
+    public static @NotNull Pattern compile(@NotNull String regex, int flags) {
+        Key key = new Key(regex, flags);
+        synchronized (CACHE) {
+            Pattern pattern = CACHE.get(key);
+            if (pattern != null) {
+                return pattern;
+            }
+        }
+
+        // Compile outside of the lock; if two threads compile the same regex, both results are equivalent
+        Pattern pattern = Pattern.compile(regex, flags);
+        synchronized (CACHE) {
+            CACHE.put(key, pattern);
+        }
+        return pattern;
+    }
+
+    /**
+     * Returns the number of patterns currently in the cache.
+     *
+     * @return the cache size
+     */
+    public static int size() {
+        synchronized (CACHE) {
+            return CACHE.size();
+        }
+    }
+
+    /**
+     * Removes all patterns from the cache.
+     */
+    public static void clear() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    private static final class Key {
+
+        private final String regex;
+        private final int flags;
+
+        Key(@NotNull String regex, int flags) {
+            this.regex = regex;
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            } else if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            return flags == that.flags && regex.equals(that.regex);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * regex.hashCode() + flags;
+        }
+    }
+}
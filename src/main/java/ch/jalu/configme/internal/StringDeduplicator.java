@@ -0,0 +1,61 @@
+package ch.jalu.configme.internal;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Table to deduplicate strings while a file is loaded: equal strings are replaced by the first instance that was
+ * encountered, so that keys and values which appear many times in a file only take up memory once. The table is
+ * only meant to be used while loading a file and should be discarded afterwards, unlike {@link String#intern()}.
+ * <p>
+ * Only strings up to a maximum length are deduplicated, since longer strings are unlikely to be repeated.
+ * This class is not thread-safe.
+ */
+public final class StringDeduplicator {
+
+    /** Default maximum length of strings that are deduplicated. */
+    public static final int DEFAULT_MAX_LENGTH = 64;
+
+    private final Map<String, String> strings = new HashMap<>();
+    private final int maxLength;
+
+    /**
+     * Constructor, using {@link #DEFAULT_MAX_LENGTH} as maximum length.
+     */
+    public StringDeduplicator() {
+        this(DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxLength maximum length of strings to deduplicate
+     */
+    public StringDeduplicator(int maxLength) {
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Returns the instance of the string that was first given to this deduplicator, if applicable.
+     * Returns the given string if it is the first of its value or if it is longer than the maximum length.
+     *
+     * @param str the string to deduplicate
+     * @return equal string that was encountered first, or the given string
+     */
+    public @Nullable String deduplicate(@Nullable String str) {
+        if (str == null || str.length() > maxLength) {
+            return str;
+        }
+        String existing = strings.putIfAbsent(str, str);
+        return existing == null ? str : existing;
+    }
+
+    /**
+     * @return the number of distinct strings that are kept by this deduplicator
+     */
+    public int size() {
+        return strings.size();
+    }
+}
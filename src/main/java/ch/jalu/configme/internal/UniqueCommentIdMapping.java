@@ -0,0 +1,48 @@
+package ch.jalu.configme.internal;
+
+import ch.jalu.configme.properties.convertresult.ValueWithComments;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * Converts between the UUIDs that identified unique comments in earlier versions and the int IDs that are used now.
+ * Only used by deprecated methods that still accept or return UUIDs.
+ * <p>
+ * No state is kept: an int ID is represented by a UUID whose most significant bits are zero and whose least
+ * significant bits are the ID. Other UUIDs cannot be converted to an ID and are kept as is by the comment holders.
+ */
+public final class UniqueCommentIdMapping {
+
+    private UniqueCommentIdMapping() {
+    }
+
+    /**
+     * Returns the unique comment ID that is represented by the given UUID.
+     *
+     * @param uuid the UUID to convert (null if the comment may be repeated)
+     * @return the ID represented by the UUID, or {@link ValueWithComments#NO_UNIQUE_COMMENT_ID} if the UUID is
+     *         null or does not represent an ID
+     */
+    public static int toUniqueCommentId(@Nullable UUID uuid) {
+        if (uuid != null && uuid.getMostSignificantBits() == 0L
+            && uuid.getLeastSignificantBits() >= 0L && uuid.getLeastSignificantBits() < Integer.MAX_VALUE) {
+            return (int) uuid.getLeastSignificantBits();
+        }
+        return ValueWithComments.NO_UNIQUE_COMMENT_ID;
+    }
+
+    /**
+     * Returns the UUID for the given unique comment ID. The UUID can be converted back to the same ID with
+     * {@link #toUniqueCommentId}.
+     *
+     * @param uniqueCommentId the ID to convert
+     * @return the UUID representing the ID, or null for {@link ValueWithComments#NO_UNIQUE_COMMENT_ID}
+     */
+    public static @Nullable UUID toUuid(int uniqueCommentId) {
+        if (uniqueCommentId == ValueWithComments.NO_UNIQUE_COMMENT_ID) {
+            return null;
+        }
+        return new UUID(0L, uniqueCommentId);
+    }
+}
@@ -0,0 +1,219 @@
+package ch.jalu.configme.migration;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.properties.convertresult.ValueWithComments;
+import ch.jalu.configme.resource.PathProvider;
+import ch.jalu.configme.resource.PropertyReader;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static ch.jalu.configme.internal.ConversionUtils.calculateHashCapacity;
+
+/**
+ * Describes how a configuration file would change if the configuration data were saved to it, e.g. after a
+ * migration. Paths are categorized as follows:
+ * <ul>
+ *   <li>added: the path of a property that has no value in the file</li>
+ *   <li>removed: a path in the file that does not belong to any property (only determined if the reader is a
+ *       {@link PathProvider}), or the path of a property whose value will no longer be written</li>
+ *   <li>changed: the path of a property whose value in the file is valid, but different from its current value</li>
+ *   <li>invalid: the path of a property whose value in the file is not fully valid and will be rewritten</li>
+ * </ul>
+ * Create instances with {@link #create}.
+ */
+public class MigrationDiff {
+
+    private final @NotNull Set<String> addedPaths;
+    private final @NotNull Set<String> removedPaths;
+    private final @NotNull Set<String> changedPaths;
+    private final @NotNull Set<String> invalidPaths;
+
+    /**
+     * Constructor. Use {@link #create}.
+     *
+     * @param addedPaths paths of properties without value in the file
+     * @param removedPaths paths that will no longer be in the file
+     * @param changedPaths paths of properties whose value will change
+     * @param invalidPaths paths of properties whose invalid value will be rewritten
+     */
+    protected MigrationDiff(@NotNull Set<String> addedPaths, @NotNull Set<String> removedPaths,
+                            @NotNull Set<String> changedPaths, @NotNull Set<String> invalidPaths) {
+        this.addedPaths = Collections.unmodifiableSet(addedPaths);
+        this.removedPaths = Collections.unmodifiableSet(removedPaths);
+        this.changedPaths = Collections.unmodifiableSet(changedPaths);
+        this.invalidPaths = Collections.unmodifiableSet(invalidPaths);
+    }
+
+    /**
+     * Compares the values of the reader with the current values of the configuration data, i.e. with what would be
+     * written if the configuration data were exported.
+     *
+     * @param reader the reader of the configuration file
+     * @param configurationData the configuration data (e.g. after migrations have been run)
+     * @return the differences between the file and the configuration data
+     */
+    public static @NotNull MigrationDiff create(@NotNull PropertyReader reader,
+                                                @NotNull ConfigurationData configurationData) {
+        Set<String> added = new LinkedHashSet<>();
+        Set<String> removed = new LinkedHashSet<>();
+        Set<String> changed = new LinkedHashSet<>();
+        Set<String> invalid = new LinkedHashSet<>();
+
+        for (Property<?> property : configurationData.getProperties()) {
+            String path = property.getPath();
+            Object exportValue = configurationData.getExportValue(property);
+            if (exportValue == null) {
+                if (reader.contains(path)) {
+                    removed.add(path);
+                }
+            } else if (!reader.contains(path)) {
+                added.add(path);
+            } else if (!property.determineValue(reader).isValidInResource()) {
+                invalid.add(path);
+            } else if (!isSameValue(reader.getValue(path), ValueWithComments.unwrapValue(exportValue))) {
+                changed.add(path);
+            }
+        }
+
+        if (reader instanceof PathProvider) {
+            collectPathsWithoutProperty((PathProvider) reader, configurationData, removed);
+        }
+        return new MigrationDiff(added, removed, changed, invalid);
+    }
+
+    public @NotNull Set<String> getAddedPaths() {
+        return addedPaths;
+    }
+
+    public @NotNull Set<String> getRemovedPaths() {
+        return removedPaths;
+    }
+
+    public @NotNull Set<String> getChangedPaths() {
+        return changedPaths;
+    }
+
+    public @NotNull Set<String> getInvalidPaths() {
+        return invalidPaths;
+    }
+
+    /**
+     * @return true if saving the configuration data would change the file, false otherwise
+     */
+    public boolean hasChanges() {
+        return !addedPaths.isEmpty() || !removedPaths.isEmpty() || !changedPaths.isEmpty() || !invalidPaths.isEmpty();
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "MigrationDiff[added=" + addedPaths + ", removed=" + removedPaths
+            + ", changed=" + changedPaths + ", invalid=" + invalidPaths + "]";
+    }
+
+    private static void collectPathsWithoutProperty(@NotNull PathProvider pathProvider,
+                                                    @NotNull ConfigurationData configurationData,
+                                                    @NotNull Set<String> removed) {
+        Set<String> propertyPaths = new HashSet<>(calculateHashCapacity(configurationData.getProperties().size()));
+        for (Property<?> property : configurationData.getProperties()) {
+            propertyPaths.add(property.getPath());
+        }
+        if (propertyPaths.contains("")) {
+            return;
+        }
+
+        for (String leafPath : pathProvider.getLeafPaths()) {
+            if (!isPathOrParentInSet(leafPath, propertyPaths)) {
+                removed.add(leafPath);
+            }
+        }
+    }
+
+    private static boolean isPathOrParentInSet(@NotNull String path, @NotNull Set<String> paths) {
+        String currentPath = path;
+        while (true) {
+            if (paths.contains(currentPath)) {
+                return true;
+            }
+            int lastPeriod = currentPath.lastIndexOf('.');
+            if (lastPeriod < 0) {
+                return false;
+            }
+            currentPath = currentPath.substring(0, lastPeriod);
+        }
+    }
+
+    /**
+     * Returns whether the value read from the file is equal to the export value. Numbers are compared by value,
+     * and collections and arrays are compared by their elements in iteration order.
+     *
+     * @param readValue the value in the file
+     * @param exportValue the export value
+     * @return true if the values are the same, false otherwise
+     */
+    private static boolean isSameValue(@Nullable Object readValue, @Nullable Object exportValue) {
+        if (exportValue instanceof ValueWithComments) {
+            exportValue = ((ValueWithComments) exportValue).getValue();
+        }
+
+        if (readValue instanceof Number && exportValue instanceof Number) {
+            return ((Number) readValue).doubleValue() == ((Number) exportValue).doubleValue();
+        } else if (readValue instanceof Map<?, ?> && exportValue instanceof Map<?, ?>) {
+            Map<?, ?> readMap = (Map<?, ?>) readValue;
+            Map<?, ?> exportMap = (Map<?, ?>) exportValue;
+            if (readMap.size() != exportMap.size()) {
+                return false;
+            }
+            for (Map.Entry<?, ?> entry : exportMap.entrySet()) {
+                if (!isSameValue(readMap.get(Objects.toString(entry.getKey())), entry.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (readValue instanceof Collection<?> && isCollectionOrArray(exportValue)) {
+            Iterator<?> readIt = ((Collection<?>) readValue).iterator();
+            Iterator<?> exportIt = iterator(exportValue);
+            while (readIt.hasNext() && exportIt.hasNext()) {
+                if (!isSameValue(readIt.next(), exportIt.next())) {
+                    return false;
+                }
+            }
+            return !readIt.hasNext() && !exportIt.hasNext();
+        }
+        return Objects.equals(readValue, exportValue);
+    }
+
+    private static boolean isCollectionOrArray(@Nullable Object value) {
+        return value instanceof Iterable<?> || value != null && value.getClass().isArray();
+    }
+
+    private static @NotNull Iterator<?> iterator(@NotNull Object iterableOrArray) {
+        if (iterableOrArray instanceof Iterable<?>) {
+            return ((Iterable<?>) iterableOrArray).iterator();
+        }
+        int length = Array.getLength(iterableOrArray);
+        return new Iterator<Object>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < length;
+            }
+
+            @Override
+            public Object next() {
+                return Array.get(iterableOrArray, index++);
+            }
+        };
+    }
+}
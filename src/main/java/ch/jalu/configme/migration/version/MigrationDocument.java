@@ -0,0 +1,125 @@
+package ch.jalu.configme.migration.version;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Mutable view of a configuration document, on which the steps of {@link MigrationPlan migration plans} are applied.
+ * Paths are split by periods, like in {@link ch.jalu.configme.resource.YamlFileReader YamlFileReader}.
+ * <p>
+ * The document given to the constructor is never modified: maps are copied the first time a value is changed
+ * in them, so maps that are not affected by any change are shared with the original document.
+ */
+public class MigrationDocument {
+
+    private @NotNull Map<String, Object> root;
+    private final @NotNull Set<Map<String, Object>> copiedMaps = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Constructor.
+     *
+     * @param root the document to migrate (not modified by this class)
+     */
+    public MigrationDocument(@Nullable Map<String, Object> root) {
+        this.root = root == null ? new LinkedHashMap<>() : root;
+    }
+
+    /**
+     * Returns the value at the given path, or null if there is none.
+     *
+     * @param path the path to look up
+     * @return the value, or null if absent
+     */
+    public @Nullable Object getValue(@NotNull String path) {
+        if (path.isEmpty()) {
+            return root;
+        }
+
+        Object node = root;
+        for (String key : path.split("\\.")) {
+            if (!(node instanceof Map<?, ?>)) {
+                return null;
+            }
+            node = ((Map<?, ?>) node).get(key);
+        }
+        return node;
+    }
+
+    /**
+     * Returns whether a value exists at the given path.
+     *
+     * @param path the path to check
+     * @return true if there is a value, false otherwise
+     */
+    public boolean contains(@NotNull String path) {
+        return getValue(path) != null;
+    }
+
+    /**
+     * Sets the value at the given path, creating intermediate maps as needed. Intermediate values that are not maps
+     * are replaced.
+     *
+     * @param path the path to set the value at (not empty)
+     * @param value the value to set
+     */
+    public void setValue(@NotNull String path, @NotNull Object value) {
+        String[] keys = path.split("\\.");
+        Map<String, Object> parent = getParentForWrite(keys, true);
+        parent.put(keys[keys.length - 1], value);
+    }
+
+    /**
+     * Removes the value at the given path.
+     *
+     * @param path the path to remove (not empty)
+     * @return the removed value, or null if there was none
+     */
+    public @Nullable Object remove(@NotNull String path) {
+        String[] keys = path.split("\\.");
+        Map<String, Object> parent = getParentForWrite(keys, false);
+        return parent == null ? null : parent.remove(keys[keys.length - 1]);
+    }
+
+    /**
+     * @return the migrated document
+     */
+    public @NotNull Map<String, Object> getRoot() {
+        return root;
+    }
+
+    @SuppressWarnings("unchecked")
+    private @Nullable Map<String, Object> getParentForWrite(@NotNull String @NotNull [] keys, boolean create) {
+        root = writableCopy(root);
+        Map<String, Object> map = root;
+        for (int i = 0; i < keys.length - 1; ++i) {
+            Object child = map.get(keys[i]);
+            Map<String, Object> childMap;
+            if (child instanceof Map<?, ?>) {
+                childMap = writableCopy((Map<String, Object>) child);
+            } else if (create) {
+                childMap = new LinkedHashMap<>();
+                copiedMaps.add(childMap);
+            } else {
+                return null;
+            }
+            map.put(keys[i], childMap);
+            map = childMap;
+        }
+        return map;
+    }
+
+    private @NotNull Map<String, Object> writableCopy(@NotNull Map<String, Object> map) {
+        if (copiedMaps.contains(map)) {
+            return map;
+        }
+        Map<String, Object> copy = new LinkedHashMap<>(map);
+        copiedMaps.add(copy);
+        return copy;
+    }
+}
@@ -0,0 +1,216 @@
+package ch.jalu.configme.migration.version;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.resource.MapPropertyReader;
+import ch.jalu.configme.resource.PropertyReader;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Declarative {@link VersionMigration}: describes how the configuration document is rewritten (moves, renames,
+ * deletions and value transformations), rather than setting values on the configuration data.
+ * Create instances with {@link #builder(int, int)}.
+ * <p>
+ * {@link VersionMigrationService} combines consecutive migration plans that apply to a configuration into one list
+ * of steps, which is applied to a single copy of the document. The values of all properties are then determined once
+ * from the rewritten document, instead of running each migration against the reader separately.
+ */
+public class MigrationPlan implements VersionMigration {
+
+    private final int fromVersion;
+    private final int targetVersion;
+    private final List<Consumer<MigrationDocument>> steps;
+
+    /**
+     * Constructor. Use {@link #builder(int, int)}.
+     *
+     * @param fromVersion the version this plan migrates from
+     * @param targetVersion the version this plan migrates to
+     * @param steps the steps to apply to the document, in order
+     */
+    protected MigrationPlan(int fromVersion, int targetVersion, @NotNull List<Consumer<MigrationDocument>> steps) {
+        this.fromVersion = fromVersion;
+        this.targetVersion = targetVersion;
+        this.steps = Collections.unmodifiableList(new ArrayList<>(steps));
+    }
+
+    /**
+     * Creates a builder for a migration plan.
+     *
+     * @param fromVersion the version the plan migrates from
+     * @param targetVersion the version the plan migrates to
+     * @return new builder
+     */
+    public static @NotNull Builder builder(int fromVersion, int targetVersion) {
+        return new Builder(fromVersion, targetVersion);
+    }
+
+    @Override
+    public int fromVersion() {
+        return fromVersion;
+    }
+
+    @Override
+    public int targetVersion() {
+        return targetVersion;
+    }
+
+    /**
+     * Applies this plan to the document of the reader and re-initializes the configuration data's values with the
+     * result. When used with {@link VersionMigrationService}, this method is not called; instead, consecutive
+     * plans are applied together.
+     *
+     * @param reader the property reader to read the configuration file from
+     * @param configurationData configuration data to update a property's value
+     */
+    @Override
+    public void migrate(@NotNull PropertyReader reader, @NotNull ConfigurationData configurationData) {
+        configurationData.initializeValues(applyAll(Collections.singletonList(this), reader));
+    }
+
+    /**
+     * @return the steps of this plan (read-only)
+     */
+    public @NotNull List<Consumer<MigrationDocument>> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Applies the steps of all given plans, in order, to one copy of the reader's document and returns a reader
+     * for the result.
+     *
+     * @param plans the plans to apply
+     * @param reader the reader of the document to migrate (must provide the document for the empty path)
+     * @return reader with the migrated document
+     */
+    @SuppressWarnings("unchecked")
+    public static @NotNull PropertyReader applyAll(@NotNull List<? extends MigrationPlan> plans,
+                                                   @NotNull PropertyReader reader) {
+        Object root = reader.getValue("");
+        if (root != null && !(root instanceof Map<?, ?>)) {
+            throw new ConfigMeException("Migration plans can only be applied to readers which return the document "
+                + "as a map for the empty path, but got: " + root);
+        }
+
+        MigrationDocument document = new MigrationDocument((Map<String, Object>) root);
+        for (MigrationPlan plan : plans) {
+            for (Consumer<MigrationDocument> step : plan.steps) {
+                step.accept(document);
+            }
+        }
+        return new MapPropertyReader(document.getRoot());
+    }
+
+    /**
+     * Builder for {@link MigrationPlan}. Steps are applied in the order they are added.
+     */
+    public static class Builder {
+
+        private final int fromVersion;
+        private final int targetVersion;
+        private final List<Consumer<MigrationDocument>> steps = new ArrayList<>();
+
+        /**
+         * Constructor. Use {@link MigrationPlan#builder(int, int)}.
+         *
+         * @param fromVersion the version the plan migrates from
+         * @param targetVersion the version the plan migrates to
+         */
+        protected Builder(int fromVersion, int targetVersion) {
+            this.fromVersion = fromVersion;
+            this.targetVersion = targetVersion;
+        }
+
+        /**
+         * Moves the value at the old path to the new path. Like
+         * {@link ch.jalu.configme.utils.MigrationUtils#moveProperty MigrationUtils#moveProperty}, the value is only
+         * set at the new path if the new path has no value yet. The old path is removed in any case.
+         *
+         * @param oldPath the path to move the value from
+         * @param newPath the path to move the value to
+         * @return this builder
+         */
+        public @NotNull Builder move(@NotNull String oldPath, @NotNull String newPath) {
+            steps.add(document -> {
+                Object value = document.remove(oldPath);
+                if (value != null && !document.contains(newPath)) {
+                    document.setValue(newPath, value);
+                }
+            });
+            return this;
+        }
+
+        /**
+         * Renames the last key of the given path, keeping it in the same parent.
+         *
+         * @param path the path whose last key should be renamed
+         * @param newKey the new key
+         * @return this builder
+         */
+        public @NotNull Builder rename(@NotNull String path, @NotNull String newKey) {
+            int lastPeriod = path.lastIndexOf('.');
+            return move(path, lastPeriod < 0 ? newKey : path.substring(0, lastPeriod + 1) + newKey);
+        }
+
+        /**
+         * Removes the value at the given path.
+         *
+         * @param path the path to remove
+         * @return this builder
+         */
+        public @NotNull Builder delete(@NotNull String path) {
+            steps.add(document -> document.remove(path));
+            return this;
+        }
+
+        /**
+         * Replaces the value at the given path with the result of the function. The function is only called if there
+         * is a value, and it must not modify it. If the function returns null, the value is removed.
+         *
+         * @param path the path of the value to transform
+         * @param transformer function returning the new value
+         * @return this builder
+         */
+        public @NotNull Builder transform(@NotNull String path,
+                                          @NotNull Function<Object, @Nullable Object> transformer) {
+            steps.add(document -> {
+                Object value = document.getValue(path);
+                if (value != null) {
+                    Object newValue = transformer.apply(value);
+                    if (newValue == null) {
+                        document.remove(path);
+                    } else {
+                        document.setValue(path, newValue);
+                    }
+                }
+            });
+            return this;
+        }
+
+        /**
+         * Adds a custom step which modifies the document.
+         *
+         * @param step the step to add
+         * @return this builder
+         */
+        public @NotNull Builder step(@NotNull Consumer<MigrationDocument> step) {
+            steps.add(step);
+            return this;
+        }
+
+        /**
+         * @return the migration plan
+         */
+        public @NotNull MigrationPlan build() {
+            return new MigrationPlan(fromVersion, targetVersion, steps);
+        }
+    }
+}
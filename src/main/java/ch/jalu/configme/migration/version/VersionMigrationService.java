@@ -3,12 +3,22 @@ package ch.jalu.configme.migration.version;
 import ch.jalu.configme.configurationdata.ConfigurationData;
 import ch.jalu.configme.migration.MigrationService;
 import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.properties.convertresult.ValueWithComments;
+import ch.jalu.configme.resource.ExportDocumentBuilder;
+import ch.jalu.configme.resource.MapPropertyReader;
 import ch.jalu.configme.resource.PropertyReader;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Version-based {@link MigrationService} implementation that uses a {@code Property<Integer>} to track configuration
@@ -35,6 +45,12 @@ import java.util.Map;
  * It is recommended to create a migration for each incremental version change for simplicity (i.e. 1 to 2,
  * 2 to 3, ...). However, you can also define non-sequential migrations: a migration can migrate from 1 to 4,
  * another from 2 to 3, and one from 3 to 4 to migrate any older version to version 4.
+ * <p>
+ * Migrations can be defined declaratively with {@link MigrationPlan}. Migrations are always run in the order of the
+ * chain, but consecutive plans are combined and applied to one copy of the document, from which the property values
+ * are then determined once. Other migrations are run with a reader of the document as migrated by the plans before
+ * them. If plans follow another migration, the values it changed are written into the document before the plans are
+ * applied, so that they are neither lost nor hidden from the plans.
  *
  * @author gamerover98
  */
@@ -118,7 +134,7 @@ public class VersionMigrationService implements MigrationService {
     /**
      * Runs applicable migrations successively: if a migration is found for the read config version, it is run and its
      * {@link VersionMigration#targetVersion() target version} is noted. If a migration exists for the target version,
-     * it is also run, and so forth.
+     * it is also run, and so forth. Consecutive {@link MigrationPlan migration plans} are applied together.
      *
      * @param readConfigVersion the version that was read in the configuration file
      * @param reader the reader with which the configuration file can be read
@@ -129,16 +145,128 @@ public class VersionMigrationService implements MigrationService {
                                           @NotNull PropertyReader reader,
                                           @NotNull ConfigurationData configurationData) {
         int updatedVersion = readConfigVersion;
+        List<VersionMigration> chain = new ArrayList<>();
+        int lastPlanIndex = -1;
         VersionMigration migration = migrationsByStartVersion.get(readConfigVersion);
         while (migration != null) {
-            migration.migrate(reader, configurationData);
-
+            if (migration instanceof MigrationPlan) {
+                lastPlanIndex = chain.size();
+            }
+            chain.add(migration);
             updatedVersion = migration.targetVersion();
             migration = migrationsByStartVersion.get(updatedVersion);
         }
+
+        PropertyReader currentReader = reader;
+        List<Property<?>> changedProperties = new ArrayList<>();
+        int index = 0;
+        while (index < chain.size()) {
+            if (chain.get(index) instanceof MigrationPlan) {
+                List<MigrationPlan> plans = new ArrayList<>();
+                while (index < chain.size() && chain.get(index) instanceof MigrationPlan) {
+                    plans.add((MigrationPlan) chain.get(index));
+                    ++index;
+                }
+                if (!changedProperties.isEmpty()) {
+                    currentReader = writeValuesToDocument(changedProperties, currentReader, configurationData);
+                    changedProperties.clear();
+                }
+                currentReader = applyMigrationPlans(plans, currentReader, configurationData);
+            } else {
+                if (index < lastPlanIndex) {
+                    changedProperties.addAll(runAndGetChangedProperties(chain.get(index), currentReader,
+                        configurationData));
+                } else {
+                    chain.get(index).migrate(currentReader, configurationData);
+                }
+                ++index;
+            }
+        }
         return updatedVersion;
     }
 
+    /**
+     * Applies the given migration plans to the document of the reader in one go, and initializes the values
+     * of the configuration data from the migrated document.
+     *
+     * @param plans the plans to apply, in order
+     * @param reader the reader with which the configuration file can be read
+     * @param configurationData the configuration data
+     * @return reader with the migrated document
+     */
+    protected @NotNull PropertyReader applyMigrationPlans(@NotNull List<MigrationPlan> plans,
+                                                          @NotNull PropertyReader reader,
+                                                          @NotNull ConfigurationData configurationData) {
+        PropertyReader migratedReader = MigrationPlan.applyAll(plans, reader);
+        configurationData.initializeValues(migratedReader);
+        return migratedReader;
+    }
+
+    /**
+     * Runs the given migration and returns the properties whose values were changed by it. A copy of the export value
+     * of each property is taken before the migration is run and compared with the export value afterwards, so that
+     * values which a migration modifies in place (e.g. by adding an element to a list) are also detected.
+     *
+     * @param migration the migration to run
+     * @param reader the reader with which the configuration file can be read
+     * @param configurationData the configuration data
+     * @return the properties whose values were changed
+     */
+    protected @NotNull List<Property<?>> runAndGetChangedProperties(@NotNull VersionMigration migration,
+                                                                    @NotNull PropertyReader reader,
+                                                                    @NotNull ConfigurationData configurationData) {
+        List<Object> exportValuesBefore = new ArrayList<>(configurationData.getProperties().size());
+        for (Property<?> property : configurationData.getProperties()) {
+            exportValuesBefore.add(copyExportValue(configurationData.getExportValue(property)));
+        }
+
+        migration.migrate(reader, configurationData);
+
+        List<Property<?>> changedProperties = new ArrayList<>();
+        for (int i = 0; i < exportValuesBefore.size(); ++i) {
+            Property<?> property = configurationData.getProperties().get(i);
+            if (!isSameExportValue(exportValuesBefore.get(i), configurationData.getExportValue(property))) {
+                changedProperties.add(property);
+            }
+        }
+        return changedProperties;
+    }
+
+    /**
+     * Writes the export values of the given properties into a copy of the reader's document, so that migration plans
+     * can be applied on top of the values set by other migrations.
+     *
+     * @param properties the properties whose values should be written into the document
+     * @param reader the reader of the document
+     * @param configurationData the configuration data
+     * @return reader with the updated document
+     */
+    @SuppressWarnings("unchecked")
+    protected @NotNull PropertyReader writeValuesToDocument(@NotNull List<Property<?>> properties,
+                                                           @NotNull PropertyReader reader,
+                                                           @NotNull ConfigurationData configurationData) {
+        MigrationDocument exportDocument =
+            new MigrationDocument(new ExportDocumentBuilder().createDocument(configurationData));
+        Object root = reader.getValue("");
+        MigrationDocument document = new MigrationDocument(root instanceof Map<?, ?>
+            ? (Map<String, Object>) root
+            : null);
+
+        for (Property<?> property : properties) {
+            if (property.getPath().isEmpty()) {
+                document = new MigrationDocument(exportDocument.getRoot());
+                continue;
+            }
+            Object exportValue = exportDocument.getValue(property.getPath());
+            if (exportValue == null) {
+                document.remove(property.getPath());
+            } else {
+                document.setValue(property.getPath(), exportValue);
+            }
+        }
+        return new MapPropertyReader(document.getRoot());
+    }
+
     /**
      * Validates the given migrations and returns them as a map of migration by its start version.
      *
@@ -176,4 +304,79 @@ public class VersionMigrationService implements MigrationService {
                     + " was supplied, but it is expected that the target version be larger than the start version");
         }
     }
+
+    /**
+     * Creates a copy of the given export value that is not affected by modifications of the original value. Some
+     * properties return their value as export value, so it may be modified in place by a migration.
+     *
+     * @param value the export value to copy
+     * @return copy of the export value
+     */
+    private static @Nullable Object copyExportValue(@Nullable Object value) {
+        if (value instanceof ValueWithComments) {
+            ValueWithComments valueWithComments = (ValueWithComments) value;
+            return valueWithComments.copyWithValue(copyExportValue(valueWithComments.getValue()));
+        } else if (value instanceof Map<?, ?>) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            ((Map<?, ?>) value).forEach((key, entryValue) -> copy.put(key, copyExportValue(entryValue)));
+            return copy;
+        } else if (value instanceof Collection<?>) {
+            List<Object> copy = new ArrayList<>(((Collection<?>) value).size());
+            for (Object element : (Collection<?>) value) {
+                copy.add(copyExportValue(element));
+            }
+            return copy;
+        } else if (value instanceof Object[]) {
+            Object[] copy = ((Object[]) value).clone();
+            for (int i = 0; i < copy.length; ++i) {
+                copy[i] = copyExportValue(copy[i]);
+            }
+            return copy;
+        }
+        return value;
+    }
+
+    /**
+     * Returns whether the two export values are equal. {@link ValueWithComments} does not implement equals, so its
+     * comments and value are compared explicitly; maps and collections are compared entry by entry.
+     *
+     * @param value1 the first export value
+     * @param value2 the second export value
+     * @return true if the values are equal, false otherwise
+     */
+    private static boolean isSameExportValue(@Nullable Object value1, @Nullable Object value2) {
+        if (value1 instanceof ValueWithComments && value2 instanceof ValueWithComments) {
+            ValueWithComments valueWithComments1 = (ValueWithComments) value1;
+            ValueWithComments valueWithComments2 = (ValueWithComments) value2;
+            return valueWithComments1.hasSameComments(valueWithComments2)
+                && isSameExportValue(valueWithComments1.getValue(), valueWithComments2.getValue());
+        } else if (value1 instanceof Map<?, ?> && value2 instanceof Map<?, ?>) {
+            Map<?, ?> map1 = (Map<?, ?>) value1;
+            Map<?, ?> map2 = (Map<?, ?>) value2;
+            if (map1.size() != map2.size()) {
+                return false;
+            }
+            for (Map.Entry<?, ?> entry : map1.entrySet()) {
+                if (!map2.containsKey(entry.getKey())
+                    || !isSameExportValue(entry.getValue(), map2.get(entry.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (value1 instanceof Collection<?> && value2 instanceof Collection<?>) {
+            Collection<?> collection1 = (Collection<?>) value1;
+            Collection<?> collection2 = (Collection<?>) value2;
+            if (collection1.size() != collection2.size()) {
+                return false;
+            }
+            Iterator<?> it2 = collection2.iterator();
+            for (Object element : collection1) {
+                if (!isSameExportValue(element, it2.next())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return Objects.deepEquals(value1, value2);
+    }
 }
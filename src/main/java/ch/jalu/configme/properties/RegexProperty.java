@@ -1,6 +1,7 @@
 package ch.jalu.configme.properties;
 
 import ch.jalu.configme.SettingsManager;
+import ch.jalu.configme.internal.PatternCache;
 import ch.jalu.configme.properties.types.RegexType;
 import org.jetbrains.annotations.NotNull;
 
@@ -29,7 +30,7 @@ public class RegexProperty extends TypeBasedProperty<Pattern> {
      * @param defaultRegexValue the default value of the property
      */
     public RegexProperty(@NotNull String path, @NotNull String defaultRegexValue) {
-        this(path, Pattern.compile(defaultRegexValue));
+        this(path, PatternCache.compile(defaultRegexValue, 0));
     }
 
     /**
@@ -52,7 +53,7 @@ public class RegexProperty extends TypeBasedProperty<Pattern> {
      */
     public static @NotNull RegexProperty caseInsensitive(@NotNull String path, @NotNull String defaultRegexValue) {
         return new RegexProperty(path, RegexType.REGEX_CASE_INSENSITIVE,
-            Pattern.compile(defaultRegexValue, Pattern.CASE_INSENSITIVE));
+            PatternCache.compile(defaultRegexValue, Pattern.CASE_INSENSITIVE));
     }
 
     /**
@@ -0,0 +1,125 @@
+package ch.jalu.configme.properties.convertresult;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps track of the comments that should only be included once in an export and that have already been included.
+ * A tracker is created per export, so its state does not outlive the export.
+ * <p>
+ * Comments are identified by their unique comment ID (see {@link ValueWithComments#createUniqueCommentId()}),
+ * which is tracked in a {@link BitSet}. Comments that were created with a UUID by a deprecated constructor are kept
+ * in a set that is only created if such a comment is encountered.
+ */
+public final class UniqueCommentTracker {
+
+    private final BitSet usedIds;
+    private @Nullable Set<UUID> usedUuids;
+
+    /**
+     * Constructor. Creates a tracker with no used comments.
+     */
+    public UniqueCommentTracker() {
+        this.usedIds = new BitSet();
+    }
+
+    private UniqueCommentTracker(@NotNull UniqueCommentTracker original) {
+        this.usedIds = (BitSet) original.usedIds.clone();
+        this.usedUuids = original.usedUuids == null ? null : new HashSet<>(original.usedUuids);
+    }
+
+    /**
+     * Returns whether the comments with the given ID have already been included.
+     *
+     * @param uniqueCommentId the unique comment ID
+     * @return true if the ID is known to this tracker, false otherwise
+     */
+    public boolean contains(int uniqueCommentId) {
+        return usedIds.get(uniqueCommentId);
+    }
+
+    /**
+     * Returns whether the comments with the given UUID have already been included.
+     *
+     * @param uuid the UUID of the comments
+     * @return true if the UUID is known to this tracker, false otherwise
+     */
+    public boolean contains(@NotNull UUID uuid) {
+        return usedUuids != null && usedUuids.contains(uuid);
+    }
+
+    /**
+     * Registers the comments with the given ID as included.
+     *
+     * @param uniqueCommentId the unique comment ID
+     * @return true if the ID was not known to this tracker before, false otherwise
+     */
+    public boolean add(int uniqueCommentId) {
+        if (usedIds.get(uniqueCommentId)) {
+            return false;
+        }
+        usedIds.set(uniqueCommentId);
+        return true;
+    }
+
+    /**
+     * Registers the comments with the given UUID as included.
+     *
+     * @param uuid the UUID of the comments
+     * @return true if the UUID was not known to this tracker before, false otherwise
+     */
+    public boolean add(@NotNull UUID uuid) {
+        if (usedUuids == null) {
+            usedUuids = new HashSet<>();
+        }
+        return usedUuids.add(uuid);
+    }
+
+    /**
+     * Registers all comments known to the given tracker in this tracker.
+     *
+     * @param other the tracker whose comments should be added
+     */
+    public void addAll(@NotNull UniqueCommentTracker other) {
+        usedIds.or(other.usedIds);
+        if (other.usedUuids != null) {
+            if (usedUuids == null) {
+                usedUuids = new HashSet<>();
+            }
+            usedUuids.addAll(other.usedUuids);
+        }
+    }
+
+    /**
+     * @return copy of this tracker, which is not affected by changes to this tracker
+     */
+    public @NotNull UniqueCommentTracker copy() {
+        return new UniqueCommentTracker(this);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (!(obj instanceof UniqueCommentTracker)) {
+            return false;
+        }
+        UniqueCommentTracker other = (UniqueCommentTracker) obj;
+        return usedIds.equals(other.usedIds) && getUsedUuids().equals(other.getUsedUuids());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(usedIds, getUsedUuids());
+    }
+
+    private @NotNull Set<UUID> getUsedUuids() {
+        return usedUuids == null ? new HashSet<>() : usedUuids;
+    }
+}
@@ -1,11 +1,14 @@
 package ch.jalu.configme.properties.convertresult;
 
+import ch.jalu.configme.internal.UniqueCommentIdMapping;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 /**
@@ -17,26 +20,57 @@ import java.util.stream.Stream;
  */
 public class ValueWithComments {
 
+    /** Value of the unique comment ID if the comments may be repeated. */
+    public static final int NO_UNIQUE_COMMENT_ID = -1;
+
+    private static final AtomicInteger UNIQUE_COMMENT_ID_COUNTER = new AtomicInteger();
+
     private final Object value;
     private final List<String> comments;
-    private final UUID uniqueCommentId;
+    private final int uniqueCommentId;
+    private final @Nullable UUID uniqueCommentUuid;
 
     /**
      * Constructor.
      * <p>
-     * The UUID is associated with the comments and should be not null if the comments should only appear once.
-     * Use a random UUID if the comments might appear multiple times, e.g. because they were defined on a type that
-     * a property uses in a collection. If repetition is desired, or if you're creating an object in simple cases where
-     * the comment cannot be repeated, you can use the constructor {@link #ValueWithComments(Object, List)}.
+     * The unique comment ID is associated with the comments and should be set if the comments should only appear
+     * once. Use an ID from {@link #createUniqueCommentId()} if the comments might appear multiple times, e.g. because
+     * they were defined on a type that a property uses in a collection. The ID should be created once per definition
+     * of the comments and not per value. If repetition is desired, or if you're creating an object in simple cases
+     * where the comment cannot be repeated, you can use the constructor {@link #ValueWithComments(Object, List)}.
      *
      * @param value the value to wrap
      * @param comments the comments associated with the value
-     * @param uniqueCommentId UUID to identify the comment by, if it should not be repeated (null otherwise)
+     * @param uniqueCommentId ID to identify the comment by if it should not be repeated,
+     *                        {@link #NO_UNIQUE_COMMENT_ID} otherwise
      */
+    public ValueWithComments(@NotNull Object value, @NotNull List<String> comments, int uniqueCommentId) {
+        this(value, comments, uniqueCommentId, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param value the value to wrap
+     * @param comments the comments associated with the value
+     * @param uniqueCommentId UUID to identify the comment with if it should not be repeated, null otherwise
+     * @deprecated use {@link #ValueWithComments(Object, List, int)} with an ID from {@link #createUniqueCommentId()}
+     */
+    @Deprecated
     public ValueWithComments(@NotNull Object value, @NotNull List<String> comments, @Nullable UUID uniqueCommentId) {
+        this(value, comments, UniqueCommentIdMapping.toUniqueCommentId(uniqueCommentId), uniqueCommentId);
+    }
+
+    private ValueWithComments(@NotNull Object value, @NotNull List<String> comments, int uniqueCommentId,
+                              @Nullable UUID uuid) {
+        if (uniqueCommentId < 0 && uniqueCommentId != NO_UNIQUE_COMMENT_ID) {
+            throw new IllegalArgumentException("Invalid unique comment ID: " + uniqueCommentId);
+        }
         this.value = value;
         this.comments = comments;
         this.uniqueCommentId = uniqueCommentId;
+        // UUIDs are only kept if they do not represent an int ID
+        this.uniqueCommentUuid = uniqueCommentId == NO_UNIQUE_COMMENT_ID ? uuid : null;
     }
 
     /**
@@ -46,7 +80,7 @@ public class ValueWithComments {
      * @param comments the comments associated with the value
      */
     public ValueWithComments(@NotNull Object value, @NotNull List<String> comments) {
-        this(value, comments, null);
+        this(value, comments, NO_UNIQUE_COMMENT_ID);
     }
 
     /**
@@ -64,12 +98,64 @@ public class ValueWithComments {
     }
 
     /**
-     * @return UUID to identify the comments, if the comments should only be included the first time they're encountered
+     * @return ID to identify the comments if they should only be included the first time they're encountered,
+     *         {@link #NO_UNIQUE_COMMENT_ID} otherwise (also if the comments were identified by a UUID that does not
+     *         represent an ID, see {@link #ValueWithComments(Object, List, UUID)})
      */
-    public @Nullable UUID getUniqueCommentId() {
+    public int getUniqueCommentIntId() {
         return uniqueCommentId;
     }
 
+    /**
+     * @return UUID to identify the comments if they should only be included the first time they're encountered,
+     *         null otherwise
+     * @deprecated use {@link #getUniqueCommentIntId()}
+     */
+    @Deprecated
+    public @Nullable UUID getUniqueCommentId() {
+        return uniqueCommentUuid != null ? uniqueCommentUuid : UniqueCommentIdMapping.toUuid(uniqueCommentId);
+    }
+
+    /**
+     * Returns whether this instance has the same comments and unique comment identifier as the given instance.
+     * The values are not compared.
+     *
+     * @param other the instance to compare with
+     * @return true if the comments and their unique identifier are equal, false otherwise
+     */
+    public boolean hasSameComments(@NotNull ValueWithComments other) {
+        return uniqueCommentId == other.uniqueCommentId
+            && Objects.equals(uniqueCommentUuid, other.uniqueCommentUuid)
+            && comments.equals(other.comments);
+    }
+
+    /**
+     * Creates a new instance with the given value and a copy of the comments of this instance. The unique comment
+     * identifier is retained.
+     *
+     * @param value the value of the new instance
+     * @return new instance with the given value and the comments of this instance
+     */
+    public @NotNull ValueWithComments copyWithValue(@NotNull Object value) {
+        return new ValueWithComments(value, new ArrayList<>(comments), uniqueCommentId, uniqueCommentUuid);
+    }
+
+    /**
+     * Creates a new ID for comments that should only be included once. IDs are small sequential numbers, so that
+     * comments that have been included can be tracked in a {@link java.util.BitSet BitSet} (see
+     * {@link UniqueCommentTracker}). The ID should be created once per definition of the comments.
+     *
+     * @return new unique comment ID
+     * @throws IllegalStateException if all IDs have been used
+     */
+    public static int createUniqueCommentId() {
+        int id = UNIQUE_COMMENT_ID_COUNTER.getAndUpdate(i -> i == Integer.MAX_VALUE ? i : i + 1);
+        if (id == Integer.MAX_VALUE) {
+            throw new IllegalStateException("No more unique comment IDs are available");
+        }
+        return id;
+    }
+
     /**
      * Unwraps the value and returns the actual value contained in this wrapper if the object is an instance of
      * this class. Otherwise, the same value as the parameter is returned.
@@ -88,22 +174,34 @@ public class ValueWithComments {
      * Returns a stream with the comments on the given object, if it is a {@link ValueWithComments} and its comments
      * aren't specified to be unique, or if the comments are encountered for the first time. An empty stream is returned
      * if the object is not an instance of this class, or if the comments are defined to be unique and were already
-     * encountered (as determined by the set of used comment IDs).
+     * encountered (as determined by the tracker of used comments). Unique comments are registered in the tracker.
      *
      * @param object the object to get comments from, if applicable
-     * @param usedCommentIds UUIDs of comments which should not be repeated that have already been included
+     * @param usedComments tracker of the comments which should not be repeated that have already been included
      * @return stream with the comments (never null)
      */
-    public static @NotNull Stream<String> streamThroughCommentsIfApplicable(@Nullable Object object,
-                                                                            @Nullable Set<UUID> usedCommentIds) {
+    public static @NotNull Stream<String> streamThroughCommentsIfApplicable(
+                                                                @Nullable Object object,
+                                                                @Nullable UniqueCommentTracker usedComments) {
         if (object instanceof ValueWithComments) {
             ValueWithComments valueWithComments = (ValueWithComments) object;
-            if (valueWithComments.getUniqueCommentId() == null
-                    || usedCommentIds == null
-                    || usedCommentIds.add(valueWithComments.getUniqueCommentId())) {
+            if (usedComments == null || valueWithComments.registerUniqueComment(usedComments)) {
                 return valueWithComments.getComments().stream();
             }
         }
         return Stream.empty();
     }
+
+    /**
+     * Registers the comments of this instance in the given tracker if they should only be included once.
+     *
+     * @param tracker the tracker to register the comments in
+     * @return true if the comments should be included, false if they are unique and have already been included
+     */
+    private boolean registerUniqueComment(@NotNull UniqueCommentTracker tracker) {
+        if (uniqueCommentUuid != null) {
+            return tracker.add(uniqueCommentUuid);
+        }
+        return uniqueCommentId == NO_UNIQUE_COMMENT_ID || tracker.add(uniqueCommentId);
+    }
 }
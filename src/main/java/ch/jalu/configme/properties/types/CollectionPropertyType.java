@@ -5,11 +5,11 @@ import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 
 /**
  * Property type for collections of elements. This class and its extensions delegate individual element operations to
@@ -61,19 +61,29 @@ public abstract class CollectionPropertyType<E, C extends Collection<E>> impleme
     public @Nullable C convert(@Nullable Object object, @NotNull ConvertErrorRecorder errorRecorder) {
         if (object instanceof Collection<?>) {
             Collection<?> coll = (Collection<?>) object;
-            return coll.stream()
-                .map(elem -> ConversionUtils.convertOrLogError(elem, entryType, errorRecorder))
-                .filter(Objects::nonNull)
-                .collect(resultCollector());
+            C result = createResultCollection(coll.size());
+            if (result == null) {
+                return collectWithResultCollector(coll, resultCollector(), errorRecorder);
+            }
+
+            for (Object elem : coll) {
+                E convertedElem = ConversionUtils.convertOrLogError(elem, entryType, errorRecorder);
+                if (convertedElem != null) {
+                    result.add(convertedElem);
+                }
+            }
+            return result;
         }
         return null;
     }
 
     @Override
     public @NotNull List<?> toExportValue(@NotNull C value) {
-        return value.stream()
-            .map(entryType::toExportValue)
-            .collect(Collectors.toList());
+        List<Object> exportValues = new ArrayList<>(value.size());
+        for (E entry : value) {
+            exportValues.add(entryType.toExportValue(entry));
+        }
+        return exportValues;
     }
 
     /**
@@ -83,9 +93,41 @@ public abstract class CollectionPropertyType<E, C extends Collection<E>> impleme
         return entryType;
     }
 
+    /**
+     * Creates the collection to which the converted entries are added. Returns null if the entries should be
+     * gathered with the {@link #resultCollector() result collector} instead, which is the default behavior.
+     * Extensions can override this method to add the entries directly to a collection presized for the number of
+     * entries in the property resource.
+     *
+     * @param expectedSize the number of entries in the property resource
+     * @return new collection to add the entries to, or null to use the result collector
+     */
+    protected @Nullable C createResultCollection(int expectedSize) {
+        return null;
+    }
+
     /**
      * @return collector to collect the converted entries to the appropriate type of collection
      */
     protected abstract @NotNull Collector<E, ?, C> resultCollector();
 
+    @SuppressWarnings("unchecked")
+    private <A> @NotNull C collectWithResultCollector(@NotNull Collection<?> coll,
+                                                      @NotNull Collector<E, A, C> collector,
+                                                      @NotNull ConvertErrorRecorder errorRecorder) {
+        A container = collector.supplier().get();
+        BiConsumer<A, E> accumulator = collector.accumulator();
+        for (Object elem : coll) {
+            E convertedElem = ConversionUtils.convertOrLogError(elem, entryType, errorRecorder);
+            if (convertedElem != null) {
+                accumulator.accept(container, convertedElem);
+            }
+        }
+
+        if (collector.characteristics().contains(Collector.Characteristics.IDENTITY_FINISH)) {
+            return (C) container;
+        }
+        return collector.finisher().apply(container);
+    }
+
 }
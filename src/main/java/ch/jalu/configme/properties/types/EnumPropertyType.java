@@ -1,8 +1,8 @@
 package ch.jalu.configme.properties.types;
 
 import ch.jalu.configme.internal.ConversionUtils;
+import ch.jalu.configme.internal.EnumLookup;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
-import ch.jalu.typeresolver.EnumUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -14,6 +14,7 @@ import org.jetbrains.annotations.Nullable;
 public class EnumPropertyType<E extends Enum<E>> implements PropertyType<E> {
 
     private final Class<E> enumType;
+    private final EnumLookup<E> enumLookup;
 
     /**
      * Constructor. You can also create instances with {@link EnumPropertyType#of}.
@@ -22,6 +23,7 @@ public class EnumPropertyType<E extends Enum<E>> implements PropertyType<E> {
      */
     public EnumPropertyType(@NotNull Class<E> enumType) {
         this.enumType = enumType;
+        this.enumLookup = EnumLookup.of(enumType);
     }
 
     public static <E extends Enum<E>> @NotNull EnumPropertyType<E> of(@NotNull Class<E> type) {
@@ -32,7 +34,7 @@ public class EnumPropertyType<E extends Enum<E>> implements PropertyType<E> {
     @SuppressWarnings("unchecked")
     public @Nullable E convert(@Nullable Object object, @NotNull ConvertErrorRecorder errorRecorder) {
         if (object instanceof String) {
-            return EnumUtils.tryValueOfCaseInsensitive(enumType, (String) object).orElse(null);
+            return enumLookup.getEntry((String) object);
         } else if (enumType.isInstance(object)) {
             return (E) object;
         }
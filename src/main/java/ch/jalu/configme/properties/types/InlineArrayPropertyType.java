@@ -1,17 +1,12 @@
 package ch.jalu.configme.properties.types;
 
-import ch.jalu.configme.internal.ConversionUtils;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
-import java.util.Objects;
-import java.util.function.Function;
 import java.util.function.IntFunction;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * Array property type that stores its values as a string with a separator in the property resource.
@@ -70,47 +65,97 @@ public class InlineArrayPropertyType<T> implements PropertyType<T[]> {
     private final String separator;
     private final boolean useTrimAndSpaces;
     private final IntFunction<T[]> arrayProducer;
+    private final int singleCharSeparator;
+    private final String exportDelimiter;
 
     /**
      * Constructor.
      *
      * @param entryType property type determining how the elements in the array behave
-     * @param separator string sequence to separate elements
+     * @param separator string sequence to separate elements (may not be empty)
      * @param useTrimAndSpaces whether the read text should be trimmed prior to being converted with the entry type
      * @param arrayProducer function which creates an array of the given capacity
      */
     public InlineArrayPropertyType(@NotNull PropertyType<T> entryType, @NotNull String separator,
                                    boolean useTrimAndSpaces, @NotNull IntFunction<T[]> arrayProducer) {
+        if (separator.isEmpty()) {
+            throw new IllegalArgumentException("The separator may not be empty");
+        }
         this.entryType = entryType;
         this.separator = separator;
         this.useTrimAndSpaces = useTrimAndSpaces;
         this.arrayProducer = arrayProducer;
+        this.singleCharSeparator = separator.length() == 1 ? separator.charAt(0) : -1;
+        this.exportDelimiter = useTrimAndSpaces ? (separator + " ") : separator;
     }
 
     @Override
     public T @Nullable [] convert(@Nullable Object object, @NotNull ConvertErrorRecorder errorRecorder) {
         if (object instanceof String) {
             String strValue = (String) object;
-            Function<String, T> convertFunction = useTrimAndSpaces
-                ? entry -> entryType.convert(entry.trim(), errorRecorder)
-                : entry -> entryType.convert(entry, errorRecorder);
-
-            return Arrays.stream(strValue.split(Pattern.quote(separator), -1))
-                .map(entry -> ConversionUtils.convertOrLogError(entry, convertFunction, errorRecorder))
-                .filter(Objects::nonNull)
-                .toArray(arrayProducer);
+            T[] result = arrayProducer.apply(countSeparators(strValue) + 1);
+
+            int size = 0;
+            int start = 0;
+            while (true) {
+                int end = indexOfSeparator(strValue, start);
+                String entry = strValue.substring(start, end < 0 ? strValue.length() : end);
+                T convertedEntry = entryType.convert(useTrimAndSpaces ? entry.trim() : entry, errorRecorder);
+                if (convertedEntry == null) {
+                    errorRecorder.setHasError("Could not convert '" + entry + "'");
+                } else {
+                    result[size++] = convertedEntry;
+                }
+
+                if (end < 0) {
+                    break;
+                }
+                start = end + separator.length();
+            }
+            return size == result.length ? result : Arrays.copyOf(result, size);
         }
         return null;
     }
 
     @Override
     public @NotNull String toExportValue(T @NotNull [] value) {
-        String delimiter = useTrimAndSpaces ? (separator + " ") : separator;
-        return Arrays.stream(value)
-            .map(entryType::toExportValue)
-            .filter(Objects::nonNull)
-            .map(Object::toString)
-            .collect(Collectors.joining(delimiter));
+        String[] entries = new String[value.length];
+        int size = 0;
+        int length = 0;
+        for (T element : value) {
+            Object exportValue = entryType.toExportValue(element);
+            if (exportValue != null) {
+                String entry = exportValue.toString();
+                entries[size++] = entry;
+                length += entry.length();
+            }
+        }
+        if (size == 0) {
+            return "";
+        }
+
+        StringBuilder sb = new StringBuilder(length + (size - 1) * exportDelimiter.length());
+        sb.append(entries[0]);
+        for (int i = 1; i < size; ++i) {
+            sb.append(exportDelimiter).append(entries[i]);
+        }
+        return sb.toString();
+    }
+
+    private int countSeparators(@NotNull String text) {
+        int count = 0;
+        int index = indexOfSeparator(text, 0);
+        while (index >= 0) {
+            ++count;
+            index = indexOfSeparator(text, index + separator.length());
+        }
+        return count;
+    }
+
+    private int indexOfSeparator(@NotNull String text, int fromIndex) {
+        return singleCharSeparator >= 0
+            ? text.indexOf(singleCharSeparator, fromIndex)
+            : text.indexOf(separator, fromIndex);
     }
 
     /**
@@ -1,5 +1,6 @@
 package ch.jalu.configme.properties.types;
 
+import ch.jalu.configme.internal.ConversionUtils;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -33,7 +34,7 @@ public class MapPropertyType<V> implements PropertyType<Map<String, V>> {
         }
 
         Map<?, ?> rawMap = (Map<?, ?>) object;
-        Map<String, V> map = createResultMap();
+        Map<String, V> map = createResultMap(rawMap.size());
 
         for (Map.Entry<?, ?> entry : rawMap.entrySet()) {
             String key = convertKeyToString(entry.getKey());
@@ -53,7 +54,7 @@ public class MapPropertyType<V> implements PropertyType<Map<String, V>> {
 
     @Override
     public @NotNull Map<String, Object> toExportValue(@NotNull Map<String, V> value) {
-        Map<String, Object> exportMap = new LinkedHashMap<>(value.size());
+        Map<String, Object> exportMap = new LinkedHashMap<>(ConversionUtils.calculateHashCapacity(value.size()));
         for (Map.Entry<String, V> entry : value.entrySet()) {
             exportMap.put(entry.getKey(), valueType.toExportValue(entry.getValue()));
         }
@@ -64,9 +65,22 @@ public class MapPropertyType<V> implements PropertyType<Map<String, V>> {
         return valueType;
     }
 
+    /**
+     * Creates the map to which entries are added when converting. Delegates to {@link #createResultMap()} by
+     * default; extensions can override this method to presize the map for the given number of entries.
+     *
+     * @param expectedSize the number of entries in the property resource
+     * @return new map to which entries are added when converting
+     */
+    protected @NotNull Map<String, V> createResultMap(int expectedSize) {
+        return createResultMap();
+    }
+
     /**
      * @return new map to which entries are added when converting
+     * @deprecated override {@link #createResultMap(int)} instead, which can presize the map
      */
+    @Deprecated
     protected @NotNull Map<String, V> createResultMap() {
         return new LinkedHashMap<>();
     }
@@ -1,5 +1,6 @@
 package ch.jalu.configme.properties.types;
 
+import ch.jalu.configme.internal.PatternCache;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -8,7 +9,8 @@ import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 /**
- * Property type and mapper leaf type for regex.
+ * Property type and mapper leaf type for regex. Compiled patterns are shared via {@link PatternCache}, so
+ * unchanged regexes are not recompiled when the configuration is reloaded.
  */
 public class RegexType extends PropertyAndLeafType<Pattern> {
     
@@ -19,7 +21,7 @@ public class RegexType extends PropertyAndLeafType<Pattern> {
     public static final RegexType REGEX_CASE_INSENSITIVE = new RegexType() {
         @Override
         protected @NotNull Pattern compileToPattern(@NotNull String regex) {
-            return Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
+            return PatternCache.compile(regex, Pattern.CASE_INSENSITIVE);
         }
     };
 
@@ -48,12 +50,12 @@ public class RegexType extends PropertyAndLeafType<Pattern> {
     }
 
     /**
-     * Compiles the given string to a pattern object.
+     * Compiles the given string to a pattern object. Returns a cached instance if the regex has been compiled before.
      *
      * @param regex the string to compile
      * @return the pattern object
      */
     protected @NotNull Pattern compileToPattern(@NotNull String regex) {
-        return Pattern.compile(regex);
+        return PatternCache.compile(regex, 0);
     }
 }
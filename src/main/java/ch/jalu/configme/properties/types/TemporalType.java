@@ -4,12 +4,15 @@ import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.text.ParsePosition;
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
 import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiFunction;
@@ -33,8 +36,10 @@ public class TemporalType<T extends Temporal> extends PropertyAndLeafType<T> {
         LocalDateTime::parse);
 
     private final List<String> supportedFormats;
+    private final DateTimeFormatter[] formatters;
+    private final String[] formatShapes;
     private final BiFunction<String, DateTimeFormatter, T> temporalParser;
-    private String defaultExportFormat;
+    private DateTimeFormatter defaultExportFormatter;
 
     /**
      * Constructor.
@@ -50,8 +55,14 @@ public class TemporalType<T extends Temporal> extends PropertyAndLeafType<T> {
             throw new IllegalArgumentException("At least one supported format must be provided.");
         }
         this.supportedFormats = supportedFormats;
+        this.formatters = new DateTimeFormatter[supportedFormats.size()];
+        this.formatShapes = new String[supportedFormats.size()];
+        for (int i = 0; i < formatters.length; ++i) {
+            formatters[i] = DateTimeFormatter.ofPattern(supportedFormats.get(i));
+            formatShapes[i] = determineShape(supportedFormats.get(i));
+        }
         this.temporalParser = defaultParser;
-        this.defaultExportFormat = supportedFormats.get(0);
+        this.defaultExportFormatter = formatters[0];
     }
 
     @Override
@@ -64,19 +75,122 @@ public class TemporalType<T extends Temporal> extends PropertyAndLeafType<T> {
 
     @Override
     public @Nullable Object toExportValue(@NotNull T value) {
-        return DateTimeFormatter.ofPattern(this.defaultExportFormat).format(value);
+        return defaultExportFormatter.format(value);
+    }
+
+    public @NotNull List<String> getSupportedFormats() {
+        return supportedFormats;
     }
 
+    /**
+     * Parses the given text with the supported formats. The separators of the text are compared with the formats to
+     * choose the formats to try first, so that a valid text is usually parsed only once. Formats whose separators do
+     * not match (or are unknown) are only tried afterwards. The last format that was used successfully becomes the
+     * export format.
+     *
+     * @param temporalText the text to parse
+     * @return the parsed value, or null if the text could not be parsed with any supported format
+     */
     private @Nullable T convertToTemporalType(@NotNull String temporalText) {
-        for (String format : this.supportedFormats) {
-            try {
-                T parsedValue = this.temporalParser.apply(temporalText, DateTimeFormatter.ofPattern(format));
-                this.defaultExportFormat = format;
-                return parsedValue;
-            } catch (DateTimeParseException e) {
-                // try next format
+        for (int i = 0; i < formatters.length; ++i) {
+            if (hasShape(temporalText, formatShapes[i])) {
+                T parsedValue = parse(temporalText, formatters[i]);
+                if (parsedValue != null) {
+                    return parsedValue;
+                }
+            }
+        }
+        for (int i = 0; i < formatters.length; ++i) {
+            if (!hasShape(temporalText, formatShapes[i])) {
+                T parsedValue = parse(temporalText, formatters[i]);
+                if (parsedValue != null) {
+                    return parsedValue;
+                }
             }
         }
         return null;
     }
+
+    /**
+     * Parses the text with the given formatter. The text is first parsed with
+     * {@link DateTimeFormatter#parseUnresolved}, which does not throw an exception if the text does not match;
+     * the parsed fields must cover the entire text and be within their valid range (e.g. no month 13). Only then
+     * is the value resolved with the temporal parser of this type.
+     *
+     * @param temporalText the text to parse
+     * @param formatter the formatter to parse with
+     * @return the parsed value, or null if the text is not valid for the format
+     */
+    private @Nullable T parse(@NotNull String temporalText, @NotNull DateTimeFormatter formatter) {
+        ParsePosition position = new ParsePosition(0);
+        TemporalAccessor parsedFields = formatter.parseUnresolved(temporalText, position);
+        if (parsedFields == null || position.getErrorIndex() >= 0 || position.getIndex() != temporalText.length()
+            || !hasValidFieldValues(parsedFields)) {
+            return null;
+        }
+
+        try {
+            T parsedValue = temporalParser.apply(temporalText, formatter);
+            this.defaultExportFormatter = formatter;
+            return parsedValue;
+        } catch (DateTimeException e) {
+            // Fields are valid individually but not in combination, e.g. February 30 with a strict resolver style
+            return null;
+        }
+    }
+
+    private static boolean hasValidFieldValues(@NotNull TemporalAccessor parsedFields) {
+        for (ChronoField field : ChronoField.values()) {
+            if (parsedFields.isSupported(field) && !field.range().isValidValue(parsedFields.getLong(field))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the separators (all characters that are not letters or digits) of the given text, in order,
+     * are equal to the given shape.
+     *
+     * @param text the text to check
+     * @param shape the shape of a format (see {@link #determineShape}), or null if the format's shape is unknown
+     * @return true if the text matches the shape, false otherwise
+     */
+    private static boolean hasShape(@NotNull String text, @Nullable String shape) {
+        if (shape == null) {
+            return false;
+        }
+        int shapeIndex = 0;
+        for (int i = 0; i < text.length(); ++i) {
+            char chr = text.charAt(i);
+            if (!Character.isLetterOrDigit(chr)) {
+                if (shapeIndex >= shape.length() || shape.charAt(shapeIndex) != chr) {
+                    return false;
+                }
+                ++shapeIndex;
+            }
+        }
+        return shapeIndex == shape.length();
+    }
+
+    /**
+     * Determines the shape of a format pattern, i.e. the sequence of separator characters in the pattern. For example,
+     * the shape of {@code dd.MM.yyyy} is {@code ..}. Returns null for patterns with literals or optional sections,
+     * for which no shape can be determined in this simple manner.
+     *
+     * @param pattern the format pattern
+     * @return the shape of the pattern, or null if unknown
+     */
+    private static @Nullable String determineShape(@NotNull String pattern) {
+        StringBuilder shape = new StringBuilder();
+        for (int i = 0; i < pattern.length(); ++i) {
+            char chr = pattern.charAt(i);
+            if (chr == '\'' || chr == '[' || chr == ']' || chr == '{' || chr == '}' || chr == '#') {
+                return null;
+            } else if (!Character.isLetter(chr)) {
+                shape.append(chr);
+            }
+        }
+        return shape.toString();
+    }
 }
@@ -0,0 +1,130 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.internal.CompactDocumentTrie;
+import ch.jalu.configme.resource.yaml.SnakeYamlCompactDocumentConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.Tag;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * YAML file reader which keeps the file's data in a compact, immutable representation instead of nested maps.
+ * This reduces the memory used by very large files for as long as the reader is kept. Maps and lists are only
+ * created when they are requested with {@link #getValue}, which returns a new instance for every call.
+ * <p>
+ * The compact representation is built directly from the nodes composed by SnakeYAML with
+ * {@link SnakeYamlCompactDocumentConstructor}, which constructs values like {@link YamlFileReader} does, so this
+ * reader behaves like {@link YamlFileReader} in all other regards.
+ */
+public class CompactYamlFileReader implements PropertyReader, PathProvider {
+
+    private final Path path;
+    private final CompactDocumentTrie document;
+
+    /**
+     * Constructor.
+     *
+     * @param path the file to load
+     */
+    public CompactYamlFileReader(@NotNull Path path) {
+        this(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path the file to load
+     * @param charset the charset to read the data as
+     */
+    public CompactYamlFileReader(@NotNull Path path, @NotNull Charset charset) {
+        this(path, charset, FileInputStrategy.STREAM);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path the file to load
+     * @param charset the charset to read the data as
+     * @param inputStrategy defines how the file is opened for reading
+     */
+    public CompactYamlFileReader(@NotNull Path path, @NotNull Charset charset,
+                                 @NotNull FileInputStrategy inputStrategy) {
+        this.path = path;
+        this.document = loadFile(charset, inputStrategy);
+    }
+
+    @Override
+    public @Nullable Object getValue(@NotNull String path) {
+        return document.getValue(path);
+    }
+
+    @Override
+    public boolean contains(@NotNull String path) {
+        return document.contains(path);
+    }
+
+    @Override
+    public @NotNull Set<String> getPaths() {
+        return document.collectPaths(false);
+    }
+
+    @Override
+    public @NotNull Set<String> getLeafPaths() {
+        return document.collectPaths(true);
+    }
+
+    @Override
+    public @NotNull Set<String> getChildPaths(@NotNull String path) {
+        List<String> keys = document.getKeys(path);
+        String pathPrefix = path.isEmpty() ? "" : path + ".";
+        Set<String> childPaths = new LinkedHashSet<>();
+        for (String key : keys) {
+            childPaths.add(pathPrefix + key);
+        }
+        return childPaths;
+    }
+
+    /**
+     * Loads the file's data into its compact representation.
+     *
+     * @param charset the charset to read the data as
+     * @param inputStrategy defines how the file is opened for reading
+     * @return the file's data
+     */
+    private @NotNull CompactDocumentTrie loadFile(@NotNull Charset charset, @NotNull FileInputStrategy inputStrategy) {
+        try (Reader reader = inputStrategy.openReader(path, charset)) {
+            SnakeYamlCompactDocumentConstructor constructor =
+                new SnakeYamlCompactDocumentConstructor(new LoaderOptions());
+            Node root = new Yaml(constructor).compose(reader);
+            if (root != null && !(root instanceof MappingNode && Tag.MAP.equals(root.getTag()))) {
+                throw new ConfigMeException("Top-level is not a map in '" + path + "'");
+            }
+            return constructor.constructTrie(root);
+        } catch (IOException e) {
+            throw new ConfigMeException("Could not read file '" + path + "'", e);
+        } catch (YAMLException e) {
+            throw new ConfigMeException("YAML error while trying to load file '" + path + "'", e);
+        }
+    }
+
+    /**
+     * @return the file this reader read from
+     */
+    protected final @NotNull Path getPath() {
+        return path;
+    }
+}
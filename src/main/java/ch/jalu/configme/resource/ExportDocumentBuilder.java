@@ -0,0 +1,99 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.properties.convertresult.ValueWithComments;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Creates a document of nested maps from the export values of configuration data, for property resources
+ * which do not support comments on arbitrary values (e.g. JSON). The values are unwrapped from
+ * {@link ValueWithComments}, iterables and arrays are converted to lists, and map keys are converted to Strings.
+ * Properties without export value are skipped.
+ */
+public class ExportDocumentBuilder {
+
+    /**
+     * Creates the document with the values of all properties of the given configuration data.
+     *
+     * @param configurationData the configuration data to process
+     * @return the document (map with the values by path)
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull Map<String, Object> createDocument(@NotNull ConfigurationData configurationData) {
+        Map<String, Object> root = new LinkedHashMap<>();
+        for (Property<?> property : configurationData.getProperties()) {
+            Object exportValue = toDocumentValue(configurationData.getExportValue(property));
+            if (exportValue == null) {
+                continue;
+            }
+
+            String path = property.getPath();
+            if (path.isEmpty()) {
+                if (exportValue instanceof Map<?, ?>) {
+                    root.putAll((Map<String, Object>) exportValue);
+                }
+            } else {
+                String[] keys = path.split("\\.");
+                Map<String, Object> parent = root;
+                for (int i = 0; i < keys.length - 1; ++i) {
+                    parent = getOrInsertMap(parent, keys[i]);
+                }
+                parent.put(keys[keys.length - 1], exportValue);
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Converts an export value to the structure of the document.
+     *
+     * @param exportValue the export value to convert
+     * @return the value to put into the document
+     */
+    protected @Nullable Object toDocumentValue(@Nullable Object exportValue) {
+        if (exportValue instanceof ValueWithComments) {
+            return toDocumentValue(((ValueWithComments) exportValue).getValue());
+        } else if (exportValue instanceof Map<?, ?>) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) exportValue).entrySet()) {
+                map.put(Objects.toString(entry.getKey()), toDocumentValue(entry.getValue()));
+            }
+            return map;
+        } else if (exportValue instanceof Iterable<?>) {
+            List<Object> list = new ArrayList<>();
+            for (Object entry : (Iterable<?>) exportValue) {
+                list.add(toDocumentValue(entry));
+            }
+            return list;
+        } else if (exportValue != null && exportValue.getClass().isArray()) {
+            int length = Array.getLength(exportValue);
+            List<Object> list = new ArrayList<>(length);
+            for (int i = 0; i < length; ++i) {
+                list.add(toDocumentValue(Array.get(exportValue, i)));
+            }
+            return list;
+        }
+        return exportValue;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @NotNull Map<String, Object> getOrInsertMap(@NotNull Map<String, Object> parent,
+                                                               @NotNull String key) {
+        Object value = parent.get(key);
+        if (value instanceof Map<?, ?>) {
+            return (Map<String, Object>) value;
+        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        parent.put(key, map);
+        return map;
+    }
+}
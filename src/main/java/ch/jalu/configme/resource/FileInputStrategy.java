@@ -0,0 +1,41 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.internal.ByteBufferReader;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Defines how a file is opened by a property reader to read its contents.
+ *
+ * @see YamlFileResourceOptions.Builder#inputStrategy
+ */
+@FunctionalInterface
+public interface FileInputStrategy {
+
+    /** Reads the file with a regular input stream. This is the default strategy. */
+    FileInputStrategy STREAM = (path, charset) -> new InputStreamReader(Files.newInputStream(path), charset);
+
+    /**
+     * Reads the file through a channel into one fixed-size buffer that is reused for the entire file, and decodes
+     * its bytes directly into the buffer of the YAML parser. This avoids the copies between the intermediate buffers
+     * of a stream, which may be beneficial for large files, without allocating memory for the whole file.
+     */
+    FileInputStrategy CHANNEL = ByteBufferReader::forFile;
+
+    /**
+     * Opens a reader for the given file. The caller is responsible for closing the reader.
+     *
+     * @param path the file to read
+     * @param charset the charset of the file
+     * @return reader for the file's contents
+     * @throws IOException if the file cannot be read
+     */
+    @NotNull Reader openReader(@NotNull Path path, @NotNull Charset charset) throws IOException;
+
+}
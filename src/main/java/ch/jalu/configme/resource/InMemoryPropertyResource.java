@@ -0,0 +1,144 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.internal.PathUtils;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.properties.convertresult.UniqueCommentTracker;
+import ch.jalu.configme.properties.convertresult.ValueWithComments;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Property resource which keeps its data in memory, e.g. for tests or tools that do not need a file.
+ * The data is held as a document of nested maps, as it would be loaded from a YAML file; no text is parsed
+ * or rendered, and nothing is written to disk.
+ * <p>
+ * On export, the document is replaced with the export values of the configuration data. The comments that
+ * {@link YamlFileResource} would write are kept in a separate map by path: the comments of the configuration data
+ * and the comments of {@link ValueWithComments} export values (unique comments only at their first occurrence).
+ * Values in lists are addressed with their index as path element, e.g. {@code servers.0.name}.
+ * <p>
+ * Each export replaces the document and the comments as a whole, so readers that have been created before
+ * are not affected by later exports. Instances can be used by multiple threads.
+ */
+public class InMemoryPropertyResource implements PropertyResource {
+
+    private volatile @Nullable Map<String, Object> document;
+    private volatile @NotNull Map<String, List<String>> comments = Collections.emptyMap();
+
+    /**
+     * Constructor for a resource without any data.
+     */
+    public InMemoryPropertyResource() {
+    }
+
+    /**
+     * Constructor for a resource with the given initial data. The map is copied, so that later changes to it
+     * have no effect on the resource.
+     *
+     * @param document the document of nested maps to start with (null if there is no data)
+     */
+    @SuppressWarnings("unchecked")
+    public InMemoryPropertyResource(@Nullable Map<String, ?> document) {
+        this.document = (Map<String, Object>) new ExportDocumentBuilder().toDocumentValue(document);
+    }
+
+    @Override
+    public @NotNull PropertyReader createReader() {
+        return new MapPropertyReader(document);
+    }
+
+    @Override
+    public void exportProperties(@NotNull ConfigurationData configurationData) {
+        Map<String, Object> newDocument = new ExportDocumentBuilder().createDocument(configurationData);
+        this.comments = collectComments(configurationData);
+        this.document = newDocument;
+    }
+
+    /**
+     * Returns the document of the resource, as set by the constructor or the last export.
+     *
+     * @return the document (do not modify), or null if there is no data
+     */
+    public @Nullable Map<String, Object> getDocument() {
+        return document;
+    }
+
+    /**
+     * Returns the comments of the last export by path. The comments of the root are stored under the empty string.
+     * An entry {@code "\n"} stands for an empty line, as in {@link ConfigurationData#getCommentsForSection}.
+     *
+     * @return the comments by path (unmodifiable)
+     */
+    public @NotNull Map<String, List<String>> getComments() {
+        return comments;
+    }
+
+    /**
+     * Returns the comments of the last export for the given path.
+     *
+     * @param path the path to get the comments for
+     * @return the comments of the path (unmodifiable), empty list if there are none
+     */
+    public @NotNull List<String> getCommentsForPath(@NotNull String path) {
+        return comments.getOrDefault(path, Collections.emptyList());
+    }
+
+    /**
+     * Collects the comments of the configuration data and of its export values.
+     *
+     * @param configurationData the configuration data that is being exported
+     * @return unmodifiable map with the comments by path
+     */
+    protected @NotNull Map<String, List<String>> collectComments(@NotNull ConfigurationData configurationData) {
+        Map<String, List<String>> commentsByPath = new LinkedHashMap<>();
+        configurationData.getAllComments().forEach((path, pathComments) -> {
+            if (!pathComments.isEmpty()) {
+                commentsByPath.put(path, new ArrayList<>(pathComments));
+            }
+        });
+
+        UniqueCommentTracker usedUniqueComments = new UniqueCommentTracker();
+        for (Property<?> property : configurationData.getProperties()) {
+            collectValueComments(property.getPath(), configurationData.getExportValue(property),
+                commentsByPath, usedUniqueComments);
+        }
+
+        commentsByPath.replaceAll((path, pathComments) -> Collections.unmodifiableList(pathComments));
+        return Collections.unmodifiableMap(commentsByPath);
+    }
+
+    private static void collectValueComments(@NotNull String path, @Nullable Object value,
+                                             @NotNull Map<String, List<String>> commentsByPath,
+                                             @NotNull UniqueCommentTracker usedUniqueComments) {
+        if (value == null) {
+            return;
+        }
+        List<String> valueComments = ValueWithComments.streamThroughCommentsIfApplicable(value, usedUniqueComments)
+            .collect(Collectors.toList());
+        if (!valueComments.isEmpty()) {
+            commentsByPath.computeIfAbsent(path, p -> new ArrayList<>()).addAll(valueComments);
+        }
+
+        Object unwrappedValue = ValueWithComments.unwrapValue(value);
+        if (unwrappedValue instanceof Map<?, ?>) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) unwrappedValue).entrySet()) {
+                collectValueComments(PathUtils.concat(path, String.valueOf(entry.getKey())), entry.getValue(),
+                    commentsByPath, usedUniqueComments);
+            }
+        } else if (unwrappedValue instanceof Iterable<?>) {
+            int index = 0;
+            for (Object entry : (Iterable<?>) unwrappedValue) {
+                collectValueComments(PathUtils.concat(path, Integer.toString(index++)), entry,
+                    commentsByPath, usedUniqueComments);
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.resource.json.JsonParser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * JSON file reader. The file is parsed into the same structure as a YAML file would be (maps with String keys, lists,
+ * strings, numbers and booleans), so all property types can read from it in the same way.
+ */
+public class JsonFileReader extends MapPropertyReader {
+
+    private final Path path;
+
+    /**
+     * Constructor.
+     *
+     * @param path the file to load
+     */
+    public JsonFileReader(@NotNull Path path) {
+        this(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path the file to load
+     * @param charset the charset to read the data as
+     */
+    public JsonFileReader(@NotNull Path path, @NotNull Charset charset) {
+        super(loadFile(path, charset));
+        this.path = path;
+    }
+
+    /**
+     * @return the file this reader read from
+     */
+    protected final @NotNull Path getPath() {
+        return path;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @Nullable Map<String, Object> loadFile(@NotNull Path path, @NotNull Charset charset) {
+        String text;
+        try {
+            text = new String(Files.readAllBytes(path), charset);
+        } catch (IOException e) {
+            throw new ConfigMeException("Could not read file '" + path + "'", e);
+        }
+
+        Object root;
+        try {
+            root = new JsonParser(text).parse();
+        } catch (ConfigMeException e) {
+            throw new ConfigMeException("JSON error while trying to load file '" + path + "'", e);
+        }
+        if (root != null && !(root instanceof Map<?, ?>)) {
+            throw new ConfigMeException("Top-level is not a map in '" + path + "'");
+        }
+        return (Map<String, Object>) root;
+    }
+}
@@ -0,0 +1,77 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.resource.json.JsonWriter;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * JSON file property resource. Comments are not exported, since JSON does not support them.
+ */
+public class JsonFileResource implements PropertyResource {
+
+    private final Path path;
+    private final Charset charset;
+    private final int indentationSize;
+
+    /**
+     * Constructor (uses UTF-8 and an indentation of two spaces).
+     *
+     * @param path the JSON file to use
+     */
+    public JsonFileResource(@NotNull Path path) {
+        this(path, StandardCharsets.UTF_8, 2);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path the JSON file to use
+     * @param charset the charset of the file
+     * @param indentationSize the number of spaces to indent nested values with
+     */
+    public JsonFileResource(@NotNull Path path, @NotNull Charset charset, int indentationSize) {
+        this.path = path;
+        this.charset = charset;
+        this.indentationSize = indentationSize;
+    }
+
+    @Override
+    public @NotNull PropertyReader createReader() {
+        return new JsonFileReader(path, charset);
+    }
+
+    @Override
+    public void exportProperties(@NotNull ConfigurationData configurationData) {
+        Object document = new ExportDocumentBuilder().createDocument(configurationData);
+        try (Writer writer = Files.newBufferedWriter(path, charset)) {
+            new JsonWriter(writer, indentationSize).writeDocument(document);
+        } catch (IOException e) {
+            throw new ConfigMeException("Could not save config to '" + path + "'", e);
+        }
+    }
+
+    @Override
+    public long getSizeInBytes() {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    protected final @NotNull Path getPath() {
+        return path;
+    }
+
+    protected final @NotNull Charset getCharset() {
+        return charset;
+    }
+}
@@ -0,0 +1,318 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.properties.convertresult.PropertyValue;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Property resource which combines multiple resources ("layers"), e.g. defaults, a base configuration file,
+ * environment-specific overrides and node-specific overrides. Layers are given from lowest to highest precedence:
+ * a value in a layer overrides the values of all layers before it. Maps are merged recursively, so a layer only needs
+ * to define the entries it wants to change; all other values (including lists) are replaced as a whole.
+ * <p>
+ * The document of each layer and the merged result of all layers up to it are kept between calls to
+ * {@link #createReader()}. When a reader is created, only the layers that have changed are read again, and only
+ * the merged results from the lowest changed layer upwards are computed again. A layer is considered changed if
+ * {@link #invalidateLayer} has been called for it, or if it is a {@link YamlFileResource} whose file's modification
+ * time or size differs from when it was last read. Layers of any other type are read again every time.
+ * <p>
+ * Properties are exported to one of the layers, as defined in the constructor. Only the properties whose value
+ * differs from the merged result of the layers below the export layer are written, so that values which are only
+ * defined in a lower layer can still be changed there after a save.
+ */
+public class LayeredPropertyResource implements PropertyResource {
+
+    private final List<PropertyResource> layers;
+    private final int exportLayerIndex;
+
+    private final List<Object> layerFingerprints;
+    private final List<Map<String, Object>> layerDocuments;
+    private final List<Map<String, Object>> mergedDocuments;
+    private final boolean[] isLayerLoaded;
+    private @Nullable MapPropertyReader reader;
+
+    /**
+     * Constructor.
+     *
+     * @param layers the resources to combine, from lowest to highest precedence
+     * @param exportLayerIndex index of the layer to export the properties to
+     */
+    public LayeredPropertyResource(@NotNull List<? extends PropertyResource> layers, int exportLayerIndex) {
+        if (layers.isEmpty()) {
+            throw new ConfigMeException("At least one layer must be provided");
+        } else if (exportLayerIndex < 0 || exportLayerIndex >= layers.size()) {
+            throw new ConfigMeException("Invalid export layer index " + exportLayerIndex + " for "
+                + layers.size() + " layers");
+        }
+        this.layers = new ArrayList<>(layers);
+        this.exportLayerIndex = exportLayerIndex;
+        this.layerFingerprints = new ArrayList<>(Collections.nCopies(layers.size(), null));
+        this.layerDocuments = new ArrayList<>(Collections.nCopies(layers.size(), null));
+        this.mergedDocuments = new ArrayList<>(Collections.nCopies(layers.size(), null));
+        this.isLayerLoaded = new boolean[layers.size()];
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The kept documents are only updated once all changed layers have been read and merged successfully. If a layer
+     * cannot be read, all changed layers are read again on the next call.
+     */
+    @Override
+    public synchronized @NotNull PropertyReader createReader() {
+        List<Object> fingerprints = new ArrayList<>(layerFingerprints);
+        List<Map<String, Object>> documents = new ArrayList<>(layerDocuments);
+        int lowestChangedLayer = -1;
+        for (int i = 0; i < layers.size(); ++i) {
+            Object fingerprint = getFingerprint(layers.get(i));
+            if (!isLayerLoaded[i] || fingerprint == null || !fingerprint.equals(layerFingerprints.get(i))) {
+                documents.set(i, loadLayer(layers.get(i)));
+                fingerprints.set(i, fingerprint);
+                if (lowestChangedLayer < 0) {
+                    lowestChangedLayer = i;
+                }
+            }
+        }
+
+        if (lowestChangedLayer >= 0 || reader == null) {
+            List<Map<String, Object>> merged = new ArrayList<>(mergedDocuments);
+            for (int i = Math.max(lowestChangedLayer, 0); i < layers.size(); ++i) {
+                Map<String, Object> lower = i == 0 ? null : merged.get(i - 1);
+                merged.set(i, mergeDocuments(lower, documents.get(i)));
+            }
+            MapPropertyReader newReader = new MapPropertyReader(merged.get(layers.size() - 1));
+
+            // Only keep the new state now that all layers were read and merged successfully
+            for (int i = Math.max(lowestChangedLayer, 0); i < layers.size(); ++i) {
+                layerFingerprints.set(i, fingerprints.get(i));
+                layerDocuments.set(i, documents.get(i));
+                mergedDocuments.set(i, merged.get(i));
+                isLayerLoaded[i] = true;
+            }
+            reader = newReader;
+        }
+        return reader;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the properties whose value differs from the value that the layers below the export layer define for it
+     * are exported. The layers are read as described in {@link #createReader()} to determine the values.
+     */
+    @Override
+    public synchronized void exportProperties(@NotNull ConfigurationData configurationData) {
+        createReader();
+        PropertyReader lowerLayersReader = exportLayerIndex == 0
+            ? null
+            : new MapPropertyReader(mergedDocuments.get(exportLayerIndex - 1));
+
+        List<Property<?>> propertiesToExport = new ArrayList<>();
+        for (Property<?> property : configurationData.getProperties()) {
+            if (lowerLayersReader == null || !hasSameValue(property, configurationData, lowerLayersReader)) {
+                propertiesToExport.add(property);
+            }
+        }
+
+        layers.get(exportLayerIndex).exportProperties(
+            new ExportLayerConfigurationData(configurationData, propertiesToExport));
+        invalidateLayer(exportLayerIndex);
+    }
+
+    /**
+     * Returns the sum of the size of all layers, or -1 if the size of any layer is unknown.
+     *
+     * @return size of all layers in bytes, or -1 if unknown
+     */
+    @Override
+    public long getSizeInBytes() {
+        long size = 0;
+        for (PropertyResource layer : layers) {
+            long layerSize = layer.getSizeInBytes();
+            if (layerSize < 0) {
+                return -1;
+            }
+            size += layerSize;
+        }
+        return size;
+    }
+
+    /**
+     * Marks the layer at the given index as changed, so that it is read again the next time a reader is created.
+     *
+     * @param index the index of the layer
+     */
+    public synchronized void invalidateLayer(int index) {
+        isLayerLoaded[index] = false;
+    }
+
+    /**
+     * @return the layers of this resource, from lowest to highest precedence
+     */
+    public @NotNull List<PropertyResource> getLayers() {
+        return Collections.unmodifiableList(layers);
+    }
+
+    /**
+     * Reads the document of the given layer.
+     *
+     * @param layer the layer to read
+     * @return the layer's document, or null if it has no data
+     */
+    @SuppressWarnings("unchecked")
+    protected @Nullable Map<String, Object> loadLayer(@NotNull PropertyResource layer) {
+        PropertyReader layerReader = layer.createReader();
+        Object root = layerReader.getValue("");
+        if (root instanceof Map<?, ?>) {
+            return (Map<String, Object>) root;
+        } else if (layerReader instanceof PathProvider) {
+            Map<String, Object> document = new LinkedHashMap<>();
+            for (String path : ((PathProvider) layerReader).getChildPaths("")) {
+                document.put(path, layerReader.getValue(path));
+            }
+            return document.isEmpty() ? null : document;
+        }
+        return null;
+    }
+
+    /**
+     * Returns a value that changes when the contents of the given layer change, or null if not known. A layer is only
+     * read again if its fingerprint has changed, or if its fingerprint is null.
+     *
+     * @param layer the layer to get the fingerprint for
+     * @return the fingerprint of the layer, or null if unknown
+     */
+    protected @Nullable Object getFingerprint(@NotNull PropertyResource layer) {
+        if (layer instanceof YamlFileResource) {
+            Path path = ((YamlFileResource) layer).getPath();
+            try {
+                return Arrays.asList(Files.getLastModifiedTime(path), Files.size(path));
+            } catch (IOException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Merges the document of a layer onto the merged document of the layers below it. Neither argument is modified;
+     * unchanged maps are shared between the arguments and the result.
+     *
+     * @param lower the merged document of the lower layers (or null)
+     * @param upper the document of the layer to merge onto it (or null)
+     * @return the merged document
+     */
+    protected @Nullable Map<String, Object> mergeDocuments(@Nullable Map<String, Object> lower,
+                                                           @Nullable Map<String, Object> upper) {
+        if (lower == null) {
+            return upper;
+        } else if (upper == null) {
+            return lower;
+        }
+        return mergeMaps(lower, upper);
+    }
+
+    /**
+     * Returns whether the given property has the same value in the configuration data as in the given reader.
+     *
+     * @param property the property to check
+     * @param configurationData the configuration data to export
+     * @param reader reader of the layers below the export layer
+     * @param <T> the property's type
+     * @return true if the reader has a valid value for the property that is equal to the configuration data's
+     */
+    private static <T> boolean hasSameValue(@NotNull Property<T> property,
+                                            @NotNull ConfigurationData configurationData,
+                                            @NotNull PropertyReader reader) {
+        PropertyValue<T> lowerValue = property.determineValue(reader);
+        return lowerValue.isValidInResource()
+            && Objects.equals(lowerValue.getValue(), configurationData.getValue(property));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @NotNull Map<String, Object> mergeMaps(@NotNull Map<String, Object> lower,
+                                                          @NotNull Map<String, Object> upper) {
+        Map<String, Object> merged = new LinkedHashMap<>(lower);
+        for (Map.Entry<String, Object> entry : upper.entrySet()) {
+            Object lowerValue = merged.get(entry.getKey());
+            Object upperValue = entry.getValue();
+            if (lowerValue instanceof Map<?, ?> && upperValue instanceof Map<?, ?>) {
+                merged.put(entry.getKey(),
+                    mergeMaps((Map<String, Object>) lowerValue, (Map<String, Object>) upperValue));
+            } else if (upperValue != null || !merged.containsKey(entry.getKey())) {
+                merged.put(entry.getKey(), upperValue);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Configuration data with a subset of the properties of another configuration data instance, used to export
+     * only the properties that are defined by the export layer. All other calls are delegated to the original.
+     */
+    private static final class ExportLayerConfigurationData implements ConfigurationData {
+
+        private final ConfigurationData configurationData;
+        private final List<Property<?>> properties;
+
+        ExportLayerConfigurationData(@NotNull ConfigurationData configurationData,
+                                     @NotNull List<Property<?>> properties) {
+            this.configurationData = configurationData;
+            this.properties = Collections.unmodifiableList(properties);
+        }
+
+        @Override
+        public @NotNull List<Property<?>> getProperties() {
+            return properties;
+        }
+
+        @Override
+        public @NotNull List<String> getCommentsForSection(@NotNull String path) {
+            return configurationData.getCommentsForSection(path);
+        }
+
+        @Override
+        public @NotNull Map<String, List<String>> getAllComments() {
+            return configurationData.getAllComments();
+        }
+
+        @Override
+        public void initializeValues(@NotNull PropertyReader propertyReader) {
+            configurationData.initializeValues(propertyReader);
+        }
+
+        @Override
+        public <T> @NotNull T getValue(@NotNull Property<T> property) {
+            return configurationData.getValue(property);
+        }
+
+        @Override
+        public <T> @Nullable Object getExportValue(@NotNull Property<T> property) {
+            return configurationData.getExportValue(property);
+        }
+
+        @Override
+        public <T> void setValue(@NotNull Property<T> property, @NotNull T value) {
+            configurationData.setValue(property, value);
+        }
+
+        @Override
+        public boolean areAllValuesValidInResource() {
+            return configurationData.areAllValuesValidInResource();
+        }
+    }
+}
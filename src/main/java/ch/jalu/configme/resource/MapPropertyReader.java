@@ -0,0 +1,108 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.internal.PathUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Property reader for a document of nested maps with String keys, such as the merged document of a
+ * {@link LayeredPropertyResource}. All paths that can be looked up are indexed when the reader is created,
+ * so that {@link #getValue} does not need to traverse the document.
+ * <p>
+ * Paths are resolved like in {@link YamlFileReader}: a key with a period can only be reached by its parent's map.
+ */
+public class MapPropertyReader implements PropertyReader, PathProvider {
+
+    private final @Nullable Map<String, Object> root;
+    private final @NotNull Map<String, Object> valuesByPath;
+
+    /**
+     * Constructor.
+     *
+     * @param root the document (null if there is no data)
+     */
+    public MapPropertyReader(@Nullable Map<String, Object> root) {
+        this.root = root;
+        this.valuesByPath = new HashMap<>();
+        if (root != null) {
+            indexValues("", root);
+        }
+    }
+
+    @Override
+    public @Nullable Object getValue(@NotNull String path) {
+        return path.isEmpty() ? root : valuesByPath.get(path);
+    }
+
+    @Override
+    public boolean contains(@NotNull String path) {
+        return getValue(path) != null;
+    }
+
+    @Override
+    public @NotNull Set<String> getPaths() {
+        return collectPaths(false);
+    }
+
+    @Override
+    public @NotNull Set<String> getLeafPaths() {
+        return collectPaths(true);
+    }
+
+    @Override
+    public @NotNull Set<String> getChildPaths(@NotNull String path) {
+        Object value = getValue(path);
+        if (value instanceof Map<?, ?>) {
+            Set<String> childPaths = new LinkedHashSet<>();
+            for (Object key : ((Map<?, ?>) value).keySet()) {
+                childPaths.add(PathUtils.concat(path, (String) key));
+            }
+            return childPaths;
+        }
+        return Collections.emptySet();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void indexValues(@NotNull String path, @NotNull Map<String, Object> map) {
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            if (entry.getKey().indexOf('.') >= 0) {
+                continue;
+            }
+            String childPath = PathUtils.concat(path, entry.getKey());
+            valuesByPath.put(childPath, entry.getValue());
+            if (entry.getValue() instanceof Map<?, ?>) {
+                indexValues(childPath, (Map<String, Object>) entry.getValue());
+            }
+        }
+    }
+
+    private @NotNull Set<String> collectPaths(boolean onlyLeafNodes) {
+        if (root == null) {
+            return Collections.emptySet();
+        }
+        Set<String> paths = new LinkedHashSet<>();
+        collectPathsIntoSet("", root, paths, onlyLeafNodes);
+        return paths;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void collectPathsIntoSet(@NotNull String path, @NotNull Map<String, Object> map,
+                                            @NotNull Set<String> result, boolean onlyLeafNodes) {
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            String childPath = PathUtils.concat(path, entry.getKey());
+            boolean isMap = entry.getValue() instanceof Map<?, ?>;
+            if (!onlyLeafNodes || !isMap || ((Map<?, ?>) entry.getValue()).isEmpty()) {
+                result.add(childPath);
+            }
+            if (isMap) {
+                collectPathsIntoSet(childPath, (Map<String, Object>) entry.getValue(), result, onlyLeafNodes);
+            }
+        }
+    }
+}
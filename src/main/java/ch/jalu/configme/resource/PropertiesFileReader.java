@@ -0,0 +1,306 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.internal.StringDeduplicator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reader for files in the format of {@link java.util.Properties} ("key=value" lines). Keys are split by periods into
+ * nested maps, and maps whose keys are exactly {@code 0, 1, 2, ...} are converted to lists, so that the file has the
+ * same structure as if it were a YAML file. All values are Strings; property types convert them as needed.
+ * <p>
+ * The value {@value #EMPTY_LIST_MARKER} defines an empty list, and {@value #MAP_MARKER} defines a map. Entries under
+ * the path of a map marker are kept as a map even if their keys are indices. To have these markers as String values,
+ * the first character must be escaped (e.g. <code>\[]</code>).
+ * <p>
+ * The file is parsed in a single pass. Unlike {@link java.util.Properties}, the order of the entries is kept.
+ */
+public class PropertiesFileReader extends MapPropertyReader {
+
+    /** Value that defines an empty list. */
+    public static final String EMPTY_LIST_MARKER = "[]";
+    /** Value that defines a map, which is kept as a map even if its keys are indices. */
+    public static final String MAP_MARKER = "{}";
+
+    private final Path path;
+
+    /**
+     * Constructor.
+     *
+     * @param path the file to load
+     */
+    public PropertiesFileReader(@NotNull Path path) {
+        this(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path the file to load
+     * @param charset the charset to read the data as
+     */
+    public PropertiesFileReader(@NotNull Path path, @NotNull Charset charset) {
+        super(loadFile(path, charset));
+        this.path = path;
+    }
+
+    /**
+     * Parses the given text in the properties format.
+     *
+     * @param text the text to parse
+     * @return the entries as nested maps, or null if the text has no entries
+     */
+    public static @Nullable Map<String, Object> parse(@NotNull String text) {
+        Map<String, Object> root = new LinkedHashMap<>();
+        Set<Map<String, Object>> declaredMaps = Collections.newSetFromMap(new IdentityHashMap<>());
+        StringDeduplicator stringDeduplicator = new StringDeduplicator();
+        StringBuilder builder = new StringBuilder();
+
+        int position = 0;
+        while (position < text.length()) {
+            // Skip leading whitespace, blank lines and comments
+            char c = text.charAt(position);
+            if (c == ' ' || c == '\t' || c == '\f' || c == '\n' || c == '\r') {
+                ++position;
+                continue;
+            } else if (c == '#' || c == '!') {
+                position = skipToNextLine(text, position);
+                continue;
+            }
+
+            builder.setLength(0);
+            position = readElement(text, position, builder, true);
+            String key = builder.toString();
+            position = skipSeparator(text, position);
+
+            if (isMarker(text, position, EMPTY_LIST_MARKER)) {
+                Map<String, Object> parent = getParentMap(root, key, stringDeduplicator);
+                parent.putIfAbsent(getLastKey(key, stringDeduplicator), new ArrayList<>());
+                position += EMPTY_LIST_MARKER.length();
+            } else if (isMarker(text, position, MAP_MARKER)) {
+                declaredMaps.add(getOrCreateMap(root, key, stringDeduplicator));
+                position += MAP_MARKER.length();
+            } else {
+                builder.setLength(0);
+                position = readElement(text, position, builder, false);
+                getParentMap(root, key, stringDeduplicator)
+                    .put(getLastKey(key, stringDeduplicator), stringDeduplicator.deduplicate(builder.toString()));
+            }
+        }
+        return root.isEmpty() ? null : convertIndexedMapsToLists(root, declaredMaps);
+    }
+
+    /**
+     * @return the file this reader read from
+     */
+    protected final @NotNull Path getPath() {
+        return path;
+    }
+
+    private static @Nullable Map<String, Object> loadFile(@NotNull Path path, @NotNull Charset charset) {
+        try {
+            return parse(new String(Files.readAllBytes(path), charset));
+        } catch (IOException e) {
+            throw new ConfigMeException("Could not read file '" + path + "'", e);
+        }
+    }
+
+    /**
+     * Reads a key (until an unescaped separator) or a value (until the end of the logical line), resolving escape
+     * sequences and line continuations.
+     *
+     * @return position after the element
+     */
+    private static int readElement(@NotNull String text, int position, @NotNull StringBuilder builder,
+                                   boolean isKey) {
+        int pos = position;
+        while (pos < text.length()) {
+            char c = text.charAt(pos);
+            if (c == '\n' || c == '\r') {
+                return pos;
+            } else if (isKey && (c == '=' || c == ':' || c == ' ' || c == '\t' || c == '\f')) {
+                return pos;
+            } else if (c == '\\') {
+                ++pos;
+                if (pos == text.length()) {
+                    return pos;
+                }
+                char escaped = text.charAt(pos);
+                if (escaped == '\n' || escaped == '\r') {
+                    // Line continuation: skip the line break and leading whitespace of the next line
+                    pos = skipLineBreak(text, pos);
+                    while (pos < text.length() && isWhitespace(text.charAt(pos))) {
+                        ++pos;
+                    }
+                    continue;
+                } else if (escaped == 'u') {
+                    builder.append(parseUnicodeEscape(text, pos));
+                    pos += 5;
+                    continue;
+                }
+                builder.append(unescape(escaped));
+                ++pos;
+            } else {
+                builder.append(c);
+                ++pos;
+            }
+        }
+        return pos;
+    }
+
+    private static char parseUnicodeEscape(@NotNull String text, int position) {
+        if (position + 4 < text.length()) {
+            try {
+                return (char) Integer.parseInt(text.substring(position + 1, position + 5), 16);
+            } catch (NumberFormatException ignore) {
+                // Handled below
+            }
+        }
+        throw new ConfigMeException("Invalid unicode escape in properties text at index " + (position - 1));
+    }
+
+    private static int skipSeparator(@NotNull String text, int position) {
+        int pos = position;
+        while (pos < text.length() && isWhitespace(text.charAt(pos))) {
+            ++pos;
+        }
+        if (pos < text.length() && (text.charAt(pos) == '=' || text.charAt(pos) == ':')) {
+            ++pos;
+            while (pos < text.length() && isWhitespace(text.charAt(pos))) {
+                ++pos;
+            }
+        }
+        return pos;
+    }
+
+    private static int skipToNextLine(@NotNull String text, int position) {
+        int pos = position;
+        while (pos < text.length() && text.charAt(pos) != '\n' && text.charAt(pos) != '\r') {
+            ++pos;
+        }
+        return pos;
+    }
+
+    private static int skipLineBreak(@NotNull String text, int position) {
+        if (text.charAt(position) == '\r' && position + 1 < text.length() && text.charAt(position + 1) == '\n') {
+            return position + 2;
+        }
+        return position + 1;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\f';
+    }
+
+    private static char unescape(char c) {
+        switch (c) {
+            case 't':
+                return '\t';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 'f':
+                return '\f';
+            default:
+                return c;
+        }
+    }
+
+    /**
+     * Returns whether the value at the given position is exactly the given marker, i.e. the marker is followed by
+     * the end of the line.
+     */
+    private static boolean isMarker(@NotNull String text, int position, @NotNull String marker) {
+        int end = position + marker.length();
+        return text.startsWith(marker, position)
+            && (end == text.length() || text.charAt(end) == '\n' || text.charAt(end) == '\r');
+    }
+
+    /**
+     * Returns the map the value of the given key should be put into, creating intermediate maps as needed.
+     */
+    @SuppressWarnings("unchecked")
+    private static @NotNull Map<String, Object> getParentMap(@NotNull Map<String, Object> root, @NotNull String key,
+                                                             @NotNull StringDeduplicator stringDeduplicator) {
+        Map<String, Object> parent = root;
+        int start = 0;
+        int period;
+        while ((period = key.indexOf('.', start)) >= 0) {
+            String segment = stringDeduplicator.deduplicate(key.substring(start, period));
+            Object child = parent.get(segment);
+            if (!(child instanceof Map<?, ?>)) {
+                child = new LinkedHashMap<>();
+                parent.put(segment, child);
+            }
+            parent = (Map<String, Object>) child;
+            start = period + 1;
+        }
+        return parent;
+    }
+
+    private static @NotNull String getLastKey(@NotNull String key, @NotNull StringDeduplicator stringDeduplicator) {
+        return stringDeduplicator.deduplicate(key.substring(key.lastIndexOf('.') + 1));
+    }
+
+    /**
+     * Returns the map at the given key, creating it if there is no map yet.
+     */
+    @SuppressWarnings("unchecked")
+    private static @NotNull Map<String, Object> getOrCreateMap(@NotNull Map<String, Object> root, @NotNull String key,
+                                                               @NotNull StringDeduplicator stringDeduplicator) {
+        Map<String, Object> parent = getParentMap(root, key, stringDeduplicator);
+        String lastKey = getLastKey(key, stringDeduplicator);
+        Object value = parent.get(lastKey);
+        if (value instanceof Map<?, ?>) {
+            return (Map<String, Object>) value;
+        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        parent.put(lastKey, map);
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @NotNull Map<String, Object> convertIndexedMapsToLists(
+                                                               @NotNull Map<String, Object> map,
+                                                               @NotNull Set<Map<String, Object>> declaredMaps) {
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            if (entry.getValue() instanceof Map<?, ?>) {
+                Map<String, Object> childMap = (Map<String, Object>) entry.getValue();
+                boolean isDeclaredMap = declaredMaps.contains(childMap);
+                convertIndexedMapsToLists(childMap, declaredMaps);
+                if (!isDeclaredMap && isIndexedMap(childMap)) {
+                    entry.setValue(new ArrayList<>(childMap.values()));
+                }
+            }
+        }
+        return map;
+    }
+
+    private static boolean isIndexedMap(@NotNull Map<String, Object> map) {
+        if (map.isEmpty()) {
+            return false;
+        }
+        int index = 0;
+        for (String key : map.keySet()) {
+            if (!key.equals(Integer.toString(index))) {
+                return false;
+            }
+            ++index;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,234 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.internal.PathUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Property resource for files in the format of {@link java.util.Properties}. See {@link PropertiesFileReader} for
+ * how the entries are mapped. Values are exported as "path=value" lines, in the order of the properties; lists are
+ * exported with the index as last path element (e.g. {@code names.0=Alice}). Empty lists are exported with the value
+ * {@value PropertiesFileReader#EMPTY_LIST_MARKER}. Empty maps, as well as maps whose keys would be read as list
+ * indices, are preceded by an entry with the value {@value PropertiesFileReader#MAP_MARKER}, so that they are read
+ * as maps again.
+ * <p>
+ * The comments of the configuration data are exported as "#" lines before the first entry of the path they belong to.
+ */
+public class PropertiesFileResource implements PropertyResource {
+
+    private final Path path;
+    private final Charset charset;
+
+    /**
+     * Constructor (uses UTF-8).
+     *
+     * @param path the properties file to use
+     */
+    public PropertiesFileResource(@NotNull Path path) {
+        this(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path the properties file to use
+     * @param charset the charset of the file
+     */
+    public PropertiesFileResource(@NotNull Path path, @NotNull Charset charset) {
+        this.path = path;
+        this.charset = charset;
+    }
+
+    @Override
+    public @NotNull PropertyReader createReader() {
+        return new PropertiesFileReader(path, charset);
+    }
+
+    @Override
+    public void exportProperties(@NotNull ConfigurationData configurationData) {
+        Map<String, Object> document = new ExportDocumentBuilder().createDocument(configurationData);
+        try (Writer writer = Files.newBufferedWriter(path, charset)) {
+            new EntryWriter(writer, configurationData, charset.newEncoder()).writeDocument(document);
+        } catch (IOException e) {
+            throw new ConfigMeException("Could not save config to '" + path + "'", e);
+        }
+    }
+
+    @Override
+    public long getSizeInBytes() {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    protected final @NotNull Path getPath() {
+        return path;
+    }
+
+    protected final @NotNull Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Writes the entries of a document with the comments of the configuration data.
+     */
+    private static final class EntryWriter {
+
+        private final Writer writer;
+        private final ConfigurationData configurationData;
+        private final CharsetEncoder encoder;
+        private final Set<String> pathsWithWrittenComments = new HashSet<>();
+        private final StringBuilder builder = new StringBuilder();
+
+        EntryWriter(@NotNull Writer writer, @NotNull ConfigurationData configurationData,
+                    @NotNull CharsetEncoder encoder) {
+            this.writer = writer;
+            this.configurationData = configurationData;
+            this.encoder = encoder;
+        }
+
+        void writeDocument(@NotNull Map<String, Object> document) throws IOException {
+            writeComments("");
+            writeMap("", document);
+        }
+
+        private void writeMap(@NotNull String path, @NotNull Map<String, Object> map) throws IOException {
+            for (Map.Entry<String, Object> entry : map.entrySet()) {
+                writeValue(PathUtils.concat(path, entry.getKey()), entry.getValue());
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void writeValue(@NotNull String path, Object value) throws IOException {
+            if (value instanceof Map<?, ?>) {
+                writeCommentsOnce(path);
+                Map<String, Object> map = (Map<String, Object>) value;
+                if (map.isEmpty() || hasIndexKeys(map)) {
+                    writeEntry(path, PropertiesFileReader.MAP_MARKER);
+                }
+                writeMap(path, map);
+            } else if (value instanceof List<?>) {
+                writeCommentsOnce(path);
+                List<?> list = (List<?>) value;
+                if (list.isEmpty()) {
+                    writeEntry(path, PropertiesFileReader.EMPTY_LIST_MARKER);
+                }
+                for (int i = 0; i < list.size(); ++i) {
+                    writeValue(path + "." + i, list.get(i));
+                }
+            } else if (value != null) {
+                writeCommentsOnce(path);
+                writeEscaped(path, true);
+                writer.write('=');
+                String text = value.toString();
+                if (isMarker(text)) {
+                    writer.write('\\'); // Escape so that the value is not read as marker
+                }
+                writeEscaped(text, false);
+                writer.write('\n');
+            }
+        }
+
+        private void writeEntry(@NotNull String path, @NotNull String rawValue) throws IOException {
+            writeEscaped(path, true);
+            writer.write('=');
+            writer.write(rawValue);
+            writer.write('\n');
+        }
+
+        private static boolean isMarker(@NotNull String text) {
+            return PropertiesFileReader.EMPTY_LIST_MARKER.equals(text) || PropertiesFileReader.MAP_MARKER.equals(text);
+        }
+
+        /**
+         * Returns whether the keys of the map are {@code 0, 1, 2, ...}, which the reader would convert to a list.
+         */
+        private static boolean hasIndexKeys(@NotNull Map<String, Object> map) {
+            int index = 0;
+            for (String key : map.keySet()) {
+                if (!key.equals(Integer.toString(index))) {
+                    return false;
+                }
+                ++index;
+            }
+            return true;
+        }
+
+        private void writeCommentsOnce(@NotNull String path) throws IOException {
+            if (pathsWithWrittenComments.add(path)) {
+                writeComments(path);
+            }
+        }
+
+        private void writeComments(@NotNull String path) throws IOException {
+            for (String comment : configurationData.getCommentsForSection(path)) {
+                if ("\n".equals(comment)) {
+                    writer.write('\n');
+                    continue;
+                }
+                for (String line : comment.split("\n", -1)) {
+                    writer.write(line.isEmpty() ? "#" : "# " + line);
+                    writer.write('\n');
+                }
+            }
+        }
+
+        private void writeEscaped(@NotNull String text, boolean isKey) throws IOException {
+            builder.setLength(0);
+            for (int i = 0; i < text.length(); ++i) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '\\':
+                        builder.append("\\\\");
+                        break;
+                    case '\n':
+                        builder.append("\\n");
+                        break;
+                    case '\r':
+                        builder.append("\\r");
+                        break;
+                    case '\t':
+                        builder.append("\\t");
+                        break;
+                    case '\f':
+                        builder.append("\\f");
+                        break;
+                    case ' ':
+                        builder.append(isKey || i == 0 ? "\\ " : " ");
+                        break;
+                    case '=':
+                    case ':':
+                    case '#':
+                    case '!':
+                        if (isKey || i == 0) {
+                            builder.append('\\');
+                        }
+                        builder.append(c);
+                        break;
+                    default:
+                        if (c < 0x20 || !encoder.canEncode(c)) {
+                            builder.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            builder.append(c);
+                        }
+                }
+            }
+            writer.append(builder);
+        }
+    }
+}
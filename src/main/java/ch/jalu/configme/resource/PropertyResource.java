@@ -25,4 +25,13 @@ public interface PropertyResource {
      */
     void exportProperties(@NotNull ConfigurationData configurationData);
 
+    /**
+     * Returns the current size of the medium in bytes, if known. Only used for instrumentation purposes.
+     *
+     * @return size of the medium in bytes, or -1 if unknown
+     */
+    default long getSizeInBytes() {
+        return -1;
+    }
+
 }
@@ -2,17 +2,17 @@ package ch.jalu.configme.resource;
 
 import ch.jalu.configme.exception.ConfigMeException;
 import ch.jalu.configme.internal.PathUtils;
+import ch.jalu.configme.resource.yaml.SnakeYamlNormalizingConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.Yaml;
 import org.yaml.snakeyaml.error.YAMLException;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.LinkedHashSet;
@@ -27,6 +27,7 @@ public class YamlFileReader implements PropertyReader, PathProvider {
 
     private final Path path;
     private final Charset charset;
+    private final FileInputStrategy inputStrategy;
     @Nullable
     private final Map<String, Object> root;
 
@@ -46,8 +47,20 @@ public class YamlFileReader implements PropertyReader, PathProvider {
      * @param charset the charset to read the data as
      */
     public YamlFileReader(@NotNull Path path, @NotNull Charset charset) {
+        this(path, charset, FileInputStrategy.STREAM);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path the file to load
+     * @param charset the charset to read the data as
+     * @param inputStrategy defines how the file is opened for reading
+     */
+    public YamlFileReader(@NotNull Path path, @NotNull Charset charset, @NotNull FileInputStrategy inputStrategy) {
         this.path = path;
         this.charset = charset;
+        this.inputStrategy = inputStrategy;
         this.root = loadFile();
     }
 
@@ -136,9 +149,8 @@ public class YamlFileReader implements PropertyReader, PathProvider {
      * @return map with the values from the file
      */
     protected @Nullable Map<String, Object> loadFile() {
-        try (InputStream is = Files.newInputStream(path);
-             InputStreamReader isr = new InputStreamReader(is, charset)) {
-            Map<Object, Object> rootMap = new Yaml().load(isr);
+        try (Reader reader = inputStrategy.openReader(path, charset)) {
+            Map<Object, Object> rootMap = createSnakeYamlInstance().load(reader);
             return normalizeMap(rootMap);
         } catch (IOException e) {
             throw new ConfigMeException("Could not read file '" + path + "'", e);
@@ -150,13 +162,27 @@ public class YamlFileReader implements PropertyReader, PathProvider {
     }
 
     /**
-     * Processes the map as read from SnakeYAML and may return a new, adjusted one.
+     * Creates the SnakeYAML instance with which the file is loaded. The default instance uses
+     * {@link SnakeYamlNormalizingConstructor}, which guarantees that all maps only have String keys.
+     *
+     * @return the YAML instance for loading the file
+     */
+    protected @NotNull Yaml createSnakeYamlInstance() {
+        return new Yaml(new SnakeYamlNormalizingConstructor(new LoaderOptions()));
+    }
+
+    /**
+     * Processes the map as read from SnakeYAML and may return a new, adjusted one. The keys of the map are already
+     * normalized by {@link SnakeYamlNormalizingConstructor} during construction, so the default implementation
+     * returns the map as is. Override this method to adjust the map further; if {@link #createSnakeYamlInstance()}
+     * is overridden with an instance that does not normalize the keys, use {@link MapNormalizer} here.
      *
      * @param map the map to normalize
      * @return the normalized map (or same map if no changes are needed)
      */
+    @SuppressWarnings({"unchecked", "rawtypes"})
     protected @Nullable Map<String, Object> normalizeMap(@Nullable Map<Object, Object> map) {
-        return new MapNormalizer().normalizeMap(map);
+        return (Map) map;
     }
 
     /**
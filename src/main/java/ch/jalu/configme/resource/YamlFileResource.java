@@ -5,7 +5,10 @@ import ch.jalu.configme.configurationdata.ConfigurationData;
 import ch.jalu.configme.exception.ConfigMeException;
 import ch.jalu.configme.internal.StreamUtils;
 import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.properties.convertresult.UniqueCommentTracker;
 import ch.jalu.configme.resource.PropertyPathTraverser.PathElement;
+import ch.jalu.configme.resource.yaml.SnakeYamlCommentLineCache;
+import ch.jalu.configme.resource.yaml.SnakeYamlExportSegment;
 import ch.jalu.configme.resource.yaml.SnakeYamlNodeBuilder;
 import ch.jalu.configme.resource.yaml.SnakeYamlNodeBuilderImpl;
 import ch.jalu.configme.resource.yaml.SnakeYamlNodeContainer;
@@ -18,15 +21,24 @@ import org.yaml.snakeyaml.Yaml;
 import org.yaml.snakeyaml.comments.CommentLine;
 import org.yaml.snakeyaml.nodes.Node;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static ch.jalu.configme.internal.ConversionUtils.calculateHashCapacity;
+
 /**
  * Property resource based on a YAML file.
  */
@@ -34,6 +46,8 @@ public class YamlFileResource implements PropertyResource {
 
     private final Path path;
     private final @NotNull YamlFileResourceOptions options;
+    private volatile @Nullable SnakeYamlCommentLineCache commentLineCache;
+    private volatile @Nullable ExportSegments exportSegments;
 
     public YamlFileResource(@NotNull Path path) {
         this(path, YamlFileResourceOptions.builder().build());
@@ -46,18 +60,26 @@ public class YamlFileResource implements PropertyResource {
 
     @Override
     public @NotNull PropertyReader createReader() {
-        return new YamlFileReader(path, options.getCharset());
+        if (options.isCompactReader()) {
+            return new CompactYamlFileReader(path, options.getCharset(), options.getInputStrategy());
+        }
+        return new YamlFileReader(path, options.getCharset(), options.getInputStrategy());
     }
 
     @Override
     public void exportProperties(@NotNull ConfigurationData configurationData) {
+        if (options.isIncrementalExport() && exportPropertiesIncrementally(configurationData)) {
+            return;
+        }
+        exportSegments = null;
+
         SnakeYamlNodeContainer root = createNodeContainerForRoot(configurationData.getCommentsForSection(""));
         PropertyPathTraverser pathTraverser = new PropertyPathTraverser();
-        SnakeYamlNodeBuilder nodeBuilder = createNodeBuilder();
+        SnakeYamlNodeBuilder nodeBuilder = createNodeBuilder(configurationData);
 
         List<Property<?>> properties = configurationData.getProperties();
         for (Property<?> property : properties) {
-            Object exportValue = getExportValue(property, configurationData);
+            Object exportValue = configurationData.getExportValue(property);
             if (exportValue != null) {
                 String path = property.getPath();
                 List<PathElement> pathElements = pathTraverser.getPathElements(path);
@@ -72,13 +94,7 @@ public class YamlFileResource implements PropertyResource {
             rootNode = root.convertToNode(nodeBuilder);
         }
 
-        List<String> footerStrings = configurationData.getCommentsForSection(CommentsConfiguration.FOOTER_KEY);
-
-        List<CommentLine> footerCommentLines = footerStrings.stream()
-            .flatMap(nodeBuilder::createCommentLines)
-            .collect(Collectors.toList());
-
-        rootNode.setEndComments(footerCommentLines);
+        rootNode.setEndComments(createFooterCommentLines(configurationData, nodeBuilder));
 
         try (OutputStream os = Files.newOutputStream(path);
              OutputStreamWriter writer = new OutputStreamWriter(os, options.getCharset())) {
@@ -88,6 +104,70 @@ public class YamlFileResource implements PropertyResource {
         }
     }
 
+    /**
+     * Exports the configuration data section by section, where a section is all properties under the same top-level
+     * key. The text of a section is taken from the previous export if the section's export values have not changed
+     * since then, so that only changed sections have to be rendered. Only the last export is kept, and only if it
+     * was done with the same configuration data instance.
+     *
+     * @param configurationData the configuration data to export
+     * @return true if the properties were exported, false if they cannot be exported by section (in which case
+     *         nothing was written)
+     */
+    protected boolean exportPropertiesIncrementally(@NotNull ConfigurationData configurationData) {
+        if (StandardCharsets.UTF_16.equals(options.getCharset())) {
+            return false; // Each section would start with a byte order mark
+        }
+        Map<String, SectionExport> sections = collectSectionsForExport(configurationData);
+        if (sections == null || sections.isEmpty()
+            || !(createNodeBuilder(configurationData) instanceof SnakeYamlNodeBuilderImpl)) {
+            return false;
+        }
+
+        ExportSegments previousExport = exportSegments;
+        Map<String, SnakeYamlExportSegment> previousSegments =
+            previousExport != null && previousExport.configurationData == configurationData
+                ? previousExport.segments
+                : Collections.emptyMap();
+
+        Map<String, SnakeYamlExportSegment> segments = new LinkedHashMap<>(calculateHashCapacity(sections.size()));
+        UniqueCommentTracker usedUniqueComments = new UniqueCommentTracker();
+        int index = 0;
+        for (Map.Entry<String, SectionExport> sectionEntry : sections.entrySet()) {
+            SectionExport section = sectionEntry.getValue();
+            boolean isFirst = index == 0;
+            boolean isLast = ++index == sections.size();
+
+            SnakeYamlExportSegment segment = previousSegments.get(sectionEntry.getKey());
+            if (segment == null || !segment.isReusableFor(section.properties, section.exportValues,
+                section.getEmptyLines(), isFirst, isLast, usedUniqueComments)) {
+                segment = renderSection(section, configurationData, isFirst, isLast, usedUniqueComments);
+            }
+            segments.put(sectionEntry.getKey(), segment);
+            usedUniqueComments = segment.getUsedUniqueCommentsAfter();
+        }
+
+        try (OutputStream os = Files.newOutputStream(path)) {
+            for (SnakeYamlExportSegment segment : segments.values()) {
+                os.write(segment.getBytes());
+            }
+        } catch (IOException e) {
+            exportSegments = null;
+            throw new ConfigMeException("Could not save config to '" + path + "'", e);
+        }
+        exportSegments = new ExportSegments(configurationData, segments);
+        return true;
+    }
+
+    @Override
+    public long getSizeInBytes() {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
     /**
      * Creates a YAML node for the export value and stores it, along with any comments for intermediate paths that
      * have not been visited yet.
@@ -148,16 +228,157 @@ public class YamlFileResource implements PropertyResource {
         return options;
     }
 
+    /**
+     * Creates the node builder for exporting the given configuration data. By default, this makes the comment line
+     * cache of the configuration data current (see {@link #getCommentLineCache}) and delegates to
+     * {@link #createNodeBuilder()}, so that extensions overriding the deprecated method keep working.
+     *
+     * @param configurationData the configuration data that will be exported
+     * @return the node builder to use
+     */
+    @SuppressWarnings("deprecation")
+    protected @NotNull SnakeYamlNodeBuilder createNodeBuilder(@NotNull ConfigurationData configurationData) {
+        getCommentLineCache(configurationData);
+        return createNodeBuilder();
+    }
+
+    /**
+     * Creates a node builder that uses the comment line cache of the configuration data that was last passed to
+     * {@link #getCommentLineCache}, if any. The builder only uses the cache for the configuration data it belongs to.
+     *
+     * @return the node builder to use for exporting
+     * @deprecated override {@link #createNodeBuilder(ConfigurationData)} instead
+     */
+    @Deprecated
     protected @NotNull SnakeYamlNodeBuilder createNodeBuilder() {
-        return new SnakeYamlNodeBuilderImpl();
+        return new SnakeYamlNodeBuilderImpl(commentLineCache);
+    }
+
+    /**
+     * Returns the comment line cache for the given configuration data. The cache is kept as long as this resource
+     * exports the same configuration data instance.
+     *
+     * @param configurationData the configuration data to get the cache for
+     * @return comment line cache for the configuration data
+     */
+    protected @NotNull SnakeYamlCommentLineCache getCommentLineCache(@NotNull ConfigurationData configurationData) {
+        SnakeYamlCommentLineCache cache = commentLineCache;
+        if (cache == null || !cache.isFor(configurationData)) {
+            cache = new SnakeYamlCommentLineCache(configurationData);
+            commentLineCache = cache;
+        }
+        return cache;
     }
 
     protected @NotNull SnakeYamlNodeContainer createNodeContainerForRoot(@NotNull List<String> rootComments) {
         return new SnakeYamlNodeContainerImpl(rootComments);
     }
 
-    private <T> @Nullable Object getExportValue(@NotNull Property<T> property,
-                                                @NotNull ConfigurationData configurationData) {
-        return property.toExportValue(configurationData.getValue(property));
+    private @NotNull List<CommentLine> createFooterCommentLines(@NotNull ConfigurationData configurationData,
+                                                                @NotNull SnakeYamlNodeBuilder nodeBuilder) {
+        List<String> footerStrings = configurationData.getCommentsForSection(CommentsConfiguration.FOOTER_KEY);
+        return nodeBuilder.createCommentLines(footerStrings);
+    }
+
+    /**
+     * Groups the properties to export by their top-level key, in the order in which the keys are encountered.
+     * Returns null if the configuration data has a property at the root path, which cannot be exported by section.
+     *
+     * @param configurationData the configuration data to export
+     * @return the sections to export, null if the properties cannot be exported by section
+     */
+    private @Nullable Map<String, SectionExport> collectSectionsForExport(
+                                                                      @NotNull ConfigurationData configurationData) {
+        PropertyPathTraverser pathTraverser = new PropertyPathTraverser();
+        Map<String, SectionExport> sections = new LinkedHashMap<>();
+        for (Property<?> property : configurationData.getProperties()) {
+            Object exportValue = configurationData.getExportValue(property);
+            if (exportValue != null) {
+                if (property.getPath().isEmpty()) {
+                    return null;
+                }
+                List<PathElement> pathElements = pathTraverser.getPathElements(property.getPath());
+                sections.computeIfAbsent(pathElements.get(0).getName(), k -> new SectionExport())
+                    .add(property, exportValue, pathElements, options);
+            }
+        }
+        return sections;
+    }
+
+    private @NotNull SnakeYamlExportSegment renderSection(@NotNull SectionExport section,
+                                                          @NotNull ConfigurationData configurationData,
+                                                          boolean isFirst, boolean isLast,
+                                                          @NotNull UniqueCommentTracker usedUniqueCommentsBefore) {
+        SnakeYamlNodeContainer root = createNodeContainerForRoot(isFirst
+            ? configurationData.getCommentsForSection("")
+            : Collections.emptyList());
+        SnakeYamlNodeBuilderImpl nodeBuilder = (SnakeYamlNodeBuilderImpl) createNodeBuilder(configurationData);
+        SnakeYamlExportSegment.prepareNodeBuilder(nodeBuilder, usedUniqueCommentsBefore);
+
+        for (int i = 0; i < section.properties.size(); ++i) {
+            createAndAddYamlNode(section.exportValues.get(i), section.properties.get(i).getPath(),
+                section.pathElements.get(i), root, configurationData, nodeBuilder);
+        }
+        Node rootNode = root.convertToNode(nodeBuilder);
+        if (isLast) {
+            rootNode.setEndComments(createFooterCommentLines(configurationData, nodeBuilder));
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStreamWriter writer = new OutputStreamWriter(bytes, options.getCharset())) {
+            createSnakeYamlInstance().serialize(rootNode, writer);
+        } catch (IOException e) {
+            throw new ConfigMeException("Could not render section of config for '" + path + "'", e);
+        }
+
+        return new SnakeYamlExportSegment(section.properties, section.exportValues, section.getEmptyLines(),
+            isFirst, isLast, usedUniqueCommentsBefore, nodeBuilder, bytes.toByteArray());
+    }
+
+    /**
+     * Properties of a top-level section with their export values, collected for an incremental export.
+     */
+    private static final class SectionExport {
+
+        private final List<Property<?>> properties = new ArrayList<>();
+        private final List<Object> exportValues = new ArrayList<>();
+        private final List<List<PathElement>> pathElements = new ArrayList<>();
+        private int[] emptyLines = new int[8];
+        private int emptyLinesSize;
+
+        void add(@NotNull Property<?> property, @NotNull Object exportValue, @NotNull List<PathElement> pathElements,
+                 @NotNull YamlFileResourceOptions options) {
+            properties.add(property);
+            exportValues.add(exportValue);
+            this.pathElements.add(pathElements);
+            for (PathElement pathElement : pathElements) {
+                if (emptyLinesSize == emptyLines.length) {
+                    emptyLines = Arrays.copyOf(emptyLines, emptyLinesSize * 2);
+                }
+                emptyLines[emptyLinesSize++] = options.getNumberOfEmptyLinesBefore(pathElement);
+            }
+        }
+
+        int @NotNull [] getEmptyLines() {
+            if (emptyLines.length != emptyLinesSize) {
+                emptyLines = Arrays.copyOf(emptyLines, emptyLinesSize);
+            }
+            return emptyLines;
+        }
+    }
+
+    /**
+     * The segments written by the last incremental export, along with the configuration data they were created for.
+     */
+    private static final class ExportSegments {
+
+        private final ConfigurationData configurationData;
+        private final Map<String, SnakeYamlExportSegment> segments;
+
+        ExportSegments(@NotNull ConfigurationData configurationData,
+                       @NotNull Map<String, SnakeYamlExportSegment> segments) {
+            this.configurationData = configurationData;
+            this.segments = segments;
+        }
     }
 }
@@ -16,6 +16,9 @@ public class YamlFileResourceOptions {
     private final @NotNull Charset charset;
     private final @Nullable ToIntFunction<PathElement> numberOfLinesBeforeFunction;
     private final int indentationSize;
+    private final @NotNull FileInputStrategy inputStrategy;
+    private final boolean incrementalExport;
+    private final boolean compactReader;
 
     /**
      * Constructor. Use {@link #builder()} to instantiate option objects.
@@ -27,9 +30,63 @@ public class YamlFileResourceOptions {
     protected YamlFileResourceOptions(@Nullable Charset charset,
                                       @Nullable ToIntFunction<PathElement> numberOfLinesBeforeFunction,
                                       int indentationSize) {
+        this(charset, numberOfLinesBeforeFunction, indentationSize, null);
+    }
+
+    /**
+     * Constructor. Use {@link #builder()} to instantiate option objects.
+     *
+     * @param charset the charset
+     * @param numberOfLinesBeforeFunction function defining how many lines before a path element should be in the export
+     * @param indentationSize number of spaces to use for each level of indentation
+     * @param inputStrategy defines how the file is opened for reading (null for the default)
+     */
+    protected YamlFileResourceOptions(@Nullable Charset charset,
+                                      @Nullable ToIntFunction<PathElement> numberOfLinesBeforeFunction,
+                                      int indentationSize,
+                                      @Nullable FileInputStrategy inputStrategy) {
+        this(charset, numberOfLinesBeforeFunction, indentationSize, inputStrategy, false);
+    }
+
+    /**
+     * Constructor. Use {@link #builder()} to instantiate option objects.
+     *
+     * @param charset the charset
+     * @param numberOfLinesBeforeFunction function defining how many lines before a path element should be in the export
+     * @param indentationSize number of spaces to use for each level of indentation
+     * @param inputStrategy defines how the file is opened for reading (null for the default)
+     * @param incrementalExport whether unchanged top-level sections should be reused from the previous export
+     */
+    protected YamlFileResourceOptions(@Nullable Charset charset,
+                                      @Nullable ToIntFunction<PathElement> numberOfLinesBeforeFunction,
+                                      int indentationSize,
+                                      @Nullable FileInputStrategy inputStrategy,
+                                      boolean incrementalExport) {
+        this(charset, numberOfLinesBeforeFunction, indentationSize, inputStrategy, incrementalExport, false);
+    }
+
+    /**
+     * Constructor. Use {@link #builder()} to instantiate option objects.
+     *
+     * @param charset the charset
+     * @param numberOfLinesBeforeFunction function defining how many lines before a path element should be in the export
+     * @param indentationSize number of spaces to use for each level of indentation
+     * @param inputStrategy defines how the file is opened for reading (null for the default)
+     * @param incrementalExport whether unchanged top-level sections should be reused from the previous export
+     * @param compactReader whether the file's data should be kept in a compact representation when read
+     */
+    protected YamlFileResourceOptions(@Nullable Charset charset,
+                                      @Nullable ToIntFunction<PathElement> numberOfLinesBeforeFunction,
+                                      int indentationSize,
+                                      @Nullable FileInputStrategy inputStrategy,
+                                      boolean incrementalExport,
+                                      boolean compactReader) {
         this.charset = charset == null ? StandardCharsets.UTF_8 : charset;
         this.numberOfLinesBeforeFunction = numberOfLinesBeforeFunction;
         this.indentationSize = indentationSize;
+        this.inputStrategy = inputStrategy == null ? FileInputStrategy.STREAM : inputStrategy;
+        this.incrementalExport = incrementalExport;
+        this.compactReader = compactReader;
     }
 
     public static @NotNull Builder builder() {
@@ -48,6 +105,18 @@ public class YamlFileResourceOptions {
         return indentationSize;
     }
 
+    public @NotNull FileInputStrategy getInputStrategy() {
+        return inputStrategy;
+    }
+
+    public boolean isIncrementalExport() {
+        return incrementalExport;
+    }
+
+    public boolean isCompactReader() {
+        return compactReader;
+    }
+
     protected final @Nullable ToIntFunction<PathElement> getIndentFunction() {
         return numberOfLinesBeforeFunction;
     }
@@ -62,6 +131,9 @@ public class YamlFileResourceOptions {
         private Charset charset;
         private ToIntFunction<PathElement> numberOfLinesBeforeFunction;
         private int indentationSize = DEFAULT_INDENTATION_SIZE;
+        private FileInputStrategy inputStrategy;
+        private boolean incrementalExport;
+        private boolean compactReader;
 
         public @NotNull Builder charset(@Nullable Charset charset) {
             this.charset = charset;
@@ -79,8 +151,48 @@ public class YamlFileResourceOptions {
             return this;
         }
 
+        /**
+         * Sets how the file should be opened for reading. Defaults to {@link FileInputStrategy#STREAM}.
+         * Consider {@link FileInputStrategy#CHANNEL} for very large files.
+         *
+         * @param inputStrategy the input strategy to use
+         * @return this builder
+         */
+        public @NotNull Builder inputStrategy(@NotNull FileInputStrategy inputStrategy) {
+            this.inputStrategy = inputStrategy;
+            return this;
+        }
+
+        /**
+         * Sets whether the resource should keep the text of each top-level section from its previous export and
+         * write it again without rendering if the section's values have not changed. This speeds up saving large
+         * configurations where only a few properties change, at the cost of keeping the text in memory.
+         * Defaults to false.
+         *
+         * @param incrementalExport true to reuse unchanged sections of the previous export, false otherwise
+         * @return this builder
+         */
+        public @NotNull Builder incrementalExport(boolean incrementalExport) {
+            this.incrementalExport = incrementalExport;
+            return this;
+        }
+
+        /**
+         * Sets whether the resource should create readers that keep the file's data in a compact representation
+         * ({@link CompactYamlFileReader}) instead of nested maps. This reduces memory usage for very large files,
+         * but maps and lists are created anew every time they are read. Defaults to false.
+         *
+         * @param compactReader true to read the file with {@link CompactYamlFileReader}, false otherwise
+         * @return this builder
+         */
+        public @NotNull Builder compactReader(boolean compactReader) {
+            this.compactReader = compactReader;
+            return this;
+        }
+
         public @NotNull YamlFileResourceOptions build() {
-            return new YamlFileResourceOptions(charset, numberOfLinesBeforeFunction, indentationSize);
+            return new YamlFileResourceOptions(charset, numberOfLinesBeforeFunction, indentationSize, inputStrategy,
+                incrementalExport, compactReader);
         }
     }
 }
@@ -0,0 +1,274 @@
+package ch.jalu.configme.resource.json;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.internal.StringDeduplicator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses JSON text into the structure used by property readers: objects become maps with String keys (in order),
+ * arrays become lists, and numbers become Integer, Long or BigInteger if they have no fraction or exponent, and Double
+ * otherwise. This matches the types that are produced when a YAML file is loaded.
+ * <p>
+ * The text is parsed in a single pass, without intermediate tokens. Keys and short strings are deduplicated.
+ * An instance can only parse one text.
+ */
+public class JsonParser {
+
+    private final @NotNull String text;
+    private final @NotNull StringDeduplicator stringDeduplicator = new StringDeduplicator();
+    private final @NotNull StringBuilder stringBuilder = new StringBuilder();
+    private int position;
+
+    /**
+     * Constructor.
+     *
+     * @param text the JSON text to parse
+     */
+    public JsonParser(@NotNull String text) {
+        this.text = text;
+    }
+
+    /**
+     * Parses the text. Returns null if the text is empty or only contains whitespace.
+     *
+     * @return the parsed value
+     */
+    public @Nullable Object parse() {
+        skipWhitespace();
+        if (position == text.length()) {
+            return null;
+        }
+        Object value = parseValue();
+        skipWhitespace();
+        if (position != text.length()) {
+            throw error("Unexpected content after the value");
+        }
+        return value;
+    }
+
+    private @Nullable Object parseValue() {
+        if (position == text.length()) {
+            throw error("Unexpected end of text");
+        }
+        char c = text.charAt(position);
+        switch (c) {
+            case '{':
+                return parseObject();
+            case '[':
+                return parseArray();
+            case '"':
+                return stringDeduplicator.deduplicate(parseString());
+            case 't':
+                expectLiteral("true");
+                return Boolean.TRUE;
+            case 'f':
+                expectLiteral("false");
+                return Boolean.FALSE;
+            case 'n':
+                expectLiteral("null");
+                return null;
+            default:
+                if (c == '-' || c >= '0' && c <= '9') {
+                    return parseNumber();
+                }
+                throw error("Unexpected character '" + c + "'");
+        }
+    }
+
+    private @NotNull Map<String, Object> parseObject() {
+        ++position; // {
+        Map<String, Object> map = new LinkedHashMap<>();
+        skipWhitespace();
+        if (consumeIf('}')) {
+            return map;
+        }
+        do {
+            skipWhitespace();
+            if (position == text.length() || text.charAt(position) != '"') {
+                throw error("Expected a key");
+            }
+            String key = stringDeduplicator.deduplicate(parseString());
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            map.put(key, parseValue());
+            skipWhitespace();
+        } while (consumeIf(','));
+        expect('}');
+        return map;
+    }
+
+    private @NotNull List<Object> parseArray() {
+        ++position; // [
+        List<Object> list = new ArrayList<>();
+        skipWhitespace();
+        if (consumeIf(']')) {
+            return list;
+        }
+        do {
+            skipWhitespace();
+            list.add(parseValue());
+            skipWhitespace();
+        } while (consumeIf(','));
+        expect(']');
+        return list;
+    }
+
+    private @NotNull String parseString() {
+        ++position; // opening quote
+        int start = position;
+        // Fast path: no escape sequences, so the string can be taken from the text directly
+        while (position < text.length()) {
+            char c = text.charAt(position);
+            if (c == '"') {
+                return text.substring(start, position++);
+            } else if (c == '\\') {
+                break;
+            } else if (c < 0x20) {
+                throw error("Control character in string");
+            }
+            ++position;
+        }
+
+        stringBuilder.setLength(0);
+        stringBuilder.append(text, start, position);
+        while (position < text.length()) {
+            char c = text.charAt(position++);
+            if (c == '"') {
+                return stringBuilder.toString();
+            } else if (c == '\\') {
+                stringBuilder.append(parseEscapeSequence());
+            } else if (c < 0x20) {
+                --position;
+                throw error("Control character in string");
+            } else {
+                stringBuilder.append(c);
+            }
+        }
+        throw error("Unterminated string");
+    }
+
+    private char parseEscapeSequence() {
+        if (position == text.length()) {
+            throw error("Unterminated string");
+        }
+        char c = text.charAt(position++);
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+                return c;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                if (position + 4 > text.length()) {
+                    throw error("Invalid unicode escape");
+                }
+                try {
+                    char unicodeChar = (char) Integer.parseInt(text.substring(position, position + 4), 16);
+                    position += 4;
+                    return unicodeChar;
+                } catch (NumberFormatException e) {
+                    throw error("Invalid unicode escape");
+                }
+            default:
+                throw error("Invalid escape sequence '\\" + c + "'");
+        }
+    }
+
+    private @NotNull Object parseNumber() {
+        int start = position;
+        boolean isDecimal = false;
+        consumeIf('-');
+        while (position < text.length()) {
+            char c = text.charAt(position);
+            if (c >= '0' && c <= '9' || c == '+' || c == '-') {
+                ++position;
+            } else if (c == '.' || c == 'e' || c == 'E') {
+                isDecimal = true;
+                ++position;
+            } else {
+                break;
+            }
+        }
+
+        String number = text.substring(start, position);
+        try {
+            if (isDecimal) {
+                return Double.parseDouble(number);
+            }
+            int digits = number.length() - (number.charAt(0) == '-' ? 1 : 0);
+            if (digits < 10) {
+                return Integer.parseInt(number);
+            } else if (digits < 19) {
+                long value = Long.parseLong(number);
+                return value == (int) value ? (Object) (int) value : (Object) value;
+            }
+            BigInteger value = new BigInteger(number);
+            return value.bitLength() < 64 ? (Object) value.longValue() : value;
+        } catch (NumberFormatException e) {
+            position = start;
+            throw error("Invalid number '" + number + "'");
+        }
+    }
+
+    private void expectLiteral(@NotNull String literal) {
+        if (!text.startsWith(literal, position)) {
+            throw error("Unexpected character '" + text.charAt(position) + "'");
+        }
+        position += literal.length();
+    }
+
+    private void expect(char c) {
+        if (!consumeIf(c)) {
+            throw error(position == text.length() ? "Unexpected end of text" : "Expected '" + c + "'");
+        }
+    }
+
+    private boolean consumeIf(char c) {
+        if (position < text.length() && text.charAt(position) == c) {
+            ++position;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhitespace() {
+        while (position < text.length()) {
+            char c = text.charAt(position);
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return;
+            }
+            ++position;
+        }
+    }
+
+    private @NotNull ConfigMeException error(@NotNull String message) {
+        int line = 1;
+        int column = 1;
+        for (int i = 0; i < position && i < text.length(); ++i) {
+            if (text.charAt(i) == '\n') {
+                ++line;
+                column = 1;
+            } else {
+                ++column;
+            }
+        }
+        return new ConfigMeException(message + " at line " + line + ", column " + column);
+    }
+}
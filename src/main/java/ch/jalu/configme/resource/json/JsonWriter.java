@@ -0,0 +1,177 @@
+package ch.jalu.configme.resource.json;
+
+import ch.jalu.configme.internal.StreamUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Writes values as JSON text with the given indentation. Maps are written as objects (keys converted with
+ * {@link Objects#toString(Object)}), iterables and arrays as arrays, numbers and booleans as is. Numbers that cannot
+ * be represented in JSON (NaN, infinity) and all other objects are written as strings.
+ */
+public class JsonWriter {
+
+    private final @NotNull Writer writer;
+    private final @NotNull String indentation;
+
+    /**
+     * Constructor.
+     *
+     * @param writer the writer to write to
+     * @param indentationSize the number of spaces to indent nested values with
+     */
+    public JsonWriter(@NotNull Writer writer, int indentationSize) {
+        this.writer = writer;
+        this.indentation = StreamUtils.repeat(" ", indentationSize).collect(Collectors.joining());
+    }
+
+    /**
+     * Writes the given value, followed by a new line.
+     *
+     * @param value the value to write
+     * @throws IOException if the writer throws an exception
+     */
+    public void writeDocument(@Nullable Object value) throws IOException {
+        writeValue(value, 0);
+        writer.write('\n');
+    }
+
+    /**
+     * Writes the given value.
+     *
+     * @param value the value to write
+     * @param level the current indentation level
+     * @throws IOException if the writer throws an exception
+     */
+    protected void writeValue(@Nullable Object value, int level) throws IOException {
+        if (value == null) {
+            writer.write("null");
+        } else if (value instanceof Map<?, ?>) {
+            writeObject((Map<?, ?>) value, level);
+        } else if (value instanceof Iterable<?>) {
+            writeArray(((Iterable<?>) value).iterator(), level);
+        } else if (value.getClass().isArray()) {
+            writeArray(new ArrayIterator(value), level);
+        } else if (value instanceof Boolean || value instanceof Integer || value instanceof Long
+            || value instanceof Short || value instanceof Byte || value instanceof BigInteger
+            || value instanceof BigDecimal) {
+            writer.write(value.toString());
+        } else if (value instanceof Number && Double.isFinite(((Number) value).doubleValue())) {
+            writer.write(value.toString());
+        } else {
+            writeString(value.toString());
+        }
+    }
+
+    private void writeObject(@NotNull Map<?, ?> map, int level) throws IOException {
+        if (map.isEmpty()) {
+            writer.write("{}");
+            return;
+        }
+        writer.write('{');
+        boolean isFirst = true;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!isFirst) {
+                writer.write(',');
+            }
+            isFirst = false;
+            writeNewLine(level + 1);
+            writeString(Objects.toString(entry.getKey()));
+            writer.write(": ");
+            writeValue(entry.getValue(), level + 1);
+        }
+        writeNewLine(level);
+        writer.write('}');
+    }
+
+    private void writeArray(@NotNull Iterator<?> iterator, int level) throws IOException {
+        if (!iterator.hasNext()) {
+            writer.write("[]");
+            return;
+        }
+        writer.write('[');
+        boolean isFirst = true;
+        while (iterator.hasNext()) {
+            if (!isFirst) {
+                writer.write(',');
+            }
+            isFirst = false;
+            writeNewLine(level + 1);
+            writeValue(iterator.next(), level + 1);
+        }
+        writeNewLine(level);
+        writer.write(']');
+    }
+
+    private void writeNewLine(int level) throws IOException {
+        writer.write('\n');
+        for (int i = 0; i < level; ++i) {
+            writer.write(indentation);
+        }
+    }
+
+    private void writeString(@NotNull String str) throws IOException {
+        writer.write('"');
+        int start = 0;
+        for (int i = 0; i < str.length(); ++i) {
+            char c = str.charAt(i);
+            String escaped = getEscapeSequence(c);
+            if (escaped != null) {
+                writer.write(str, start, i - start);
+                writer.write(escaped);
+                start = i + 1;
+            }
+        }
+        writer.write(str, start, str.length() - start);
+        writer.write('"');
+    }
+
+    private static @Nullable String getEscapeSequence(char c) {
+        switch (c) {
+            case '"':
+                return "\\\"";
+            case '\\':
+                return "\\\\";
+            case '\n':
+                return "\\n";
+            case '\r':
+                return "\\r";
+            case '\t':
+                return "\\t";
+            default:
+                return c < 0x20 ? String.format("\\u%04x", (int) c) : null;
+        }
+    }
+
+    private static final class ArrayIterator implements Iterator<Object> {
+
+        private final Object array;
+        private final int length;
+        private int index;
+
+        ArrayIterator(@NotNull Object array) {
+            this.array = array;
+            this.length = Array.getLength(array);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < length;
+        }
+
+        @Override
+        public Object next() {
+            return Array.get(array, index++);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package ch.jalu.configme.resource.yaml;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.yaml.snakeyaml.comments.CommentLine;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Cache of SnakeYAML comment lines for a {@link ConfigurationData} instance. The comments of a configuration
+ * (and the number of empty lines before each property) do not change between exports, so the comment lines created
+ * for them can be reused. The cached lists are immutable, as are SnakeYAML's {@link CommentLine} objects.
+ * <p>
+ * Comment lines are cached by path for the comments of a property, and by the list of comments for the comments
+ * of sections. Only paths with comments should be cached, so that the cache does not grow with paths of individual
+ * collection or map entries.
+ */
+public class SnakeYamlCommentLineCache {
+
+    private final ConfigurationData configurationData;
+    private final Map<String, PathCommentLines> linesByPath = new ConcurrentHashMap<>();
+    private final Map<List<String>, List<CommentLine>> linesByComments = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param configurationData the configuration data whose comments are cached
+     */
+    public SnakeYamlCommentLineCache(@NotNull ConfigurationData configurationData) {
+        this.configurationData = configurationData;
+    }
+
+    /**
+     * Returns whether this cache is for the given configuration data instance.
+     *
+     * @param configurationData the configuration data to check
+     * @return true if the comments of the given configuration data are cached by this instance, false otherwise
+     */
+    public boolean isFor(@NotNull ConfigurationData configurationData) {
+        return this.configurationData == configurationData;
+    }
+
+    /**
+     * Returns the comment lines for the given path and number of empty lines, creating them with the given
+     * supplier if they are not in the cache.
+     *
+     * @param path the path the comments belong to
+     * @param numberOfNewLines the number of empty lines before the comments
+     * @param linesCreator creates the comment lines (immutable list) if they are not yet cached
+     * @return the comment lines
+     */
+    public @NotNull List<CommentLine> getCommentLinesForPath(@NotNull String path, int numberOfNewLines,
+                                                             @NotNull Supplier<List<CommentLine>> linesCreator) {
+        PathCommentLines cachedLines = linesByPath.get(path);
+        if (cachedLines != null && cachedLines.numberOfNewLines == numberOfNewLines) {
+            return cachedLines.lines;
+        }
+
+        List<CommentLine> lines = linesCreator.get();
+        linesByPath.put(path, new PathCommentLines(numberOfNewLines, lines));
+        return lines;
+    }
+
+    /**
+     * Returns the comment lines representing the given comments, creating them with the given function if they
+     * are not in the cache.
+     *
+     * @param comments the comments to get the comment lines for
+     * @param linesCreator creates the comment lines (immutable list) if they are not yet cached
+     * @return the comment lines
+     */
+    public @NotNull List<CommentLine> getCommentLines(@NotNull List<String> comments,
+                                                      @NotNull Function<List<String>, List<CommentLine>> linesCreator) {
+        return linesByComments.computeIfAbsent(comments, linesCreator);
+    }
+
+    private static final class PathCommentLines {
+
+        private final int numberOfNewLines;
+        private final @NotNull List<CommentLine> lines;
+
+        PathCommentLines(int numberOfNewLines, @NotNull List<CommentLine> lines) {
+            this.numberOfNewLines = numberOfNewLines;
+            this.lines = lines;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package ch.jalu.configme.resource.yaml;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.internal.CompactDocumentTrie;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SnakeYAML constructor which builds a {@link CompactDocumentTrie} directly from the nodes of a composed document,
+ * without creating the maps and lists that {@link SnakeYamlNormalizingConstructor} would create for it. Scalars are
+ * constructed, and keys normalized, in the same way as by the parent class, so the trie holds the same data as the
+ * nested maps that are loaded by {@link ch.jalu.configme.resource.YamlFileReader YamlFileReader}.
+ * <p>
+ * Nodes with an anchor are only added to the trie once, even if they are referenced by multiple aliases.
+ * An instance of this class should only be used to construct one document.
+ */
+public class SnakeYamlCompactDocumentConstructor extends SnakeYamlNormalizingConstructor {
+
+    private final Map<Node, Integer> anchoredNodes = new IdentityHashMap<>();
+    private final Map<Node, Boolean> anchoredNodesInProgress = new IdentityHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param loaderOptions the loader options to use
+     */
+    public SnakeYamlCompactDocumentConstructor(@NotNull LoaderOptions loaderOptions) {
+        super(loaderOptions);
+    }
+
+    /**
+     * Creates a trie representing the document with the given root node.
+     *
+     * @param root the root node of the document as composed by SnakeYAML, null if the document is empty
+     * @return trie of the document
+     */
+    public @NotNull CompactDocumentTrie constructTrie(@Nullable Node root) {
+        CompactDocumentTrie.Builder builder = CompactDocumentTrie.builder();
+        return builder.build(root == null ? CompactDocumentTrie.NO_NODE : addNode(builder, root));
+    }
+
+    private int addNode(@NotNull CompactDocumentTrie.Builder builder, @NotNull Node node) {
+        if (node.getAnchor() == null) {
+            return addNodeValue(builder, node);
+        }
+
+        Integer trieNode = anchoredNodes.get(node);
+        if (trieNode == null) {
+            if (anchoredNodesInProgress.put(node, Boolean.TRUE) != null) {
+                throw new ConfigMeException("The document contains a recursive structure, which is not supported");
+            }
+            trieNode = addNodeValue(builder, node);
+            anchoredNodesInProgress.remove(node);
+            anchoredNodes.put(node, trieNode);
+        }
+        return trieNode;
+    }
+
+    private int addNodeValue(@NotNull CompactDocumentTrie.Builder builder, @NotNull Node node) {
+        if (isMap(node)) {
+            Map<String, Node> entries = collectEntries((MappingNode) node);
+            int mapNode = builder.addMap(entries.size());
+            int position = 0;
+            for (Map.Entry<String, Node> entry : entries.entrySet()) {
+                builder.setMapEntry(mapNode, position++, entry.getKey(), addNode(builder, entry.getValue()));
+            }
+            return mapNode;
+        } else if (node instanceof SequenceNode && Tag.SEQ.equals(node.getTag())) {
+            List<Node> elements = ((SequenceNode) node).getValue();
+            int listNode = builder.addList(elements.size());
+            for (int i = 0; i < elements.size(); ++i) {
+                builder.setListElement(listNode, i, addNode(builder, elements.get(i)));
+            }
+            return listNode;
+        } else if (node instanceof ScalarNode) {
+            return builder.addValue(getConstructor(node).construct(node));
+        }
+        return builder.addValue(constructObject(node));
+    }
+
+    /**
+     * Returns the entries of the given mapping node by normalized key. Merge keys and duplicate keys are processed
+     * like SnakeYAML does when it constructs a map, after which keys are normalized as described in
+     * {@link SnakeYamlNormalizingConstructor}.
+     *
+     * @param node the mapping node to process
+     * @return the entries of the node, in the order of the document
+     */
+    private @NotNull Map<String, Node> collectEntries(@NotNull MappingNode node) {
+        flattenMapping(node);
+        Map<String, Node> entries = new LinkedHashMap<>();
+        for (NodeTuple tuple : node.getValue()) {
+            putOrMerge(entries, toKey(constructObject(tuple.getKeyNode())), tuple.getValueNode());
+        }
+        return entries;
+    }
+
+    /**
+     * Adds the value node under the given key, or merges it with the existing entry if both nodes are maps.
+     * Equivalent to {@link #putOrMerge(Map, String, Object)} for nodes.
+     *
+     * @param entries the entries to add the node to
+     * @param key the key to store the node under
+     * @param value the value node to store
+     */
+    private void putOrMerge(@NotNull Map<String, Node> entries, @NotNull String key, @NotNull Node value) {
+        Node existing = entries.get(key);
+        if (existing != null && isMap(existing) && isMap(value)) {
+            Map<String, Node> mergedEntries = collectEntries((MappingNode) existing);
+            collectEntries((MappingNode) value).forEach((k, v) -> putOrMerge(mergedEntries, k, v));
+            entries.put(key, createMappingNode(mergedEntries));
+        } else {
+            entries.put(key, value);
+        }
+    }
+
+    private static @NotNull MappingNode createMappingNode(@NotNull Map<String, Node> entries) {
+        List<NodeTuple> tuples = new ArrayList<>(entries.size());
+        for (Map.Entry<String, Node> entry : entries.entrySet()) {
+            Node keyNode = new ScalarNode(Tag.STR, entry.getKey(), null, null, DumperOptions.ScalarStyle.PLAIN);
+            tuples.add(new NodeTuple(keyNode, entry.getValue()));
+        }
+        return new MappingNode(Tag.MAP, tuples, DumperOptions.FlowStyle.AUTO);
+    }
+
+    private static boolean isMap(@NotNull Node node) {
+        return node instanceof MappingNode && Tag.MAP.equals(node.getTag());
+    }
+}
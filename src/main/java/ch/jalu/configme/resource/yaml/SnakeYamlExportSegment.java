@@ -0,0 +1,207 @@
+package ch.jalu.configme.resource.yaml;
+
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.properties.convertresult.UniqueCommentTracker;
+import ch.jalu.configme.properties.convertresult.ValueWithComments;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static ch.jalu.configme.internal.ConversionUtils.calculateHashCapacity;
+
+/**
+ * Rendered YAML text of a top-level section, as written by an incremental export of
+ * {@link ch.jalu.configme.resource.YamlFileResource YamlFileResource}. A segment keeps a snapshot of everything
+ * its text depends on, so that it can be written again without rendering if nothing has changed.
+ * <p>
+ * Export values are compared in iteration order, since the order of entries in a map or collection is
+ * reflected in the YAML output.
+ */
+public class SnakeYamlExportSegment {
+
+    private final @NotNull List<Property<?>> properties;
+    private final @NotNull List<Object> exportValues;
+    private final int @NotNull [] emptyLines;
+    private final boolean isFirst;
+    private final boolean isLast;
+    private final @NotNull UniqueCommentTracker usedUniqueCommentsBefore;
+    private final @NotNull UniqueCommentTracker usedUniqueCommentsAfter;
+    private final byte @NotNull [] bytes;
+
+    /**
+     * Constructor.
+     *
+     * @param properties the properties that are part of the section, in export order
+     * @param exportValues the export values of the properties
+     * @param emptyLines the number of empty lines before each path element of the properties
+     * @param isFirst whether the section is the first one in the file (the root comments are part of its text)
+     * @param isLast whether the section is the last one in the file (the footer comments are part of its text)
+     * @param usedUniqueCommentsBefore unique comments that were used by the sections before this one
+     * @param nodeBuilder the node builder the section was rendered with, prepared with
+     *                    {@link #prepareNodeBuilder}
+     * @param bytes the rendered text of the section, encoded with the charset of the resource
+     */
+    public SnakeYamlExportSegment(@NotNull List<Property<?>> properties, @NotNull List<Object> exportValues,
+                                  int @NotNull [] emptyLines, boolean isFirst, boolean isLast,
+                                  @NotNull UniqueCommentTracker usedUniqueCommentsBefore,
+                                  @NotNull SnakeYamlNodeBuilderImpl nodeBuilder, byte @NotNull [] bytes) {
+        this.properties = new ArrayList<>(properties);
+        this.exportValues = new ArrayList<>(exportValues.size());
+        for (Object exportValue : exportValues) {
+            this.exportValues.add(snapshot(exportValue));
+        }
+        this.emptyLines = emptyLines.clone();
+        this.isFirst = isFirst;
+        this.isLast = isLast;
+        this.usedUniqueCommentsBefore = usedUniqueCommentsBefore.copy();
+        this.usedUniqueCommentsAfter = nodeBuilder.getUsedUniqueComments().copy();
+        this.bytes = bytes;
+    }
+
+    /**
+     * Prepares the given node builder for rendering a section: the unique comments that were used by the sections
+     * before it are registered as used, so that they are not repeated in the section.
+     *
+     * @param nodeBuilder the node builder that will render the section
+     * @param usedUniqueCommentsBefore unique comments that were used by the sections before the section
+     */
+    public static void prepareNodeBuilder(@NotNull SnakeYamlNodeBuilderImpl nodeBuilder,
+                                          @NotNull UniqueCommentTracker usedUniqueCommentsBefore) {
+        nodeBuilder.getUsedUniqueComments().addAll(usedUniqueCommentsBefore);
+    }
+
+    /**
+     * Returns whether this segment's text can be written for a section with the given data.
+     *
+     * @param properties the properties that are part of the section, in export order
+     * @param exportValues the export values of the properties
+     * @param emptyLines the number of empty lines before each path element of the properties
+     * @param isFirst whether the section is the first one in the file
+     * @param isLast whether the section is the last one in the file
+     * @param usedUniqueCommentsBefore unique comments that were used by the sections before this one
+     * @return true if the section would be rendered to the same text as this segment, false otherwise
+     */
+    public boolean isReusableFor(@NotNull List<Property<?>> properties, @NotNull List<Object> exportValues,
+                                 int @NotNull [] emptyLines, boolean isFirst, boolean isLast,
+                                 @NotNull UniqueCommentTracker usedUniqueCommentsBefore) {
+        if (this.isFirst != isFirst || this.isLast != isLast
+            || !this.properties.equals(properties)
+            || !Arrays.equals(this.emptyLines, emptyLines)
+            || !this.usedUniqueCommentsBefore.equals(usedUniqueCommentsBefore)) {
+            return false;
+        }
+
+        for (int i = 0; i < exportValues.size(); ++i) {
+            if (!isSameExportValue(this.exportValues.get(i), exportValues.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return unique comments that were used up to and including this section (do not modify)
+     */
+    public @NotNull UniqueCommentTracker getUsedUniqueCommentsAfter() {
+        return usedUniqueCommentsAfter;
+    }
+
+    /**
+     * @return the rendered text of this section (do not modify)
+     */
+    public byte @NotNull [] getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Creates a copy of the given export value that is not affected by modifications of the original value.
+     * Iterables and arrays are copied to lists and maps to linked hash maps, keeping the iteration order.
+     *
+     * @param value the export value to copy
+     * @return copy of the export value
+     */
+    private static @Nullable Object snapshot(@Nullable Object value) {
+        if (value instanceof ValueWithComments) {
+            ValueWithComments valueWithComments = (ValueWithComments) value;
+            return valueWithComments.copyWithValue(snapshot(valueWithComments.getValue()));
+        } else if (value instanceof Map<?, ?>) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            Map<Object, Object> copy = new LinkedHashMap<>(calculateHashCapacity(map.size()));
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                copy.put(entry.getKey(), snapshot(entry.getValue()));
+            }
+            return copy;
+        } else if (value instanceof Iterable<?> || value instanceof Object[]) {
+            List<Object> copy = new ArrayList<>();
+            Iterator<?> it = iterator(value);
+            while (it.hasNext()) {
+                copy.add(snapshot(it.next()));
+            }
+            return copy;
+        }
+        return value;
+    }
+
+    /**
+     * Returns whether the given export values result in the same YAML output.
+     *
+     * @param snapshot export value as created by {@link #snapshot}
+     * @param value the current export value
+     * @return true if the values are equal (in iteration order), false otherwise
+     */
+    private static boolean isSameExportValue(@Nullable Object snapshot, @Nullable Object value) {
+        if (snapshot instanceof ValueWithComments) {
+            if (!(value instanceof ValueWithComments)) {
+                return false;
+            }
+            ValueWithComments snapshotWithComments = (ValueWithComments) snapshot;
+            ValueWithComments valueWithComments = (ValueWithComments) value;
+            return snapshotWithComments.hasSameComments(valueWithComments)
+                && isSameExportValue(snapshotWithComments.getValue(), valueWithComments.getValue());
+        } else if (snapshot instanceof Map<?, ?>) {
+            if (!(value instanceof Map<?, ?>) || ((Map<?, ?>) snapshot).size() != ((Map<?, ?>) value).size()) {
+                return false;
+            }
+            Iterator<? extends Map.Entry<?, ?>> snapshotIt = ((Map<?, ?>) snapshot).entrySet().iterator();
+            Iterator<? extends Map.Entry<?, ?>> valueIt = ((Map<?, ?>) value).entrySet().iterator();
+            while (snapshotIt.hasNext()) {
+                Map.Entry<?, ?> snapshotEntry = snapshotIt.next();
+                Map.Entry<?, ?> valueEntry = valueIt.next();
+                if (!Objects.equals(snapshotEntry.getKey(), valueEntry.getKey())
+                    || !isSameExportValue(snapshotEntry.getValue(), valueEntry.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (snapshot instanceof List<?>) {
+            if (!(value instanceof Iterable<?> || value instanceof Object[])) {
+                return false;
+            }
+            Iterator<?> snapshotIt = ((List<?>) snapshot).iterator();
+            Iterator<?> valueIt = iterator(value);
+            while (snapshotIt.hasNext() && valueIt.hasNext()) {
+                if (!isSameExportValue(snapshotIt.next(), valueIt.next())) {
+                    return false;
+                }
+            }
+            return !snapshotIt.hasNext() && !valueIt.hasNext();
+        }
+        if (snapshot == null || value == null) {
+            return snapshot == value;
+        }
+        return snapshot.getClass() == value.getClass() && snapshot.equals(value);
+    }
+
+    private static @NotNull Iterator<?> iterator(@NotNull Object iterableOrArray) {
+        return iterableOrArray instanceof Object[]
+            ? Arrays.asList((Object[]) iterableOrArray).iterator()
+            : ((Iterable<?>) iterableOrArray).iterator();
+    }
+}
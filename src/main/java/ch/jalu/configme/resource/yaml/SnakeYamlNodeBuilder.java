@@ -5,6 +5,8 @@ import org.jetbrains.annotations.NotNull;
 import org.yaml.snakeyaml.comments.CommentLine;
 import org.yaml.snakeyaml.nodes.Node;
 
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -42,6 +44,19 @@ public interface SnakeYamlNodeBuilder {
      */
     @NotNull Stream<CommentLine> createCommentLines(@NotNull String comment);
 
+    /**
+     * Creates SnakeYAML {@link CommentLine} objects to represent all given comments, as defined by
+     * {@link #createCommentLines(String)}. The returned list may be immutable.
+     *
+     * @param comments the comments to represent as CommentLine
+     * @return list with comment line objects representing the given comments
+     */
+    default @NotNull List<CommentLine> createCommentLines(@NotNull List<String> comments) {
+        return comments.stream()
+            .flatMap(this::createCommentLines)
+            .collect(Collectors.toList());
+    }
+
     /**
      * Transfers the comments from the value node to the key node. Logically, comments are associated with values,
      * but we do not want the comments to appear between the key and the value in the YAML output. Therefore, this
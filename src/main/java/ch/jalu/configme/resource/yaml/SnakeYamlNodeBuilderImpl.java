@@ -2,9 +2,11 @@ package ch.jalu.configme.resource.yaml;
 
 import ch.jalu.configme.configurationdata.ConfigurationData;
 import ch.jalu.configme.internal.StreamUtils;
+import ch.jalu.configme.properties.convertresult.UniqueCommentTracker;
 import ch.jalu.configme.properties.convertresult.ValueWithComments;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.comments.CommentLine;
 import org.yaml.snakeyaml.comments.CommentType;
@@ -19,13 +21,10 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -39,7 +38,24 @@ import static ch.jalu.configme.internal.PathUtils.pathSpecifierForMapKey;
  */
 public class SnakeYamlNodeBuilderImpl implements SnakeYamlNodeBuilder {
 
-    private final Set<UUID> usedUniqueCommentIds = new HashSet<>();
+    private final UniqueCommentTracker usedUniqueComments = new UniqueCommentTracker();
+    private final @Nullable SnakeYamlCommentLineCache commentLineCache;
+
+    /**
+     * Constructor. Creates a node builder which does not cache any comment lines.
+     */
+    public SnakeYamlNodeBuilderImpl() {
+        this(null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param commentLineCache cache of the comment lines of the configuration data that is exported (nullable)
+     */
+    public SnakeYamlNodeBuilderImpl(@Nullable SnakeYamlCommentLineCache commentLineCache) {
+        this.commentLineCache = commentLineCache;
+    }
 
     @Override
     public @NotNull Node createYamlNode(@NotNull Object obj, @NotNull String path,
@@ -89,6 +105,17 @@ public class SnakeYamlNodeBuilderImpl implements SnakeYamlNodeBuilder {
             .map(text -> new CommentLine(null, null, " ".concat(text), CommentType.BLOCK));
     }
 
+    @Override
+    public @NotNull List<CommentLine> createCommentLines(@NotNull List<String> comments) {
+        if (comments.isEmpty()) {
+            return Collections.emptyList();
+        } else if (commentLineCache != null) {
+            return commentLineCache.getCommentLines(comments,
+                comms -> Collections.unmodifiableList(SnakeYamlNodeBuilder.super.createCommentLines(comms)));
+        }
+        return SnakeYamlNodeBuilder.super.createCommentLines(comments);
+    }
+
     @Override
     public void transferComments(@NotNull Node valueNode, @NotNull Node keyNode) {
         if (valueNode.getBlockComments() != null && !valueNode.getBlockComments().isEmpty()) {
@@ -163,7 +190,7 @@ public class SnakeYamlNodeBuilderImpl implements SnakeYamlNodeBuilder {
 
     /**
      * Creates comments based on all possible sources (number of empty lines, configuration data,
-     * {@link ValueWithComments}) and returns them as SnakeYAML comment lines.
+     * {@link ValueWithComments}) and returns them as SnakeYAML comment lines. The returned list may be immutable.
      *
      * @param value the export value
      * @param path the path the value is located at
@@ -174,21 +201,59 @@ public class SnakeYamlNodeBuilderImpl implements SnakeYamlNodeBuilder {
     protected @NotNull List<CommentLine> collectComments(@NotNull Object value, @NotNull String path,
                                                          @NotNull ConfigurationData configurationData,
                                                          int numberOfNewLines) {
-        Stream<String> emptyLineStream = StreamUtils.repeat("\n", numberOfNewLines);
-        Stream<String> configDataStream = configurationData.getCommentsForSection(path).stream();
-        Stream<String> additionalCommentsStream =
-            ValueWithComments.streamThroughCommentsIfApplicable(value, usedUniqueCommentIds);
-
-        return Stream.of(emptyLineStream, configDataStream, additionalCommentsStream)
-            .flatMap(Function.identity())
-            .flatMap(this::createCommentLines)
-            .collect(Collectors.toList());
+        List<CommentLine> staticCommentLines = collectStaticComments(path, configurationData, numberOfNewLines);
+        if (!(value instanceof ValueWithComments)) {
+            return staticCommentLines;
+        }
+
+        List<CommentLine> additionalCommentLines =
+            ValueWithComments.streamThroughCommentsIfApplicable(value, usedUniqueComments)
+                .flatMap(this::createCommentLines)
+                .collect(Collectors.toList());
+        if (staticCommentLines.isEmpty()) {
+            return additionalCommentLines;
+        }
+        List<CommentLine> commentLines =
+            new ArrayList<>(staticCommentLines.size() + additionalCommentLines.size());
+        commentLines.addAll(staticCommentLines);
+        commentLines.addAll(additionalCommentLines);
+        return commentLines;
+    }
+
+    /**
+     * Creates the comment lines for the empty lines and the comments of the configuration data for the given path.
+     * These comments do not depend on the value, so they are cached if this builder has a comment line cache for
+     * the given configuration data.
+     *
+     * @param path the path the value is located at
+     * @param configurationData the configuration data instance
+     * @param numberOfNewLines number of new lines to add to the beginning of the comments
+     * @return comment lines for the empty lines and configuration data comments (immutable)
+     */
+    protected @NotNull List<CommentLine> collectStaticComments(@NotNull String path,
+                                                               @NotNull ConfigurationData configurationData,
+                                                               int numberOfNewLines) {
+        List<String> configDataComments = configurationData.getCommentsForSection(path);
+        if (numberOfNewLines == 0 && configDataComments.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Supplier<List<CommentLine>> linesCreator = () -> Collections.unmodifiableList(
+            Stream.concat(StreamUtils.repeat("\n", numberOfNewLines), configDataComments.stream())
+                .flatMap(this::createCommentLines)
+                .collect(Collectors.toList()));
+        return commentLineCache == null || !commentLineCache.isFor(configurationData)
+            ? linesCreator.get()
+            : commentLineCache.getCommentLinesForPath(path, numberOfNewLines, linesCreator);
     }
 
     /**
-     * @return UUIDs of comments which should not be repeated that have already been included
+     * Returns the tracker of the comments which should not be repeated that have already been included. The returned
+     * tracker is used by this builder, so comments added to it are treated as if they had already been included.
+     *
+     * @return tracker of the comments which should not be repeated that have already been included
      */
-    protected final @NotNull Set<UUID> getUsedUniqueCommentIds() {
-        return usedUniqueCommentIds;
+    protected final @NotNull UniqueCommentTracker getUsedUniqueComments() {
+        return usedUniqueComments;
     }
 }
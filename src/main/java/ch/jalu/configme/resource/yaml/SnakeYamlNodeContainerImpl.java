@@ -2,7 +2,6 @@ package ch.jalu.configme.resource.yaml;
 
 import org.jetbrains.annotations.NotNull;
 import org.yaml.snakeyaml.DumperOptions;
-import org.yaml.snakeyaml.comments.CommentLine;
 import org.yaml.snakeyaml.nodes.MappingNode;
 import org.yaml.snakeyaml.nodes.Node;
 import org.yaml.snakeyaml.nodes.NodeTuple;
@@ -13,7 +12,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 /**
  * Implementation of {@link SnakeYamlNodeContainer}.
@@ -68,10 +66,7 @@ public class SnakeYamlNodeContainerImpl implements SnakeYamlNodeContainer {
         }
 
         Node mappingNode = createRootNode(entryNodes);
-        List<CommentLine> commentLines = comments.stream()
-            .flatMap(nodeBuilder::createCommentLines)
-            .collect(Collectors.toList());
-        mappingNode.setBlockComments(commentLines);
+        mappingNode.setBlockComments(nodeBuilder.createCommentLines(comments));
         return mappingNode;
     }
 
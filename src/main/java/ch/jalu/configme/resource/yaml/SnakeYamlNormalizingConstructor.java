@@ -0,0 +1,128 @@
+package ch.jalu.configme.resource.yaml;
+
+import ch.jalu.configme.internal.StringDeduplicator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.Tag;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * SnakeYAML constructor which ensures that all maps it creates only have String keys. Keys are normalized as soon as
+ * a mapping has been constructed, so no additional traversal of the loaded structure is needed afterwards.
+ * <p>
+ * Non-String keys are converted with {@link Objects#toString(Object)}. If this results in a key that is already
+ * present in the map (e.g. {@code 1} and {@code '1'}), nested maps are merged; otherwise, the last value wins.
+ * This is the same behavior as {@link ch.jalu.configme.resource.MapNormalizer MapNormalizer}.
+ * <p>
+ * Strings are deduplicated for the lifetime of this constructor, so that keys and short values which appear many
+ * times in a file (e.g. in a list of beans) are only kept once in memory.
+ */
+public class SnakeYamlNormalizingConstructor extends Constructor {
+
+    private final StringDeduplicator stringDeduplicator = new StringDeduplicator();
+
+    /**
+     * Constructor.
+     *
+     * @param loaderOptions the loader options to use
+     */
+    public SnakeYamlNormalizingConstructor(@NotNull LoaderOptions loaderOptions) {
+        super(loaderOptions);
+        this.yamlConstructors.put(Tag.STR, new ConstructDeduplicatedStr());
+    }
+
+    @Override
+    protected void constructMapping2ndStep(@NotNull MappingNode node, @NotNull Map<Object, Object> mapping) {
+        super.constructMapping2ndStep(node, mapping);
+        normalizeKeys(mapping);
+    }
+
+    /**
+     * Replaces all non-String keys of the given map, in place. Nested maps are expected to have been normalized
+     * already, which is always the case since SnakeYAML constructs values before the map that contains them.
+     *
+     * @param map the map to process
+     */
+    protected void normalizeKeys(@NotNull Map<Object, Object> map) {
+        if (!hasNonStringKey(map)) {
+            return;
+        }
+
+        Object[] keysAndValues = new Object[map.size() * 2];
+        int i = 0;
+        for (Map.Entry<Object, Object> entry : map.entrySet()) {
+            keysAndValues[i++] = entry.getKey();
+            keysAndValues[i++] = entry.getValue();
+        }
+
+        map.clear();
+        for (int j = 0; j < keysAndValues.length; j += 2) {
+            putOrMerge(map, toKey(keysAndValues[j]), keysAndValues[j + 1]);
+        }
+    }
+
+    /**
+     * Adds the value to the map under the given key. If the value and the existing entry are both maps,
+     * the entries of the value are merged into a copy of the existing map.
+     *
+     * @param map the map to add the value to
+     * @param key the key to store the value under
+     * @param value the value to store
+     */
+    @SuppressWarnings("unchecked")
+    protected void putOrMerge(@NotNull Map<Object, Object> map, @NotNull String key, @Nullable Object value) {
+        Object existing = map.get(key);
+        if (existing instanceof Map<?, ?> && value instanceof Map<?, ?>) {
+            // Copy the existing map since it might be referenced by an alias elsewhere in the document
+            Map<Object, Object> mergedMap = new LinkedHashMap<>((Map<Object, Object>) existing);
+            ((Map<Object, Object>) value).forEach((k, v) -> putOrMerge(mergedMap, toKey(k), v));
+            map.put(key, mergedMap);
+        } else {
+            map.put(key, value);
+        }
+    }
+
+    /**
+     * Converts the given map key to a String.
+     *
+     * @param key the key to convert
+     * @return the key as (deduplicated) String
+     */
+    protected @NotNull String toKey(@Nullable Object key) {
+        return stringDeduplicator.deduplicate(Objects.toString(key));
+    }
+
+    /**
+     * @return the deduplicator used for the strings constructed by this instance
+     */
+    protected final @NotNull StringDeduplicator getStringDeduplicator() {
+        return stringDeduplicator;
+    }
+
+    private static boolean hasNonStringKey(@NotNull Map<Object, Object> map) {
+        for (Object key : map.keySet()) {
+            if (!(key instanceof String)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Constructs strings like SnakeYAML's default, and deduplicates them.
+     */
+    private final class ConstructDeduplicatedStr extends ConstructYamlStr {
+
+        @Override
+        public Object construct(Node node) {
+            return stringDeduplicator.deduplicate((String) super.construct(node));
+        }
+    }
+}
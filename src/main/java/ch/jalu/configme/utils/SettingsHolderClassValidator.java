@@ -19,6 +19,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -30,11 +36,18 @@ import java.util.stream.Collectors;
  * This class's methods can be overridden for custom behavior. Depending on your needs, you can call the main
  * {@code validate} method and override single validation methods you want to customize or disable, or call the
  * individual validation methods separately.
+ * <p>
+ * Reflection results (property fields of a class, enum types and their entry names) are cached by the validator
+ * instance. Use {@link #validateInParallel} to run the validations concurrently and to get all errors at once.
  */
 public class SettingsHolderClassValidator {
 
     private static final int DEFAULT_MAX_COMMENTS_LENGTH = 90;
 
+    private final Map<Class<?>, List<Field>> propertyFieldsByClass = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Optional<Class<? extends Enum<?>>>> enumTypesByClass = new ConcurrentHashMap<>();
+    private final Map<Class<? extends Enum<?>>, List<String>> enumNamesByType = new ConcurrentHashMap<>();
+
     // ---- Main validation methods (with default settings)
 
     /**
@@ -69,6 +82,52 @@ public class SettingsHolderClassValidator {
         validateHasAllEnumEntriesInComment(configurationData, null);
     }
 
+    /**
+     * Runs all validations of {@link #validate(Iterable)} concurrently and throws a single exception with the
+     * errors of all validations that failed, rather than only the first one.
+     *
+     * @param settingHolders settings holder classes that make up the configuration data of the project
+     */
+    public void validateInParallel(@NotNull Iterable<Class<? extends SettingsHolder>> settingHolders) {
+        List<String> errors = collectValidationErrors(settingHolders);
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException(errors.size() + " validation(s) failed:\n\n"
+                + String.join("\n\n", errors));
+        }
+    }
+
+    /**
+     * Runs all validations of {@link #validate(Iterable)} concurrently and returns the error message of each
+     * validation that failed. The validations that need the configuration data are skipped if it cannot be created,
+     * in which case the error of its creation is returned instead.
+     *
+     * @param settingHolders settings holder classes that make up the configuration data of the project
+     * @return the error messages, in the order of the validations in {@link #validate(Iterable)} (empty if valid)
+     */
+    public @NotNull List<String> collectValidationErrors(
+                                                    @NotNull Iterable<Class<? extends SettingsHolder>> settingHolders) {
+        List<Class<? extends SettingsHolder>> holders = new ArrayList<>();
+        settingHolders.forEach(holders::add);
+        holders.parallelStream().forEach(this::getPropertyFields);
+
+        CompletableFuture<ConfigurationData> configurationData =
+            CompletableFuture.supplyAsync(() -> createConfigurationData(holders));
+        List<CompletableFuture<String>> results = Arrays.asList(
+            runAsync(() -> validateAllPropertiesAreConstants(holders)),
+            runAsync(() -> validateSettingsHolderClassesFinal(holders)),
+            runAsync(() -> validateClassesHaveHiddenNoArgConstructor(holders)),
+            configurationData.handle((data, e) -> e == null ? null : getErrorMessage(e)),
+            runAsync(configurationData, data -> validateHasCommentOnEveryProperty(data, null)),
+            runAsync(configurationData,
+                data -> validateCommentLengthsAreWithinBounds(data, null, DEFAULT_MAX_COMMENTS_LENGTH)),
+            runAsync(configurationData, data -> validateHasAllEnumEntriesInComment(data, null)));
+
+        return results.stream()
+            .map(CompletableFuture::join)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
     /**
      * Validates that the migration service does not declare that a migration is required for the given
      * configuration data, which gets saved to the provided resource beforehand. This is intended to
@@ -105,8 +164,7 @@ public class SettingsHolderClassValidator {
         List<String> invalidFields = new ArrayList<>();
 
         for (Class<? extends SettingsHolder> clazz : settingHolders) {
-            List<String> invalidFieldsForClazz = FieldUtils.getAllFields(clazz, false)
-                .filter(field -> Property.class.isAssignableFrom(field.getType()))
+            List<String> invalidFieldsForClazz = getPropertyFields(clazz).stream()
                 .filter(field -> !isValidConstantField(field))
                 .map(field -> field.getDeclaringClass().getSimpleName() + "#" + field.getName())
                 .collect(Collectors.toList());
@@ -236,7 +294,7 @@ public class SettingsHolderClassValidator {
 
             Class<? extends Enum<?>> enumType = getEnumTypeOfProperty(property);
             if (enumType != null) {
-                List<String> expectedEnums = gatherExpectedEnumNames(enumType);
+                List<String> expectedEnums = enumNamesByType.computeIfAbsent(enumType, this::gatherExpectedEnumNames);
                 String comments = String.join("\n", configurationData.getCommentsForSection(property.getPath()));
                 List<String> missingEnumEntries = expectedEnums.stream()
                     .filter(e -> !comments.contains(e))
@@ -299,7 +357,7 @@ public class SettingsHolderClassValidator {
      */
     protected @Nullable Class<? extends Enum<?>> getEnumTypeOfProperty(@NotNull Property<?> property) {
         Class<?> defaultValueType = property.getDefaultValue().getClass();
-        return EnumUtils.getAssociatedEnumType(defaultValueType).orElse(null);
+        return enumTypesByClass.computeIfAbsent(defaultValueType, EnumUtils::getAssociatedEnumType).orElse(null);
     }
 
     protected @NotNull List<String> gatherExpectedEnumNames(@NotNull Class<? extends Enum<?>> enumClass) {
@@ -308,10 +366,50 @@ public class SettingsHolderClassValidator {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Returns all fields of the given class and its parents whose type is a {@link Property}. The result is cached.
+     *
+     * @param clazz the class to process
+     * @return the property fields of the class (do not modify)
+     */
+    protected @NotNull List<Field> getPropertyFields(@NotNull Class<?> clazz) {
+        return propertyFieldsByClass.computeIfAbsent(clazz, cls -> FieldUtils.getAllFields(cls, false)
+            .filter(field -> Property.class.isAssignableFrom(field.getType()))
+            .collect(Collectors.toList()));
+    }
+
     protected boolean hasValidConstructorSetup(@NotNull Class<? extends SettingsHolder> clazz) {
         Constructor<?>[] constructors = clazz.getDeclaredConstructors();
         return constructors.length == 1
             && constructors[0].getParameterCount() == 0
             && Modifier.isPrivate(constructors[0].getModifiers());
     }
+
+    private static @NotNull CompletableFuture<String> runAsync(@NotNull Runnable validation) {
+        return CompletableFuture.supplyAsync(() -> runAndGetError(validation));
+    }
+
+    private static @NotNull CompletableFuture<String> runAsync(
+                                                         @NotNull CompletableFuture<ConfigurationData> configurationData,
+                                                         @NotNull Consumer<ConfigurationData> validation) {
+        return configurationData
+            .thenApplyAsync(data -> runAndGetError(() -> validation.accept(data)))
+            .exceptionally(e -> null); // Creation of the configuration data failed, reported separately
+    }
+
+    private static @Nullable String runAndGetError(@NotNull Runnable validation) {
+        try {
+            validation.run();
+            return null;
+        } catch (RuntimeException e) {
+            return getErrorMessage(e);
+        }
+    }
+
+    private static @NotNull String getErrorMessage(@NotNull Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+            ? throwable.getCause()
+            : throwable;
+        return cause.getMessage() == null ? cause.getClass().getName() : cause.getMessage();
+    }
 }
@@ -2,6 +2,10 @@ package ch.jalu.configme;
 
 import ch.jalu.configme.configurationdata.ConfigurationData;
 import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import ch.jalu.configme.instrumentation.JfrSettingsManagerInstrumentation;
+import ch.jalu.configme.instrumentation.PhaseMeasurement;
+import ch.jalu.configme.instrumentation.SettingsManagerInstrumentation;
+import ch.jalu.configme.migration.MigrationDiff;
 import ch.jalu.configme.migration.MigrationService;
 import ch.jalu.configme.migration.PlainMigrationService;
 import ch.jalu.configme.migration.version.VersionMigration;
@@ -10,6 +14,7 @@ import ch.jalu.configme.properties.Property;
 import ch.jalu.configme.properties.PropertyInitializer;
 import ch.jalu.configme.resource.PropertyReader;
 import ch.jalu.configme.resource.PropertyResource;
+import ch.jalu.configme.resource.YamlFileReader;
 import ch.jalu.configme.resource.YamlFileResource;
 import ch.jalu.configme.resource.YamlFileResourceOptions;
 import ch.jalu.configme.samples.TestConfiguration;
@@ -27,18 +32,22 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import static ch.jalu.configme.TestUtils.copyFileFromResources;
 import static ch.jalu.configme.TestUtils.isValidValueOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -73,6 +82,30 @@ class SettingsManagerBuilderTest {
         verify(migrationService).checkAndMigrate(reader, configurationData);
     }
 
+    @Test
+    void shouldCreateSettingsManagerWithInstrumentation() {
+        // given
+        PropertyResource resource = mock(PropertyResource.class);
+        given(resource.createReader()).willReturn(mock(PropertyReader.class));
+        ConfigurationData configurationData = mock(ConfigurationData.class);
+        SettingsManagerInstrumentation instrumentation = mock(SettingsManagerInstrumentation.class);
+
+        // when
+        SettingsManagerImpl settingsManager = (SettingsManagerImpl) SettingsManagerBuilder.withResource(resource)
+            .configurationData(configurationData)
+            .instrumentation(instrumentation)
+            .create();
+        SettingsManagerImpl settingsManager2 = (SettingsManagerImpl) SettingsManagerBuilder.withResource(resource)
+            .configurationData(configurationData)
+            .useJfrInstrumentation()
+            .create();
+
+        // then
+        assertThat(settingsManager.getInstrumentation(), sameInstance(instrumentation));
+        verify(instrumentation, times(2)).onPhaseCompleted(any(PhaseMeasurement.class));
+        assertThat(settingsManager2.getInstrumentation(), instanceOf(JfrSettingsManagerInstrumentation.class));
+    }
+
     @Test
     void shouldCreateSettingsManagerWithYamlFileAndDefaultMigrationService() {
         // given
@@ -110,6 +143,25 @@ class SettingsManagerBuilderTest {
         assertThat(settingsManager.getMigrationService(), nullValue());
     }
 
+    @Test
+    void shouldCreateSettingsManagerWithLazyConfigurationData() {
+        // given
+        PropertyResource resource = mock(PropertyResource.class);
+        given(resource.createReader()).willReturn(mock(PropertyReader.class));
+
+        // when
+        SettingsManagerImpl settingsManager = (SettingsManagerImpl) SettingsManagerBuilder.withResource(resource)
+            .lazyConfigurationData(TestConfiguration.class)
+            .create();
+
+        // then
+        ConfigurationData configurationData = settingsManager.getConfigurationData();
+        assertThat(configurationData.getProperties(), hasSize(11));
+        assertThat(configurationData.getNumberOfValuesInvalidInResource(), equalTo(-1)); // values not determined yet
+        assertThat(settingsManager.getProperty(TestConfiguration.SYSTEM_NAME),
+            equalTo(TestConfiguration.SYSTEM_NAME.getDefaultValue()));
+    }
+
     /**
      * Similar to {@link #shouldCreateSettingsManagerWithYamlFileAndDefaultMigrationService}
      * but also checks the writing and everything.
@@ -137,6 +189,35 @@ class SettingsManagerBuilderTest {
         assertThat(TestConfiguration.RATIO_ORDER.determineValue(reader), isValidValueOf(TestConfiguration.RATIO_ORDER.getDefaultValue()));
     }
 
+    @Test
+    void shouldDeferSaveAfterMigration() throws IOException {
+        // given
+        Path file = copyFileFromResources("/config-incomplete-sample.yml", temporaryFolder);
+        List<String> initialLines = Files.readAllLines(file);
+
+        // when
+        SettingsManager manager = SettingsManagerBuilder.withYamlFile(file)
+            .configurationData(TestConfiguration.class)
+            .useDefaultMigrationService()
+            .deferSaveAfterMigration()
+            .create();
+
+        // then
+        assertThat(Files.readAllLines(file), equalTo(initialLines));
+        MigrationDiff pendingMigration = manager.getPendingMigration();
+        assertThat(pendingMigration.getAddedPaths(), hasItem(TestConfiguration.RATIO_ORDER.getPath()));
+        assertThat(manager.getProperty(TestConfiguration.DURATION_IN_SECONDS), equalTo(22));
+
+        // when (2)
+        manager.save();
+
+        // then (2)
+        assertThat(manager.getPendingMigration(), nullValue());
+        PropertyReader reader = new YamlFileReader(file);
+        assertThat(TestConfiguration.RATIO_ORDER.determineValue(reader),
+            isValidValueOf(TestConfiguration.RATIO_ORDER.getDefaultValue()));
+    }
+
     @Test
     void shouldCreateSettingsManagerFromFileObject() throws URISyntaxException {
         // given
@@ -5,6 +5,8 @@ import ch.jalu.configme.beanmapper.worldgroup.Group;
 import ch.jalu.configme.beanmapper.worldgroup.WorldGroupConfig;
 import ch.jalu.configme.configurationdata.ConfigurationData;
 import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.instrumentation.PhaseMeasurement;
+import ch.jalu.configme.instrumentation.SettingsManagerPhase;
 import ch.jalu.configme.migration.MigrationService;
 import ch.jalu.configme.properties.BeanProperty;
 import ch.jalu.configme.properties.OptionalProperty;
@@ -21,12 +23,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static ch.jalu.configme.TestUtils.copyFileFromResources;
 import static ch.jalu.configme.configurationdata.ConfigurationDataBuilder.createConfiguration;
@@ -34,9 +38,12 @@ import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.reset;
@@ -237,6 +244,150 @@ class SettingsManagerImplTest {
         assertThat(ex.getMessage(), equalTo("Invalid value for property '" + property + "': test"));
     }
 
+    @Test
+    void shouldReportPhasesToInstrumentation() {
+        // given
+        given(resource.createReader()).willReturn(reader);
+        given(resource.getSizeInBytes()).willReturn(120L);
+        given(migrationService.checkAndMigrate(reader, configurationData)).willReturn(true);
+        List<PhaseMeasurement> measurements = new ArrayList<>();
+
+        // when
+        new SettingsManagerImpl(resource, configurationData, migrationService, measurements::add);
+
+        // then
+        assertThat(measurements.stream().map(PhaseMeasurement::getPhase).collect(Collectors.toList()),
+            contains(SettingsManagerPhase.READ, SettingsManagerPhase.INITIALIZE_VALUES,
+                SettingsManagerPhase.MIGRATION, SettingsManagerPhase.SAVE));
+        assertThat(measurements.get(0).getByteCount(), equalTo(120L));
+        assertThat(measurements.get(1).getByteCount(), equalTo((long) PhaseMeasurement.UNKNOWN));
+        assertThat(measurements.get(1).getPropertyCount(), equalTo(3));
+        assertThat(measurements.get(1).getErrorCount(), equalTo(3)); // reader mock returns null for everything
+        assertThat(measurements.get(0).getErrorCount(), equalTo(PhaseMeasurement.UNKNOWN));
+        assertThat(measurements.get(2).getErrorCount(), equalTo(PhaseMeasurement.UNKNOWN));
+        assertThat(measurements.get(3).getByteCount(), equalTo(120L));
+        assertThat(measurements.get(3).getErrorCount(), equalTo(PhaseMeasurement.UNKNOWN));
+        verify(resource).exportProperties(configurationData);
+    }
+
+    @Test
+    void shouldReportSaveToInstrumentation() {
+        // given
+        given(resource.createReader()).willReturn(reader);
+        List<PhaseMeasurement> measurements = new ArrayList<>();
+        SettingsManager manager = new SettingsManagerImpl(resource, configurationData, null, measurements::add);
+        measurements.clear();
+
+        // when
+        manager.save();
+
+        // then
+        assertThat(measurements, hasSize(1));
+        assertThat(measurements.get(0).getPhase(), equalTo(SettingsManagerPhase.SAVE));
+        assertThat(measurements.get(0).getDurationNanos(), greaterThanOrEqualTo(0L));
+    }
+
+    @Test
+    void shouldApplyAllChangesOfTransactionAndSaveOnce() {
+        // given
+        given(resource.createReader()).willReturn(reader);
+        SettingsManager manager = createManager();
+        Property<Integer> prop = (Property<Integer>) configurationData.getProperties().get(0);
+        Property<String> prop2 = (Property<String>) configurationData.getProperties().get(1);
+        Property<Integer> prop3 = (Property<Integer>) configurationData.getProperties().get(2);
+
+        // when
+        manager.update(tx -> tx
+            .set(prop, 7)
+            .set(prop2, "batch")
+            .set(prop3, tx.get(prop) * 2));
+
+        // then
+        assertThat(manager.getProperty(prop), equalTo(7));
+        assertThat(manager.getProperty(prop2), equalTo("batch"));
+        assertThat(manager.getProperty(prop3), equalTo(14));
+        verify(resource).exportProperties(configurationData);
+    }
+
+    @Test
+    void shouldNotApplyAnyChangeIfTransactionHasInvalidValue() {
+        // given
+        given(resource.createReader()).willReturn(reader);
+        SettingsManager manager = createManager();
+        Property<Integer> prop = (Property<Integer>) configurationData.getProperties().get(0);
+        Property<String> property = typedMock();
+        given(property.isValidValue("test")).willReturn(false);
+
+        // when
+        ConfigMeException ex = assertThrows(ConfigMeException.class,
+            () -> manager.update(tx -> tx.set(prop, 7).set(property, "test")));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("Invalid value for property '" + property + "': test"));
+        assertThat(manager.getProperty(prop), equalTo(3));
+        verify(resource, only()).createReader();
+    }
+
+    @Test
+    void shouldNotSaveForEmptyTransaction() {
+        // given
+        given(resource.createReader()).willReturn(reader);
+        SettingsManager manager = createManager();
+
+        // when
+        manager.update(tx -> { });
+
+        // then
+        verify(resource, only()).createReader();
+    }
+
+    @Test
+    void shouldSaveValuesOfUpdateWithoutConcurrentChanges() throws InterruptedException {
+        // given
+        given(resource.createReader()).willReturn(reader);
+        SettingsManager manager = createManager();
+        Property<Integer> prop = (Property<Integer>) configurationData.getProperties().get(0);
+        List<Integer> exportedValues = new ArrayList<>();
+        Thread concurrentSetter = new Thread(() -> manager.setProperty(prop, 99));
+        doAnswer(invocation -> {
+            concurrentSetter.start();
+            concurrentSetter.join(100);
+            exportedValues.add(configurationData.getValue(prop));
+            return null;
+        }).when(resource).exportProperties(configurationData);
+
+        // when
+        manager.update(tx -> tx.set(prop, 7));
+
+        // then
+        concurrentSetter.join();
+        assertThat(exportedValues, contains(7));
+        assertThat(manager.getProperty(prop), equalTo(99));
+    }
+
+    @Test
+    void shouldNotReadValuesWhileReloading() throws InterruptedException {
+        // given
+        given(resource.createReader()).willReturn(reader);
+        SettingsManager manager = createManager();
+        Property<Integer> prop = (Property<Integer>) configurationData.getProperties().get(0);
+        List<Integer> readValues = Collections.synchronizedList(new ArrayList<>());
+        Thread concurrentReader = new Thread(() -> readValues.add(manager.getProperty(prop)));
+        given(migrationService.checkAndMigrate(reader, configurationData)).willAnswer(invocation -> {
+            concurrentReader.start();
+            concurrentReader.join(100);
+            configurationData.setValue(prop, 8);
+            return MigrationService.NO_MIGRATION_NEEDED;
+        });
+
+        // when
+        manager.reload();
+
+        // then
+        concurrentReader.join();
+        assertThat(readValues, contains(8));
+    }
+
     private void verifyWasMigrationServiceChecked() {
         verify(migrationService, only()).checkAndMigrate(reader, configurationData);
     }
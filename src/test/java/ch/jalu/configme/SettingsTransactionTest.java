@@ -0,0 +1,131 @@
+package ch.jalu.configme;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.properties.IntegerProperty;
+import ch.jalu.configme.properties.Property;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Test for {@link SettingsTransaction} and the default implementation of {@link SettingsManager#update}.
+ */
+@ExtendWith(MockitoExtension.class)
+class SettingsTransactionTest {
+
+    private final Property<Integer> size = newProperty("size", 3);
+    private final Property<String> name = newProperty("name", "test");
+
+    @Mock
+    private SettingsManager settingsManager;
+
+    @Test
+    void shouldReturnStagedOrCurrentValue() {
+        // given
+        SettingsTransaction transaction = new SettingsTransaction(settingsManager);
+        given(settingsManager.getProperty(name)).willReturn("current");
+
+        // when
+        transaction.set(size, 5).set(size, 8);
+
+        // then
+        assertThat(transaction.get(size), equalTo(8));
+        assertThat(transaction.get(name), equalTo("current"));
+        assertThat(transaction.getChanges().keySet(), contains(size));
+    }
+
+    @Test
+    void shouldThrowForInvalidValue() {
+        // given
+        SettingsTransaction transaction = new SettingsTransaction(settingsManager);
+        Property<Integer> invalidProperty = new IntegerProperty("positive", 0) {
+            @Override
+            public boolean isValidValue(Integer value) {
+                return value != null && value >= 0;
+            }
+        };
+        transaction.set(size, 4).set(invalidProperty, -1);
+
+        // when
+        ConfigMeException ex = assertThrows(ConfigMeException.class, transaction::validate);
+
+        // then
+        assertThat(ex.getMessage(), equalTo("Invalid value for property '" + invalidProperty + "': -1"));
+    }
+
+    @Test
+    void shouldApplyChangesAndSaveWithDefaultUpdateMethod() {
+        // given
+        SettingsManager manager = new SettingsManager() {
+            @Override
+            public <T> T getProperty(Property<T> property) {
+                return settingsManager.getProperty(property);
+            }
+
+            @Override
+            public <T> void setProperty(Property<T> property, T value) {
+                settingsManager.setProperty(property, value);
+            }
+
+            @Override
+            public void reload() {
+                settingsManager.reload();
+            }
+
+            @Override
+            public void save() {
+                settingsManager.save();
+            }
+        };
+
+        // when
+        manager.update(tx -> tx.set(size, 6).set(name, "batch"));
+
+        // then
+        verify(settingsManager).setProperty(size, 6);
+        verify(settingsManager).setProperty(name, "batch");
+        verify(settingsManager).save();
+    }
+
+    @Test
+    void shouldNotChangeAnythingWithDefaultUpdateMethodForEmptyTransaction() {
+        // given
+        SettingsManager manager = new SettingsManager() {
+            @Override
+            public <T> T getProperty(Property<T> property) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <T> void setProperty(Property<T> property, T value) {
+                settingsManager.setProperty(property, value);
+            }
+
+            @Override
+            public void reload() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void save() {
+                settingsManager.save();
+            }
+        };
+
+        // when
+        manager.update(tx -> { });
+
+        // then
+        verifyNoInteractions(settingsManager);
+    }
+}
@@ -0,0 +1,94 @@
+package ch.jalu.configme.beanmapper;
+
+import ch.jalu.typeresolver.TypeInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link ConvertedBeanCache}.
+ */
+class ConvertedBeanCacheTest {
+
+    @Test
+    void shouldReturnBeanForEqualValue() {
+        // given
+        ConvertedBeanCache cache = new ConvertedBeanCache();
+        Object bean = new Object();
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("name", "test");
+        value.put("list", Arrays.asList(1, 2));
+        cache.put(TypeInfo.of(Object.class), value, bean);
+
+        Map<String, Object> equalValue = new HashMap<>();
+        equalValue.put("list", new ArrayList<>(Arrays.asList(1, 2)));
+        equalValue.put("name", "test");
+
+        // when
+        Object result1 = cache.get(TypeInfo.of(Object.class), equalValue);
+        Object result2 = cache.get(TypeInfo.of(String.class), equalValue);
+        equalValue.put("list", Arrays.asList(1, 3));
+        Object result3 = cache.get(TypeInfo.of(Object.class), equalValue);
+
+        // then
+        assertThat(result1, sameInstance(bean));
+        assertThat(result2, nullValue());
+        assertThat(result3, nullValue());
+    }
+
+    @Test
+    void shouldRemoveLeastRecentlyUsedEntries() {
+        // given
+        ConvertedBeanCache cache = new ConvertedBeanCache(2);
+        TypeInfo type = TypeInfo.of(Object.class);
+        List<String> value1 = Arrays.asList("a");
+        List<String> value2 = Arrays.asList("b");
+        List<String> value3 = Arrays.asList("c");
+        cache.put(type, value1, "bean1");
+        cache.put(type, value2, "bean2");
+
+        // when
+        cache.get(type, value1);
+        cache.put(type, value3, "bean3");
+
+        // then
+        assertThat(cache.size(), equalTo(2));
+        assertThat(cache.get(type, value1), equalTo("bean1"));
+        assertThat(cache.get(type, value2), nullValue());
+        assertThat(cache.get(type, value3), equalTo("bean3"));
+    }
+
+    @Test
+    void shouldClearCache() {
+        // given
+        ConvertedBeanCache cache = new ConvertedBeanCache();
+        cache.put(TypeInfo.of(Object.class), "value", "bean");
+
+        // when
+        cache.clear();
+
+        // then
+        assertThat(cache.size(), equalTo(0));
+        assertThat(cache.get(TypeInfo.of(Object.class), "value"), nullValue());
+    }
+
+    @Test
+    void shouldRejectInvalidMaxSize() {
+        // given / when
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> new ConvertedBeanCache(0));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("Max size must be positive, but got 0"));
+    }
+}
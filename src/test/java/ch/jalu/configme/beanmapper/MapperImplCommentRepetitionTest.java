@@ -14,8 +14,7 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
-import static org.hamcrest.Matchers.notNullValue;
-import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 
 /**
  * Test for the handling of comments in {@link MapperImpl}.
@@ -53,7 +52,7 @@ class MapperImplCommentRepetitionTest {
             if (i == 0) {
                 assertThat(titleValue, instanceOf(ValueWithComments.class));
                 assertThat(((ValueWithComments) titleValue).getComments(), contains("Song title"));
-                assertThat(((ValueWithComments) titleValue).getUniqueCommentId(), notNullValue());
+                assertThat(((ValueWithComments) titleValue).getUniqueCommentIntId(), greaterThanOrEqualTo(0));
                 assertThat(((ValueWithComments) titleValue).getValue(), equalTo(songs.getSongs().get(i).getTitle()));
             } else {
                 assertThat(titleValue, equalTo(songs.getSongs().get(i).getTitle()));
@@ -63,7 +62,7 @@ class MapperImplCommentRepetitionTest {
             Object yearValue = songValues.get("year");
             assertThat(yearValue, instanceOf(ValueWithComments.class));
             assertThat(((ValueWithComments) yearValue).getComments(), contains("Release year"));
-            assertThat(((ValueWithComments) yearValue).getUniqueCommentId(), nullValue());
+            assertThat(((ValueWithComments) yearValue).getUniqueCommentIntId(), equalTo(ValueWithComments.NO_UNIQUE_COMMENT_ID));
             assertThat(((ValueWithComments) yearValue).getValue(), equalTo(songs.getSongs().get(i).getYear()));
         }
     }
@@ -11,6 +11,7 @@ import ch.jalu.configme.beanmapper.command.optionalproperties.ComplexOptionalTyp
 import ch.jalu.configme.beanmapper.context.MappingContext;
 import ch.jalu.configme.beanmapper.context.MappingContextImpl;
 import ch.jalu.configme.beanmapper.definition.BeanDefinitionService;
+import ch.jalu.configme.beanmapper.definition.BeanDefinitionServiceImpl;
 import ch.jalu.configme.beanmapper.leafvaluehandler.LeafValueHandler;
 import ch.jalu.configme.beanmapper.leafvaluehandler.LeafValueHandlerImpl;
 import ch.jalu.configme.beanmapper.typeissues.GenericCollection;
@@ -41,6 +42,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -51,6 +53,7 @@ import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 import static ch.jalu.configme.TestUtils.getJarPath;
@@ -59,7 +62,9 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
@@ -592,6 +597,162 @@ class MapperImplTest {
         };
     }
 
+    @Test
+    void shouldReuseUnchangedImmutableBeans() {
+        // given
+        MapperImpl mapper = new MapperImpl(new BeanDefinitionServiceImpl(),
+            new LeafValueHandlerImpl(LeafValueHandlerImpl.createDefaultLeafTypes()), new ConvertedBeanCache());
+        TypeInfo type = TypeInfo.of(ServerList.class);
+        ServerList result1 = (ServerList) mapper.convertToBean(createServerListValue(2), type, new ConvertErrorRecorder());
+
+        // when
+        ServerList result2 = (ServerList) mapper.convertToBean(createServerListValue(3), type, new ConvertErrorRecorder());
+        ServerList result3 = (ServerList) mapper.convertToBean(createServerListValue(3), type, new ConvertErrorRecorder());
+
+        // then
+        assertThat(result2, not(sameInstance(result1)));
+        assertThat(result2.servers.get(0), sameInstance(result1.servers.get(0)));
+        assertThat(result2.servers.get(1), not(sameInstance(result1.servers.get(1))));
+        assertThat(result2.servers.get(1).port, equalTo(3));
+        assertThat(result3, sameInstance(result2));
+    }
+
+    @Test
+    void shouldNotReuseMutableBeansOrBeansWithErrors() {
+        // given
+        MapperImpl mapper = new MapperImpl(new BeanDefinitionServiceImpl(),
+            new LeafValueHandlerImpl(LeafValueHandlerImpl.createDefaultLeafTypes()), new ConvertedBeanCache());
+        Map<String, Object> mutableBeanValue = Collections.singletonMap("list", Arrays.asList("SECONDS"));
+        Map<String, Object> invalidServerValue = new HashMap<>();
+        invalidServerValue.put("name", "test");
+        invalidServerValue.put("port", "invalid");
+
+        // when
+        Object mutableBean1 = mapper.convertToBean(mutableBeanValue, TypeInfo.of(BeanWithList.class), new ConvertErrorRecorder());
+        Object mutableBean2 = mapper.convertToBean(mutableBeanValue, TypeInfo.of(BeanWithList.class), new ConvertErrorRecorder());
+        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder();
+        Object server1 = mapper.convertToBean(invalidServerValue, TypeInfo.of(Server.class), errorRecorder);
+        Object server2 = mapper.convertToBean(invalidServerValue, TypeInfo.of(Server.class), new ConvertErrorRecorder());
+
+        // then
+        assertThat(mutableBean2, not(sameInstance(mutableBean1)));
+        assertThat(errorRecorder.isFullyValid(), equalTo(false));
+        assertThat(server2, not(sameInstance(server1)));
+    }
+
+    @Test
+    void shouldCacheValidBeanAfterErrorOfSiblingBean() {
+        // given
+        MapperImpl cachingMapper = new MapperImpl(new BeanDefinitionServiceImpl(),
+            new LeafValueHandlerImpl(LeafValueHandlerImpl.createDefaultLeafTypes()), new ConvertedBeanCache());
+        Map<String, Object> value = createServerListValue(2);
+        ((Map<String, Object>) ((List<?>) value.get("servers")).get(0)).put("port", "invalid");
+        ReasonCollectingErrorRecorder errorRecorder = new ReasonCollectingErrorRecorder();
+        ReasonCollectingErrorRecorder expectedErrorRecorder = new ReasonCollectingErrorRecorder();
+
+        // when
+        ServerList result1 = cachingMapper.convertToBean(value, ServerList.class, errorRecorder);
+        ServerList result2 = cachingMapper.convertToBean(value, ServerList.class, new ConvertErrorRecorder());
+        mapper.convertToBean(value, ServerList.class, expectedErrorRecorder);
+
+        // then
+        assertThat(errorRecorder.isFullyValid(), equalTo(false));
+        assertThat(errorRecorder.reasons, contains(expectedErrorRecorder.reasons.toArray()));
+        assertThat(result2, not(sameInstance(result1)));
+        assertThat(result2.servers.get(0), not(sameInstance(result1.servers.get(0))));
+        assertThat(result2.servers.get(1), sameInstance(result1.servers.get(1)));
+    }
+
+    @Test
+    void shouldConvertLargeCollectionsAndMapsInParallel() {
+        // given
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        MapperImpl parallelMapper = new MapperImpl(new BeanDefinitionServiceImpl(),
+            new LeafValueHandlerImpl(LeafValueHandlerImpl.createDefaultLeafTypes()), null, forkJoinPool, 10);
+        Map<String, Object> value = createServerCollectionsValue(200);
+        ReasonCollectingErrorRecorder parallelErrorRecorder = new ReasonCollectingErrorRecorder();
+        ReasonCollectingErrorRecorder sequentialErrorRecorder = new ReasonCollectingErrorRecorder();
+
+        // when
+        ServerCollections result = parallelMapper.convertToBean(value, ServerCollections.class, parallelErrorRecorder);
+        ServerCollections expected = mapper.convertToBean(value, ServerCollections.class, sequentialErrorRecorder);
+        forkJoinPool.shutdown();
+
+        // then
+        assertThat(result.servers, hasSize(180));
+        assertThat(result.serversByName.keySet(), hasSize(180));
+        assertThat(result.serversByName.keySet(), contains(expected.serversByName.keySet().toArray()));
+        for (int i = 0; i < expected.servers.size(); ++i) {
+            assertThat(result.servers.get(i).name, equalTo(expected.servers.get(i).name));
+            assertThat(result.servers.get(i).port, equalTo(expected.servers.get(i).port));
+        }
+        assertThat(parallelErrorRecorder.isFullyValid(), equalTo(false));
+        assertThat(parallelErrorRecorder.reasons, hasSize(sequentialErrorRecorder.reasons.size()));
+        assertThat(parallelErrorRecorder.reasons, contains(sequentialErrorRecorder.reasons.toArray()));
+    }
+
+    @Test
+    void shouldRethrowExceptionFromParallelConversion() {
+        // given
+        ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+        MapperImpl parallelMapper = new MapperImpl(new BeanDefinitionServiceImpl(),
+            new LeafValueHandlerImpl(LeafValueHandlerImpl.createDefaultLeafTypes()), null, forkJoinPool, 2);
+        Map<String, Object> value = Collections.singletonMap("maps",
+            Arrays.asList(Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap()));
+
+        // when
+        ConfigMeMapperException ex = assertThrows(ConfigMeMapperException.class,
+            () -> parallelMapper.convertToBean(value, BeanWithListOfMaps.class, new ConvertErrorRecorder()));
+        forkJoinPool.shutdown();
+
+        // then
+        assertThat(ex.getMessage(), equalTo("The key type of maps may only be of String type, for mapping of: "
+            + "[Bean path: 'maps[0]', type: 'java.util.Map<java.lang.Integer, java.lang.String>']"));
+    }
+
+    @Test
+    void shouldRejectInvalidParallelConversionThreshold() {
+        // given / when
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> new MapperImpl(new BeanDefinitionServiceImpl(),
+                new LeafValueHandlerImpl(LeafValueHandlerImpl.createDefaultLeafTypes()), null, null, 0));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("The parallel conversion threshold must be positive, but was 0"));
+    }
+
+    private static Map<String, Object> createServerCollectionsValue(int numberOfServers) {
+        List<Object> servers = new ArrayList<>();
+        Map<String, Object> serversByName = new LinkedHashMap<>();
+        for (int i = 0; i < numberOfServers; ++i) {
+            Map<String, Object> server = new HashMap<>();
+            // Every 10th server has no name and cannot be mapped
+            if (i % 10 != 3) {
+                server.put("name", "server" + i);
+            }
+            server.put("port", i % 7 == 0 ? "invalid" : i);
+            servers.add(server);
+            serversByName.put("s" + i, server);
+        }
+        Map<String, Object> value = new HashMap<>();
+        value.put("servers", servers);
+        value.put("serversByName", serversByName);
+        return value;
+    }
+
+    private static Map<String, Object> createServerListValue(int portOfSecondServer) {
+        Map<String, Object> server1 = new HashMap<>();
+        server1.put("name", "lobby");
+        server1.put("port", 1);
+        Map<String, Object> server2 = new HashMap<>();
+        server2.put("name", "survival");
+        server2.put("port", portOfSecondServer);
+        Map<String, Object> serverList = new HashMap<>();
+        serverList.put("owner", "admin");
+        serverList.put("servers", Arrays.asList(server1, server2));
+        return serverList;
+    }
+
     private static final class BeanWithOptional {
         Optional<TimeUnit> unit;
     }
@@ -603,4 +764,36 @@ class MapperImplTest {
     private static final class BeanWithMap {
         Map<String, TimeUnit> map;
     }
+
+    @ImmutableBean
+    private static final class Server {
+        String name;
+        int port;
+    }
+
+    @ImmutableBean
+    private static final class ServerList {
+        String owner;
+        List<Server> servers;
+    }
+
+    private static final class ServerCollections {
+        List<Server> servers;
+        Map<String, Server> serversByName;
+    }
+
+    private static final class BeanWithListOfMaps {
+        List<Map<Integer, String>> maps;
+    }
+
+    private static final class ReasonCollectingErrorRecorder extends ConvertErrorRecorder {
+
+        private final List<String> reasons = new ArrayList<>();
+
+        @Override
+        public void setHasError(String reason) {
+            super.setHasError(reason);
+            reasons.add(reason);
+        }
+    }
 }
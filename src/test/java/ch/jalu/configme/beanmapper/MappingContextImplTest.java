@@ -6,6 +6,8 @@ import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import ch.jalu.typeresolver.TypeInfo;
 import ch.jalu.typeresolver.reference.TypeReference;
 import ch.jalu.typeresolver.typeimpl.WildcardTypeImpl;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -19,9 +21,12 @@ import java.util.concurrent.TimeUnit;
 import static ch.jalu.typeresolver.TypeInfo.of;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 /**
  * Test for {@link MappingContextImpl}.
@@ -77,6 +82,26 @@ class MappingContextImplTest {
         verify(errorRecorder).setHasError("For bean path 'bar': Not a valid value");
     }
 
+    @Test
+    void shouldCreateContextWithOtherErrorRecorder() {
+        // given
+        ConvertErrorRecorder errorRecorder = mock(ConvertErrorRecorder.class);
+        ConvertErrorRecorder otherErrorRecorder = mock(ConvertErrorRecorder.class);
+        MappingContext root = MappingContextImpl.createRoot(of(String.class), errorRecorder);
+        MappingContext context = root.createChild("bar", new TypeReference<List<Double>>() { });
+
+        // when
+        MappingContext result = context.withErrorRecorder(otherErrorRecorder);
+        result.createChildForIndex(2, of(Double.class)).registerError("Not a valid value");
+
+        // then
+        assertThat(result.getBeanPath(), equalTo("bar"));
+        assertThat(result.getTargetType(), equalTo(context.getTargetType()));
+        assertThat(result.getErrorRecorder(), sameInstance(otherErrorRecorder));
+        verify(otherErrorRecorder).setHasError("For bean path 'bar[2]': Not a valid value");
+        verifyNoInteractions(errorRecorder);
+    }
+
     @Test
     void shouldReturnTargetTypeAsClass() {
         // given
@@ -150,4 +175,68 @@ class MappingContextImplTest {
         // then
         assertThat(context.getBeanPath(), equalTo("db.driver[3].version$opt.release"));
     }
+
+    @Test
+    void shouldCreatePathsForIndexAndMapKey() {
+        // given
+        TypeInfo typeInfo = of(String.class);
+        MappingContext root = MappingContextImpl.createRoot(typeInfo, new ConvertErrorRecorder());
+
+        // when
+        MappingContext indexChild = root.createChildForIndex(2, typeInfo);
+        MappingContext mapKeyChild = indexChild.createChild("servers", typeInfo).createChildForMapKey("main", typeInfo);
+        MappingContext nestedChild = mapKeyChild.createChildForIndex(0, typeInfo).createChild("name", typeInfo);
+
+        // then
+        assertThat(indexChild.getBeanPath(), equalTo("[2]"));
+        assertThat(mapKeyChild.getBeanPath(), equalTo("[2].servers[k=main]"));
+        assertThat(nestedChild.getBeanPath(), equalTo("[2].servers[k=main][0].name"));
+        assertThat(nestedChild.createDescription(), equalTo("Bean path: '[2].servers[k=main][0].name', type: 'class java.lang.String'"));
+    }
+
+    @Test
+    void shouldUsePathOfParentCreatedWithDefinedPath() {
+        // given
+        TypeInfo typeInfo = of(String.class);
+        MappingContextImpl parent = new MappingContextImpl("config.servers", typeInfo, new ConvertErrorRecorder()) { };
+
+        // when
+        MappingContext child = parent.createChildForIndex(4, typeInfo).createChild("$opt", typeInfo);
+
+        // then
+        assertThat(child.getBeanPath(), equalTo("config.servers[4]$opt"));
+    }
+
+    @Test
+    void shouldCreateAllChildrenWithFactoryMethod() {
+        // given
+        TypeInfo typeInfo = of(String.class);
+        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder();
+        MappingContextImpl root = new CustomMappingContext(null, null, -1, false, typeInfo, errorRecorder);
+
+        // when
+        MappingContext child = root.createChild("servers", typeInfo);
+        MappingContext indexChild = child.createChildForIndex(1, typeInfo);
+        MappingContext mapKeyChild = indexChild.createChildForMapKey("main", typeInfo);
+
+        // then
+        assertThat(child, instanceOf(CustomMappingContext.class));
+        assertThat(indexChild, instanceOf(CustomMappingContext.class));
+        assertThat(mapKeyChild, instanceOf(CustomMappingContext.class));
+        assertThat(mapKeyChild.getBeanPath(), equalTo("servers[1][k=main]"));
+    }
+
+    private static final class CustomMappingContext extends MappingContextImpl {
+
+        CustomMappingContext(MappingContextImpl parent, String pathElement, int index, boolean isMapKey,
+                             TypeInfo targetType, ConvertErrorRecorder errorRecorder) {
+            super(parent, pathElement, index, isMapKey, targetType, errorRecorder);
+        }
+
+        @Override
+        protected @NotNull MappingContextImpl createChildContext(@Nullable String pathElement, int index,
+                                                                 boolean isMapKey, @NotNull TypeInfo targetType) {
+            return new CustomMappingContext(this, pathElement, index, isMapKey, targetType, getErrorRecorder());
+        }
+    }
 }
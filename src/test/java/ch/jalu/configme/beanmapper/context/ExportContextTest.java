@@ -1,6 +1,7 @@
 package ch.jalu.configme.beanmapper.context;
 
 import ch.jalu.configme.beanmapper.definition.properties.BeanPropertyComments;
+import ch.jalu.configme.properties.convertresult.ValueWithComments;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
@@ -28,7 +29,7 @@ class ExportContextTest {
     }
 
     @Test
-    void shouldUseSameUuidCommentsSetAcrossAllChildContexts() {
+    void shouldUseSameUniqueCommentIdsAcrossAllChildContexts() {
         // given
         ExportContextImpl root1 = ExportContextImpl.createRoot();
         ExportContextImpl root2 = ExportContextImpl.createRoot();
@@ -37,10 +38,10 @@ class ExportContextTest {
         ExportContext root1ChildChild = root1Child.createChildContext("am");
         ExportContext root2Child = root2.createChildContext("bravo");
 
-        UUID uuid = UUID.randomUUID();
-        root1Child.registerComment(new BeanPropertyComments(Collections.singletonList("test"), uuid));
+        int uniqueId = ValueWithComments.createUniqueCommentId();
+        root1Child.registerComment(new BeanPropertyComments(Collections.singletonList("test"), uniqueId));
 
-        BeanPropertyComments comments = new BeanPropertyComments(Arrays.asList("1", "2"), uuid);
+        BeanPropertyComments comments = new BeanPropertyComments(Arrays.asList("1", "2"), uniqueId);
 
         // when / then
         assertThat(root1.shouldInclude(comments), equalTo(false));
@@ -51,6 +52,24 @@ class ExportContextTest {
         assertThat(root2Child.shouldInclude(comments), equalTo(true));
     }
 
+    @Test
+    @SuppressWarnings("deprecation")
+    void shouldTrackCommentsWithDeprecatedUuidPerExport() {
+        // given
+        ExportContextImpl root1 = ExportContextImpl.createRoot();
+        ExportContextImpl root2 = ExportContextImpl.createRoot();
+        UUID uuid = UUID.randomUUID();
+        root1.createChildContext("alfa").registerComment(new BeanPropertyComments(Arrays.asList("1"), uuid));
+
+        BeanPropertyComments comments = new BeanPropertyComments(Arrays.asList("1", "2"), uuid);
+
+        // when / then
+        assertThat(root1.shouldInclude(comments), equalTo(false));
+        assertThat(root2.shouldInclude(comments), equalTo(true));
+        assertThat(comments.getUuid(), equalTo(uuid));
+        assertThat(comments.getUniqueCommentIntId(), equalTo(ValueWithComments.NO_UNIQUE_COMMENT_ID));
+    }
+
     @Test
     void shouldConcatenatePathsAppropriately() {
         // given / when
@@ -71,7 +90,8 @@ class ExportContextTest {
     void shouldSpecifyToIncludeNonUniqueComments() {
         // given
         ExportContextImpl context = ExportContextImpl.createRoot();
-        BeanPropertyComments comments = new BeanPropertyComments(Arrays.asList("1", "2"), null);
+        BeanPropertyComments comments = new BeanPropertyComments(Arrays.asList("1", "2"),
+            ValueWithComments.NO_UNIQUE_COMMENT_ID);
 
         // when / then
         assertThat(context.shouldInclude(comments), equalTo(true));
@@ -81,8 +101,10 @@ class ExportContextTest {
     void shouldSpecifyToSkipEmptyComment() {
         // given
         ExportContextImpl context = ExportContextImpl.createRoot();
-        BeanPropertyComments comments1 = new BeanPropertyComments(Collections.emptyList(), null);
-        BeanPropertyComments comments2 = new BeanPropertyComments(Collections.emptyList(), UUID.randomUUID());
+        BeanPropertyComments comments1 = new BeanPropertyComments(Collections.emptyList(),
+            ValueWithComments.NO_UNIQUE_COMMENT_ID);
+        BeanPropertyComments comments2 = new BeanPropertyComments(Collections.emptyList(),
+            ValueWithComments.createUniqueCommentId());
 
         // when / then
         assertThat(context.shouldInclude(comments1), equalTo(false));
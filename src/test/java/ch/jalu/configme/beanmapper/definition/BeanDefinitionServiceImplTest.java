@@ -8,6 +8,7 @@ import ch.jalu.configme.internal.record.RecordComponent;
 import ch.jalu.configme.internal.record.RecordInspector;
 import ch.jalu.configme.properties.StringProperty;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
+import ch.jalu.configme.properties.convertresult.ValueWithComments;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,7 +20,6 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -128,7 +128,7 @@ class BeanDefinitionServiceImplTest {
         given(recordInspector.getRecordComponents(FakeRecord.class)).willReturn(components);
 
         Field recordAgeField = FakeRecord.class.getDeclaredField("age");
-        BeanPropertyComments recordAgeComments = new BeanPropertyComments(Arrays.asList("some", "comment"), UUID.randomUUID());
+        BeanPropertyComments recordAgeComments = new BeanPropertyComments(Arrays.asList("some", "comment"), ValueWithComments.createUniqueCommentId());
         BeanFieldPropertyDefinition recordAgeProperty = new BeanFieldPropertyDefinition(recordAgeField, null, recordAgeComments);
         given(beanPropertyExtractor.collectPropertiesForRecord(FakeRecord.class, components)).willReturn(Collections.singletonList(recordAgeProperty));
 
@@ -136,7 +136,7 @@ class BeanDefinitionServiceImplTest {
         given(recordInspector.getRecordComponents(SampleBean.class)).willReturn(null);
 
         Field beanNameField = SampleBean.class.getDeclaredField("name");
-        BeanPropertyComments beanNameComments = new BeanPropertyComments(Collections.singletonList("comment"), UUID.randomUUID());
+        BeanPropertyComments beanNameComments = new BeanPropertyComments(Collections.singletonList("comment"), ValueWithComments.createUniqueCommentId());
         BeanFieldPropertyDefinition beanNameProperty = new BeanFieldPropertyDefinition(beanNameField, null, beanNameComments);
         given(beanPropertyExtractor.collectProperties(SampleBean.class)).willReturn(Collections.singletonList(beanNameProperty));
 
@@ -148,12 +148,12 @@ class BeanDefinitionServiceImplTest {
 
         // then
         assertThat(recordDefinition1.get(), sameInstance(recordDefinition2.get()));
-        assertThat(recordDefinition1.get().getProperties().get(0).getComments().getUuid(), equalTo(recordAgeComments.getUuid()));
-        assertThat(recordDefinition2.get().getProperties().get(0).getComments().getUuid(), equalTo(recordAgeComments.getUuid()));
+        assertThat(recordDefinition1.get().getProperties().get(0).getComments().getUniqueCommentIntId(), equalTo(recordAgeComments.getUniqueCommentIntId()));
+        assertThat(recordDefinition2.get().getProperties().get(0).getComments().getUniqueCommentIntId(), equalTo(recordAgeComments.getUniqueCommentIntId()));
 
         assertThat(noArgConstrDefinition1.get(), sameInstance(noArgConstrDefinition2.get()));
-        assertThat(noArgConstrDefinition1.get().getProperties().get(0).getComments().getUuid(), equalTo(beanNameComments.getUuid()));
-        assertThat(noArgConstrDefinition2.get().getProperties().get(0).getComments().getUuid(), equalTo(beanNameComments.getUuid()));
+        assertThat(noArgConstrDefinition1.get().getProperties().get(0).getComments().getUniqueCommentIntId(), equalTo(beanNameComments.getUniqueCommentIntId()));
+        assertThat(noArgConstrDefinition2.get().getProperties().get(0).getComments().getUniqueCommentIntId(), equalTo(beanNameComments.getUniqueCommentIntId()));
 
         assertThat(beanDefinitionService.getCachedDefinitionsByType().keySet(), containsInAnyOrder(FakeRecord.class, SampleBean.class));
     }
@@ -0,0 +1,184 @@
+package ch.jalu.configme.beanmapper.definition;
+
+import ch.jalu.configme.beanmapper.MapperImpl;
+import ch.jalu.configme.beanmapper.definition.BeanInstantiationStrategy.ConstructorInvoker;
+import ch.jalu.configme.beanmapper.definition.BeanInstantiationStrategy.FieldSetter;
+import ch.jalu.configme.beanmapper.definition.properties.BeanFieldPropertyDefinition;
+import ch.jalu.configme.beanmapper.definition.properties.BeanPropertyComments;
+import ch.jalu.configme.beanmapper.leafvaluehandler.LeafValueHandlerImpl;
+import ch.jalu.configme.beanmapper.worldgroup.GameMode;
+import ch.jalu.configme.beanmapper.worldgroup.WorldGroupConfig;
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
+import ch.jalu.configme.resource.YamlFileReader;
+import ch.jalu.typeresolver.TypeInfo;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+
+import static ch.jalu.configme.TestUtils.getJarPath;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link MethodHandleInstantiationStrategy}.
+ */
+class MethodHandleInstantiationStrategyTest {
+
+    private final MethodHandleInstantiationStrategy strategy = new MethodHandleInstantiationStrategy();
+
+    @Test
+    void shouldCreateSupplierForPublicConstructor() throws ReflectiveOperationException {
+        // given
+        ConstructorInvoker invoker = strategy.createConstructorInvoker(PublicBean.class.getConstructor());
+
+        // when
+        Object result = invoker.newInstance();
+
+        // then
+        assertThat(result, instanceOf(PublicBean.class));
+        assertThat(strategy.createSupplierOrNull(PublicBean.class.getConstructor()), notNullValue());
+    }
+
+    @Test
+    void shouldCallPrivateConstructorWithArguments() throws ReflectiveOperationException {
+        // given
+        ConstructorInvoker invoker = strategy.createConstructorInvoker(
+            ExampleRecord.class.getDeclaredConstructor(String.class, int.class));
+
+        // when
+        ExampleRecord result = (ExampleRecord) invoker.newInstance("Toast", 10);
+
+        // then
+        assertThat(result.name, equalTo("Toast"));
+        assertThat(result.size, equalTo(10));
+    }
+
+    @Test
+    void shouldThrowForInvalidArguments() throws NoSuchMethodException {
+        // given
+        ConstructorInvoker invoker = strategy.createConstructorInvoker(
+            ExampleRecord.class.getDeclaredConstructor(String.class, int.class));
+        ConstructorInvoker supplierInvoker = strategy.createConstructorInvoker(PublicBean.class.getConstructor());
+
+        // when / then
+        // Constructors with arguments are called with reflection, whose messages depend on the Java version
+        assertThrows(IllegalArgumentException.class, () -> invoker.newInstance(3, 3));
+        assertThrows(IllegalArgumentException.class, () -> invoker.newInstance("Toast", null));
+        assertThrows(IllegalArgumentException.class, () -> invoker.newInstance("Toast"));
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> supplierInvoker.newInstance("Toast"));
+        assertThat(ex.getMessage(), equalTo("wrong number of arguments"));
+    }
+
+    @Test
+    void shouldWrapExceptionOfConstructor() throws NoSuchMethodException {
+        // given
+        ConstructorInvoker invoker1 = strategy.createConstructorInvoker(ThrowingBean.class.getConstructor());
+        ConstructorInvoker invoker2 = strategy.createConstructorInvoker(ThrowingBean.class.getConstructor(int.class));
+
+        // when
+        InvocationTargetException ex1 = assertThrows(InvocationTargetException.class, invoker1::newInstance);
+        InvocationTargetException ex2 = assertThrows(InvocationTargetException.class, () -> invoker2.newInstance(3));
+
+        // then
+        assertThat(ex1.getCause(), instanceOf(IllegalStateException.class));
+        assertThat(ex2.getCause(), instanceOf(IllegalStateException.class));
+    }
+
+    @Test
+    void shouldSetFieldValues() throws ReflectiveOperationException {
+        // given
+        PublicBean bean = new PublicBean();
+        FieldSetter nameSetter = strategy.createFieldSetter(createProperty(PublicBean.class, "name"));
+        FieldSetter sizeSetter = strategy.createFieldSetter(createProperty(PublicBean.class, "size"));
+        FieldSetter finalSetter = strategy.createFieldSetter(createProperty(PublicBean.class, "code"));
+
+        // when
+        nameSetter.setValue(bean, "Test");
+        sizeSetter.setValue(bean, 42);
+        finalSetter.setValue(bean, "changed");
+
+        // then
+        assertThat(bean.name, equalTo("Test"));
+        assertThat(bean.size, equalTo(42));
+        // code is a compile-time constant, so reading the field directly is inlined and always returns "initial"
+        Field codeField = PublicBean.class.getDeclaredField("code");
+        codeField.setAccessible(true);
+        assertThat(codeField.get(bean), equalTo("changed"));
+    }
+
+    @Test
+    void shouldThrowForValueOfWrongType() throws NoSuchFieldException {
+        // given
+        FieldSetter sizeSetter = strategy.createFieldSetter(createProperty(PublicBean.class, "size"));
+
+        // when
+        ConfigMeException ex = assertThrows(ConfigMeException.class,
+            () -> sizeSetter.setValue(new PublicBean(), "wrong"));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("Failed to set value to field MethodHandleInstantiationStrategyTest$PublicBean#size. Value: wrong"));
+        assertThat(ex.getCause(), instanceOf(IllegalArgumentException.class));
+    }
+
+    @Test
+    void shouldMapBeansWithStrategy() {
+        // given
+        MapperImpl mapper = new MapperImpl(new BeanDefinitionServiceImpl(strategy),
+            new LeafValueHandlerImpl(LeafValueHandlerImpl.createDefaultLeafTypes()));
+        YamlFileReader reader = new YamlFileReader(getJarPath("/beanmapper/worlds.yml"));
+
+        // when
+        WorldGroupConfig result = (WorldGroupConfig) mapper.convertToBean(reader.getValue(""),
+            TypeInfo.of(WorldGroupConfig.class), new ConvertErrorRecorder());
+
+        // then
+        assertThat(result.getGroups().keySet(), contains("default", "creative"));
+        assertThat(result.getGroups().get("default").getWorlds(),
+            equalTo(Arrays.asList("world", "world_nether", "world_the_end")));
+        assertThat(result.getGroups().get("creative").getDefaultGamemode(), equalTo(GameMode.CREATIVE));
+    }
+
+    private static BeanFieldPropertyDefinition createProperty(Class<?> clazz,
+                                                              String fieldName) throws NoSuchFieldException {
+        return new BeanFieldPropertyDefinition(clazz.getDeclaredField(fieldName), null, BeanPropertyComments.EMPTY);
+    }
+
+    public static final class PublicBean {
+        private String name;
+        private int size;
+        private final String code = "initial";
+
+        public PublicBean() {
+        }
+    }
+
+    public static final class ThrowingBean {
+
+        public ThrowingBean() {
+            throw new IllegalStateException("Constructor failure");
+        }
+
+        public ThrowingBean(int value) {
+            throw new IllegalStateException("Constructor failure " + value);
+        }
+    }
+
+    private static final class ExampleRecord {
+
+        private final String name;
+        private final int size;
+
+        private ExampleRecord(String name, int size) {
+            this.name = name;
+            this.size = size;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import ch.jalu.configme.beanmapper.IgnoreInMapping;
 import ch.jalu.configme.beanmapper.command.ExecutionDetails;
 import ch.jalu.configme.exception.ConfigMeException;
 import ch.jalu.configme.internal.record.RecordComponent;
+import ch.jalu.configme.properties.convertresult.ValueWithComments;
 import ch.jalu.configme.samples.beanannotations.AnnotatedEntry;
 import ch.jalu.configme.samples.beanannotations.BeanWithEmptyName;
 import ch.jalu.configme.samples.beanannotations.BeanWithExportName;
@@ -28,9 +29,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasSize;
-import static org.hamcrest.Matchers.notNullValue;
-import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -58,7 +58,7 @@ class BeanPropertyExtractorImplTest {
         assertThat(sizeProperty.getName(), equalTo("size"));
         assertThat(sizeProperty.getTypeInformation(), equalTo(new TypeInfo(int.class)));
         assertThat(sizeProperty.getComments().getComments(), contains("Size of this entry (cm)"));
-        assertThat(sizeProperty.getComments().getUuid(), notNullValue());
+        assertThat(sizeProperty.getComments().getUniqueCommentIntId(), greaterThanOrEqualTo(0));
 
         BeanPropertyDefinition longFieldProperty = descriptions.get(2);
         assertThat(longFieldProperty.getName(), equalTo("longField"));
@@ -152,7 +152,7 @@ class BeanPropertyExtractorImplTest {
 
         BeanPropertyComments importanceComments = getDescription("importance", execDetailsProperties).getComments();
         assertThat(importanceComments.getComments(), contains("The higher the number, the more important"));
-        assertThat(importanceComments.getUuid(), nullValue());
+        assertThat(importanceComments.getUniqueCommentIntId(), equalTo(ValueWithComments.NO_UNIQUE_COMMENT_ID));
     }
 
     @Test
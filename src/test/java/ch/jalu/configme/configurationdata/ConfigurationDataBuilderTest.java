@@ -5,6 +5,7 @@ import ch.jalu.configme.configurationdata.samples.IllegalSettingsHolderConstruct
 import ch.jalu.configme.configurationdata.samples.inheritance.ChildInheritanceSettingsHolder;
 import ch.jalu.configme.exception.ConfigMeException;
 import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.resource.PropertyReader;
 import ch.jalu.configme.samples.ClassWithPrivatePropertyField;
 import ch.jalu.configme.samples.TestConfiguration;
 import org.junit.jupiter.api.Test;
@@ -22,11 +23,15 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 /**
  * Test for {@link ConfigurationDataBuilder}.
@@ -130,6 +135,26 @@ class ConfigurationDataBuilderTest {
         assertThat(configurationData.getCommentsForSection("test.int"), empty());
     }
 
+    @Test
+    void shouldCreateLazyConfigData() {
+        // given
+        PropertyReader reader = mock(PropertyReader.class);
+        given(reader.getValue("top.string")).willReturn("from reader");
+
+        // when
+        ConfigurationData configurationData =
+            ConfigurationDataBuilder.createLazyConfiguration(ChildInheritanceSettingsHolder.class);
+        configurationData.initializeValues(reader);
+
+        // then
+        assertThat(configurationData, instanceOf(ConfigurationDataImpl.class));
+        assertThat(((ConfigurationDataImpl) configurationData).isLazyValueResolution(), equalTo(true));
+        assertThat(configurationData.getProperties(), hasSize(5));
+        assertThat(configurationData.getValue(configurationData.getProperties().get(0)), equalTo("from reader"));
+        verify(reader).getValue("top.string");
+        verifyNoMoreInteractions(reader);
+    }
+
     @Test
     void shouldCollectPropertiesAlsoFromParentClasses() {
         // given / when
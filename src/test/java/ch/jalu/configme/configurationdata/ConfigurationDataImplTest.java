@@ -14,6 +14,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static ch.jalu.configme.TestUtils.containsAll;
 import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
@@ -29,6 +30,8 @@ import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 /**
  * Test for {@link ConfigurationDataImpl}.
@@ -50,6 +53,7 @@ class ConfigurationDataImplTest {
         // then
         assertThat(configData.getProperties(), containsAll(properties));
         assertThat(configData.areAllValuesValidInResource(), equalTo(false)); // false until the values are initialized
+        assertThat(configData.getNumberOfValuesInvalidInResource(), equalTo(-1));
     }
 
     @Test
@@ -117,6 +121,21 @@ class ConfigurationDataImplTest {
         assertThat(absentComments, empty());
     }
 
+    @Test
+    void shouldReturnExportValue() {
+        // given
+        Property<Double> property = newProperty("ratio", 1.5);
+        Property<TimeUnit> unitProperty = newProperty("unit", TimeUnit.class, TimeUnit.SECONDS);
+        ConfigurationData configurationData = new ConfigurationDataImpl(Arrays.asList(property, unitProperty),
+            Collections.emptyMap());
+        configurationData.setValue(property, 2.5);
+        configurationData.setValue(unitProperty, TimeUnit.DAYS);
+
+        // when / then
+        assertThat(configurationData.getExportValue(property), equalTo(2.5));
+        assertThat(configurationData.getExportValue(unitProperty), equalTo("DAYS"));
+    }
+
     @Test
     void shouldThrowForUnknownProperty() {
         // given
@@ -166,6 +185,7 @@ class ConfigurationDataImplTest {
 
         // then
         assertThat(configurationData.areAllValuesValidInResource(), equalTo(true));
+        assertThat(configurationData.getNumberOfValuesInvalidInResource(), equalTo(0));
     }
 
     @Test
@@ -187,6 +207,110 @@ class ConfigurationDataImplTest {
 
         // then
         assertThat(configurationData.areAllValuesValidInResource(), equalTo(false));
+        assertThat(configurationData.getNumberOfValuesInvalidInResource(), equalTo(1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldDetermineValuesLazily() {
+        // given
+        PropertyReader reader = mock(PropertyReader.class);
+        Property<String> property1 = mock(Property.class);
+        given(property1.getPath()).willReturn("one");
+        given(property1.determineValue(reader)).willReturn(PropertyValue.withValidValue("test"));
+        given(property1.isValidValue(anyString())).willReturn(true);
+        Property<Double> property2 = mock(Property.class);
+        given(property2.getPath()).willReturn("two");
+
+        ConfigurationData configurationData =
+            new ConfigurationDataImpl(Arrays.asList(property1, property2), Collections.emptyMap(), true);
+
+        // when
+        configurationData.initializeValues(reader);
+        String value1 = configurationData.getValue(property1);
+        String value2 = configurationData.getValue(property1);
+
+        // then
+        assertThat(value1, equalTo("test"));
+        assertThat(value2, equalTo("test"));
+        verify(property1).determineValue(reader);
+        verify(property2, never()).determineValue(reader);
+        assertThat(configurationData.getNumberOfValuesInvalidInResource(), equalTo(-1)); // not all values determined
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldDetermineRemainingValuesWhenValidatingAll() {
+        // given
+        PropertyReader reader = mock(PropertyReader.class);
+        Property<String> property1 = mock(Property.class);
+        given(property1.getPath()).willReturn("one");
+        given(property1.determineValue(reader)).willReturn(PropertyValue.withValidValue("test"));
+        given(property1.isValidValue(anyString())).willReturn(true);
+        Property<Double> property2 = mock(Property.class);
+        given(property2.getPath()).willReturn("two");
+        given(property2.determineValue(reader)).willReturn(PropertyValue.withValueRequiringRewrite(3.14159));
+        given(property2.isValidValue(anyDouble())).willReturn(true);
+        Property<Double> property3 = mock(Property.class);
+        given(property3.getPath()).willReturn("three");
+        given(property3.determineValue(reader)).willReturn(PropertyValue.withValueRequiringRewrite(2.5));
+        given(property3.isValidValue(anyDouble())).willReturn(true);
+
+        ConfigurationData configurationData = new ConfigurationDataImpl(
+            Arrays.asList(property1, property2, property3), Collections.emptyMap(), true);
+        configurationData.initializeValues(reader);
+        configurationData.getValue(property1);
+        configurationData.setValue(property3, 7.0);
+
+        // when
+        configurationData.validateAll();
+
+        // then
+        assertThat(configurationData.getNumberOfValuesInvalidInResource(), equalTo(2));
+        assertThat(configurationData.areAllValuesValidInResource(), equalTo(false));
+        assertThat(configurationData.getValue(property2), equalTo(3.14159));
+        assertThat(configurationData.getValue(property3), equalTo(7.0)); // set value was not overwritten
+        verify(property1).determineValue(reader);
+        verify(property2).determineValue(reader);
+        verify(property3).determineValue(reader);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldValidateAllValuesWhenCheckingIfAllAreValid() {
+        // given
+        PropertyReader reader = mock(PropertyReader.class);
+        Property<String> property = mock(Property.class);
+        given(property.getPath()).willReturn("one");
+        given(property.determineValue(reader)).willReturn(PropertyValue.withValidValue("test"));
+        given(property.isValidValue(anyString())).willReturn(true);
+        ConfigurationData configurationData =
+            new ConfigurationDataImpl(Collections.singletonList(property), Collections.emptyMap(), true);
+        configurationData.initializeValues(reader);
+
+        // when
+        boolean allValid = configurationData.areAllValuesValidInResource();
+
+        // then
+        assertThat(allValid, equalTo(true));
+        assertThat(configurationData.getNumberOfValuesInvalidInResource(), equalTo(0));
+        assertThat(configurationData.getValue(property), equalTo("test"));
+        verify(property).determineValue(reader);
+    }
+
+    @Test
+    void shouldThrowForUnknownPropertyWithLazyResolution() {
+        // given
+        ConfigurationData configurationData = new ConfigurationDataImpl(
+            Collections.singletonList(newProperty("test", "Test")), Collections.emptyMap(), true);
+        configurationData.initializeValues(mock(PropertyReader.class));
+
+        // when
+        ConfigMeException ex = assertThrows(ConfigMeException.class,
+            () -> configurationData.getValue(newProperty("other", "Other")));
+
+        // then
+        assertThat(ex.getMessage(), containsString("No value exists for property with path 'other'"));
     }
 
     private static Map<String, List<String>> createSampleCommentsMap() {
@@ -0,0 +1,62 @@
+package ch.jalu.configme.instrumentation;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+/**
+ * Test for {@link JfrSettingsManagerInstrumentation}.
+ */
+class JfrSettingsManagerInstrumentationTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    void shouldBeAvailable() {
+        // given / when / then
+        assertThat(JfrSettingsManagerInstrumentation.isAvailable(), equalTo(true));
+    }
+
+    @Test
+    void shouldEmitEvents() throws IOException {
+        // given
+        JfrSettingsManagerInstrumentation instrumentation = new JfrSettingsManagerInstrumentation();
+        Path recordingFile = temporaryFolder.resolve("recording.jfr");
+
+        // when
+        try (Recording recording = new Recording()) {
+            recording.enable(JfrSettingsManagerInstrumentation.EVENT_NAME);
+            recording.start();
+            instrumentation.onPhaseCompleted(new PhaseMeasurement(SettingsManagerPhase.READ, 2_500_000L, 4096, 17, 0));
+            instrumentation.onPhaseCompleted(new PhaseMeasurement(SettingsManagerPhase.INITIALIZE_VALUES, 800L,
+                PhaseMeasurement.UNKNOWN, 17, 3));
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        // then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile).stream()
+            .filter(event -> event.getEventType().getName().equals(JfrSettingsManagerInstrumentation.EVENT_NAME))
+            .collect(Collectors.toList());
+        assertThat(events, hasSize(2));
+        assertThat(events.get(0).getString("phase"), equalTo("READ"));
+        assertThat(events.get(0).getDuration("phaseDuration"), equalTo(Duration.ofNanos(2_500_000L)));
+        assertThat(events.get(0).getLong("byteCount"), equalTo(4096L));
+        assertThat(events.get(0).getInt("propertyCount"), equalTo(17));
+        assertThat(events.get(1).getString("phase"), equalTo("INITIALIZE_VALUES"));
+        assertThat(events.get(1).getInt("errorCount"), equalTo(3));
+    }
+}
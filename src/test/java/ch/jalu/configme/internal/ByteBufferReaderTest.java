@@ -0,0 +1,128 @@
+package ch.jalu.configme.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link ByteBufferReader}.
+ */
+class ByteBufferReaderTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    void shouldDecodeAllCharacters() throws IOException {
+        // given
+        String text = "Санкт-Петербург\n错误的密码\nemoji: 😀!";
+        ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+
+        // when
+        String result = readFully(new ByteBufferReader(bytes, StandardCharsets.UTF_8), 1024);
+
+        // then
+        assertThat(result, equalTo(text));
+    }
+
+    @Test
+    void shouldDecodeSurrogatePairsIntoSingleCharBuffer() throws IOException {
+        // given
+        String text = "a😀b😁";
+        ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+
+        // when
+        String result = readFully(new ByteBufferReader(bytes, StandardCharsets.UTF_8), 1);
+
+        // then
+        assertThat(result, equalTo(text));
+    }
+
+    @Test
+    void shouldReplaceMalformedInput() throws IOException {
+        // given
+        ByteBuffer bytes = ByteBuffer.wrap(new byte[]{ 'a', (byte) 0xC3, 'b' });
+
+        // when
+        String result = readFully(new ByteBufferReader(bytes, StandardCharsets.UTF_8), 16);
+
+        // then
+        assertThat(result, equalTo("a�b"));
+    }
+
+    @Test
+    void shouldReadFile() throws IOException {
+        // given
+        Path file = temporaryFolder.resolve("test.yml");
+        Files.write(file, "name: Ĉu ŝi?".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        String result = readFully(ByteBufferReader.forFile(file, StandardCharsets.UTF_8), 5);
+        Files.write(file, "name: test".getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(result, equalTo("name: Ĉu ŝi?"));
+        assertThat(readFully(ByteBufferReader.forFile(file, StandardCharsets.UTF_8), 5), equalTo("name: test"));
+    }
+
+    @Test
+    void shouldReadFileLargerThanBuffer() throws IOException {
+        // given
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 500; ++i) {
+            sb.append(i).append(": Санкт-Петербург 😀\n");
+        }
+        String text = sb.toString();
+        Path file = temporaryFolder.resolve("large.yml");
+        Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+
+        // when
+        String result = readFully(ByteBufferReader.forFile(file, StandardCharsets.UTF_8, 7), 13);
+
+        // then
+        assertThat(result, equalTo(text));
+    }
+
+    @Test
+    void shouldHandleEmptyBuffer() throws IOException {
+        // given
+        ByteBufferReader reader = new ByteBufferReader(ByteBuffer.allocate(0), StandardCharsets.UTF_8);
+
+        // when
+        int result = reader.read(new char[4], 0, 4);
+
+        // then
+        assertThat(result, equalTo(-1));
+    }
+
+    @Test
+    void shouldThrowAfterClose() throws IOException {
+        // given
+        ByteBufferReader reader = new ByteBufferReader(ByteBuffer.wrap(new byte[]{ 'a' }), StandardCharsets.UTF_8);
+        reader.close();
+
+        // when / then
+        assertThrows(IOException.class, () -> reader.read(new char[4], 0, 4));
+    }
+
+    private static String readFully(Reader reader, int bufferSize) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        char[] buffer = new char[bufferSize];
+        int read;
+        while ((read = reader.read(buffer, 0, bufferSize)) != -1) {
+            sb.append(buffer, 0, read);
+        }
+        reader.close();
+        return sb.toString();
+    }
+}
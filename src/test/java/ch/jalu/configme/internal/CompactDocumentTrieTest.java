@@ -0,0 +1,185 @@
+package ch.jalu.configme.internal;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link CompactDocumentTrie}.
+ */
+class CompactDocumentTrieTest {
+
+    @Test
+    void shouldReturnScalarsWithOriginalTypes() {
+        // given
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("int", -42);
+        root.put("long", 5_000_000_000L);
+        root.put("negLong", -5_000_000_000L);
+        root.put("double", -3.75);
+        root.put("bool", true);
+        root.put("false", false);
+        root.put("str", "text");
+        root.put("big", new BigInteger("123456789012345678901234567890"));
+        root.put("nothing", null);
+
+        // when
+        CompactDocumentTrie trie = CompactDocumentTrie.of(root);
+
+        // then
+        assertThat(trie.getValue("int"), equalTo(-42));
+        assertThat(trie.getValue("long"), equalTo(5_000_000_000L));
+        assertThat(trie.getValue("negLong"), equalTo(-5_000_000_000L));
+        assertThat(trie.getValue("double"), equalTo(-3.75));
+        assertThat(trie.getValue("bool"), equalTo(true));
+        assertThat(trie.getValue("false"), equalTo(false));
+        assertThat(trie.getValue("str"), equalTo("text"));
+        assertThat(trie.getValue("big"), equalTo(new BigInteger("123456789012345678901234567890")));
+        assertThat(trie.getValue("nothing"), nullValue());
+        assertThat(trie.contains("nothing"), equalTo(false));
+        assertThat(trie.contains("str"), equalTo(true));
+        assertThat(trie.getValue("bogus"), nullValue());
+        assertThat(trie.getValue("str.child"), nullValue());
+    }
+
+    @Test
+    void shouldFindNestedValuesAndKeepOrder() {
+        // given
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("zulu", 1);
+        nested.put("alpha", Arrays.asList("a", 2, null));
+        nested.put("mike", new LinkedHashMap<>());
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("section", nested);
+        root.put("", "empty key");
+        root.put("b", 3);
+
+        // when
+        CompactDocumentTrie trie = CompactDocumentTrie.of(root);
+
+        // then
+        assertThat(trie.getValue("section.zulu"), equalTo(1));
+        assertThat(trie.getValue("section.alpha"), equalTo(Arrays.asList("a", 2, null)));
+        assertThat(trie.getValue("section.mike"), equalTo(new LinkedHashMap<>()));
+        assertThat(trie.getValue("section."), equalTo(nested));
+        assertThat(trie.getValue("section.alpha.a"), nullValue());
+        assertThat(trie.getKeys("section"), contains("zulu", "alpha", "mike"));
+        assertThat(trie.getKeys(""), contains("section", "", "b"));
+        assertThat(trie.getKeys("b"), empty());
+        assertThat(trie.collectPaths(false), contains("section", "section.zulu", "section.alpha", "section.mike",
+            "", "b"));
+        assertThat(trie.collectPaths(true), contains("section.zulu", "section.alpha", "section.mike", "", "b"));
+
+        Object materializedRoot = trie.getValue("");
+        assertThat(materializedRoot, equalTo(root));
+        assertThat(materializedRoot, instanceOf(LinkedHashMap.class));
+        assertThat(((Map<?, ?>) materializedRoot).keySet(), contains("section", "", "b"));
+    }
+
+    @Test
+    void shouldCreateNewCollectionsForEachCall() {
+        // given
+        List<Object> list = new ArrayList<>(Arrays.asList(1, 2));
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("list", list);
+        CompactDocumentTrie trie = CompactDocumentTrie.of(root);
+
+        // when
+        Object value1 = trie.getValue("list");
+        Object value2 = trie.getValue("list");
+        list.add(3);
+
+        // then
+        assertThat(value1, equalTo(Arrays.asList(1, 2)));
+        assertThat(value1, not(sameInstance(value2)));
+        assertThat(trie.getValue("list"), equalTo(Arrays.asList(1, 2)));
+    }
+
+    @Test
+    void shouldHandleEmptyDocument() {
+        // given / when
+        CompactDocumentTrie trie = CompactDocumentTrie.of(null);
+
+        // then
+        assertThat(trie.getValue(""), nullValue());
+        assertThat(trie.getValue("test"), nullValue());
+        assertThat(trie.contains(""), equalTo(false));
+        assertThat(trie.getKeys(""), empty());
+        assertThat(trie.collectPaths(false), empty());
+    }
+
+    @Test
+    void shouldThrowForRecursiveStructure() {
+        // given
+        List<Object> list = new ArrayList<>();
+        list.add(list);
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("list", list);
+
+        // when
+        ConfigMeException ex = assertThrows(ConfigMeException.class, () -> CompactDocumentTrie.of(root));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("The document contains a recursive structure, which is not supported"));
+    }
+
+    @Test
+    void shouldFindKeysOfLargeMap() {
+        // given
+        Map<String, Object> root = new LinkedHashMap<>();
+        for (int i = 0; i < 100; ++i) {
+            int number = (i * 37) % 100;
+            root.put("key" + number, number);
+        }
+
+        // when
+        CompactDocumentTrie trie = CompactDocumentTrie.of(root);
+
+        // then
+        for (int i = 0; i < 100; ++i) {
+            assertThat(trie.getValue("key" + i), equalTo(i));
+        }
+        assertThat(trie.getValue("key100"), nullValue());
+        assertThat(trie.getKeys(""), equalTo(new ArrayList<>(root.keySet())));
+    }
+
+    @Test
+    void shouldBuildTrieNodeByNode() {
+        // given
+        CompactDocumentTrie.Builder builder = CompactDocumentTrie.builder();
+        int shared = builder.addValue(Arrays.asList(1, 2));
+        int list = builder.addList(2);
+        builder.setListElement(list, 0, builder.addValue("a"));
+        builder.setListElement(list, 1, shared);
+        int root = builder.addMap(3);
+        builder.setMapEntry(root, 0, "shared", shared);
+        builder.setMapEntry(root, 1, "list", list);
+        builder.setMapEntry(root, 2, "empty", builder.addValue(null));
+
+        // when
+        CompactDocumentTrie trie = builder.build(root);
+
+        // then
+        assertThat(trie.getValue("shared"), equalTo(Arrays.asList(1, 2)));
+        assertThat(trie.getValue("list"), equalTo(Arrays.asList("a", Arrays.asList(1, 2))));
+        assertThat(trie.getKeys(""), contains("shared", "list", "empty"));
+        assertThat(trie.contains("empty"), equalTo(false));
+        assertThat(trie.collectPaths(false), contains("shared", "list", "empty"));
+    }
+}
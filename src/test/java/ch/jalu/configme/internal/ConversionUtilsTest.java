@@ -119,4 +119,13 @@ class ConversionUtilsTest {
         assertThat(result, nullValue());
         verify(errorRecorder).setHasError("Could not convert 'true'");
     }
+
+    @Test
+    void shouldCalculateHashCapacity() {
+        // given / when / then
+        assertThat(ConversionUtils.calculateHashCapacity(0), equalTo(1));
+        assertThat(ConversionUtils.calculateHashCapacity(2), equalTo(3));
+        assertThat(ConversionUtils.calculateHashCapacity(12), equalTo(17));
+        assertThat(ConversionUtils.calculateHashCapacity(50_000), equalTo(66_667));
+    }
 }
@@ -0,0 +1,57 @@
+package ch.jalu.configme.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Test for {@link EnumLookup}.
+ */
+class EnumLookupTest {
+
+    @Test
+    void shouldReturnSameInstanceForEnumClass() {
+        // given / when
+        EnumLookup<TimeUnit> lookup1 = EnumLookup.of(TimeUnit.class);
+        EnumLookup<TimeUnit> lookup2 = EnumLookup.of(TimeUnit.class);
+
+        // then
+        assertThat(lookup1, sameInstance(lookup2));
+    }
+
+    @Test
+    void shouldFindEntriesByName() {
+        // given
+        EnumLookup<TimeUnit> lookup = EnumLookup.of(TimeUnit.class);
+
+        // when / then
+        assertThat(lookup.getEntry("SECONDS"), equalTo(TimeUnit.SECONDS));
+        assertThat(lookup.getEntry("minutes"), equalTo(TimeUnit.MINUTES));
+        assertThat(lookup.getEntry("Hours"), equalTo(TimeUnit.HOURS));
+        assertThat(lookup.getEntry("hoUrS"), equalTo(TimeUnit.HOURS));
+        assertThat(lookup.getEntry("SECOND"), nullValue());
+        assertThat(lookup.getEntry(""), nullValue());
+    }
+
+    @Test
+    void shouldPreferExactMatch() {
+        // given
+        EnumLookup<MixedCase> lookup = EnumLookup.of(MixedCase.class);
+
+        // when / then
+        assertThat(lookup.getEntry("value"), equalTo(MixedCase.value));
+        assertThat(lookup.getEntry("VALUE"), equalTo(MixedCase.VALUE));
+        assertThat(lookup.getEntry("Value"), equalTo(MixedCase.value)); // first declared entry
+        assertThat(lookup.getEntry("STRASSE"), nullValue());
+        assertThat(lookup.getEntry("straße"), equalTo(MixedCase.STRAßE));
+    }
+
+    private enum MixedCase {
+        value, VALUE, STRAßE
+    }
+}
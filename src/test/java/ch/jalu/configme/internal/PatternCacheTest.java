@@ -0,0 +1,70 @@
+package ch.jalu.configme.internal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link PatternCache}.
+ */
+class PatternCacheTest {
+
+    @AfterEach
+    void clearCache() {
+        PatternCache.clear();
+    }
+
+    @Test
+    void shouldReturnSamePatternForSameRegexAndFlags() {
+        // given
+        PatternCache.clear();
+
+        // when
+        Pattern pattern1 = PatternCache.compile("a+b", 0);
+        Pattern pattern2 = PatternCache.compile("a+b", 0);
+        Pattern pattern3 = PatternCache.compile("a+b", Pattern.CASE_INSENSITIVE);
+
+        // then
+        assertThat(pattern2, sameInstance(pattern1));
+        assertThat(pattern3, not(sameInstance(pattern1)));
+        assertThat(pattern3.flags(), equalTo(Pattern.CASE_INSENSITIVE));
+        assertThat(PatternCache.size(), equalTo(2));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedPatterns() {
+        // given
+        PatternCache.clear();
+        Pattern first = PatternCache.compile("first", 0);
+        Pattern second = PatternCache.compile("second", 0);
+
+        // when
+        for (int i = 0; i < PatternCache.MAX_SIZE - 1; ++i) {
+            PatternCache.compile("p" + i, 0);
+            PatternCache.compile("first", 0); // keep accessing the first pattern
+        }
+
+        // then
+        assertThat(PatternCache.size(), equalTo(PatternCache.MAX_SIZE));
+        assertThat(PatternCache.compile("first", 0), sameInstance(first));
+        assertThat(PatternCache.compile("second", 0), not(sameInstance(second)));
+    }
+
+    @Test
+    void shouldPropagateSyntaxException() {
+        // given
+        PatternCache.clear();
+
+        // when / then
+        assertThrows(PatternSyntaxException.class, () -> PatternCache.compile("[abc", 0));
+        assertThat(PatternCache.size(), equalTo(0));
+    }
+}
@@ -0,0 +1,54 @@
+package ch.jalu.configme.internal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Test for {@link StringDeduplicator}.
+ */
+class StringDeduplicatorTest {
+
+    @Test
+    void shouldReturnFirstInstanceOfEqualStrings() {
+        // given
+        StringDeduplicator deduplicator = new StringDeduplicator();
+        String first = new String("SURVIVAL");
+        String second = new String("SURVIVAL");
+        String other = new String("CREATIVE");
+
+        // when
+        String result1 = deduplicator.deduplicate(first);
+        String result2 = deduplicator.deduplicate(second);
+        String result3 = deduplicator.deduplicate(other);
+
+        // then
+        assertThat(result1, sameInstance(first));
+        assertThat(result2, sameInstance(first));
+        assertThat(result3, sameInstance(other));
+        assertThat(deduplicator.size(), equalTo(2));
+    }
+
+    @Test
+    void shouldNotDeduplicateLongStringsOrNull() {
+        // given
+        StringDeduplicator deduplicator = new StringDeduplicator(4);
+        String first = new String("abcde");
+        String second = new String("abcde");
+
+        // when
+        deduplicator.deduplicate(first);
+        String result = deduplicator.deduplicate(second);
+        String nullResult = deduplicator.deduplicate(null);
+
+        // then
+        assertThat(result, sameInstance(second));
+        assertThat(result, not(sameInstance(first)));
+        assertThat(nullResult, nullValue());
+        assertThat(deduplicator.size(), equalTo(0));
+    }
+}
@@ -0,0 +1,81 @@
+package ch.jalu.configme.migration;
+
+import ch.jalu.configme.TestUtils;
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import ch.jalu.configme.resource.PropertyReader;
+import ch.jalu.configme.resource.YamlFileReader;
+import ch.jalu.configme.resource.YamlFileResource;
+import ch.jalu.configme.samples.TestConfiguration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Test for {@link MigrationDiff}.
+ */
+class MigrationDiffTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    void shouldCategorizeChangedPaths() throws IOException {
+        // given
+        PropertyReader reader = createReader("test:\n  duration: 22\n  systemName: Server\n"
+            + "sample:\n  ratio:\n    order: UNKNOWN\n    fields: [a, b, c]\n"
+            + "features:\n  boring:\n    dustLevel: 2\n  old: true\n"
+            + "obsolete:\n  entry: 1\n  other: [2]");
+        ConfigurationData configurationData = ConfigurationDataBuilder.createConfiguration(TestConfiguration.class);
+        configurationData.initializeValues(reader);
+        configurationData.setValue(TestConfiguration.DURATION_IN_SECONDS, 30);
+
+        // when
+        MigrationDiff diff = MigrationDiff.create(reader, configurationData);
+
+        // then
+        assertThat(diff.getChangedPaths(), contains("test.duration"));
+        assertThat(diff.getInvalidPaths(), contains("sample.ratio.order"));
+        assertThat(diff.getAddedPaths(), containsInAnyOrder("version", "features.boring.skip",
+            "features.boring.colors", "features.cool.enabled", "features.cool.options", "security.forbiddenNames"));
+        assertThat(diff.getRemovedPaths(), contains("features.old", "obsolete.entry", "obsolete.other"));
+        assertThat(diff.hasChanges(), equalTo(true));
+    }
+
+    @Test
+    void shouldReturnEmptyDiffForExportedFile() throws IOException {
+        // given
+        Path file = TestUtils.copyFileFromResources("/config-sample.yml", temporaryFolder);
+        ConfigurationData configurationData = ConfigurationDataBuilder.createConfiguration(TestConfiguration.class);
+        configurationData.initializeValues(new YamlFileReader(file));
+        configurationData.setValue(TestConfiguration.COOL_OPTIONS, Arrays.asList("Dinosaurs", "Explosions"));
+        new YamlFileResource(file).exportProperties(configurationData);
+        PropertyReader reader = new YamlFileReader(file);
+
+        // when
+        MigrationDiff diff = MigrationDiff.create(reader, configurationData);
+
+        // then
+        assertThat(diff.getAddedPaths(), empty());
+        assertThat(diff.getRemovedPaths(), empty());
+        assertThat(diff.getChangedPaths(), empty());
+        assertThat(diff.getInvalidPaths(), empty());
+        assertThat(diff.hasChanges(), equalTo(false));
+    }
+
+    private PropertyReader createReader(String yaml) throws IOException {
+        Path file = TestUtils.createTemporaryFile(temporaryFolder);
+        Files.write(file, yaml.getBytes());
+        return new YamlFileReader(file);
+    }
+}
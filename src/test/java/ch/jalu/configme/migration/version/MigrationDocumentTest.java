@@ -0,0 +1,69 @@
+package ch.jalu.configme.migration.version;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Test for {@link MigrationDocument}.
+ */
+class MigrationDocumentTest {
+
+    @Test
+    void shouldModifyCopiesOnly() {
+        // given
+        Map<String, Object> other = new LinkedHashMap<>();
+        other.put("value", 1);
+        Map<String, Object> section = new LinkedHashMap<>();
+        section.put("name", "test");
+        section.put("size", 5);
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("section", section);
+        root.put("other", other);
+        MigrationDocument document = new MigrationDocument(root);
+
+        // when
+        document.setValue("section.name", "changed");
+        document.setValue("new.nested.key", true);
+        Object removed = document.remove("section.size");
+
+        // then
+        assertThat(removed, equalTo(5));
+        assertThat(document.getValue("section.name"), equalTo("changed"));
+        assertThat(document.getValue("new.nested.key"), equalTo(true));
+        assertThat(document.contains("section.size"), equalTo(false));
+        assertThat(document.getRoot().keySet(), contains("section", "other", "new"));
+        assertThat(document.getRoot(), not(sameInstance(root)));
+        assertThat(document.getValue("other"), sameInstance(other));
+
+        assertThat(root.keySet(), contains("section", "other"));
+        assertThat(section.get("name"), equalTo("test"));
+        assertThat(section.get("size"), equalTo(5));
+    }
+
+    @Test
+    void shouldHandleAbsentPaths() {
+        // given
+        MigrationDocument document = new MigrationDocument(Collections.singletonMap("leaf", "value"));
+
+        // when
+        Object removed1 = document.remove("leaf.child");
+        Object removed2 = document.remove("unknown.path");
+
+        // then
+        assertThat(removed1, nullValue());
+        assertThat(removed2, nullValue());
+        assertThat(document.getValue("leaf.child"), nullValue());
+        assertThat(document.getValue("leaf"), equalTo("value"));
+        assertThat(new MigrationDocument(null).getRoot().isEmpty(), equalTo(true));
+    }
+}
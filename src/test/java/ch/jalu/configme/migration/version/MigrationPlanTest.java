@@ -0,0 +1,119 @@
+package ch.jalu.configme.migration.version;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.resource.PropertyReader;
+import ch.jalu.configme.resource.YamlFileReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static ch.jalu.configme.configurationdata.ConfigurationDataBuilder.createConfiguration;
+import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test for {@link MigrationPlan}.
+ */
+class MigrationPlanTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    void shouldApplyStepsOfAllPlansInOrder() throws IOException {
+        // given
+        PropertyReader reader = createReader("server:\n  host: localhost\n  port: '25565'\n"
+            + "old:\n  name: Test\n  motd: Hi\nobsolete: true\nnew:\n  motd: Existing");
+        MigrationPlan plan1 = MigrationPlan.builder(1, 2)
+            .move("old.name", "server.name")
+            .move("old.motd", "new.motd")
+            .transform("server.port", value -> Integer.parseInt((String) value))
+            .build();
+        MigrationPlan plan2 = MigrationPlan.builder(2, 3)
+            .rename("server.name", "title")
+            .delete("obsolete")
+            .transform("server.host", value -> null)
+            .step(document -> document.setValue("version", 3))
+            .build();
+
+        // when
+        PropertyReader result = MigrationPlan.applyAll(Arrays.asList(plan1, plan2), reader);
+
+        // then
+        assertThat(result.getValue("server.title"), equalTo("Test"));
+        assertThat(result.contains("server.name"), equalTo(false));
+        assertThat(result.getValue("server.port"), equalTo(25565));
+        assertThat(result.contains("server.host"), equalTo(false));
+        assertThat(result.getValue("new.motd"), equalTo("Existing"));
+        assertThat(result.getValue("old"), equalTo(Collections.emptyMap()));
+        assertThat(result.contains("obsolete"), equalTo(false));
+        assertThat(result.getValue("version"), equalTo(3));
+        // Original reader is unchanged
+        assertThat(reader.getValue("old.name"), equalTo("Test"));
+        assertThat(reader.getValue("server.port"), equalTo("25565"));
+    }
+
+    @Test
+    void shouldInitializeValuesFromMigratedDocument() throws IOException {
+        // given
+        Property<String> title = newProperty("title", "");
+        ConfigurationData configurationData = createConfiguration(Collections.singletonList(title));
+        PropertyReader reader = createReader("name: Hello");
+        MigrationPlan plan = MigrationPlan.builder(1, 2).rename("name", "title").build();
+
+        // when
+        plan.migrate(reader, configurationData);
+
+        // then
+        assertThat(configurationData.getValue(title), equalTo("Hello"));
+        assertThat(plan.fromVersion(), equalTo(1));
+        assertThat(plan.targetVersion(), equalTo(2));
+    }
+
+    @Test
+    void shouldHandleEmptyDocument() throws IOException {
+        // given
+        PropertyReader reader = createReader("");
+        MigrationPlan plan = MigrationPlan.builder(1, 2).move("a", "b").build();
+
+        // when
+        PropertyReader result = MigrationPlan.applyAll(Collections.singletonList(plan), reader);
+
+        // then
+        assertThat(result.getValue("b"), nullValue());
+    }
+
+    @Test
+    void shouldThrowForReaderWithoutDocument() {
+        // given
+        PropertyReader reader = mock(PropertyReader.class);
+        given(reader.getValue("")).willReturn("text");
+        MigrationPlan plan = MigrationPlan.builder(1, 2).delete("a").build();
+
+        // when
+        ConfigMeException ex = assertThrows(ConfigMeException.class,
+            () -> MigrationPlan.applyAll(Collections.singletonList(plan), reader));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("Migration plans can only be applied to readers which return the "
+            + "document as a map for the empty path, but got: text"));
+    }
+
+    private PropertyReader createReader(String yaml) throws IOException {
+        Path file = Files.createTempFile(temporaryFolder, "migration", ".yml");
+        Files.write(file, yaml.getBytes());
+        return new YamlFileReader(file);
+    }
+}
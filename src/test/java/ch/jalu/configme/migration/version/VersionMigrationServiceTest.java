@@ -1,8 +1,11 @@
 package ch.jalu.configme.migration.version;
 
 import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
 import ch.jalu.configme.properties.IntegerProperty;
 import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.properties.StringProperty;
+import ch.jalu.configme.resource.MapPropertyReader;
 import ch.jalu.configme.resource.PropertyReader;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
@@ -13,11 +16,15 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import static ch.jalu.configme.properties.PropertyInitializer.newListProperty;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -131,6 +138,134 @@ class VersionMigrationServiceTest {
         assertThat(migration4To5.timesCalled, equalTo(0));
     }
 
+    @Test
+    void shouldApplyConsecutiveMigrationPlansTogether() {
+        // given
+        Property<Integer> versionProperty = createVersionProperty(4);
+        Property<String> title = new StringProperty("title", "");
+        Property<Integer> size = new IntegerProperty("size", 0);
+        MigrationPlan plan1To2 = MigrationPlan.builder(1, 2).move("name", "label").build();
+        TestVersionMigrationImpl migration2To3 = new TestVersionMigrationImpl(2, 3);
+        MigrationPlan plan3To4 = MigrationPlan.builder(3, 4).rename("label", "title").build();
+        VersionMigrationService migrationService =
+            new VersionMigrationService(versionProperty, plan1To2, migration2To3, plan3To4);
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("config", Collections.singletonMap("version", 1));
+        document.put("name", "Hello");
+        document.put("size", 7);
+        PropertyReader reader = new MapPropertyReader(document);
+        ConfigurationData configurationData =
+            ConfigurationDataBuilder.createConfiguration(Arrays.asList(versionProperty, title, size));
+        configurationData.initializeValues(reader);
+
+        // when
+        boolean needsSave = migrationService.checkAndMigrate(reader, configurationData);
+
+        // then
+        assertThat(needsSave, equalTo(true));
+        assertThat(configurationData.getValue(title), equalTo("Hello"));
+        assertThat(configurationData.getValue(size), equalTo(7));
+        assertThat(configurationData.getValue(versionProperty), equalTo(4));
+        assertThat(migration2To3.timesCalled, equalTo(1));
+    }
+
+    @Test
+    void shouldRunMigrationPlansAndOtherMigrationsInChainOrder() {
+        // given
+        Property<Integer> versionProperty = createVersionProperty(5);
+        Property<String> title = new StringProperty("title", "");
+        Property<Integer> size = new IntegerProperty("size", 0);
+        MigrationPlan plan1To2 = MigrationPlan.builder(1, 2).move("name", "label").build();
+        MigrationPlan plan2To3 = MigrationPlan.builder(2, 3).transform("size", value -> (Integer) value * 2).build();
+        VersionMigration migration3To4 = new VersionMigration() {
+            @Override
+            public int fromVersion() {
+                return 3;
+            }
+
+            @Override
+            public int targetVersion() {
+                return 4;
+            }
+
+            @Override
+            public void migrate(@NotNull PropertyReader reader, @NotNull ConfigurationData configurationData) {
+                // Reads the document as migrated by the plans before this migration
+                configurationData.setValue(title, reader.getString("label").toUpperCase());
+            }
+        };
+        MigrationPlan plan4To5 = MigrationPlan.builder(4, 5)
+            .transform("title", value -> value + "!")
+            .delete("label")
+            .build();
+        VersionMigrationService migrationService =
+            new VersionMigrationService(versionProperty, plan1To2, plan2To3, migration3To4, plan4To5);
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("config", Collections.singletonMap("version", 1));
+        document.put("name", "Hello");
+        document.put("size", 7);
+        PropertyReader reader = new MapPropertyReader(document);
+        ConfigurationData configurationData =
+            ConfigurationDataBuilder.createConfiguration(Arrays.asList(versionProperty, title, size));
+        configurationData.initializeValues(reader);
+
+        // when
+        boolean needsSave = migrationService.checkAndMigrate(reader, configurationData);
+
+        // then
+        assertThat(needsSave, equalTo(true));
+        assertThat(configurationData.getValue(title), equalTo("HELLO!"));
+        assertThat(configurationData.getValue(size), equalTo(14));
+        assertThat(configurationData.getValue(versionProperty), equalTo(5));
+    }
+
+    @Test
+    void shouldKeepValueModifiedInPlaceByMigrationBeforePlan() {
+        // given
+        Property<Integer> versionProperty = createVersionProperty(3);
+        Property<List<String>> names = newListProperty("names");
+        Property<Integer> size = new IntegerProperty("size", 0);
+        VersionMigration migration1To2 = new VersionMigration() {
+            @Override
+            public int fromVersion() {
+                return 1;
+            }
+
+            @Override
+            public int targetVersion() {
+                return 2;
+            }
+
+            @Override
+            public void migrate(@NotNull PropertyReader reader, @NotNull ConfigurationData configurationData) {
+                configurationData.getValue(names).add("c");
+            }
+        };
+        MigrationPlan plan2To3 = MigrationPlan.builder(2, 3).transform("size", value -> (Integer) value * 2).build();
+        VersionMigrationService migrationService =
+            new VersionMigrationService(versionProperty, migration1To2, plan2To3);
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("config", Collections.singletonMap("version", 1));
+        document.put("names", Arrays.asList("a", "b"));
+        document.put("size", 7);
+        PropertyReader reader = new MapPropertyReader(document);
+        ConfigurationData configurationData =
+            ConfigurationDataBuilder.createConfiguration(Arrays.asList(versionProperty, names, size));
+        configurationData.initializeValues(reader);
+
+        // when
+        boolean needsSave = migrationService.checkAndMigrate(reader, configurationData);
+
+        // then
+        assertThat(needsSave, equalTo(true));
+        assertThat(configurationData.getValue(names), contains("a", "b", "c"));
+        assertThat(configurationData.getValue(size), equalTo(14));
+        assertThat(configurationData.getValue(versionProperty), equalTo(3));
+    }
+
     @Test
     void shouldNotRunMigrationsAndSetCurrentValueIfNoMigrationsApply() {
         // given
@@ -0,0 +1,62 @@
+package ch.jalu.configme.properties.convertresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * Test for {@link UniqueCommentTracker}.
+ */
+class UniqueCommentTrackerTest {
+
+    @Test
+    void shouldTrackIdsAndUuids() {
+        // given
+        UniqueCommentTracker tracker = new UniqueCommentTracker();
+        UUID uuid = UUID.randomUUID();
+
+        // when
+        boolean isIdAdded = tracker.add(3);
+        boolean isIdAddedAgain = tracker.add(3);
+        boolean isUuidAdded = tracker.add(uuid);
+        boolean isUuidAddedAgain = tracker.add(uuid);
+
+        // then
+        assertThat(isIdAdded, equalTo(true));
+        assertThat(isIdAddedAgain, equalTo(false));
+        assertThat(isUuidAdded, equalTo(true));
+        assertThat(isUuidAddedAgain, equalTo(false));
+        assertThat(tracker.contains(3), equalTo(true));
+        assertThat(tracker.contains(4), equalTo(false));
+        assertThat(tracker.contains(uuid), equalTo(true));
+        assertThat(tracker.contains(UUID.randomUUID()), equalTo(false));
+    }
+
+    @Test
+    void shouldCopyAndCombineTrackers() {
+        // given
+        UUID uuid = UUID.randomUUID();
+        UniqueCommentTracker tracker = new UniqueCommentTracker();
+        tracker.add(2);
+        tracker.add(uuid);
+
+        // when
+        UniqueCommentTracker copy = tracker.copy();
+        tracker.add(5);
+        UniqueCommentTracker combined = new UniqueCommentTracker();
+        combined.addAll(tracker);
+
+        // then
+        assertThat(copy.contains(2), equalTo(true));
+        assertThat(copy.contains(uuid), equalTo(true));
+        assertThat(copy.contains(5), equalTo(false));
+        assertThat(copy, not(equalTo(tracker)));
+        assertThat(combined, equalTo(tracker));
+        assertThat(combined.hashCode(), equalTo(tracker.hashCode()));
+        assertThat(new UniqueCommentTracker(), equalTo(new UniqueCommentTracker()));
+    }
+}
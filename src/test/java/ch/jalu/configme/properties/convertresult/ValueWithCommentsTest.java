@@ -2,17 +2,19 @@ package ch.jalu.configme.properties.convertresult;
 
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Field;
 import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.stream.Collectors.toList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * Test for {@link ValueWithComments}.
@@ -22,7 +24,7 @@ class ValueWithCommentsTest {
     @Test
     void shouldUnwrapValue() {
         // given
-        Object object1 = new ValueWithComments("test", Arrays.asList("Explanatory", "comments"), null);
+        Object object1 = new ValueWithComments("test", Arrays.asList("Explanatory", "comments"));
         Object object2 = TimeUnit.SECONDS;
 
         // when / then
@@ -31,10 +33,11 @@ class ValueWithCommentsTest {
     }
 
     @Test
-    void shouldStreamThroughCommentsWithoutUuidSet() {
+    void shouldStreamThroughCommentsWithoutUsedIdSet() {
         // given
-        Object object1 = new ValueWithComments("test", Arrays.asList("Explanatory", "comments"), null);
-        Object object2 = new ValueWithComments(144, Arrays.asList("144", "coms"), UUID.randomUUID());
+        Object object1 = new ValueWithComments("test", Arrays.asList("Explanatory", "comments"),
+            ValueWithComments.NO_UNIQUE_COMMENT_ID);
+        Object object2 = new ValueWithComments(144, Arrays.asList("144", "coms"), ValueWithComments.createUniqueCommentId());
         Object object3 = TimeUnit.SECONDS;
 
         // when / then
@@ -47,15 +50,15 @@ class ValueWithCommentsTest {
     @Test
     void shouldStreamThroughCommentsIfUnique() {
         // given
-        UUID uuid1 = UUID.fromString("0000-00-00-00-001");
-        UUID uuid2 = UUID.fromString("0000-00-00-00-002");
-        UUID uuid3 = UUID.fromString("0000-00-00-00-003");
-        Set<UUID> usedCommentIds = new HashSet<>();
-        usedCommentIds.add(uuid3);
+        int id1 = 1;
+        int id2 = 2;
+        int id3 = 3;
+        UniqueCommentTracker usedCommentIds = new UniqueCommentTracker();
+        usedCommentIds.add(id3);
 
-        Object object1 = new ValueWithComments(1.0, Arrays.asList("coms", "1"), uuid1);
-        Object object2 = new ValueWithComments("2", Arrays.asList("coms", "2"), uuid2);
-        Object object3 = new ValueWithComments('3', Arrays.asList("coms", "3"), null);
+        Object object1 = new ValueWithComments(1.0, Arrays.asList("coms", "1"), id1);
+        Object object2 = new ValueWithComments("2", Arrays.asList("coms", "2"), id2);
+        Object object3 = new ValueWithComments('3', Arrays.asList("coms", "3"), ValueWithComments.NO_UNIQUE_COMMENT_ID);
 
         // when / then
         assertThat(ValueWithComments.streamThroughCommentsIfApplicable(object1, usedCommentIds).collect(toList()), contains("coms", "1"));
@@ -65,4 +68,78 @@ class ValueWithCommentsTest {
         assertThat(ValueWithComments.streamThroughCommentsIfApplicable(object3, usedCommentIds).collect(toList()), contains("coms", "3"));
         assertThat(ValueWithComments.streamThroughCommentsIfApplicable(object3, usedCommentIds).collect(toList()), contains("coms", "3"));
     }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void shouldTrackDeprecatedUuidPerTracker() {
+        // given
+        UUID uuid = UUID.randomUUID();
+        ValueWithComments value1 = new ValueWithComments("a", Arrays.asList("com"), uuid);
+        ValueWithComments value2 = new ValueWithComments("b", Arrays.asList("com"), uuid);
+        ValueWithComments value3 = new ValueWithComments("c", Arrays.asList("com"), (UUID) null);
+        UniqueCommentTracker tracker1 = new UniqueCommentTracker();
+        UniqueCommentTracker tracker2 = new UniqueCommentTracker();
+
+        // when / then
+        assertThat(ValueWithComments.streamThroughCommentsIfApplicable(value1, tracker1).collect(toList()), contains("com"));
+        assertThat(ValueWithComments.streamThroughCommentsIfApplicable(value2, tracker1).collect(toList()), empty());
+        assertThat(ValueWithComments.streamThroughCommentsIfApplicable(value2, tracker2).collect(toList()), contains("com"));
+        assertThat(ValueWithComments.streamThroughCommentsIfApplicable(value3, tracker1).collect(toList()), contains("com"));
+        assertThat(ValueWithComments.streamThroughCommentsIfApplicable(value3, tracker1).collect(toList()), contains("com"));
+
+        assertThat(value1.getUniqueCommentId(), equalTo(uuid));
+        assertThat(value1.getUniqueCommentIntId(), equalTo(ValueWithComments.NO_UNIQUE_COMMENT_ID));
+        assertThat(value3.getUniqueCommentIntId(), equalTo(ValueWithComments.NO_UNIQUE_COMMENT_ID));
+        assertThat(value3.getUniqueCommentId(), nullValue());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void shouldReturnStableUuidForUniqueCommentId() {
+        // given
+        int id = ValueWithComments.createUniqueCommentId();
+        ValueWithComments value = new ValueWithComments("a", Arrays.asList("com"), id);
+
+        // when
+        UUID uuid = value.getUniqueCommentId();
+
+        // then
+        assertThat(value.getUniqueCommentId(), equalTo(uuid));
+        assertThat(new ValueWithComments("b", Arrays.asList("com"), uuid).getUniqueCommentIntId(), equalTo(id));
+        assertThat(new ValueWithComments("c", Arrays.asList("com"), uuid).hasSameComments(value), equalTo(true));
+    }
+
+    @Test
+    void shouldRejectInvalidUniqueCommentId() {
+        // given / when
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> new ValueWithComments("a", Arrays.asList("com"), -2));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("Invalid unique comment ID: -2"));
+    }
+
+    @Test
+    void shouldNotCreateNegativeUniqueCommentIds() throws ReflectiveOperationException {
+        // given
+        Field counterField = ValueWithComments.class.getDeclaredField("UNIQUE_COMMENT_ID_COUNTER");
+        counterField.setAccessible(true);
+        AtomicInteger counter = (AtomicInteger) counterField.get(null);
+        int originalValue = counter.get();
+        counter.set(Integer.MAX_VALUE - 1);
+
+        try {
+            // when
+            int lastId = ValueWithComments.createUniqueCommentId();
+            IllegalStateException ex = assertThrows(IllegalStateException.class,
+                ValueWithComments::createUniqueCommentId);
+
+            // then
+            assertThat(lastId, equalTo(Integer.MAX_VALUE - 1));
+            assertThat(ex.getMessage(), equalTo("No more unique comment IDs are available"));
+            assertThat(counter.get(), equalTo(Integer.MAX_VALUE));
+        } finally {
+            counter.set(originalValue);
+        }
+    }
 }
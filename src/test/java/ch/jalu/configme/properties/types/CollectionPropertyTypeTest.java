@@ -6,15 +6,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Vector;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -54,6 +57,48 @@ class CollectionPropertyTypeTest {
         assertThat(errorRecorder.isFullyValid(), equalTo(false));
     }
 
+    @Test
+    void shouldApplyFinisherOfCollector() {
+        // given
+        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder();
+        CollectionPropertyType<Integer, List<Integer>> type = CollectionPropertyType.of(NumberType.INTEGER,
+            Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
+        List<String> value = Arrays.asList("4", "x", "8");
+
+        // when
+        List<Integer> result = type.convert(value, errorRecorder);
+
+        // then
+        assertThat(result, contains(4, 8));
+        assertThrows(UnsupportedOperationException.class, () -> result.add(3));
+        assertThat(errorRecorder.isFullyValid(), equalTo(false));
+    }
+
+    @Test
+    void shouldAddEntriesToResultCollectionOfExtension() {
+        // given
+        CollectionPropertyType<Integer, Vector<Integer>> type =
+            new CollectionPropertyType<Integer, Vector<Integer>>(NumberType.INTEGER) {
+                @Override
+                protected Vector<Integer> createResultCollection(int expectedSize) {
+                    return new Vector<>(expectedSize * 10);
+                }
+
+                @Override
+                protected Collector<Integer, ?, Vector<Integer>> resultCollector() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        List<String> value = Arrays.asList("3", "x", "15");
+
+        // when
+        Vector<Integer> result = type.convert(value, new ConvertErrorRecorder());
+
+        // then
+        assertThat(result, contains(3, 15));
+        assertThat(result.capacity(), equalTo(30));
+    }
+
     @Test
     void shouldReturnExportValue() {
         // given
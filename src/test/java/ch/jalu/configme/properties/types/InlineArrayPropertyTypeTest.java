@@ -19,6 +19,7 @@ import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.emptyArray;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -131,6 +132,35 @@ class InlineArrayPropertyTypeTest {
         verifyNoInteractions(errorRecorder);
     }
 
+    @Test
+    void shouldSplitByLiteralSeparators() {
+        // given
+        InlineArrayPropertyType<String> dotStarType = StringType.STRING.inlineArrayType(".*");
+        InlineArrayPropertyType<Integer> pipeType = NumberType.INTEGER.inlineArrayType("|");
+        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder();
+
+        // when
+        String[] result1 = dotStarType.convert("a.*b.c.*.*d*", errorRecorder);
+        Integer[] result2 = pipeType.convert("3| 4 |x|5", errorRecorder);
+
+        // then
+        assertThat(result1, equalTo(new String[]{"a", "b.c", "", "d*"}));
+        assertThat(result2, equalTo(new Integer[]{3, 4, 5}));
+        assertThat(errorRecorder.isFullyValid(), equalTo(false));
+        assertThat(dotStarType.toExportValue(result1), equalTo("a.*b.c.*.*d*"));
+        assertThat(pipeType.toExportValue(result2), equalTo("3| 4| 5"));
+    }
+
+    @Test
+    void shouldRejectEmptySeparator() {
+        // given / when
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> StringType.STRING.inlineArrayType(""));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("The separator may not be empty"));
+    }
+
     private static List<Object[]> data() throws IllegalAccessException {
         List<Object[]> converters = new ArrayList<>();
         for (Field field : InlineArrayPropertyType.class.getDeclaredFields()) {
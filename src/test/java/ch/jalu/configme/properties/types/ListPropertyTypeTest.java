@@ -8,9 +8,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
@@ -61,6 +64,24 @@ class ListPropertyTypeTest {
         assertThat(errorRecorder.isFullyValid(), equalTo(false));
     }
 
+    @Test
+    void shouldUseResultCollectorOfExtension() {
+        // given
+        ListPropertyType<Integer> type = new ListPropertyType<Integer>(NumberType.INTEGER) {
+            @Override
+            protected Collector<Integer, ?, List<Integer>> resultCollector() {
+                return Collectors.toCollection(LinkedList::new);
+            }
+        };
+
+        // when
+        List<Integer> result = type.convert(Arrays.asList(3, "7"), new ConvertErrorRecorder());
+
+        // then
+        assertThat(result, instanceOf(LinkedList.class));
+        assertThat(result, contains(3, 7));
+    }
+
     @Test
     void shouldReturnExportValue() {
         // given
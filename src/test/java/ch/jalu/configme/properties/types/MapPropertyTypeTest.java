@@ -4,8 +4,10 @@ import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import ch.jalu.configme.samples.TestEnum;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
@@ -107,6 +109,39 @@ class MapPropertyTypeTest {
         assertThat(errorRecorder.isFullyValid(), equalTo(false));
     }
 
+    @Test
+    void shouldUseCreateResultMapOverloadsOfExtensions() {
+        // given
+        MapPropertyType<Integer> legacyType = new MapPropertyType<Integer>(NumberType.INTEGER) {
+            @Override
+            protected Map<String, Integer> createResultMap() {
+                return new TreeMap<>();
+            }
+        };
+        MapPropertyType<Integer> sizedType = new MapPropertyType<Integer>(NumberType.INTEGER) {
+            @Override
+            protected Map<String, Integer> createResultMap(int expectedSize) {
+                return new HashMap<>(expectedSize);
+            }
+        };
+        Map<String, Object> input = new LinkedHashMap<>();
+        input.put("b", 2);
+        input.put("a", 1);
+
+        // when
+        Map<String, Integer> legacyResult = legacyType.convert(input, new ConvertErrorRecorder());
+        Map<String, Integer> sizedResult = sizedType.convert(input, new ConvertErrorRecorder());
+        Map<String, Integer> defaultResult = new MapPropertyType<>(NumberType.INTEGER).convert(input,
+            new ConvertErrorRecorder());
+
+        // then
+        assertThat(legacyResult, instanceOf(TreeMap.class));
+        assertThat(legacyResult.keySet(), contains("a", "b"));
+        assertThat(sizedResult, instanceOf(HashMap.class));
+        assertThat(defaultResult, instanceOf(LinkedHashMap.class));
+        assertThat(defaultResult.keySet(), contains("b", "a"));
+    }
+
     @Test
     void shouldExportMap() {
         // given
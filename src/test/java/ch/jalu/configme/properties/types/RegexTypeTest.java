@@ -16,7 +16,9 @@ import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 
 import static ch.jalu.typeresolver.TypeInfo.of;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 /**
@@ -52,6 +54,23 @@ public class RegexTypeTest {
         assertInstanceOf(Pattern.class, RegexType.REGEX.convert("$", errorRecorder));
     }
 
+    @Test
+    void shouldReuseCompiledPatterns() {
+        // given
+        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder();
+
+        // when
+        Pattern pattern1 = RegexType.REGEX.convert("^test\\d+$", errorRecorder);
+        Pattern pattern2 = RegexType.REGEX.convert("^test\\d+$", errorRecorder);
+        Pattern caseInsensitivePattern = RegexType.REGEX_CASE_INSENSITIVE.convert("^test\\d+$", errorRecorder);
+
+        // then
+        assertThat(pattern2, sameInstance(pattern1));
+        assertThat(caseInsensitivePattern, not(sameInstance(pattern1)));
+        assertThat(caseInsensitivePattern.flags(), equalTo(Pattern.CASE_INSENSITIVE));
+        assertThat(caseInsensitivePattern.matcher("TEST42").matches(), equalTo(true));
+    }
+
     @Test
     void shouldReturnNullForInvalidRegex() {
         // given
@@ -9,10 +9,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static ch.jalu.typeresolver.TypeInfo.of;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
@@ -92,6 +95,59 @@ class TemporalTypeTest {
         assertThat(TemporalType.LOCAL_DATE_TIME.convert("test", of(LocalDateTime.class), errorRecorder), nullValue());
     }
 
+    @Test
+    void shouldReturnNullForValueWithMatchingShapeButInvalidFields() {
+        // given
+        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder();
+
+        // when / then
+        assertThat(TemporalType.LOCAL_DATE.convert("1970-13-01", of(LocalDate.class), errorRecorder), nullValue());
+        assertThat(TemporalType.LOCAL_DATE.convert("1970-01-01x", of(LocalDate.class), errorRecorder), nullValue());
+        assertThat(TemporalType.LOCAL_TIME.convert("15:60", of(LocalTime.class), errorRecorder), nullValue());
+        assertThat(TemporalType.LOCAL_DATE_TIME.convert("1970-01-31 15:35", of(LocalDateTime.class), errorRecorder), nullValue());
+    }
+
+    @Test
+    void shouldNotResolveValueWithInvalidFields() {
+        // given
+        AtomicInteger parserCalls = new AtomicInteger();
+        TemporalType<LocalDate> type = new TemporalType<>(LocalDate.class, Arrays.asList("yyyy-MM-dd", "dd.MM.yyyy"),
+            (text, formatter) -> {
+                parserCalls.incrementAndGet();
+                return LocalDate.parse(text, formatter);
+            });
+        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder();
+
+        // when
+        LocalDate result1 = type.convert("2024-13-45", errorRecorder);
+        LocalDate result2 = type.convert("45.13.2024", errorRecorder);
+        LocalDate result3 = type.convert("2024-02-30", errorRecorder);
+
+        // then
+        assertThat(result1, nullValue());
+        assertThat(result2, nullValue());
+        assertThat(result3, equalTo(LocalDate.of(2024, 2, 29))); // adjusted by the smart resolver style
+        assertThat(parserCalls.get(), equalTo(1));
+    }
+
+    @Test
+    void shouldParseWithFormatsWithoutShape() {
+        // given
+        TemporalType<LocalDateTime> type = new TemporalType<>(LocalDateTime.class,
+            Arrays.asList("yyyy-MM-dd HH:mm", "yyyy-MM-dd'T'HH:mm"), LocalDateTime::parse);
+        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder();
+        LocalDateTime expected = LocalDateTime.of(2024, 3, 9, 18, 5);
+
+        // when
+        LocalDateTime result1 = type.convert("2024-03-09T18:05", errorRecorder);
+        LocalDateTime result2 = type.convert("2024-03-09 18:05", errorRecorder);
+
+        // then
+        assertThat(result1, equalTo(expected));
+        assertThat(result2, equalTo(expected));
+        assertThat(type.getSupportedFormats(), contains("yyyy-MM-dd HH:mm", "yyyy-MM-dd'T'HH:mm"));
+    }
+
     @Test
     void shouldReturnNullForNull() {
         // given
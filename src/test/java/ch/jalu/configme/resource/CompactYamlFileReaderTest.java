@@ -0,0 +1,129 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.TestUtils;
+import ch.jalu.configme.exception.ConfigMeException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link CompactYamlFileReader}.
+ */
+class CompactYamlFileReaderTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "/config-sample.yml",
+        "/config-difficult-values.yml",
+        "/empty_file.yml",
+        "/beanmapper/nested_chat_component_complex_expected.yml"
+    })
+    void shouldBehaveLikeYamlFileReader(String resourceFile) {
+        // given
+        Path file = TestUtils.copyFileFromResources(resourceFile, temporaryFolder);
+        YamlFileReader yamlFileReader = new YamlFileReader(file);
+
+        // when
+        CompactYamlFileReader compactReader = new CompactYamlFileReader(file);
+
+        // then
+        // Compare as lists to check the order
+        assertThat(new ArrayList<>(compactReader.getPaths()), equalTo(new ArrayList<>(yamlFileReader.getPaths())));
+        assertThat(new ArrayList<>(compactReader.getLeafPaths()),
+            equalTo(new ArrayList<>(yamlFileReader.getLeafPaths())));
+        assertThat(compactReader.getValue(""), equalTo(yamlFileReader.getValue("")));
+
+        List<String> pathsToCheck = new ArrayList<>(yamlFileReader.getPaths());
+        pathsToCheck.add("");
+        pathsToCheck.add("bogus");
+        pathsToCheck.add("bogus.path");
+        for (String path : pathsToCheck) {
+            assertThat(path, compactReader.getValue(path), equalTo(yamlFileReader.getValue(path)));
+            assertThat(path, compactReader.contains(path), equalTo(yamlFileReader.contains(path)));
+            assertThat(path, compactReader.getChildPaths(path), equalTo(yamlFileReader.getChildPaths(path)));
+        }
+    }
+
+    @Test
+    void shouldProcessAliasesMergeKeysAndNonStringKeysLikeYamlFileReader() throws IOException {
+        // given
+        Path file = temporaryFolder.resolve("aliases.yml");
+        Files.write(file, Arrays.asList(
+            "defaults: &defaults",
+            "    size: 3",
+            "    color: red",
+            "first:",
+            "    <<: *defaults",
+            "    color: blue",
+            "second: *defaults",
+            "list: [*defaults, 4]",
+            "nested:",
+            "    1:",
+            "        a: 1",
+            "        b: 2",
+            "    '1':",
+            "        b: 3",
+            "    true: yes",
+            "    size: 1",
+            "    size: 2"));
+        YamlFileReader yamlFileReader = new YamlFileReader(file);
+
+        // when
+        CompactYamlFileReader compactReader = new CompactYamlFileReader(file);
+
+        // then
+        assertThat(compactReader.getValue(""), equalTo(yamlFileReader.getValue("")));
+        assertThat(new ArrayList<>(compactReader.getPaths()), equalTo(new ArrayList<>(yamlFileReader.getPaths())));
+        assertThat(compactReader.getValue("first.color"), equalTo("blue"));
+        assertThat(compactReader.getValue("first.size"), equalTo(3));
+        assertThat(compactReader.getValue("nested.1.a"), equalTo(1));
+        assertThat(compactReader.getValue("nested.1.b"), equalTo(3));
+        assertThat(compactReader.getValue("nested.true"), equalTo(true));
+        assertThat(compactReader.getValue("nested.size"), equalTo(2));
+    }
+
+    @Test
+    void shouldThrowForRecursiveAlias() throws IOException {
+        // given
+        Path file = temporaryFolder.resolve("recursive.yml");
+        Files.write(file, Arrays.asList(
+            "list: &list",
+            "    - 1",
+            "    - *list"));
+
+        // when
+        ConfigMeException ex = assertThrows(ConfigMeException.class, () -> new CompactYamlFileReader(file));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("The document contains a recursive structure, which is not supported"));
+    }
+
+    @Test
+    void shouldThrowForTopLevelThatIsNotMap() throws IOException {
+        // given
+        Path file = temporaryFolder.resolve("list.yml");
+        Files.write(file, Arrays.asList("- 1", "- 2"));
+
+        // when
+        ConfigMeException ex = assertThrows(ConfigMeException.class, () -> new CompactYamlFileReader(file));
+
+        // then
+        assertThat(ex.getMessage(), startsWith("Top-level is not a map in '"));
+    }
+}
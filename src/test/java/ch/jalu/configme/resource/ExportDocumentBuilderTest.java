@@ -0,0 +1,67 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import ch.jalu.configme.properties.OptionalProperty;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.properties.convertresult.ValueWithComments;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static ch.jalu.configme.properties.PropertyInitializer.newListProperty;
+import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
+import static ch.jalu.configme.properties.PropertyInitializer.optionalStringProperty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Test for {@link ExportDocumentBuilder}.
+ */
+class ExportDocumentBuilderTest {
+
+    @Test
+    void shouldCreateNestedDocument() {
+        // given
+        Property<Integer> size = newProperty("server.size", 3);
+        Property<String> name = newProperty("name", "test");
+        OptionalProperty<String> optional = optionalStringProperty("server.optional");
+        Property<List<String>> list = newListProperty("server.list", "a", "b");
+        ConfigurationData configurationData = ConfigurationDataBuilder.createConfiguration(
+            Arrays.asList(size, name, optional, list));
+        configurationData.setValue(size, 3);
+        configurationData.setValue(name, "test");
+        configurationData.setValue(optional, Optional.empty());
+        configurationData.setValue(list, Arrays.asList("a", "b"));
+
+        // when
+        Map<String, Object> document = new ExportDocumentBuilder().createDocument(configurationData);
+
+        // then
+        assertThat(document.keySet(), contains("server", "name"));
+        Map<String, Object> server = (Map<String, Object>) document.get("server");
+        assertThat(server.keySet(), contains("size", "list"));
+        assertThat(server.get("list"), equalTo(Arrays.asList("a", "b")));
+    }
+
+    @Test
+    void shouldUnwrapValuesWithComments() {
+        // given
+        ExportDocumentBuilder builder = new ExportDocumentBuilder();
+        Object value = Arrays.asList(
+            new ValueWithComments(Collections.singletonMap(1, "one"), Collections.singletonList("comment")),
+            new String[]{"x"});
+
+        // when
+        Object result = builder.toDocumentValue(value);
+
+        // then
+        assertThat(result, equalTo(Arrays.asList(Collections.singletonMap("1", "one"),
+            Collections.singletonList("x"))));
+    }
+}
@@ -0,0 +1,161 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.SettingsManager;
+import ch.jalu.configme.SettingsManagerBuilder;
+import ch.jalu.configme.TestUtils;
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.resource.UniqueCommentTest.ServerCollection;
+import ch.jalu.configme.resource.UniqueCommentTest.ServerSettingHolder;
+import ch.jalu.configme.samples.TestConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Test for {@link InMemoryPropertyResource}.
+ */
+class InMemoryPropertyResourceTest {
+
+    @Test
+    void shouldReadInitialDocument() {
+        // given
+        Map<String, Object> features = new HashMap<>();
+        features.put("enabled", true);
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("name", "test");
+        document.put("features", features);
+        InMemoryPropertyResource resource = new InMemoryPropertyResource(document);
+
+        // when
+        features.put("enabled", false);
+        PropertyReader reader = resource.createReader();
+
+        // then
+        assertThat(reader.getString("name"), equalTo("test"));
+        assertThat(reader.getBoolean("features.enabled"), equalTo(true));
+        assertThat(reader.contains("features.other"), equalTo(false));
+    }
+
+    @Test
+    void shouldHaveNoDataInitially() {
+        // given
+        InMemoryPropertyResource resource = new InMemoryPropertyResource();
+
+        // when
+        PropertyReader reader = resource.createReader();
+
+        // then
+        assertThat(reader.contains("test"), equalTo(false));
+        assertThat(resource.getDocument(), nullValue());
+        assertThat(resource.getComments(), anEmptyMap());
+    }
+
+    @Test
+    void shouldExportAndReadSameValues() {
+        // given
+        ConfigurationData configurationData = ConfigurationDataBuilder.createConfiguration(TestConfiguration.class);
+        configurationData.initializeValues(new YamlFileReader(TestUtils.getJarPath("/config-sample.yml")));
+        InMemoryPropertyResource resource = new InMemoryPropertyResource();
+
+        // when
+        resource.exportProperties(configurationData);
+        ConfigurationData configurationData2 = ConfigurationDataBuilder.createConfiguration(TestConfiguration.class);
+        configurationData2.initializeValues(resource.createReader());
+
+        // then
+        assertThat(configurationData2.areAllValuesValidInResource(), equalTo(true));
+        for (Property<?> property : configurationData.getProperties()) {
+            assertThat(property.getPath(), configurationData2.getValue(property),
+                equalTo(configurationData.getValue(property)));
+        }
+        assertThat(resource.getCommentsForPath("test"), contains("Test section"));
+        assertThat(resource.getCommentsForPath("features.cool"),
+            contains("\n", "Cool features", "\n", "Contains cool settings"));
+        assertThat(resource.getCommentsForPath("features.cool.enabled"), contains("Enable cool features?"));
+        assertThat(resource.getCommentsForPath("sample.ratio.order"), empty());
+    }
+
+    @Test
+    void shouldKeepValueCommentsOnFirstOccurrence() {
+        // given
+        ConfigurationData configData = ConfigurationDataBuilder.createConfiguration(ServerSettingHolder.class);
+        configData.setValue(ServerSettingHolder.WORLDS, Collections.emptyMap());
+        configData.setValue(ServerSettingHolder.AUTH_GROUPS, ServerSettingHolder.AUTH_GROUPS.getDefaultValue());
+        configData.setValue(ServerSettingHolder.ALT, Optional.of(new ServerCollection(true, "backup")));
+        InMemoryPropertyResource resource = new InMemoryPropertyResource();
+
+        // when
+        resource.exportProperties(configData);
+
+        // then
+        assertThat(resource.getComments(), aMapWithSize(1));
+        assertThat(resource.getCommentsForPath("auth.0.servers"), contains("List server names here"));
+        assertThat(resource.getDocument().get("alternative"),
+            equalTo(createServerCollectionMap(true, "backup")));
+    }
+
+    @Test
+    void shouldNotAffectExistingReaderOnExport() {
+        // given
+        Property<String> property = newProperty("name", "default");
+        ConfigurationData configurationData =
+            ConfigurationDataBuilder.createConfiguration(Collections.singletonList(property));
+        configurationData.setValue(property, "first");
+        InMemoryPropertyResource resource = new InMemoryPropertyResource();
+        resource.exportProperties(configurationData);
+        PropertyReader reader = resource.createReader();
+
+        // when
+        configurationData.setValue(property, "second");
+        resource.exportProperties(configurationData);
+
+        // then
+        assertThat(reader.getString("name"), equalTo("first"));
+        assertThat(resource.createReader().getString("name"), equalTo("second"));
+    }
+
+    @Test
+    void shouldBeUsableWithSettingsManager() {
+        // given
+        InMemoryPropertyResource resource = new InMemoryPropertyResource();
+        SettingsManager settingsManager = SettingsManagerBuilder.withResource(resource)
+            .configurationData(TestConfiguration.class)
+            .useDefaultMigrationService()
+            .create();
+
+        // when
+        settingsManager.setProperty(TestConfiguration.DURATION_IN_SECONDS, 30);
+        settingsManager.save();
+        SettingsManager settingsManager2 = SettingsManagerBuilder.withResource(resource)
+            .configurationData(TestConfiguration.class)
+            .create();
+
+        // then
+        assertThat(settingsManager2.getProperty(TestConfiguration.DURATION_IN_SECONDS), equalTo(30));
+        assertThat(settingsManager2.getProperty(TestConfiguration.SYSTEM_NAME),
+            equalTo(TestConfiguration.SYSTEM_NAME.getDefaultValue()));
+    }
+
+    private static Map<String, Object> createServerCollectionMap(boolean enabled, String... servers) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("servers", Arrays.asList(servers));
+        map.put("enabled", enabled);
+        return map;
+    }
+}
@@ -0,0 +1,114 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.TestUtils;
+import ch.jalu.configme.beanmapper.worldgroup.WorldGroupConfig;
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.properties.BeanProperty;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.samples.TestConfiguration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link JsonFileResource} and {@link JsonFileReader}.
+ */
+class JsonFileResourceTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    void shouldExportAndReadSameValuesAsYamlExport() {
+        // given
+        Path yamlFile = TestUtils.copyFileFromResources("/config-sample.yml", temporaryFolder);
+        ConfigurationData configurationData = ConfigurationDataBuilder.createConfiguration(TestConfiguration.class);
+        configurationData.initializeValues(new YamlFileReader(yamlFile));
+        Path jsonFile = TestUtils.createTemporaryFile(temporaryFolder);
+        JsonFileResource resource = new JsonFileResource(jsonFile);
+
+        // when
+        resource.exportProperties(configurationData);
+        PropertyReader reader = resource.createReader();
+
+        // then
+        new YamlFileResource(yamlFile).exportProperties(configurationData);
+        PropertyReader yamlReader = new YamlFileReader(yamlFile);
+        for (Property<?> property : configurationData.getProperties()) {
+            assertThat(property.getPath(), reader.getValue(property.getPath()),
+                equalTo(yamlReader.getValue(property.getPath())));
+        }
+        ConfigurationData configurationData2 = ConfigurationDataBuilder.createConfiguration(TestConfiguration.class);
+        configurationData2.initializeValues(reader);
+        assertThat(configurationData2.areAllValuesValidInResource(), equalTo(true));
+        assertThat(((JsonFileReader) reader).getPaths(), equalTo(((YamlFileReader) yamlReader).getPaths()));
+    }
+
+    @Test
+    void shouldExportAndReadBeanProperty() {
+        // given
+        BeanProperty<WorldGroupConfig> property =
+            new BeanProperty<>("", WorldGroupConfig.class, new WorldGroupConfig());
+        ConfigurationData configurationData = ConfigurationDataBuilder.createConfiguration(
+            Collections.singletonList(property));
+        configurationData.initializeValues(
+            new YamlFileReader(TestUtils.getJarPath("/beanmapper/worlds.yml")));
+        JsonFileResource resource = new JsonFileResource(TestUtils.createTemporaryFile(temporaryFolder));
+
+        // when
+        resource.exportProperties(configurationData);
+        WorldGroupConfig result = property.determineValue(resource.createReader()).getValue();
+
+        // then
+        WorldGroupConfig expected = configurationData.getValue(property);
+        assertThat(new ArrayList<>(result.getGroups().keySet()),
+            equalTo(new ArrayList<>(expected.getGroups().keySet())));
+        assertThat(result.getGroups().get("default").getWorlds(),
+            equalTo(expected.getGroups().get("default").getWorlds()));
+        assertThat(result.getGroups().get("creative").getDefaultGamemode(),
+            equalTo(expected.getGroups().get("creative").getDefaultGamemode()));
+    }
+
+    @Test
+    void shouldHandleEmptyFile() {
+        // given
+        JsonFileResource resource = new JsonFileResource(TestUtils.createTemporaryFile(temporaryFolder));
+
+        // when
+        PropertyReader reader = resource.createReader();
+
+        // then
+        assertThat(reader.getValue(""), nullValue());
+        assertThat(reader.contains("test"), equalTo(false));
+    }
+
+    @Test
+    void shouldThrowForInvalidFile() throws IOException {
+        // given
+        Path file1 = TestUtils.createTemporaryFile(temporaryFolder);
+        Files.write(file1, "[1, 2]".getBytes());
+        Path file2 = TestUtils.createTemporaryFile(temporaryFolder);
+        Files.write(file2, "{\"a\": }".getBytes());
+
+        // when
+        ConfigMeException ex1 = assertThrows(ConfigMeException.class, () -> new JsonFileReader(file1));
+        ConfigMeException ex2 = assertThrows(ConfigMeException.class, () -> new JsonFileReader(file2));
+
+        // then
+        assertThat(ex1.getMessage(), equalTo("Top-level is not a map in '" + file1 + "'"));
+        assertThat(ex2.getMessage(), equalTo("JSON error while trying to load file '" + file2 + "'"));
+        assertThat(ex2.getCause().getMessage(), equalTo("Unexpected character '}' at line 1, column 7"));
+    }
+}
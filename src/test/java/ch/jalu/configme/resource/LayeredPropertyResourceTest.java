@@ -0,0 +1,240 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.TestUtils;
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.samples.TestConfiguration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link LayeredPropertyResource}.
+ */
+class LayeredPropertyResourceTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    void shouldMergeLayersByPrecedence() {
+        // given
+        CountingResource base = createLayer("server:\n  name: base\n  port: 25565\n  worlds: [a, b]\nmotd: Hello");
+        CountingResource environment = createLayer("server:\n  port: 25566\n  worlds: [c]");
+        CountingResource node = createLayer("server:\n  name: node-1\nextra:\n  enabled: true");
+        LayeredPropertyResource resource = new LayeredPropertyResource(Arrays.asList(base, environment, node), 0);
+
+        // when
+        PropertyReader reader = resource.createReader();
+
+        // then
+        assertThat(reader.getValue("server.name"), equalTo("node-1"));
+        assertThat(reader.getValue("server.port"), equalTo(25566));
+        assertThat(reader.getValue("server.worlds"), equalTo(Collections.singletonList("c")));
+        assertThat(reader.getValue("motd"), equalTo("Hello"));
+        assertThat(reader.getValue("extra.enabled"), equalTo(true));
+        assertThat(reader.getValue("server.unknown"), nullValue());
+        assertThat(((Map<String, Object>) reader.getValue("server")).keySet(), contains("name", "port", "worlds"));
+        assertThat(((Map<String, Object>) reader.getValue("")).keySet(), contains("server", "motd", "extra"));
+    }
+
+    @Test
+    void shouldOnlyReadChangedLayersAgain() throws IOException {
+        // given
+        CountingResource base = createLayer("a: 1\nb: 2");
+        CountingResource override = createLayer("b: 3");
+        LayeredPropertyResource resource = new LayeredPropertyResource(Arrays.asList(base, override), 0);
+        PropertyReader reader1 = resource.createReader();
+
+        // when
+        PropertyReader reader2 = resource.createReader();
+        Files.write(override.getPath(), "b: 4\nc: 5".getBytes());
+        Files.setLastModifiedTime(override.getPath(), FileTime.fromMillis(1000L));
+        PropertyReader reader3 = resource.createReader();
+
+        // then
+        assertThat(reader2, sameInstance(reader1));
+        assertThat(reader3, not(sameInstance(reader1)));
+        assertThat(base.readCount, equalTo(1));
+        assertThat(override.readCount, equalTo(2));
+        assertThat(reader1.getValue("b"), equalTo(3));
+        assertThat(reader3.getValue("a"), equalTo(1));
+        assertThat(reader3.getValue("b"), equalTo(4));
+        assertThat(reader3.getValue("c"), equalTo(5));
+    }
+
+    @Test
+    void shouldReadInvalidatedLayerAgain() {
+        // given
+        CountingResource base = createLayer("a: 1");
+        CountingResource override = createLayer("b: 3");
+        LayeredPropertyResource resource = new LayeredPropertyResource(Arrays.asList(base, override), 0);
+        resource.createReader();
+
+        // when
+        resource.invalidateLayer(1);
+        resource.createReader();
+
+        // then
+        assertThat(base.readCount, equalTo(1));
+        assertThat(override.readCount, equalTo(2));
+    }
+
+    @Test
+    void shouldMergeChangedLowerLayerAfterUpperLayerFailedToLoad() throws IOException {
+        // given
+        CountingResource base = createLayer("a: 1");
+        CountingResource override = createLayer("b: 2");
+        LayeredPropertyResource resource = new LayeredPropertyResource(Arrays.asList(base, override), 0);
+        resource.createReader();
+
+        Files.write(base.getPath(), "a: 5".getBytes());
+        Files.setLastModifiedTime(base.getPath(), FileTime.fromMillis(1000L));
+        Files.write(override.getPath(), "b: [".getBytes());
+        Files.setLastModifiedTime(override.getPath(), FileTime.fromMillis(1000L));
+        assertThrows(ConfigMeException.class, resource::createReader);
+
+        Files.write(override.getPath(), "b: 3".getBytes());
+        Files.setLastModifiedTime(override.getPath(), FileTime.fromMillis(2000L));
+
+        // when
+        PropertyReader reader = resource.createReader();
+
+        // then
+        assertThat(reader.getValue("a"), equalTo(5));
+        assertThat(reader.getValue("b"), equalTo(3));
+    }
+
+    @Test
+    void shouldExportToConfiguredLayer() throws IOException {
+        // given
+        CountingResource base = createLayer("");
+        CountingResource override = createLayer("test:\n  duration: 99");
+        LayeredPropertyResource resource = new LayeredPropertyResource(Arrays.asList(base, override), 0);
+        ConfigurationData configurationData = ConfigurationDataBuilder.createConfiguration(TestConfiguration.class);
+        configurationData.initializeValues(resource.createReader());
+
+        // when
+        resource.exportProperties(configurationData);
+        PropertyReader reader = resource.createReader();
+
+        // then
+        // The configuration data has the merged values, so the value of the upper layer is exported
+        assertThat(new YamlFileReader(base.getPath()).getValue("test.duration"), equalTo(99));
+        assertThat(new YamlFileReader(base.getPath()).getValue("test.systemName"), equalTo("[TestDefaultValue]"));
+        assertThat(Files.readAllLines(override.getPath()), contains("test:", "  duration: 99"));
+        assertThat(reader.getValue("test.duration"), equalTo(99));
+        assertThat(base.readCount, equalTo(2));
+        assertThat(override.readCount, equalTo(1));
+    }
+
+    @Test
+    void shouldOnlyExportValuesThatDifferFromLowerLayers() throws IOException {
+        // given
+        CountingResource base = createLayer("test:\n  duration: 4\n  systemName: base");
+        CountingResource override = createLayer("");
+        LayeredPropertyResource resource = new LayeredPropertyResource(Arrays.asList(base, override), 1);
+        ConfigurationData configurationData = ConfigurationDataBuilder.createConfiguration(TestConfiguration.class);
+        configurationData.initializeValues(resource.createReader());
+        configurationData.setValue(TestConfiguration.DURATION_IN_SECONDS, 7);
+
+        // when
+        resource.exportProperties(configurationData);
+
+        // then
+        YamlFileReader overrideReader = new YamlFileReader(override.getPath());
+        assertThat(overrideReader.getValue("test.duration"), equalTo(7));
+        assertThat(overrideReader.contains("test.systemName"), equalTo(false));
+        assertThat(overrideReader.getValue("version"), equalTo(TestConfiguration.VERSION_NUMBER.getDefaultValue()));
+        assertThat(resource.createReader().getValue("test.duration"), equalTo(7));
+    }
+
+    @Test
+    void shouldKeepLowerLayerEditVisibleAfterSave() throws IOException {
+        // given
+        CountingResource base = createLayer("test:\n  duration: 4\n  systemName: base");
+        CountingResource override = createLayer("");
+        LayeredPropertyResource resource = new LayeredPropertyResource(Arrays.asList(base, override), 1);
+        ConfigurationData configurationData = ConfigurationDataBuilder.createConfiguration(TestConfiguration.class);
+        configurationData.initializeValues(resource.createReader());
+        configurationData.setValue(TestConfiguration.DURATION_IN_SECONDS, 7);
+        resource.exportProperties(configurationData);
+
+        // when
+        Files.write(base.getPath(), "test:\n  duration: 4\n  systemName: edited".getBytes());
+        Files.setLastModifiedTime(base.getPath(), FileTime.fromMillis(1000L));
+        PropertyReader reader = resource.createReader();
+
+        // then
+        assertThat(reader.getValue("test.systemName"), equalTo("edited"));
+        assertThat(reader.getValue("test.duration"), equalTo(7));
+    }
+
+    @Test
+    void shouldHandleEmptyLayers() {
+        // given
+        LayeredPropertyResource resource = new LayeredPropertyResource(
+            Arrays.asList(createLayer(""), createLayer("")), 1);
+
+        // when
+        PropertyReader reader = resource.createReader();
+
+        // then
+        assertThat(reader.getValue(""), nullValue());
+        assertThat(reader.contains("a"), equalTo(false));
+    }
+
+    @Test
+    void shouldThrowForInvalidExportLayer() {
+        // given
+        CountingResource layer = createLayer("");
+
+        // when
+        ConfigMeException ex = assertThrows(ConfigMeException.class,
+            () -> new LayeredPropertyResource(Collections.singletonList(layer), 1));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("Invalid export layer index 1 for 1 layers"));
+    }
+
+    private CountingResource createLayer(String yaml) {
+        Path file = TestUtils.createTemporaryFile(temporaryFolder);
+        try {
+            Files.write(file, yaml.getBytes());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return new CountingResource(file);
+    }
+
+    private static final class CountingResource extends YamlFileResource {
+
+        private int readCount;
+
+        CountingResource(Path path) {
+            super(path);
+        }
+
+        @Override
+        public PropertyReader createReader() {
+            ++readCount;
+            return super.createReader();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package ch.jalu.configme.resource;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Test for {@link MapPropertyReader}.
+ */
+class MapPropertyReaderTest {
+
+    @Test
+    void shouldLookUpPathsLikeYamlFileReader() {
+        // given
+        Map<String, Object> font = new LinkedHashMap<>();
+        font.put("color", "red");
+        font.put("size", 12);
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("title", "Hello");
+        header.put("font", font);
+        header.put("dotted.key", "x");
+        header.put("empty", Collections.emptyMap());
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("header", header);
+
+        // when
+        MapPropertyReader reader = new MapPropertyReader(root);
+
+        // then
+        assertThat(reader.getValue(""), sameInstance(root));
+        assertThat(reader.getValue("header.font"), sameInstance(font));
+        assertThat(reader.getValue("header.font.size"), equalTo(12));
+        assertThat(reader.getValue("header.dotted.key"), nullValue());
+        assertThat(reader.contains("header.title"), equalTo(true));
+        assertThat(reader.contains("header.title.other"), equalTo(false));
+        assertThat(reader.getPaths(), contains("header", "header.title", "header.font", "header.font.color",
+            "header.font.size", "header.dotted.key", "header.empty"));
+        assertThat(reader.getLeafPaths(), contains("header.title", "header.font.color", "header.font.size",
+            "header.dotted.key", "header.empty"));
+        assertThat(reader.getChildPaths("header.font"), contains("header.font.color", "header.font.size"));
+        assertThat(reader.getChildPaths(""), contains("header"));
+        assertThat(reader.getChildPaths("header.title"), empty());
+    }
+
+    @Test
+    void shouldHandleNullRoot() {
+        // given / when
+        MapPropertyReader reader = new MapPropertyReader(null);
+
+        // then
+        assertThat(reader.getValue(""), nullValue());
+        assertThat(reader.getPaths(), empty());
+        assertThat(reader.getChildPaths(""), empty());
+    }
+}
@@ -0,0 +1,123 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.TestUtils;
+import ch.jalu.configme.exception.ConfigMeException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link PropertiesFileReader}.
+ */
+class PropertiesFileReaderTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    void shouldParseEntries() {
+        // given
+        String text = "# Comment\n"
+            + "! Other comment\n"
+            + "server.name = My server\n"
+            + "server.port:25565\n"
+            + "  server.motd   Welcome \\\n"
+            + "      everyone\\!\r\n"
+            + "escaped\\ key\\=x=\\u00e9\\t\\\\\n"
+            + "\n"
+            + "names.0=Alice\n"
+            + "names.1=Bob\n"
+            + "notList.0=a\n"
+            + "notList.2=c\n"
+            + "empty=\n"
+            + "last";
+
+        // when
+        Map<String, Object> result = PropertiesFileReader.parse(text);
+
+        // then
+        assertThat(result.keySet(), contains("server", "escaped key=x", "names", "notList", "empty", "last"));
+        Map<String, Object> server = (Map<String, Object>) result.get("server");
+        assertThat(server.get("name"), equalTo("My server"));
+        assertThat(server.get("port"), equalTo("25565"));
+        assertThat(server.get("motd"), equalTo("Welcome everyone!"));
+        assertThat(result.get("escaped key=x"), equalTo("é\t\\"));
+        assertThat(result.get("names"), equalTo(Arrays.asList("Alice", "Bob")));
+        assertThat(((Map<String, Object>) result.get("notList")).keySet(), contains("0", "2"));
+        assertThat(result.get("empty"), equalTo(""));
+        assertThat(result.get("last"), equalTo(""));
+    }
+
+    @Test
+    void shouldParseContainerMarkers() {
+        // given
+        String text = "emptyList=[]\n"
+            + "emptyMap={}\n"
+            + "indexed={}\n"
+            + "indexed.0=a\n"
+            + "indexed.1=b\n"
+            + "nested.0=[]\n"
+            + "escapedList=\\[]\n"
+            + "escapedMap=\\{}\n"
+            + "withSpace=[] \n"
+            + "last={}";
+
+        // when
+        Map<String, Object> result = PropertiesFileReader.parse(text);
+
+        // then
+        assertThat(result.get("emptyList"), equalTo(Collections.emptyList()));
+        assertThat(result.get("emptyMap"), equalTo(Collections.emptyMap()));
+        assertThat(result.get("indexed"), instanceOf(Map.class));
+        assertThat(((Map<String, Object>) result.get("indexed")).keySet(), contains("0", "1"));
+        assertThat(result.get("nested"), equalTo(Collections.singletonList(Collections.emptyList())));
+        assertThat(result.get("escapedList"), equalTo("[]"));
+        assertThat(result.get("escapedMap"), equalTo("{}"));
+        assertThat(result.get("withSpace"), equalTo("[] "));
+        assertThat(result.get("last"), equalTo(Collections.emptyMap()));
+    }
+
+    @Test
+    void shouldReturnNullForTextWithoutEntries() {
+        // given / when / then
+        assertThat(PropertiesFileReader.parse(""), nullValue());
+        assertThat(PropertiesFileReader.parse("# Only a comment\n\n"), nullValue());
+    }
+
+    @Test
+    void shouldReadFileAndLookUpPaths() throws IOException {
+        // given
+        Path file = TestUtils.createTemporaryFile(temporaryFolder);
+        Files.write(file, "a.b.c=1\na.d=true\n".getBytes());
+
+        // when
+        PropertiesFileReader reader = new PropertiesFileReader(file);
+
+        // then
+        assertThat(reader.getValue("a.b.c"), equalTo("1"));
+        assertThat(reader.contains("a.d"), equalTo(true));
+        assertThat(reader.getLeafPaths(), contains("a.b.c", "a.d"));
+    }
+
+    @Test
+    void shouldThrowForInvalidUnicodeEscape() {
+        // given / when
+        ConfigMeException ex = assertThrows(ConfigMeException.class, () -> PropertiesFileReader.parse("a=\\u12"));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("Invalid unicode escape in properties text at index 2"));
+    }
+}
@@ -0,0 +1,179 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.TestUtils;
+import ch.jalu.configme.beanmapper.worldgroup.WorldGroupConfig;
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import ch.jalu.configme.properties.BeanProperty;
+import ch.jalu.configme.properties.MapProperty;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.properties.types.StringType;
+import ch.jalu.configme.samples.TestConfiguration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static ch.jalu.configme.properties.PropertyInitializer.newListProperty;
+import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Test for {@link PropertiesFileResource}.
+ */
+class PropertiesFileResourceTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    void shouldExportAndReadSameValues() {
+        // given
+        ConfigurationData configurationData = ConfigurationDataBuilder.createConfiguration(TestConfiguration.class);
+        configurationData.initializeValues(
+            new YamlFileReader(TestUtils.getJarPath("/config-sample.yml")));
+        PropertiesFileResource resource = new PropertiesFileResource(TestUtils.createTemporaryFile(temporaryFolder));
+
+        // when
+        resource.exportProperties(configurationData);
+        ConfigurationData configurationData2 = ConfigurationDataBuilder.createConfiguration(TestConfiguration.class);
+        configurationData2.initializeValues(resource.createReader());
+
+        // then
+        assertThat(configurationData2.areAllValuesValidInResource(), equalTo(true));
+        for (Property<?> property : configurationData.getProperties()) {
+            assertThat(property.getPath(), configurationData2.getValue(property),
+                equalTo(configurationData.getValue(property)));
+        }
+    }
+
+    @Test
+    void shouldExportWithComments() throws IOException {
+        // given
+        ConfigurationData configurationData = ConfigurationDataBuilder.createConfiguration(TestConfiguration.class);
+        configurationData.initializeValues(
+            new YamlFileReader(TestUtils.getJarPath("/config-sample.yml")));
+        Path file = TestUtils.createTemporaryFile(temporaryFolder);
+
+        // when
+        new PropertiesFileResource(file).exportProperties(configurationData);
+
+        // then
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines.subList(0, 5), contains(
+            "# Test section",
+            "# Duration in seconds",
+            "test.duration=22",
+            "# The system name",
+            "test.systemName=Custom sys name"));
+        int coolEnabledIndex = lines.indexOf("features.cool.enabled=true");
+        assertThat(lines.subList(coolEnabledIndex - 6, coolEnabledIndex + 3), contains(
+            "features.boring.dustLevel=2.4",
+            "",
+            "# Cool features",
+            "",
+            "# Contains cool settings",
+            "# Enable cool features?",
+            "features.cool.enabled=true",
+            "# List of cool options to use",
+            "features.cool.options.0=Dinosaurs"));
+    }
+
+    @Test
+    void shouldEscapeKeysAndValues() {
+        // given
+        Property<String> property1 = newProperty("key with spaces:and=signs", " leading space, \\ #!\né");
+        Property<String> property2 = newProperty("other", "#not a comment");
+        ConfigurationData configurationData = ConfigurationDataBuilder.createConfiguration(
+            Arrays.asList(property1, property2));
+        configurationData.setValue(property1, property1.getDefaultValue());
+        configurationData.setValue(property2, property2.getDefaultValue());
+        Path file = TestUtils.createTemporaryFile(temporaryFolder);
+        PropertiesFileResource resource = new PropertiesFileResource(file, StandardCharsets.ISO_8859_1);
+
+        // when
+        resource.exportProperties(configurationData);
+        PropertyReader reader = resource.createReader();
+
+        // then
+        assertThat(reader.getValue("key with spaces:and=signs"), equalTo(property1.getDefaultValue()));
+        assertThat(reader.getValue("other"), equalTo(property2.getDefaultValue()));
+    }
+
+    @Test
+    void shouldExportAndReadEmptyContainersAndMapsWithIndexKeys() throws IOException {
+        // given
+        Property<List<String>> names = newListProperty("names", "Alice");
+        Property<Map<String, String>> emptyMap =
+            new MapProperty<>("settings.empty", StringType.STRING, Collections.singletonMap("k", "v"));
+        Property<Map<String, String>> indexedMap = new MapProperty<>("settings.indexed", StringType.STRING);
+        Property<String> marker = newProperty("marker", "");
+        ConfigurationData configurationData = ConfigurationDataBuilder.createConfiguration(
+            Arrays.asList(names, emptyMap, indexedMap, marker));
+        configurationData.setValue(names, Collections.emptyList());
+        configurationData.setValue(emptyMap, Collections.emptyMap());
+        Map<String, String> indexedValue = new LinkedHashMap<>();
+        indexedValue.put("0", "a");
+        indexedValue.put("1", "b");
+        configurationData.setValue(indexedMap, indexedValue);
+        configurationData.setValue(marker, "[]");
+        Path file = TestUtils.createTemporaryFile(temporaryFolder);
+        PropertiesFileResource resource = new PropertiesFileResource(file);
+
+        // when
+        resource.exportProperties(configurationData);
+        ConfigurationData configurationData2 = ConfigurationDataBuilder.createConfiguration(
+            Arrays.asList(names, emptyMap, indexedMap, marker));
+        configurationData2.initializeValues(resource.createReader());
+
+        // then
+        assertThat(Files.readAllLines(file), contains(
+            "names=[]",
+            "settings.empty={}",
+            "settings.indexed={}",
+            "settings.indexed.0=a",
+            "settings.indexed.1=b",
+            "marker=\\[]"));
+        assertThat(configurationData2.areAllValuesValidInResource(), equalTo(true));
+        assertThat(configurationData2.getValue(names), empty());
+        assertThat(configurationData2.getValue(emptyMap), anEmptyMap());
+        assertThat(configurationData2.getValue(indexedMap), equalTo(indexedValue));
+        assertThat(configurationData2.getValue(marker), equalTo("[]"));
+    }
+
+    @Test
+    void shouldExportAndReadBeanProperty() {
+        // given
+        BeanProperty<WorldGroupConfig> property =
+            new BeanProperty<>("", WorldGroupConfig.class, new WorldGroupConfig());
+        ConfigurationData configurationData = ConfigurationDataBuilder.createConfiguration(
+            Collections.singletonList(property));
+        configurationData.setValue(property, property.determineValue(
+            new YamlFileReader(TestUtils.getJarPath("/beanmapper/worlds.yml"))).getValue());
+        PropertiesFileResource resource = new PropertiesFileResource(TestUtils.createTemporaryFile(temporaryFolder));
+
+        // when
+        resource.exportProperties(configurationData);
+        WorldGroupConfig result = property.determineValue(resource.createReader()).getValue();
+
+        // then
+        WorldGroupConfig expected = configurationData.getValue(property);
+        assertThat(result.getGroups().keySet(), contains("default", "creative"));
+        assertThat(result.getGroups().get("default").getWorlds(),
+            equalTo(expected.getGroups().get("default").getWorlds()));
+        assertThat(result.getGroups().get("creative").getDefaultGamemode(),
+            equalTo(expected.getGroups().get("creative").getDefaultGamemode()));
+    }
+}
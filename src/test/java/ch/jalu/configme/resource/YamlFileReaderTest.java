@@ -232,6 +232,23 @@ class YamlFileReaderTest {
         assertThat(reader.getString("elem.second"), equalTo("øå Æ"));
     }
 
+    @Test
+    void shouldReadFileFully() {
+        // given
+        Path utf8File = copyFileFromResources("/charsets/utf8_sample.yml");
+        Path isoFile = copyFileFromResources("/charsets/iso-8859-1_sample.yml");
+
+        // when
+        YamlFileReader utf8Reader = new YamlFileReader(utf8File, StandardCharsets.UTF_8, FileInputStrategy.CHANNEL);
+        YamlFileReader isoReader = new YamlFileReader(isoFile, StandardCharsets.ISO_8859_1, FileInputStrategy.CHANNEL);
+
+        // then
+        assertThat(utf8Reader.getString("first"), equalTo("Санкт-Петербург"));
+        assertThat(utf8Reader.getString("third"), equalTo("错误的密码"));
+        assertThat(isoReader.getString("elem.first"), equalTo("test Ã ö û þ"));
+        assertThat(isoReader.getString("elem.second"), equalTo("øå Æ"));
+    }
+
     @Test
     void shouldReturnPathsOfFile() {
         // given
@@ -331,6 +348,27 @@ class YamlFileReaderTest {
         assertThat(leafChildren, empty());
     }
 
+    @Test
+    void shouldCallNormalizeMapHookOfSubclass() throws IOException {
+        // given
+        Path file = temporaryFolder.resolve("hook.yml");
+        Files.write(file, "name: test\n5: five".getBytes());
+
+        // when
+        YamlFileReader reader = new YamlFileReader(file) {
+            @Override
+            protected Map<String, Object> normalizeMap(Map<Object, Object> map) {
+                Map<String, Object> normalizedMap = super.normalizeMap(map);
+                normalizedMap.put("added", true);
+                return normalizedMap;
+            }
+        };
+
+        // then
+        assertThat(reader.getChildPaths(""), contains("name", "5", "added"));
+        assertThat(reader.getValue("5"), equalTo("five"));
+    }
+
     private Path copyFileFromResources(String path) {
         return TestUtils.copyFileFromResources(path, temporaryFolder);
     }
@@ -0,0 +1,183 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.TestUtils;
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import ch.jalu.configme.resource.UniqueCommentTest.ServerCollection;
+import ch.jalu.configme.resource.UniqueCommentTest.ServerSettingHolder;
+import ch.jalu.configme.resource.YamlFileResourceFooterCommentTest.RootPropertyHolderWithFooter;
+import ch.jalu.configme.resource.yaml.SnakeYamlNodeBuilder;
+import ch.jalu.configme.samples.TestConfiguration;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static ch.jalu.configme.TestUtils.getJarPath;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Test for {@link YamlFileResource} with {@link YamlFileResourceOptions#isIncrementalExport() incremental export}.
+ */
+class YamlFileResourceIncrementalExportTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    void shouldExportSameTextAsFullExport() throws IOException {
+        // given
+        Path file = TestUtils.copyFileFromResources("/config-sample.yml", temporaryFolder);
+        YamlFileResource resource = new YamlFileResource(file, incrementalOptions());
+        ConfigurationData configurationData = ConfigurationDataBuilder.createConfiguration(TestConfiguration.class);
+        configurationData.initializeValues(resource.createReader());
+
+        // when
+        resource.exportProperties(configurationData);
+
+        // then
+        assertThat(Files.readAllLines(file),
+            equalTo(Files.readAllLines(getJarPath("/config-export-expected.yml"))));
+    }
+
+    @Test
+    void shouldExportSameTextAsFullExportWithNewLinesAndFooter() {
+        // given
+        YamlFileResourceOptions.Builder optionsBuilder = YamlFileResourceOptions.builder()
+            .numberOfLinesBeforeFunction(e -> !e.isFirstElement() && e.getIndentationLevel() == 0 ? 2 : 0);
+        ConfigurationData configurationData1 = ConfigurationDataBuilder.createConfiguration(TestConfiguration.class);
+        ConfigurationData configurationData2 =
+            ConfigurationDataBuilder.createConfiguration(RootPropertyHolderWithFooter.class);
+
+        // when / then
+        assertThat(exportIncrementally(configurationData1, optionsBuilder),
+            equalTo(exportFully(configurationData1, optionsBuilder)));
+        assertThat(exportIncrementally(configurationData2, optionsBuilder),
+            equalTo(exportFully(configurationData2, optionsBuilder)));
+    }
+
+    @Test
+    void shouldOnlyRenderChangedSections() throws IOException {
+        // given
+        Path file = TestUtils.copyFileFromResources("/config-sample.yml", temporaryFolder);
+        NodeBuilderCountingResource resource = new NodeBuilderCountingResource(file, incrementalOptions());
+        ConfigurationData configurationData = ConfigurationDataBuilder.createConfiguration(TestConfiguration.class);
+        configurationData.initializeValues(resource.createReader());
+        resource.exportProperties(configurationData);
+        int nodeBuildersForFirstExport = resource.createdNodeBuilders;
+
+        // when
+        resource.createdNodeBuilders = 0;
+        resource.exportProperties(configurationData);
+        int nodeBuildersForUnchangedExport = resource.createdNodeBuilders;
+
+        resource.createdNodeBuilders = 0;
+        configurationData.setValue(TestConfiguration.DUST_LEVEL, 3.5);
+        resource.exportProperties(configurationData);
+        int nodeBuildersForChangedExport = resource.createdNodeBuilders;
+
+        // then
+        // One node builder is always created for the check; then one per rendered section
+        assertThat(nodeBuildersForFirstExport, equalTo(1 + 5));
+        assertThat(nodeBuildersForUnchangedExport, equalTo(1));
+        assertThat(nodeBuildersForChangedExport, equalTo(1 + 1));
+
+        Path expectedFile = TestUtils.createTemporaryFile(temporaryFolder);
+        new YamlFileResource(expectedFile).exportProperties(configurationData);
+        assertThat(Files.readAllLines(file), equalTo(Files.readAllLines(expectedFile)));
+    }
+
+    @Test
+    void shouldDetectValueThatWasModifiedInPlace() throws IOException {
+        // given
+        Path file = TestUtils.createTemporaryFile(temporaryFolder);
+        YamlFileResource resource = new YamlFileResource(file, incrementalOptions());
+        ConfigurationData configurationData = ConfigurationDataBuilder.createConfiguration(TestConfiguration.class);
+        List<String> coolOptions = new ArrayList<>(Arrays.asList("Sparks", "Sprinkles"));
+        configurationData.setValue(TestConfiguration.COOL_OPTIONS, coolOptions);
+        configurationData.initializeValues(resource.createReader());
+        configurationData.setValue(TestConfiguration.COOL_OPTIONS, coolOptions);
+        resource.exportProperties(configurationData);
+
+        // when
+        coolOptions.add("Glitter");
+        resource.exportProperties(configurationData);
+
+        // then
+        assertThat(new YamlFileReader(file).getValue(TestConfiguration.COOL_OPTIONS.getPath()),
+            equalTo(Arrays.asList("Sparks", "Sprinkles", "Glitter")));
+    }
+
+    @Test
+    void shouldRenderSectionAgainIfUniqueCommentIsNoLongerUsedBefore() throws IOException {
+        // given
+        Path file = TestUtils.createTemporaryFile(temporaryFolder);
+        YamlFileResource resource = new YamlFileResource(file, incrementalOptions());
+        ConfigurationData configData = ConfigurationDataBuilder.createConfiguration(ServerSettingHolder.class);
+        configData.setValue(ServerSettingHolder.WORLDS, ServerSettingHolder.WORLDS.getDefaultValue());
+        configData.setValue(ServerSettingHolder.AUTH_GROUPS, ServerSettingHolder.AUTH_GROUPS.getDefaultValue());
+        configData.setValue(ServerSettingHolder.ALT, Optional.of(new ServerCollection(false, "secondary")));
+        resource.exportProperties(configData);
+
+        // when
+        configData.setValue(ServerSettingHolder.WORLDS, Collections.emptyMap());
+        resource.exportProperties(configData);
+
+        // then
+        Path expectedFile = TestUtils.createTemporaryFile(temporaryFolder);
+        new YamlFileResource(expectedFile).exportProperties(configData);
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines, equalTo(Files.readAllLines(expectedFile)));
+        assertThat(lines.contains("-   # List server names here"), equalTo(true));
+    }
+
+    private static YamlFileResourceOptions incrementalOptions() {
+        return YamlFileResourceOptions.builder().incrementalExport(true).build();
+    }
+
+    private List<String> exportIncrementally(ConfigurationData configurationData,
+                                             YamlFileResourceOptions.Builder optionsBuilder) {
+        return export(configurationData, optionsBuilder.incrementalExport(true).build());
+    }
+
+    private List<String> exportFully(ConfigurationData configurationData,
+                                     YamlFileResourceOptions.Builder optionsBuilder) {
+        return export(configurationData, optionsBuilder.incrementalExport(false).build());
+    }
+
+    private List<String> export(ConfigurationData configurationData, YamlFileResourceOptions options) {
+        Path file = TestUtils.createTemporaryFile(temporaryFolder);
+        YamlFileResource resource = new YamlFileResource(file, options);
+        configurationData.initializeValues(resource.createReader());
+        resource.exportProperties(configurationData);
+        try {
+            return Files.readAllLines(file);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class NodeBuilderCountingResource extends YamlFileResource {
+
+        private int createdNodeBuilders;
+
+        NodeBuilderCountingResource(Path path, YamlFileResourceOptions options) {
+            super(path, options);
+        }
+
+        @Override
+        protected @NotNull SnakeYamlNodeBuilder createNodeBuilder(@NotNull ConfigurationData configurationData) {
+            ++createdNodeBuilders;
+            return super.createNodeBuilder(configurationData);
+        }
+    }
+}
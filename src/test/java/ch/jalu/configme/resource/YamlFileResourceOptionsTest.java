@@ -25,6 +25,9 @@ class YamlFileResourceOptionsTest {
             .numberOfLinesBeforeFunction(lineFunction)
             .charset(StandardCharsets.UTF_16BE)
             .indentationSize(2)
+            .inputStrategy(FileInputStrategy.CHANNEL)
+            .incrementalExport(true)
+            .compactReader(true)
             .build();
 
         // then
@@ -33,6 +36,9 @@ class YamlFileResourceOptionsTest {
         PathElement pathElement = new PathElement(3, "test", "test", false);
         assertThat(options.getNumberOfEmptyLinesBefore(pathElement), equalTo(3));
         assertThat(options.getIndentationSize(), equalTo(2));
+        assertThat(options.getInputStrategy(), equalTo(FileInputStrategy.CHANNEL));
+        assertThat(options.isIncrementalExport(), equalTo(true));
+        assertThat(options.isCompactReader(), equalTo(true));
     }
 
     @Test
@@ -44,6 +50,9 @@ class YamlFileResourceOptionsTest {
         assertThat(options.getCharset(), equalTo(StandardCharsets.UTF_8));
         assertThat(options.getIndentFunction(), nullValue());
         assertThat(options.getIndentationSize(), equalTo(4));
+        assertThat(options.getInputStrategy(), equalTo(FileInputStrategy.STREAM));
+        assertThat(options.isIncrementalExport(), equalTo(false));
+        assertThat(options.isCompactReader(), equalTo(false));
         PathElement pathElement = new PathElement(3, "test", "test", false);
         assertThat(options.getNumberOfEmptyLinesBefore(pathElement), equalTo(0));
     }
@@ -10,8 +10,12 @@ import ch.jalu.configme.properties.OptionalProperty;
 import ch.jalu.configme.properties.Property;
 import ch.jalu.configme.properties.types.EnumPropertyType;
 import ch.jalu.configme.properties.types.NumberType;
+import ch.jalu.configme.resource.yaml.SnakeYamlCommentLineCache;
+import ch.jalu.configme.resource.yaml.SnakeYamlNodeBuilder;
+import ch.jalu.configme.resource.yaml.SnakeYamlNodeBuilderImpl;
 import ch.jalu.configme.samples.TestConfiguration;
 import ch.jalu.configme.samples.TestEnum;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
@@ -38,6 +42,8 @@ import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
@@ -193,6 +199,73 @@ class YamlFileResourceTest {
             equalTo(Files.readAllLines(getJarPath("/config-export-expected.yml"))));
     }
 
+    @Test
+    void shouldCreateCompactReader() {
+        // given
+        Path file = copyFileFromResources(COMPLETE_FILE);
+        YamlFileResource resource = new YamlFileResource(file,
+            YamlFileResourceOptions.builder().compactReader(true).build());
+
+        // when
+        PropertyReader reader = resource.createReader();
+
+        // then
+        assertThat(reader, instanceOf(CompactYamlFileReader.class));
+        assertThat(reader.getValue(TestConfiguration.DURATION_IN_SECONDS.getPath()), equalTo(22));
+    }
+
+    @Test
+    void shouldExportSameCommentsWhenReusingCommentLineCache() throws IOException {
+        // given
+        Path file = copyFileFromResources(COMPLETE_FILE);
+        YamlFileResource resource = new YamlFileResource(file);
+        ConfigurationData configurationData = createConfiguration(TestConfiguration.class);
+        configurationData.initializeValues(resource.createReader());
+        resource.exportProperties(configurationData);
+        SnakeYamlCommentLineCache cache = resource.getCommentLineCache(configurationData);
+
+        // when
+        resource.exportProperties(configurationData);
+
+        // then
+        assertThat(resource.getCommentLineCache(configurationData), sameInstance(cache));
+        assertThat(Files.readAllLines(file),
+            equalTo(Files.readAllLines(getJarPath("/config-export-expected.yml"))));
+        assertThat(resource.getCommentLineCache(createConfiguration(TestConfiguration.class)),
+            not(sameInstance(cache)));
+    }
+
+    @Test
+    void shouldUseNoArgNodeBuilderHookOfExtension() throws IOException {
+        // given
+        ConfigurationData configurationData = createConfiguration(singletonList(
+            new OptionalProperty<>("test.duration", NumberType.INTEGER)));
+        Path file = copyFileFromResources(INCOMPLETE_FILE);
+        List<SnakeYamlNodeBuilder> createdNodeBuilders = new ArrayList<>();
+        YamlFileResource resource = new YamlFileResource(file) {
+            @Override
+            @SuppressWarnings("deprecation")
+            protected @NotNull SnakeYamlNodeBuilder createNodeBuilder() {
+                SnakeYamlNodeBuilder nodeBuilder = new SnakeYamlNodeBuilderImpl();
+                createdNodeBuilders.add(nodeBuilder);
+                return nodeBuilder;
+            }
+        };
+        configurationData.initializeValues(resource.createReader());
+
+        // when
+        SnakeYamlNodeBuilder nodeBuilder = resource.createNodeBuilder(configurationData);
+        resource.exportProperties(configurationData);
+
+        // then
+        assertThat(createdNodeBuilders.get(0), sameInstance(nodeBuilder));
+        assertThat(createdNodeBuilders, hasSize(greaterThan(1)));
+        assertThat(Files.readAllLines(file), contains(
+            "test:",
+            "    duration: 22"
+        ));
+    }
+
     @Test
     void shouldSkipAbsentOptionalProperty() throws IOException {
         // given
@@ -0,0 +1,91 @@
+package ch.jalu.configme.resource.json;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link JsonParser}.
+ */
+class JsonParserTest {
+
+    @Test
+    void shouldParseAllTypes() {
+        // given
+        String json = "{\n  \"name\": \"Test \\\"1\\\" \\u00e9\\n\",\n  \"enabled\": true, \"off\": false,\n"
+            + "  \"none\": null, \"int\": -42, \"long\": 3000000000, \"big\": 12345678901234567890,\n"
+            + "  \"double\": 2.5e3, \"list\": [1, \"two\", [], {}],\n  \"nested\": {\"a\": {\"b\": 0.5}}\n}";
+
+        // when
+        Map<String, Object> result = (Map<String, Object>) new JsonParser(json).parse();
+
+        // then
+        assertThat(result.keySet(), contains("name", "enabled", "off", "none", "int", "long", "big", "double",
+            "list", "nested"));
+        assertThat(result.get("name"), equalTo("Test \"1\" \u00e9\n"));
+        assertThat(result.get("enabled"), equalTo(true));
+        assertThat(result.get("off"), equalTo(false));
+        assertThat(result.get("none"), nullValue());
+        assertThat(result.get("int"), equalTo(-42));
+        assertThat(result.get("long"), equalTo(3000000000L));
+        assertThat(result.get("big"), equalTo(new BigInteger("12345678901234567890")));
+        assertThat(result.get("double"), equalTo(2500.0));
+        assertThat(result.get("list"), equalTo(Arrays.asList(1, "two", Collections.emptyList(),
+            Collections.emptyMap())));
+        assertThat(((Map<String, Object>) ((Map<String, Object>) result.get("nested")).get("a")).get("b"),
+            equalTo(0.5));
+    }
+
+    @Test
+    void shouldDeduplicateKeys() {
+        // given
+        String json = "[{\"name\": \"a\"}, {\"name\": \"b\"}]";
+
+        // when
+        List<Map<String, Object>> result = (List<Map<String, Object>>) new JsonParser(json).parse();
+
+        // then
+        String key1 = result.get(0).keySet().iterator().next();
+        String key2 = result.get(1).keySet().iterator().next();
+        assertThat(key2, sameInstance(key1));
+    }
+
+    @Test
+    void shouldReturnNullForEmptyText() {
+        // given / when / then
+        assertThat(new JsonParser("").parse(), nullValue());
+        assertThat(new JsonParser(" \n\t").parse(), nullValue());
+    }
+
+    @Test
+    void shouldThrowForInvalidJson() {
+        // given / when
+        ConfigMeException ex1 = assertThrows(ConfigMeException.class,
+            () -> new JsonParser("{\n  \"a\": 1,\n  \"b\" 2\n}").parse());
+        ConfigMeException ex2 = assertThrows(ConfigMeException.class, () -> new JsonParser("[1, 2").parse());
+        ConfigMeException ex3 = assertThrows(ConfigMeException.class, () -> new JsonParser("{} x").parse());
+        ConfigMeException ex4 = assertThrows(ConfigMeException.class, () -> new JsonParser("\"\\x\"").parse());
+        ConfigMeException ex5 = assertThrows(ConfigMeException.class, () -> new JsonParser("[tru]").parse());
+        ConfigMeException ex6 = assertThrows(ConfigMeException.class, () -> new JsonParser("1.2.3").parse());
+
+        // then
+        assertThat(ex1.getMessage(), equalTo("Expected ':' at line 3, column 7"));
+        assertThat(ex2.getMessage(), equalTo("Unexpected end of text at line 1, column 6"));
+        assertThat(ex3.getMessage(), equalTo("Unexpected content after the value at line 1, column 4"));
+        assertThat(ex4.getMessage(), equalTo("Invalid escape sequence '\\x' at line 1, column 4"));
+        assertThat(ex5.getMessage(), equalTo("Unexpected character 't' at line 1, column 2"));
+        assertThat(ex6.getMessage(), equalTo("Invalid number '1.2.3' at line 1, column 1"));
+    }
+}
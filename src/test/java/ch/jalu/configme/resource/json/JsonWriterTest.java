@@ -0,0 +1,63 @@
+package ch.jalu.configme.resource.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Test for {@link JsonWriter}.
+ */
+class JsonWriterTest {
+
+    @Test
+    void shouldWriteValues() throws IOException {
+        // given
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("ratio", 0.25);
+        nested.put("nan", Double.NaN);
+        nested.put("empty", Collections.emptyList());
+        Map<Object, Object> root = new LinkedHashMap<>();
+        root.put("text", "Line \"1\"\n\tTab\\");
+        root.put(3, true);
+        root.put("list", Arrays.asList(1, null, new int[]{2, 3}));
+        root.put("nested", nested);
+        root.put("emptyMap", Collections.emptyMap());
+        StringWriter writer = new StringWriter();
+
+        // when
+        new JsonWriter(writer, 2).writeDocument(root);
+
+        // then
+        assertThat(writer.toString(), equalTo("{\n"
+            + "  \"text\": \"Line \\\"1\\\"\\n\\tTab\\\\\",\n"
+            + "  \"3\": true,\n"
+            + "  \"list\": [\n    1,\n    null,\n    [\n      2,\n      3\n    ]\n  ],\n"
+            + "  \"nested\": {\n    \"ratio\": 0.25,\n    \"nan\": \"NaN\",\n    \"empty\": []\n  },\n"
+            + "  \"emptyMap\": {}\n"
+            + "}\n"));
+    }
+
+    @Test
+    void shouldWriteTextThatIsParsedToSameValue() throws IOException {
+        // given
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("control", "a\u0001b\r");
+        root.put("number", 3000000000L);
+        root.put("list", Arrays.asList("x", 2.5, false));
+        StringWriter writer = new StringWriter();
+
+        // when
+        new JsonWriter(writer, 4).writeDocument(root);
+
+        // then
+        assertThat(new JsonParser(writer.toString()).parse(), equalTo(root));
+    }
+}
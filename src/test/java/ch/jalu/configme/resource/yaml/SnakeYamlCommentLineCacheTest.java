@@ -0,0 +1,96 @@
+package ch.jalu.configme.resource.yaml;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.comments.CommentLine;
+import org.yaml.snakeyaml.comments.CommentType;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test for {@link SnakeYamlCommentLineCache}.
+ */
+class SnakeYamlCommentLineCacheTest {
+
+    @Test
+    void shouldReturnWhetherCacheIsForConfigurationData() {
+        // given
+        ConfigurationData configurationData = mock(ConfigurationData.class);
+        SnakeYamlCommentLineCache cache = new SnakeYamlCommentLineCache(configurationData);
+
+        // when / then
+        assertThat(cache.isFor(configurationData), equalTo(true));
+        assertThat(cache.isFor(mock(ConfigurationData.class)), equalTo(false));
+    }
+
+    @Test
+    void shouldCacheLinesByPath() {
+        // given
+        SnakeYamlCommentLineCache cache = new SnakeYamlCommentLineCache(mock(ConfigurationData.class));
+        AtomicInteger creatorCalls = new AtomicInteger();
+
+        // when
+        List<CommentLine> lines1 = cache.getCommentLinesForPath("a.b", 1,
+            () -> createLines(creatorCalls, "a.b"));
+        List<CommentLine> lines2 = cache.getCommentLinesForPath("a.b", 1,
+            () -> createLines(creatorCalls, "a.b"));
+        List<CommentLine> lines3 = cache.getCommentLinesForPath("a.c", 1,
+            () -> createLines(creatorCalls, "a.c"));
+
+        // then
+        assertThat(lines1, sameInstance(lines2));
+        assertThat(lines1, not(sameInstance(lines3)));
+        assertThat(creatorCalls.get(), equalTo(2));
+    }
+
+    @Test
+    void shouldRecreateLinesIfNumberOfNewLinesDiffers() {
+        // given
+        SnakeYamlCommentLineCache cache = new SnakeYamlCommentLineCache(mock(ConfigurationData.class));
+        AtomicInteger creatorCalls = new AtomicInteger();
+        List<CommentLine> lines1 = cache.getCommentLinesForPath("a.b", 1,
+            () -> createLines(creatorCalls, "a.b"));
+
+        // when
+        List<CommentLine> lines2 = cache.getCommentLinesForPath("a.b", 0,
+            () -> createLines(creatorCalls, "a.b"));
+        List<CommentLine> lines3 = cache.getCommentLinesForPath("a.b", 0,
+            () -> createLines(creatorCalls, "a.b"));
+
+        // then
+        assertThat(lines1, not(sameInstance(lines2)));
+        assertThat(lines2, sameInstance(lines3));
+        assertThat(creatorCalls.get(), equalTo(2));
+    }
+
+    @Test
+    void shouldCacheLinesByComments() {
+        // given
+        SnakeYamlCommentLineCache cache = new SnakeYamlCommentLineCache(mock(ConfigurationData.class));
+        AtomicInteger creatorCalls = new AtomicInteger();
+
+        // when
+        List<CommentLine> lines1 = cache.getCommentLines(Arrays.asList("c1", "c2"),
+            comments -> createLines(creatorCalls, "c1"));
+        List<CommentLine> lines2 = cache.getCommentLines(Arrays.asList("c1", "c2"),
+            comments -> createLines(creatorCalls, "c1"));
+
+        // then
+        assertThat(lines1, sameInstance(lines2));
+        assertThat(creatorCalls.get(), equalTo(1));
+    }
+
+    private static List<CommentLine> createLines(AtomicInteger counter, String text) {
+        counter.incrementAndGet();
+        return Collections.singletonList(new CommentLine(null, null, text, CommentType.BLOCK));
+    }
+}
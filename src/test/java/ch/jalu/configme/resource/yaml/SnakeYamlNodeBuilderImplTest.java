@@ -2,6 +2,7 @@ package ch.jalu.configme.resource.yaml;
 
 import ch.jalu.configme.TestUtils;
 import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.properties.convertresult.UniqueCommentTracker;
 import ch.jalu.configme.properties.convertresult.ValueWithComments;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
@@ -27,8 +28,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -39,6 +38,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
@@ -505,19 +505,67 @@ class SnakeYamlNodeBuilderImplTest {
         assertThat(comments.get(3), isBlockComment(" CD2"));
     }
 
+    @Test
+    void shouldReuseCachedCommentLines() {
+        // given
+        String path = "some.path";
+        ConfigurationData configurationData = mock(ConfigurationData.class);
+        given(configurationData.getCommentsForSection(path)).willReturn(Arrays.asList("CD1", "CD2"));
+        SnakeYamlCommentLineCache cache = new SnakeYamlCommentLineCache(configurationData);
+
+        // when
+        List<CommentLine> comments1 = new SnakeYamlNodeBuilderImpl(cache)
+            .collectComments(3, path, configurationData, 1);
+        List<CommentLine> comments2 = new SnakeYamlNodeBuilderImpl(cache)
+            .collectComments(4, path, configurationData, 1);
+        List<CommentLine> comments3 = new SnakeYamlNodeBuilderImpl(cache)
+            .collectComments(new ValueWithComments(5, Collections.singletonList("VWC")), path, configurationData, 1);
+
+        // then
+        assertThat(comments1, sameInstance(comments2));
+        assertThat(comments1, hasSize(3));
+        assertThat(comments3, hasSize(4));
+        assertThat(comments3.subList(0, 3), equalTo(comments1));
+        assertThat(comments3.get(3), isBlockComment(" VWC"));
+        assertThat(comments1, hasSize(3)); // cached list was not modified
+    }
+
+    @Test
+    void shouldReuseCachedCommentLinesForListOfComments() {
+        // given
+        List<String> comments = Arrays.asList("Section", "\n", "Multi\nline");
+        SnakeYamlCommentLineCache cache = new SnakeYamlCommentLineCache(mock(ConfigurationData.class));
+        SnakeYamlNodeBuilderImpl cachingNodeBuilder = new SnakeYamlNodeBuilderImpl(cache);
+
+        // when
+        List<CommentLine> lines1 = cachingNodeBuilder.createCommentLines(comments);
+        List<CommentLine> lines2 = cachingNodeBuilder.createCommentLines(new ArrayList<>(comments));
+        List<CommentLine> uncachedLines = nodeBuilder.createCommentLines(comments);
+
+        // then
+        assertThat(lines1, sameInstance(lines2));
+        assertThat(lines1, hasSize(4));
+        assertThat(lines1.get(0), isBlockComment(" Section"));
+        assertThat(lines1.get(1), isBlankComment());
+        assertThat(lines1.get(2), isBlockComment(" Multi"));
+        assertThat(lines1.get(3), isBlockComment(" line"));
+        assertThat(uncachedLines, hasSize(4));
+    }
+
     @Test
     void shouldReturnCollectionOfUsedUniqueIds() {
         // given
-        UUID uniqueCommentId = UUID.fromString("0000-00-00-00-001");
+        int uniqueCommentId = ValueWithComments.createUniqueCommentId();
         Object value = new ValueWithComments(true, Arrays.asList("com", "com"), uniqueCommentId);
         ConfigurationData configurationData = mock(ConfigurationData.class);
         nodeBuilder.createYamlNode(value, "some.path", configurationData, 0);
 
         // when
-        Set<UUID> usedCommentIds = nodeBuilder.getUsedUniqueCommentIds();
+        UniqueCommentTracker usedComments = nodeBuilder.getUsedUniqueComments();
 
         // then
-        assertThat(usedCommentIds, contains(uniqueCommentId));
+        assertThat(usedComments.contains(uniqueCommentId), equalTo(true));
+        assertThat(usedComments.contains(uniqueCommentId + 1), equalTo(false));
     }
 
     static Matcher<Node> isScalarNode(Tag expectedTag, String expectedValue) {
@@ -0,0 +1,139 @@
+package ch.jalu.configme.resource.yaml;
+
+import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Test for {@link SnakeYamlNormalizingConstructor}.
+ */
+class SnakeYamlNormalizingConstructorTest {
+
+    @Test
+    void shouldConvertKeysToStrings() {
+        // given
+        String yaml = "test: test\n"
+            + "map:\n"
+            + "  2: two\n"
+            + "  text: hi\n"
+            + "  true: yes\n"
+            + "  5.25: 5 quarter\n"
+            + "  ~: nothing";
+
+        // when
+        Map<String, Object> result = load(yaml);
+
+        // then
+        assertThat(result.keySet(), contains("test", "map"));
+        Map<String, Object> mapChild = (Map<String, Object>) result.get("map");
+        assertThat(mapChild.keySet(), contains("2", "text", "true", "5.25", "null"));
+        assertThat(mapChild.get("2"), equalTo("two"));
+        assertThat(mapChild.get("true"), equalTo(true));
+        assertThat(mapChild.get("5.25"), equalTo("5 quarter"));
+        assertThat(mapChild.get("null"), equalTo("nothing"));
+    }
+
+    @Test
+    void shouldMergeNestedMapsWithSameKey() {
+        // given
+        String yaml = "levels:\n"
+            + "  1:\n"
+            + "    name: Beginner\n"
+            + "    xp: 0\n"
+            + "  '1':\n"
+            + "    xp: 100\n"
+            + "    color: green\n"
+            + "  2: Expert\n"
+            + "  '2':\n"
+            + "    name: Advanced";
+
+        // when
+        Map<String, Object> result = load(yaml);
+
+        // then
+        Map<String, Object> levels = (Map<String, Object>) result.get("levels");
+        assertThat(levels.keySet(), contains("1", "2"));
+        Map<String, Object> level1 = (Map<String, Object>) levels.get("1");
+        assertThat(level1.keySet(), contains("name", "xp", "color"));
+        assertThat(level1.get("xp"), equalTo(100));
+        Map<String, Object> level2 = (Map<String, Object>) levels.get("2");
+        assertThat(level2.keySet(), contains("name"));
+    }
+
+    @Test
+    void shouldNormalizeMapsInLists() {
+        // given
+        String yaml = "tiers:\n"
+            + "  - 1: bronze\n"
+            + "    2: silver\n"
+            + "  - 3: gold";
+
+        // when
+        Map<String, Object> result = load(yaml);
+
+        // then
+        List<Map<String, Object>> tiers = (List<Map<String, Object>>) result.get("tiers");
+        assertThat(tiers.get(0).keySet(), contains("1", "2"));
+        assertThat(tiers.get(1).keySet(), contains("3"));
+    }
+
+    @Test
+    void shouldNotModifyAliasedMapWhenMerging() {
+        // given
+        String yaml = "defaults: &defaults\n"
+            + "  name: Default\n"
+            + "entries:\n"
+            + "  '1': *defaults\n"
+            + "  1:\n"
+            + "    size: 3";
+
+        // when
+        Map<String, Object> result = load(yaml);
+
+        // then
+        Map<String, Object> defaults = (Map<String, Object>) result.get("defaults");
+        assertThat(defaults.keySet(), contains("name"));
+        Map<String, Object> entry = (Map<String, Object>) ((Map<String, Object>) result.get("entries")).get("1");
+        assertThat(entry.keySet(), contains("name", "size"));
+        assertThat(entry, not(sameInstance(defaults)));
+    }
+
+    @Test
+    void shouldDeduplicateStrings() {
+        // given
+        String yaml = "servers:\n"
+            + "  - name: alpha\n"
+            + "    mode: SURVIVAL\n"
+            + "    500: x\n"
+            + "  - name: beta\n"
+            + "    mode: SURVIVAL\n"
+            + "    500: y";
+
+        // when
+        Map<String, Object> result = load(yaml);
+
+        // then
+        List<Map<String, Object>> servers = (List<Map<String, Object>>) result.get("servers");
+        List<String> keys1 = new ArrayList<>(servers.get(0).keySet());
+        List<String> keys2 = new ArrayList<>(servers.get(1).keySet());
+        assertThat(keys1, contains("name", "mode", "500"));
+        for (int i = 0; i < keys1.size(); ++i) {
+            assertThat(keys2.get(i), sameInstance(keys1.get(i)));
+        }
+        assertThat(servers.get(1).get("mode"), sameInstance(servers.get(0).get("mode")));
+    }
+
+    private static Map<String, Object> load(String yaml) {
+        return new Yaml(new SnakeYamlNormalizingConstructor(new LoaderOptions())).load(yaml);
+    }
+}
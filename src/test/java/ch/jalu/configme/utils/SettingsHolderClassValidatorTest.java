@@ -21,17 +21,22 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.hamcrest.MockitoHamcrest.argThat;
 
@@ -243,4 +248,76 @@ class SettingsHolderClassValidatorTest {
         // then - no exception
         verify(resource).exportProperties(configurationData);
     }
+
+    @Test
+    void shouldCollectNoErrorsForValidHolders() {
+        // given
+        List<Class<? extends SettingsHolder>> classes = Arrays.asList(FullyValidSettingsHolder1.class, FullyValidSettingsHolder2.class);
+
+        // when
+        List<String> errors = validator.collectValidationErrors(classes);
+
+        // then
+        assertThat(errors, empty());
+    }
+
+    @Test
+    void shouldCollectErrorsOfAllValidations() {
+        // given
+        List<Class<? extends SettingsHolder>> classes = Arrays.asList(
+            FullyValidSettingsHolder1.class, SettingsHolderWithEnumPropertyComments.class, MissingCommentsHolder.class);
+
+        // when
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> validator.validateInParallel(classes));
+
+        // then
+        assertThat(e.getMessage(), equalTo("4 validation(s) failed:"
+            + "\n\nThe following classes are not final:"
+            + "\n- ch.jalu.configme.samples.settingsholders.SettingsHolderWithEnumPropertyComments"
+            + "\n- ch.jalu.configme.samples.settingsholders.MissingCommentsHolder"
+            + "\n\nThe following classes do not have a single no-arg private constructor:"
+            + "\n- ch.jalu.configme.samples.settingsholders.SettingsHolderWithEnumPropertyComments"
+            + "\n\nThe following properties do not have a comment:"
+            + "\n- Property 'sample.gameMode'\n- Property 'lorem.ipsum'\n- Property 'lorem.dolor'"
+            + "\n\nThe following enum properties do not list all enum values:"
+            + "\n- For Property 'sample.timeUnit': missing NANOSECONDS, MICROSECONDS, MILLISECONDS, DAYS"
+            + "\n- For Property 'sample.gameMode': missing CREATIVE, SURVIVAL"));
+    }
+
+    @Test
+    void shouldSkipConfigurationDataValidationsIfItCannotBeCreated() {
+        // given
+        SettingsHolderClassValidator validatorSpy = Mockito.spy(validator);
+        doThrow(new IllegalStateException("Overlapping paths")).when(validatorSpy).createConfigurationData(any());
+
+        // when
+        List<String> errors = validatorSpy.collectValidationErrors(
+            Arrays.asList(FullyValidSettingsHolder1.class, SettingsHolderWithEnumPropertyComments.class));
+
+        // then
+        assertThat(errors, contains(
+            "The following classes are not final:"
+                + "\n- ch.jalu.configme.samples.settingsholders.SettingsHolderWithEnumPropertyComments",
+            "The following classes do not have a single no-arg private constructor:"
+                + "\n- ch.jalu.configme.samples.settingsholders.SettingsHolderWithEnumPropertyComments",
+            "Overlapping paths"));
+        verify(validatorSpy, never()).validateHasCommentOnEveryProperty(any(), any());
+    }
+
+    @Test
+    void shouldCacheEnumNames() {
+        // given
+        SettingsHolderClassValidator validatorSpy = Mockito.spy(validator);
+        ConfigurationData configurationData = ConfigurationDataBuilder.createConfiguration(
+            FullyValidSettingsHolder1.class, SettingsHolderWithEnumPropertyComments.class);
+
+        // when
+        assertThrows(IllegalStateException.class,
+            () -> validatorSpy.validateHasAllEnumEntriesInComment(configurationData, null));
+        assertThrows(IllegalStateException.class,
+            () -> validatorSpy.validateHasAllEnumEntriesInComment(configurationData, null));
+
+        // then
+        verify(validatorSpy, times(1)).gatherExpectedEnumNames(TimeUnit.class);
+    }
 }